@@ -205,12 +205,14 @@ public abstract non-sealed class BaseBrigadierManager<S extends CommandSource> i
             SuggestionContext<S> ctx = dispatcher.config().getContextFactory().createSuggestionContext(dispatcher, source, command, label, args);
             CompletionArg arg = ctx.getArgToComplete();
 
+            String prefix = arg.isEmpty() ? "" : arg.value();
             return dispatcher.config().getParameterSuggestionResolver(parameter).provideAsynchronously(ctx, parameter)
                            .thenCompose((results) -> {
-                               results
-                                       .stream()
-                                       .filter((c) -> arg.isEmpty() || c.toLowerCase().startsWith(arg.value().toLowerCase()))
-                                       .forEachOrdered((res) -> builder.suggest(res, tooltip));
+                               for (String res : results) {
+                                   if (res.regionMatches(true, 0, prefix, 0, prefix.length())) {
+                                       builder.suggest(res, tooltip);
+                                   }
+                               }
                                return builder.buildFuture();
                            });
         };
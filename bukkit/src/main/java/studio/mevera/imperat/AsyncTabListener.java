@@ -19,10 +19,14 @@ public class AsyncTabListener implements Listener {
         if (commandLine.startsWith("/")) {
             commandLine = commandLine.substring(1);
         }
+        if (commandLine.indexOf(' ') == -1) {
+            // root labels are completed by the server, along with the commands of other plugins
+            return;
+        }
 
         BukkitCommandSource src = imperat.wrapSender(event.getSender());
 
-        var autocompletedResults = imperat.autoComplete(src, commandLine).join();
+        var autocompletedResults = imperat.autoCompleteSync(src, commandLine);
         if (autocompletedResults.isEmpty()) {
             return;
         }
@@ -8,6 +8,7 @@ import studio.mevera.imperat.adventure.AdventureCommandSource;
 import studio.mevera.imperat.adventure.AdventureProvider;
 import studio.mevera.imperat.context.CommandSource;
 
+import java.util.Locale;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -167,6 +168,17 @@ public class BukkitCommandSource implements AdventureCommandSource {
         return this.isConsole() ? CONSOLE_UUID : this.asPlayer().getUniqueId();
     }
 
+    /**
+     * Gets the locale of the command source.
+     * For console sources, {@link Locale#ROOT} is returned.
+     *
+     * @return the locale the player's client is set to
+     */
+    @Override
+    public Locale locale() {
+        return this.isConsole() ? Locale.ROOT : Locale.forLanguageTag(this.asPlayer().getLocale().replace('_', '-'));
+    }
+
     /**
      * Casts the origin command sender to the specified class type.
      * This method is type-safe and avoids the need for explicit casting.
@@ -75,7 +75,7 @@ final class InternalBukkitCommand extends org.bukkit.command.Command implements
         if (!builder.isEmpty()) {
             builder.deleteCharAt(builder.length() - 1);
         }
-        return dispatcher.autoComplete(source, builder.toString()).join();
+        return dispatcher.autoCompleteSync(source, builder.toString());
     }
 
 }
\ No newline at end of file
@@ -11,14 +11,14 @@ import studio.mevera.imperat.context.CommandContext;
 import studio.mevera.imperat.context.SuggestionContext;
 import studio.mevera.imperat.exception.ArgumentParseException;
 import studio.mevera.imperat.exception.CommandException;
+import studio.mevera.imperat.providers.StreamingSuggestionProvider;
 import studio.mevera.imperat.providers.SuggestionProvider;
+import studio.mevera.imperat.providers.SuggestionSink;
 import studio.mevera.imperat.responses.BukkitResponseKey;
 
-import java.util.Arrays;
-import java.util.List;
-
 public class OfflinePlayerArgument extends ArgumentType<BukkitCommandSource, OfflinePlayer> {
 
+    private static final int MAX_NAME_LENGTH = 16;
 
     private final PlayerSuggestionProvider playerSuggestionResolver = new PlayerSuggestionProvider();
 
@@ -29,29 +29,57 @@ public class OfflinePlayerArgument extends ArgumentType<BukkitCommandSource, Off
     @Override
     public OfflinePlayer parse(@NotNull CommandContext<BukkitCommandSource> context, @NonNull Argument<BukkitCommandSource> argument,
             @NotNull String input) throws CommandException {
-        if (input.length() > 16) {
+        if (!couldMatch(input)) {
             throw new ArgumentParseException(BukkitResponseKey.UNKNOWN_OFFLINE_PLAYER, input);
         }
         return Bukkit.getOfflinePlayer(input);
     }
 
+    /**
+     * Looking up an offline player may load its profile, so it's only done once the player is needed.
+     */
+    @Override
+    public boolean isDeferred() {
+        return true;
+    }
+
+    @Override
+    public boolean couldMatch(@NotNull String input) {
+        return input.length() <= MAX_NAME_LENGTH;
+    }
+
     @Override
     public SuggestionProvider<BukkitCommandSource> getSuggestionProvider() {
         return playerSuggestionResolver;
     }
 
-    private final static class PlayerSuggestionProvider implements SuggestionProvider<BukkitCommandSource> {
+    private final static class PlayerSuggestionProvider implements StreamingSuggestionProvider<BukkitCommandSource> {
 
         /**
-         * @param context   the context for suggestions
+         * Streams the names of the players who have played on the server starting with the prefix, ignoring case,
+         * without collecting every name first.
+         *
+         * @param context  the context for suggestions
          * @param argument the parameter of the value to complete
-         * @return the auto-completed suggestions of the current argument
+         * @param prefix   the input being completed
+         * @param sink     the sink receiving the suggestions
          */
         @Override
-        public List<String> provide(SuggestionContext<BukkitCommandSource> context, Argument<BukkitCommandSource> argument) {
-            return Arrays.stream(Bukkit.getOfflinePlayers())
-                           .map(OfflinePlayer::getName)
-                           .toList();
+        public void provide(
+                SuggestionContext<BukkitCommandSource> context,
+                Argument<BukkitCommandSource> argument,
+                String prefix,
+                SuggestionSink sink
+        ) {
+            for (var player : Bukkit.getOfflinePlayers()) {
+                String name = player.getName();
+                if (name == null || !name.regionMatches(true, 0, prefix, 0, prefix.length())) {
+                    continue;
+                }
+                if (!sink.accept(name)) {
+                    return;
+                }
+            }
         }
     }
 }
@@ -12,11 +12,11 @@ import studio.mevera.imperat.context.CommandContext;
 import studio.mevera.imperat.context.SuggestionContext;
 import studio.mevera.imperat.exception.ArgumentParseException;
 import studio.mevera.imperat.exception.CommandException;
+import studio.mevera.imperat.providers.StreamingSuggestionProvider;
 import studio.mevera.imperat.providers.SuggestionProvider;
+import studio.mevera.imperat.providers.SuggestionSink;
 import studio.mevera.imperat.responses.BukkitResponseKey;
 
-import java.util.List;
-
 public class PlayerArgument extends ArgumentType<BukkitCommandSource, Player> {
 
     private final PlayerSuggestionProvider SUGGESTION_RESOLVER = new PlayerSuggestionProvider();
@@ -51,16 +51,33 @@ public class PlayerArgument extends ArgumentType<BukkitCommandSource, Player> {
         return SUGGESTION_RESOLVER;
     }
 
-    private final static class PlayerSuggestionProvider implements SuggestionProvider<BukkitCommandSource> {
+    private final static class PlayerSuggestionProvider implements StreamingSuggestionProvider<BukkitCommandSource> {
 
         /**
-         * @param context   the context for suggestions
+         * Streams the names of the online players starting with the prefix, ignoring case,
+         * without collecting every name first.
+         *
+         * @param context  the context for suggestions
          * @param argument the parameter of the value to complete
-         * @return the auto-completed suggestions of the current argument
+         * @param prefix   the input being completed
+         * @param sink     the sink receiving the suggestions
          */
         @Override
-        public List<String> provide(SuggestionContext<BukkitCommandSource> context, Argument<BukkitCommandSource> argument) {
-            return Bukkit.getOnlinePlayers().stream().map(Player::getName).toList();
+        public void provide(
+                SuggestionContext<BukkitCommandSource> context,
+                Argument<BukkitCommandSource> argument,
+                String prefix,
+                SuggestionSink sink
+        ) {
+            for (var player : Bukkit.getOnlinePlayers()) {
+                String name = player.getName();
+                if (name == null || !name.regionMatches(true, 0, prefix, 0, prefix.length())) {
+                    continue;
+                }
+                if (!sink.accept(name)) {
+                    return;
+                }
+            }
         }
     }
 }
@@ -85,6 +85,22 @@ public final class TargetSelectorArgument extends ArgumentType<BukkitCommandSour
         return parseNative(context, cursor);
     }
 
+    /**
+     * Selecting entities goes through every loaded entity, so it's only done once the selector is needed.
+     */
+    @Override
+    public boolean isDeferred() {
+        return true;
+    }
+
+    /**
+     * A selector needs at least its type, e.g. {@code @a}.
+     */
+    @Override
+    public boolean couldMatch(@NotNull String input) {
+        return !isSelectorInput(input) || input.length() > 1;
+    }
+
     static boolean isSelectorInput(@NotNull String raw) {
         return raw.startsWith(SelectionType.MENTION_CHARACTER);
     }
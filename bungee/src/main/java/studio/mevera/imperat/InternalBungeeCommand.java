@@ -47,10 +47,10 @@ final class InternalBungeeCommand extends net.md_5.bungee.api.plugin.Command imp
             builder.deleteCharAt(builder.length() - 1);
         }
 
-        return bungeeCommandDispatcher.autoComplete(
+        return bungeeCommandDispatcher.autoCompleteSync(
                 bungeeCommandDispatcher.wrapSender(sender),
                 builder.toString()
-        ).join();
+        );
     }
 
 }
@@ -8,6 +8,8 @@ import studio.mevera.imperat.annotations.base.AnnotationReplacer;
 import studio.mevera.imperat.command.Command;
 import studio.mevera.imperat.command.CommandPathway;
 import studio.mevera.imperat.command.arguments.Argument;
+import studio.mevera.imperat.command.processors.impl.DefaultProcessors;
+import studio.mevera.imperat.command.processors.impl.RateLimitProcessor;
 import studio.mevera.imperat.command.suggestions.AutoCompleter;
 import studio.mevera.imperat.command.tree.TreeExecutionResult;
 import studio.mevera.imperat.context.ArgumentInput;
@@ -34,6 +36,7 @@ import studio.mevera.imperat.exception.PermissionDeniedException;
 import studio.mevera.imperat.exception.ResponseException;
 import studio.mevera.imperat.exception.UnknownCommandException;
 import studio.mevera.imperat.permissions.PermissionHolder;
+import studio.mevera.imperat.permissions.PermissionsData;
 import studio.mevera.imperat.responses.ResponseKey;
 import studio.mevera.imperat.util.ImperatDebugger;
 import studio.mevera.imperat.util.Pair;
@@ -46,20 +49,25 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ForkJoinPool;
 
 public abstract class BaseImperat<S extends CommandSource> implements Imperat<S> {
 
     protected final ImperatConfig<S> config;
-    private final Map<String, Command<S>> commands = new HashMap<>();
+    private final RootCommandIndex<S> commands = new RootCommandIndex<>();
+    private final RateLimitProcessor<S> rateLimitProcessor = DefaultProcessors.rateLimitProcessor();
+    private final Map<String, PendingCompletion<S>> pendingCompletions = new ConcurrentHashMap<>();
     private @NotNull AnnotationParser<S> annotationParser;
 
     protected BaseImperat(@NotNull ImperatConfig<S> config) {
@@ -181,9 +189,9 @@ public abstract class BaseImperat<S extends CommandSource> implements Imperat<S>
 
     private void registerCmd(@NotNull Command<S> command) {
 
-        this.commands.put(command.getName().trim().toLowerCase(), command);
+        this.commands.put(command.getName(), command);
         for (var aliases : command.aliases()) {
-            this.commands.put(aliases.trim().toLowerCase(), command);
+            this.commands.put(aliases, command);
         }
 
         for(var shortcut : command.getAllShortcuts()) {
@@ -226,11 +234,12 @@ public abstract class BaseImperat<S extends CommandSource> implements Imperat<S>
     @Override
     public void unregisterCommand(String name) {
         Preconditions.notNull(name, "commandToRemove");
-        Command<S> removed = commands.remove(name.trim().toLowerCase());
+        Command<S> removed = commands.remove(name);
         if (removed != null) {
             for (var aliases : removed.aliases()) {
-                commands.remove(aliases.trim().toLowerCase());
+                commands.remove(aliases);
             }
+            releasePermissions(List.of(removed));
         }
     }
 
@@ -239,7 +248,43 @@ public abstract class BaseImperat<S extends CommandSource> implements Imperat<S>
      */
     @Override
     public void unregisterAllCommands() {
+        List<Command<S>> removed = new ArrayList<>(commands.values());
         commands.clear();
+        releasePermissions(removed);
+    }
+
+    // releases the interned ids of the permissions only the removed commands used
+    private void releasePermissions(Collection<Command<S>> removed) {
+        Set<String> released = new HashSet<>();
+        for (Command<S> command : removed) {
+            collectPermissions(command, released);
+        }
+        if (released.isEmpty()) {
+            return;
+        }
+        Set<String> used = new HashSet<>();
+        for (Command<S> command : commands.values()) {
+            collectPermissions(command, used);
+        }
+        released.removeAll(used);
+        PermissionsData.release(released);
+    }
+
+    private static <S extends CommandSource> void collectPermissions(Command<S> command, Set<String> permissions) {
+        collectPermissions((PermissionHolder) command, permissions);
+        for (CommandPathway<S> pathway : command.getDedicatedPathways()) {
+            collectPermissions((PermissionHolder) pathway, permissions);
+            for (Argument<S> argument : pathway.getArguments()) {
+                collectPermissions((PermissionHolder) argument, permissions);
+            }
+        }
+        for (Command<S> subCommand : command.getSubCommands()) {
+            collectPermissions(subCommand, permissions);
+        }
+    }
+
+    private static void collectPermissions(PermissionHolder holder, Set<String> permissions) {
+        permissions.addAll(holder.getPermissionsData().getCondition().collectPermissionsUsedOnConditions());
     }
 
     /**
@@ -248,12 +293,12 @@ public abstract class BaseImperat<S extends CommandSource> implements Imperat<S>
      */
     @Override
     public @Nullable Command<S> getCommand(final String name) {
-        final String cmdName = name.toLowerCase();
-        final Command<S> result = commands.get(cmdName);
-
+        final Command<S> result = commands.get(name);
         if (result != null) {
             return result;
         }
+
+        final String cmdName = RootCommandIndex.fold(name);
         for (Command<S> headCommands : commands.values()) {
             if (headCommands.hasName(cmdName)) {
                 return headCommands;
@@ -352,7 +397,7 @@ public abstract class BaseImperat<S extends CommandSource> implements Imperat<S>
             }
         }, Priority.NORMAL, ExecutionStrategy.SYNC);
         this.listen(CommandPostProcessEvent.class, (event) -> {
-            var context = event.getContext();
+            ExecutionContext<S> context = event.getContext();
 
 
             var source = context.source();
@@ -367,7 +412,7 @@ public abstract class BaseImperat<S extends CommandSource> implements Imperat<S>
                             || !context.imperatConfig().getPermissionChecker().hasPermission(source, cooldown.permission())) {
 
                     var cooldownDuration = cooldown.toDuration();
-                    Instant lastTimeExecuted = (Instant) handler.getLastTimeExecuted(source).orElseThrow();
+                    Instant lastTimeExecuted = handler.getLastTimeExecuted(source).orElseThrow();
                     var elapsed = Duration.between(lastTimeExecuted, Instant.now());
                     var remaining = cooldownDuration.minus(elapsed);
                     var remainingDuration = remaining.isNegative() ? Duration.ZERO : remaining;
@@ -410,7 +455,7 @@ public abstract class BaseImperat<S extends CommandSource> implements Imperat<S>
     public @NotNull ExecutionResult<S> execute(@NotNull S source, @NotNull String commandName, String[] rawInput) {
         Command<S> command = getCommand(commandName);
         if (command == null) {
-            throw new UnknownCommandException(commandName);
+            throw new UnknownCommandException(commandName, commands.closestLabels(commandName));
         }
         return execute(source, command, commandName, rawInput);
     }
@@ -438,15 +483,146 @@ public abstract class BaseImperat<S extends CommandSource> implements Imperat<S>
      */
     @Override
     public CompletableFuture<List<String>> autoComplete(@NotNull S source, @NotNull String fullCommandLine) {
+        if (fullCommandLine.indexOf(' ') == -1) {
+            return CompletableFuture.completedFuture(completeRootLabels(source, fullCommandLine));
+        }
+        SuggestionContext<S> context = createSuggestionContext(source, fullCommandLine);
+        if (context == null) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+
+        final String key = source.name();
+        PendingCompletion<S> pending = claimPendingCompletion(key, fullCommandLine, context);
+        if (pending.context() != context) {
+            return pending.result();
+        }
+
+        CompletableFuture<List<String>> result = pending.result();
+        result.whenComplete((suggestions, ex) -> {
+            pendingCompletions.remove(key, pending);
+            if (result.isCancelled()) {
+                context.cancel();
+            }
+        });
+        context.command().autoCompleter()
+                .autoComplete(context)
+                .whenComplete((suggestions, ex) -> {
+                    if (ex == null) {
+                        result.complete(suggestions);
+                        return;
+                    }
+                    if (!context.isCancelled()) {
+                        this.config.handleExecutionError(ex, context, AutoCompleter.class, "autoComplete(dispatcher, sender, args)");
+                    }
+                    result.complete(Collections.emptyList());
+                });
+        return result;
+    }
+
+    /**
+     * @param source          the sender writing the command
+     * @param fullCommandLine the full command line
+     * @return the suggestions at the current position, computed on the caller's thread
+     */
+    @Override
+    public List<String> autoCompleteSync(@NotNull S source, @NotNull String fullCommandLine) {
+        if (fullCommandLine.indexOf(' ') == -1) {
+            return completeRootLabels(source, fullCommandLine);
+        }
+        SuggestionContext<S> context = createSuggestionContext(source, fullCommandLine);
+        if (context == null) {
+            return Collections.emptyList();
+        }
+
+        final String key = source.name();
+        PendingCompletion<S> pending = claimPendingCompletion(key, fullCommandLine, context);
+        if (pending.context() != context) {
+            // computed by an identical request in flight, this caller would block on its own anyway
+            return pending.result().join();
+        }
+
+        CompletableFuture<List<String>> result = pending.result();
+        try {
+            result.complete(context.command().autoCompleter().autoCompleteSync(context));
+        } catch (Throwable ex) {
+            if (!context.isCancelled()) {
+                this.config.handleExecutionError(ex, context, AutoCompleter.class, "autoCompleteSync(source, fullCommandLine)");
+            }
+            result.complete(Collections.emptyList());
+        } finally {
+            pendingCompletions.remove(key, pending);
+        }
+        // a request superseding this one while it ran has completed it with no suggestions
+        return result.join();
+    }
+
+    /**
+     * Registers the completion request as the pending one of its source: an identical request
+     * in flight is returned to be joined instead, while a different one is superseded.
+     *
+     * @return the pending completion, whose context is the given one unless an identical request is joined
+     */
+    private PendingCompletion<S> claimPendingCompletion(String key, String fullCommandLine, SuggestionContext<S> context) {
+        return pendingCompletions.compute(key, (k, previous) -> {
+            if (previous != null && !previous.result().isDone()) {
+                if (previous.commandLine().equals(fullCommandLine)) {
+                    return previous;
+                }
+                previous.supersede();
+            }
+            return new PendingCompletion<>(fullCommandLine, context, new CompletableFuture<>());
+        });
+    }
+
+    /**
+     * Completes the label of a root command, keeping the namespace typed by the source.
+     * Only the roots the source can see are suggested.
+     */
+    private List<String> completeRootLabels(@NotNull S source, @NotNull String typedLabel) {
+        int colon = typedLabel.indexOf(':');
+        String namespace = colon == -1 ? "" : typedLabel.substring(0, colon + 1);
+        int limit = config.getSuggestionLimit();
+
+        List<String> labels = new ArrayList<>();
+        for (String label : commands.labelsStartingWith(typedLabel)) {
+            if (labels.size() >= limit) {
+                break;
+            }
+            Command<S> command = commands.get(label);
+            if (command == null || command.isSecret()) {
+                continue;
+            }
+            if (command.isIgnoringACPerms() || config.getPermissionChecker().hasPermission(source, command)) {
+                labels.add(namespace + label);
+            }
+        }
+        return labels;
+    }
+
+    private record PendingCompletion<S extends CommandSource>(
+            String commandLine,
+            SuggestionContext<S> context,
+            CompletableFuture<List<String>> result
+    ) {
+
+        // the superseded request stops at its next provider and its callers get no suggestions,
+        // the result being completed first so that a provider seeing the cancellation can't complete it instead
+        void supersede() {
+            result.complete(Collections.emptyList());
+            context.cancel();
+        }
+    }
+
+    private @Nullable SuggestionContext<S> createSuggestionContext(@NotNull S source, @NotNull String fullCommandLine) {
         int firstSpace = fullCommandLine.indexOf(' ');
         if (firstSpace == -1) {
-            return CompletableFuture.completedFuture(Collections.emptyList());
+            return null;
         }
 
         String cmdName = fullCommandLine.substring(0, firstSpace);
         Command<S> command = getCommand(cmdName);
         if (command == null) {
-            return CompletableFuture.completedFuture(Collections.emptyList());
+            return null;
         }
 
         boolean endsWithSpace = Character.isWhitespace(fullCommandLine.charAt(fullCommandLine.length() - 1));
@@ -460,16 +636,10 @@ public abstract class BaseImperat<S extends CommandSource> implements Imperat<S>
                 endsWithSpace
         );
 
-        SuggestionContext<S> context = this.config.getContextFactory()
-                                               .createSuggestionContext(
-                                                       this, source, command, cmdName, argumentInput
-                                               );
-        return command.autoCompleter()
-                       .autoComplete(context)
-                       .exceptionally((ex) -> {
-                           this.config.handleExecutionError(ex, context, AutoCompleter.class, "autoComplete(dispatcher, sender, args)");
-                           return Collections.emptyList();
-                       });
+        return this.config.getContextFactory()
+                       .createSuggestionContext(
+                               this, source, command, cmdName, argumentInput
+                       );
     }
 
     /**
@@ -510,6 +680,8 @@ public abstract class BaseImperat<S extends CommandSource> implements Imperat<S>
                     deniedPermissionHolder(command, commandPermissionResult.left())
             );
         }
+        rateLimitProcessor.process(context);
+
         var preProcessEvent = new CommandPreProcessEvent<>(command, context);
         this.publishEvent(preProcessEvent);
         if (preProcessEvent.isCancelled()) {
@@ -566,10 +738,13 @@ public abstract class BaseImperat<S extends CommandSource> implements Imperat<S>
                     context.getRootCommandLabelUsed(),
                     context.arguments().join(" ")
             );
+            String mistyped = context.arguments().getOr(treeResult.getFurthestMatchDepth(), null);
             throw new InvalidSyntaxException(
                     invalidUsage,
                     closestUsage,
-                    parseError
+                    parseError,
+                    mistyped,
+                    mistyped == null ? List.of() : closestSubCommands(context, treeResult.getFurthestMatchDepth(), mistyped)
             );
         }
 
@@ -588,8 +763,11 @@ public abstract class BaseImperat<S extends CommandSource> implements Imperat<S>
 
         // Execute
         if (!postProcessEvent.isCancelled()) {
+            // a call rejected by the post-processing (e.g. by the cooldown) doesn't take a token of the pathway's rate limit
+            rateLimitProcessor.process(executionContext);
             ImperatDebugger.debug("Executing command '%s' for source '%s'", command.getName(), source);
             pathway.execute(this, source, executionContext);
+            command.autoCompleter().onExecuted(context);
             return ExecutionResult.of(executionContext, context);
         } else {
             ImperatDebugger.debug("Execution of command '%s' was cancelled by a CommandPostProcessEvent.", command.getName());
@@ -597,6 +775,22 @@ public abstract class BaseImperat<S extends CommandSource> implements Imperat<S>
         }
     }
 
+    /**
+     * @return the subcommands closest to the token the traversal stopped at,
+     * among those of the last sub-command typed before it
+     */
+    private List<String> closestSubCommands(CommandContext<S> context, int depth, String mistyped) {
+        ArgumentInput arguments = context.arguments();
+        Command<S> command = context.command();
+        for (int i = 0; i < depth; i++) {
+            Command<S> subCommand = command.getSubCommand(arguments.get(i), false);
+            if (subCommand != null) {
+                command = subCommand;
+            }
+        }
+        return command.getSubCommands().isEmpty() ? List.of() : command.getClosestSubCommands(mistyped);
+    }
+
     @Override
     public void debug() {
         for (var cmd : commands.values()) {
@@ -608,23 +802,13 @@ public abstract class BaseImperat<S extends CommandSource> implements Imperat<S>
      * Walks the {@code parseError} cause chain and, for each throwable in it, checks whether
      * the given command (plus its ancestor commands) or the global config has a registered
      * handler that can resolve it. Mirrors the dispatch order used by
-     * {@code ImperatConfigImpl.handleExecutionError}.
+     * {@code ImperatConfigImpl.handleExecutionError}, whose resolutions are cached.
      */
     private boolean hasRegisteredHandlerFor(@NotNull Throwable parseError, @NotNull Command<S> lastCommand) {
-        Throwable current = parseError;
-        while (current != null) {
-            Class<? extends Throwable> type = current.getClass();
-            Command<S> cmd = lastCommand;
-            while (cmd != null) {
-                if (cmd.getErrorHandlerFor(type) != null) {
-                    return true;
-                }
-                cmd = cmd.getParent();
-            }
-            if (config.getErrorHandlerFor(type) != null) {
+        for (Throwable current = parseError; current != null; current = current.getCause()) {
+            if (config.resolveErrorHandler(lastCommand, current.getClass()) != null) {
                 return true;
             }
-            current = current.getCause();
         }
         return false;
     }
@@ -1,11 +1,13 @@
 package studio.mevera.imperat;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import studio.mevera.imperat.annotations.base.AnnotationReplacer;
 import studio.mevera.imperat.annotations.base.InstanceFactory;
 import studio.mevera.imperat.command.CommandCoordinator;
 import studio.mevera.imperat.command.CommandPathway;
 import studio.mevera.imperat.command.ContextArgumentProviderFactory;
+import studio.mevera.imperat.command.ratelimit.RateLimitRecord;
 import studio.mevera.imperat.command.suggestions.AutoCompleterFactory;
 import studio.mevera.imperat.command.arguments.type.ArgumentType;
 import studio.mevera.imperat.command.arguments.type.ArgumentTypeHandler;
@@ -19,12 +21,17 @@ import studio.mevera.imperat.placeholders.Placeholder;
 import studio.mevera.imperat.providers.ContextArgumentProvider;
 import studio.mevera.imperat.providers.DependencySupplier;
 import studio.mevera.imperat.providers.SourceProvider;
+import studio.mevera.imperat.providers.SuggestionCachePolicy;
 import studio.mevera.imperat.providers.SuggestionProvider;
 import studio.mevera.imperat.responses.Response;
+import studio.mevera.imperat.responses.ResponseCache;
+import studio.mevera.imperat.responses.ResponseContentFetcher;
 import studio.mevera.imperat.responses.ResponseKey;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -88,11 +95,77 @@ public abstract class ConfigBuilder<S extends CommandSource, I extends Imperat<S
         return (B) this;
     }
 
+    /**
+     * Sets the fetcher of the responses registered without one,
+     * e.g. a {@link studio.mevera.imperat.responses.FileContentFetcher} to localize them.
+     *
+     * @param contentFetcher the fetcher
+     * @return the current builder instance for chaining
+     */
+    public B responseContentFetcher(ResponseContentFetcher contentFetcher) {
+        config.getResponseRegistry().setDefaultContentFetcher(contentFetcher);
+        return (B) this;
+    }
+
+    /**
+     * Caches the content of responses fetched from elsewhere, per response and locale.
+     *
+     * @param contentCache the cache
+     * @return the current builder instance for chaining
+     */
+    public B responseCache(ResponseCache contentCache) {
+        config.getResponseRegistry().setContentCache(contentCache);
+        return (B) this;
+    }
+
     public B globalCoordinator(CommandCoordinator<S> commandCoordinator) {
         config.setGlobalCommandCoordinator(commandCoordinator);
         return (B) this;
     }
 
+    /**
+     * Sets a global per-source rate limit shared across ALL commands,
+     * allowing each source a burst of {@code uses} executions, refilled gradually over {@code period}.
+     *
+     * @param uses   the maximum amount of executions within the period
+     * @param period the length of the period
+     * @param unit   the unit of the period
+     * @return the current builder instance for chaining
+     */
+    public B globalRateLimit(int uses, long period, TimeUnit unit) {
+        return globalRateLimit(uses, period, unit, null);
+    }
+
+    /**
+     * Sets a global per-source rate limit shared across ALL commands,
+     * allowing each source a burst of {@code uses} executions, refilled gradually over {@code period}.
+     *
+     * @param uses             the maximum amount of executions within the period
+     * @param period           the length of the period
+     * @param unit             the unit of the period
+     * @param bypassPermission the permission that bypasses the rate limit, may be null
+     * @return the current builder instance for chaining
+     */
+    public B globalRateLimit(int uses, long period, TimeUnit unit, @Nullable String bypassPermission) {
+        config.setGlobalRateLimit(new RateLimitRecord(uses, period, unit, bypassPermission));
+        return (B) this;
+    }
+
+    /**
+     * Caches the suggestions of a provider class referenced by
+     * {@link studio.mevera.imperat.annotations.types.SuggestionProvider}, for providers that
+     * can't be annotated with {@link studio.mevera.imperat.annotations.types.CachedSuggestions}.
+     * For providers set programmatically, use {@link SuggestionCachePolicy#apply(SuggestionProvider)} instead.
+     *
+     * @param providerType the class of the suggestion provider
+     * @param policy       how its suggestions are cached
+     * @return the current builder instance for chaining
+     */
+    public B cacheSuggestions(@NotNull Class<? extends SuggestionProvider<?>> providerType, @NotNull SuggestionCachePolicy<S> policy) {
+        config.setSuggestionCachePolicy(providerType, policy);
+        return (B) this;
+    }
+
     /**
      * Sets a custom {@link PermissionChecker} to determine and resolve permissions
      * for the command sender/source within the platform's configuration.
@@ -105,6 +178,19 @@ public abstract class ConfigBuilder<S extends CommandSource, I extends Imperat<S
         return (B) this;
     }
 
+    /**
+     * Enables or disables caching of permission decisions per source.
+     * When enabled, the platform must call {@link ImperatConfig#invalidatePermissions(CommandSource)}
+     * whenever a source's permissions change, otherwise stale decisions are served.
+     *
+     * @param enabled whether to cache permission decisions
+     * @return the current {@link ConfigBuilder} instance for method chaining and further configuration
+     */
+    public B cachePermissionDecisions(boolean enabled) {
+        config.setPermissionDecisionCacheEnabled(enabled);
+        return (B) this;
+    }
+
 
     /**
      * Sets the context factory for creating contexts used in command execution.
@@ -129,6 +215,56 @@ public abstract class ConfigBuilder<S extends CommandSource, I extends Imperat<S
         return (B) this;
     }
 
+    /**
+     * Sets the executor running asynchronous auto-completion requests,
+     * defaults to the common fork-join pool.
+     *
+     * @param executor the executor to use, e.g. {@code Executors.newVirtualThreadPerTaskExecutor()}
+     * @return this builder instance for chaining
+     */
+    public B completionExecutor(@NotNull Executor executor) {
+        config.setCompletionExecutor(executor);
+        return (B) this;
+    }
+
+    /**
+     * Sets the latency budget of a single auto-completion request, once exceeded
+     * the suggestions collected so far are returned.
+     *
+     * @param budget the budget, or {@code 0} for no budget
+     * @param unit   the unit of the budget
+     * @return this builder instance for chaining
+     */
+    public B completionLatencyBudget(long budget, @NotNull TimeUnit unit) {
+        config.setCompletionLatencyBudget(budget, unit);
+        return (B) this;
+    }
+
+    /**
+     * Sets the maximum number of suggestions returned by a single auto-completion request,
+     * unlimited by default.
+     *
+     * @param limit the maximum number of suggestions, e.g. the number of entries the client displays
+     * @return this builder instance for chaining
+     */
+    public B suggestionLimit(int limit) {
+        config.setSuggestionLimit(limit);
+        return (B) this;
+    }
+
+    /**
+     * Calls the suggestion providers matching the same cursor position concurrently,
+     * dropping the ones missing the completion latency budget.
+     *
+     * @param enabled whether to call suggestion providers concurrently
+     * @return this builder instance for chaining
+     * @see ImperatConfig#setParallelSuggestionProvidersEnabled(boolean)
+     */
+    public B parallelSuggestionProviders(boolean enabled) {
+        config.setParallelSuggestionProvidersEnabled(enabled);
+        return (B) this;
+    }
+
     /**
      * Registers a {@link ReturnResolver}
      * @param type the type of value to return using the return resolver
@@ -95,12 +95,35 @@ public non-sealed interface Imperat<S extends CommandSource> extends AnnotationI
     @NotNull ExecutionResult<S> execute(@NotNull S sender, @NotNull String commandLine);
 
     /**
+     * Computes the suggestions asynchronously. At most one request per sender is in flight:
+     * a request identical to the pending one shares its future, while a different one
+     * supersedes it, cancelling its {@link studio.mevera.imperat.context.SuggestionContext} and completing it with no suggestions.
+     * Cancelling the returned future cancels the request as well.
+     * <p>
+     * While the root label is being typed, the labels of the root commands visible to the sender are suggested.
+     *
      * @param sender          the sender writing the command
      * @param fullCommandLine the full command line
      * @return the suggestions at the current position
      */
     CompletableFuture<List<String>> autoComplete(@NotNull S sender, @NotNull String fullCommandLine);
 
+    /**
+     * Computes the suggestions on the caller's thread, without going through the
+     * {@link ImperatConfig#getCompletionExecutor() completion executor}.
+     * Meant for callers that are already off the main thread, or that would block on the result anyway.
+     * <p>
+     * Requests are coalesced per sender as in {@link #autoComplete(CommandSource, String)}: a request identical
+     * to the pending one waits for its suggestions instead of computing them again, while a different one
+     * supersedes it, so the superseded call returns no suggestions.
+     *
+     * @param sender          the sender writing the command
+     * @param fullCommandLine the full command line
+     * @return the suggestions at the current position
+     */
+    @ApiStatus.AvailableSince("3.6.0")
+    List<String> autoCompleteSync(@NotNull S sender, @NotNull String fullCommandLine);
+
     /**
      * Debugs all registered commands and their usages.
      */
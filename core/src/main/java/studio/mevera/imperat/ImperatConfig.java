@@ -6,6 +6,8 @@ import org.jetbrains.annotations.Nullable;
 import studio.mevera.imperat.annotations.base.AnnotationReplacer;
 import studio.mevera.imperat.annotations.base.InstanceFactory;
 import studio.mevera.imperat.annotations.base.element.ParameterElement;
+import studio.mevera.imperat.command.ratelimit.RateLimitRecord;
+import studio.mevera.imperat.command.ratelimit.RateLimiter;
 import studio.mevera.imperat.command.suggestions.AutoCompleterFactory;
 import studio.mevera.imperat.command.Command;
 import studio.mevera.imperat.command.CommandCoordinator;
@@ -21,15 +23,19 @@ import studio.mevera.imperat.context.internal.Cursor;
 import studio.mevera.imperat.context.internal.OptionalArgumentHandler;
 import studio.mevera.imperat.events.EventBus;
 import studio.mevera.imperat.exception.CommandExceptionHandler;
+import studio.mevera.imperat.permissions.CachingPermissionChecker;
 import studio.mevera.imperat.permissions.PermissionChecker;
 import studio.mevera.imperat.placeholders.Placeholder;
 import studio.mevera.imperat.placeholders.PlaceholderResolver;
 import studio.mevera.imperat.providers.ContextArgumentProvider;
 import studio.mevera.imperat.providers.DependencySupplier;
+import studio.mevera.imperat.providers.SuggestionCachePolicy;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The {@code ImperatConfig} interface defines the core configuration and interaction points
@@ -233,6 +239,35 @@ public sealed interface ImperatConfig<S extends CommandSource> extends ResolverR
      */
     void setPermissionResolver(PermissionChecker<S> permissionChecker);
 
+    /**
+     * @return whether permission decisions are cached per source
+     * @see CachingPermissionChecker
+     */
+    boolean isPermissionDecisionCacheEnabled();
+
+    /**
+     * Toggles caching of permission decisions per source, when enabled
+     * the permission checker is wrapped by a {@link CachingPermissionChecker}.
+     *
+     * @param enabled whether to cache permission decisions
+     */
+    void setPermissionDecisionCacheEnabled(boolean enabled);
+
+    /**
+     * Drops the cached permission decisions of a source, platforms should call this
+     * whenever the permissions of the source change or when it disconnects.
+     * Does nothing if the permission decision cache is disabled.
+     *
+     * @param source the source whose permissions changed
+     */
+    void invalidatePermissions(@NotNull S source);
+
+    /**
+     * Drops all cached permission decisions.
+     * Does nothing if the permission decision cache is disabled.
+     */
+    void invalidatePermissions();
+
     /**
      * @return the factory for creation of
      * command related contexts {@link CommandContext}
@@ -305,6 +340,20 @@ public sealed interface ImperatConfig<S extends CommandSource> extends ResolverR
             final CommandExceptionHandler<T, S> handler
     );
 
+    /**
+     * Resolves the handler of a throwable type as {@link #handleExecutionError} does: the handler
+     * of the given command, else of its closest parent having one, else the global handler.
+     * Resolutions are cached until a handler is registered. Commands overriding
+     * {@link Command#handleExecutionError} handle their errors themselves, which this can't reflect.
+     *
+     * @param command the command the throwable was raised in, or {@code null} for the global handler only
+     * @param type    the type of the throwable
+     * @param <T>     the type of the throwable
+     * @return the handler, or {@code null} if none can handle the type
+     */
+    @ApiStatus.AvailableSince("3.6.0")
+    <T extends Throwable> @Nullable CommandExceptionHandler<T, S> resolveErrorHandler(@Nullable Command<S> command, Class<T> type);
+
     /**
      * @return The global/centralized default usage of EVERY command
      * its empty by default.
@@ -344,6 +393,70 @@ public sealed interface ImperatConfig<S extends CommandSource> extends ResolverR
      */
     void setAutoCompleterFactory(AutoCompleterFactory<S> factory);
 
+    /**
+     * @return the executor running asynchronous auto-completion requests
+     */
+    @NotNull Executor getCompletionExecutor();
+
+    /**
+     * Sets the executor running asynchronous auto-completion requests,
+     * e.g. a virtual-thread executor, a dedicated pool or {@code Runnable::run}
+     * to complete on the caller's thread.
+     *
+     * @param executor the executor to set
+     */
+    void setCompletionExecutor(@NotNull Executor executor);
+
+    /**
+     * @return the latency budget of a single auto-completion request in nanoseconds,
+     * or {@code 0} if unbounded
+     */
+    long getCompletionLatencyBudget();
+
+    /**
+     * Sets the latency budget of a single auto-completion request, once exceeded
+     * the suggestions collected so far are returned and remaining suggestion providers are skipped.
+     *
+     * @param budget the budget, or {@code 0} for no budget
+     * @param unit   the unit of the budget
+     */
+    void setCompletionLatencyBudget(long budget, @NotNull TimeUnit unit);
+
+    /**
+     * @return the maximum number of suggestions returned by a single auto-completion request
+     */
+    int getSuggestionLimit();
+
+    /**
+     * Sets the maximum number of suggestions returned by a single auto-completion request,
+     * once reached no further suggestion providers are called.
+     *
+     * @param limit the maximum number of suggestions
+     */
+    void setSuggestionLimit(int limit);
+
+    /**
+     * @return whether the suggestion providers matching the same cursor position are called concurrently
+     */
+    boolean isParallelSuggestionProvidersEnabled();
+
+    /**
+     * Toggles calling the suggestion providers matching the same cursor position concurrently
+     * on the {@link #getCompletionExecutor() completion executor}, except the ones with
+     * {@link studio.mevera.imperat.providers.SuggestionProvider#stableSuggestions() stable suggestions},
+     * which are cheap enough to call on the completing thread. Each provider streams into a
+     * sink filtered by the input, as when called one after the other. Their results are merged
+     * in declaration order without duplicates, and providers missing the
+     * {@link #getCompletionLatencyBudget() completion latency budget} are dropped.
+     * <p>
+     * A dropped provider that already started isn't interrupted, it keeps its executor thread until it returns.
+     * The completion executor must be able to run providers while a completion waits on them,
+     * a single-threaded executor would leave them queued until the budget runs out.
+     *
+     * @param enabled whether to call suggestion providers concurrently
+     */
+    void setParallelSuggestionProvidersEnabled(boolean enabled);
+
     /**
      * @return the default global command coordinator
      */
@@ -351,6 +464,35 @@ public sealed interface ImperatConfig<S extends CommandSource> extends ResolverR
 
     void setGlobalCommandCoordinator(CommandCoordinator<S> commandCoordinator);
 
+    /**
+     * @return the global per-source rate limiter shared across all commands,
+     * or null if there's no global rate limit
+     */
+    @Nullable RateLimiter getGlobalRateLimiter();
+
+    /**
+     * Sets the global per-source rate limit shared across all commands.
+     *
+     * @param rateLimit the rate limit to apply, or null to remove it
+     */
+    void setGlobalRateLimit(@Nullable RateLimitRecord rateLimit);
+
+    /**
+     * @param providerType the class of a suggestion provider referenced by
+     *                     {@link studio.mevera.imperat.annotations.types.SuggestionProvider}
+     * @return the cache policy registered for the provider class, or null if its suggestions aren't cached
+     */
+    @Nullable SuggestionCachePolicy<S> getSuggestionCachePolicy(@NotNull Class<?> providerType);
+
+    /**
+     * Caches the suggestions of every provider of the given class created for annotated parameters,
+     * as if the class was annotated with {@link studio.mevera.imperat.annotations.types.CachedSuggestions}.
+     *
+     * @param providerType the class of the suggestion provider
+     * @param policy       the cache policy, or null to stop caching its suggestions
+     */
+    void setSuggestionCachePolicy(@NotNull Class<?> providerType, @Nullable SuggestionCachePolicy<S> policy);
+
     void setCoroutineScope(@NotNull Object scope);
 
     @Nullable Object getCoroutineScope();
@@ -10,6 +10,8 @@ import studio.mevera.imperat.command.Command;
 import studio.mevera.imperat.command.CommandCoordinator;
 import studio.mevera.imperat.command.CommandPathway;
 import studio.mevera.imperat.command.ContextArgumentProviderFactory;
+import studio.mevera.imperat.command.ratelimit.RateLimitRecord;
+import studio.mevera.imperat.command.ratelimit.RateLimiter;
 import studio.mevera.imperat.command.suggestions.AutoCompleterFactory;
 import studio.mevera.imperat.command.suggestions.NativeAutoCompleterFactory;
 import studio.mevera.imperat.command.ContextArgumentProviderRegistry;
@@ -27,9 +29,12 @@ import studio.mevera.imperat.events.EventBus;
 import studio.mevera.imperat.events.exception.EventException;
 import studio.mevera.imperat.exception.CommandException;
 import studio.mevera.imperat.exception.CommandExceptionHandler;
+import studio.mevera.imperat.exception.ErrorHandlerRegistry;
 import studio.mevera.imperat.exception.InvalidSyntaxException;
 import studio.mevera.imperat.exception.PermissionDeniedException;
 import studio.mevera.imperat.exception.ResponseException;
+import studio.mevera.imperat.exception.SelfHandlingException;
+import studio.mevera.imperat.permissions.CachingPermissionChecker;
 import studio.mevera.imperat.permissions.PermissionChecker;
 import studio.mevera.imperat.permissions.PermissionHolder;
 import studio.mevera.imperat.placeholders.Placeholder;
@@ -38,7 +43,9 @@ import studio.mevera.imperat.placeholders.PlaceholderResolver;
 import studio.mevera.imperat.providers.ContextArgumentProvider;
 import studio.mevera.imperat.providers.DependencySupplier;
 import studio.mevera.imperat.providers.SourceProvider;
+import studio.mevera.imperat.providers.SuggestionCachePolicy;
 import studio.mevera.imperat.providers.SuggestionProvider;
+import studio.mevera.imperat.responses.ResponseKey;
 import studio.mevera.imperat.responses.ResponseRegistry;
 import studio.mevera.imperat.util.ImperatDebugger;
 import studio.mevera.imperat.util.Preconditions;
@@ -50,7 +57,12 @@ import java.lang.reflect.Type;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 
 final class ImperatConfigImpl<S extends CommandSource> implements ImperatConfig<S> {
 
@@ -61,14 +73,21 @@ final class ImperatConfigImpl<S extends CommandSource> implements ImperatConfig<
     private final ArgumentTypeRegistry<S> argumentTypeRegistry;
     private final SourceProviderRegistry<S> sourceProviderRegistry;
     private final ReturnResolverRegistry<S> returnResolverRegistry;
-    private final Map<Class<? extends Throwable>, CommandExceptionHandler<?, S>> errorHandlers = new HashMap<>();
+    private final ErrorHandlerRegistry<S> errorHandlers = new ErrorHandlerRegistry<>();
+    private final Map<ResolutionKey, StampedResolution<S>> handlerResolutions = new ConcurrentHashMap<>();
+    private volatile long handlerResolutionsGeneration = ErrorHandlerRegistry.generation();
     private final Map<Class<?>, AnnotationReplacer<?>> annotationReplacerMap = new HashMap<>();
     private InstanceFactory<S> instanceFactory = InstanceFactory.defaultFactory();
     private AutoCompleterFactory<S> autoCompleterFactory = new NativeAutoCompleterFactory<>(false);
+    private @NotNull Executor completionExecutor = ForkJoinPool.commonPool();
+    private long completionLatencyBudget = 0L;
+    private int suggestionLimit = Integer.MAX_VALUE;
+    private boolean parallelSuggestionProviders = false;
     private @NotNull SuggestionProvider<S> defaultSuggestionProvider =
             (context, input) ->
                     Collections.emptyList();
     private @NotNull PermissionChecker<S> permissionChecker = (source, permission) -> true;
+    private boolean cachePermissionDecisions = false;
     private @NotNull ContextFactory<S> contextFactory;
     private boolean overlapOptionalParameterSuggestions = false;
     private boolean handleExecutionConsecutiveOptionalArgumentsSkip = false;
@@ -94,12 +113,28 @@ final class ImperatConfigImpl<S extends CommandSource> implements ImperatConfig<
 
     private CommandCoordinator<S> commandCoordinator = CommandCoordinator.sync();
 
+    private @Nullable RateLimiter globalRateLimiter = null;
+    private final Map<Class<?>, SuggestionCachePolicy<S>> suggestionCachePolicies = new HashMap<>();
+
     private final ResponseRegistry responseRegistry = ResponseRegistry.createDefault();
     private final PlaceholderRegistry placeholderRegistry = PlaceholderRegistry.createDefault();
 
     private Object coroutineScope = null; // Will be CoroutineScope if set
     private static final boolean COROUTINES_AVAILABLE;
 
+    // whether commands of a class override handleExecutionError, bypassing their resolved handlers
+    private static final ClassValue<Boolean> CUSTOM_ERROR_HANDLING = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("handleExecutionError", Throwable.class, CommandContext.class, Class.class, String.class)
+                               .getDeclaringClass() != BaseThrowableHandler.class;
+            } catch (NoSuchMethodException ex) {
+                return false;
+            }
+        }
+    };
+
     static {
         boolean available = false;
         try {
@@ -168,7 +203,36 @@ final class ImperatConfigImpl<S extends CommandSource> implements ImperatConfig<
      */
     @Override
     public void setPermissionResolver(@NotNull PermissionChecker<S> permissionChecker) {
-        this.permissionChecker = permissionChecker;
+        this.permissionChecker = cachePermissionDecisions ? CachingPermissionChecker.of(permissionChecker) : permissionChecker;
+    }
+
+    @Override
+    public boolean isPermissionDecisionCacheEnabled() {
+        return cachePermissionDecisions;
+    }
+
+    @Override
+    public void setPermissionDecisionCacheEnabled(boolean enabled) {
+        this.cachePermissionDecisions = enabled;
+        if (enabled) {
+            this.permissionChecker = CachingPermissionChecker.of(permissionChecker);
+        } else if (permissionChecker instanceof CachingPermissionChecker<S> caching) {
+            this.permissionChecker = caching.getDelegate();
+        }
+    }
+
+    @Override
+    public void invalidatePermissions(@NotNull S source) {
+        if (permissionChecker instanceof CachingPermissionChecker<S> caching) {
+            caching.invalidate(source);
+        }
+    }
+
+    @Override
+    public void invalidatePermissions() {
+        if (permissionChecker instanceof CachingPermissionChecker<S> caching) {
+            caching.invalidateAll();
+        }
     }
 
     /**
@@ -523,22 +587,60 @@ final class ImperatConfigImpl<S extends CommandSource> implements ImperatConfig<
 
     @Override
     @Nullable
-    @SuppressWarnings("unchecked")
     public <T extends Throwable> CommandExceptionHandler<T, S> getErrorHandlerFor(Class<T> type) {
-        Class<?> current = type;
-        while (current != null && Throwable.class.isAssignableFrom(current)) {
-            var resolver = errorHandlers.get(current);
-            if (resolver != null) {
-                return (CommandExceptionHandler<T, S>) resolver;
-            }
-            current = current.getSuperclass();
-        }
-        return null;
+        return errorHandlers.get(type);
     }
 
     @Override
     public <T extends Throwable> void setErrorHandler(Class<T> exception, CommandExceptionHandler<T, S> handler) {
-        this.errorHandlers.put(exception, handler);
+        this.errorHandlers.register(exception, handler);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Throwable> @Nullable CommandExceptionHandler<T, S> resolveErrorHandler(@Nullable Command<S> command, Class<T> type) {
+        return (CommandExceptionHandler<T, S>) resolveHandler(command, type).handler();
+    }
+
+    /**
+     * Resolves, once per command and throwable type until a handler is registered anywhere,
+     * the closest handler up the command's parents, then the global one.
+     * Each resolution is stamped with the generation read before resolving it, so one racing
+     * with a registration is never served once the generation has moved on.
+     */
+    private HandlerResolution<S> resolveHandler(@Nullable Command<S> command, Class<?> type) {
+        long generation = ErrorHandlerRegistry.generation();
+        if (generation != handlerResolutionsGeneration) {
+            // only frees the entries of older generations, which the stamps already reject
+            handlerResolutionsGeneration = generation;
+            handlerResolutions.clear();
+        }
+        ResolutionKey key = new ResolutionKey(command, type);
+        StampedResolution<S> cached = handlerResolutions.get(key);
+        if (cached != null && cached.generation() == generation) {
+            return cached.resolution();
+        }
+
+        @SuppressWarnings("unchecked")
+        Class<? extends Throwable> throwableType = (Class<? extends Throwable>) type;
+        HandlerResolution<S> resolution = HandlerResolution.none();
+        int level = 0;
+        for (Command<S> cmd = command; cmd != null; cmd = cmd.getParent()) {
+            var handler = cmd.getErrorHandlerFor(throwableType);
+            if (handler != null) {
+                resolution = new HandlerResolution<>(level, handler);
+                break;
+            }
+            level++;
+        }
+        if (resolution.handler() == null) {
+            var handler = errorHandlers.get(throwableType);
+            if (handler != null) {
+                resolution = new HandlerResolution<>(level, handler);
+            }
+        }
+        handlerResolutions.put(key, new StampedResolution<>(generation, resolution));
+        return resolution;
     }
 
     @Override
@@ -571,6 +673,52 @@ final class ImperatConfigImpl<S extends CommandSource> implements ImperatConfig<
         this.autoCompleterFactory = factory;
     }
 
+    @Override
+    public @NotNull Executor getCompletionExecutor() {
+        return completionExecutor;
+    }
+
+    @Override
+    public void setCompletionExecutor(@NotNull Executor executor) {
+        this.completionExecutor = Objects.requireNonNull(executor, "executor");
+    }
+
+    @Override
+    public int getSuggestionLimit() {
+        return suggestionLimit;
+    }
+
+    @Override
+    public void setSuggestionLimit(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Suggestion limit must be at least 1");
+        }
+        this.suggestionLimit = limit;
+    }
+
+    @Override
+    public boolean isParallelSuggestionProvidersEnabled() {
+        return parallelSuggestionProviders;
+    }
+
+    @Override
+    public void setParallelSuggestionProvidersEnabled(boolean enabled) {
+        this.parallelSuggestionProviders = enabled;
+    }
+
+    @Override
+    public long getCompletionLatencyBudget() {
+        return completionLatencyBudget;
+    }
+
+    @Override
+    public void setCompletionLatencyBudget(long budget, @NotNull TimeUnit unit) {
+        if (budget < 0) {
+            throw new IllegalArgumentException("Completion latency budget cannot be negative");
+        }
+        this.completionLatencyBudget = unit.toNanos(budget);
+    }
+
     @Override
     public CommandCoordinator<S> getGlobalCommandCoordinator() {
         return commandCoordinator;
@@ -582,6 +730,30 @@ final class ImperatConfigImpl<S extends CommandSource> implements ImperatConfig<
     }
 
 
+    @Override
+    public @Nullable RateLimiter getGlobalRateLimiter() {
+        return globalRateLimiter;
+    }
+
+    @Override
+    public void setGlobalRateLimit(@Nullable RateLimitRecord rateLimit) {
+        this.globalRateLimiter = rateLimit == null ? null : new RateLimiter(rateLimit);
+    }
+
+    @Override
+    public @Nullable SuggestionCachePolicy<S> getSuggestionCachePolicy(@NotNull Class<?> providerType) {
+        return suggestionCachePolicies.get(providerType);
+    }
+
+    @Override
+    public void setSuggestionCachePolicy(@NotNull Class<?> providerType, @Nullable SuggestionCachePolicy<S> policy) {
+        if (policy == null) {
+            suggestionCachePolicies.remove(providerType);
+        } else {
+            suggestionCachePolicies.put(providerType, policy);
+        }
+    }
+
     @Override
     public @NotNull ThrowablePrinter getThrowablePrinter() {
         return throwablePrinter;
@@ -593,24 +765,59 @@ final class ImperatConfigImpl<S extends CommandSource> implements ImperatConfig<
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <E extends Throwable> boolean handleExecutionError(@NotNull E throwable, CommandContext<S> context, Class<?> owning,
             String methodName) {
 
         //First handling the error using the Local(RootCommand's) Error Handler.
         //if its during execution, then let's use the LAST entered RootCommand (root or sub)
-        //Since subcommands also can have their own error handlers (aka CommandExceptionHandler)
+        //Since subcommands also can have their own error handlers (aka CommandExceptionHandler),
+        //then its parents, then the Central Throwable Handler.
+        //The closest level handling any throwable of the cause chain wins, the earliest cause breaking ties,
+        //and self-handling exceptions are at the closest level.
         Command<S> cmd = context instanceof ExecutionContext<S> executionContext ? executionContext.getLastUsedCommand() : context.command();
-        while (cmd != null) {
-            var res = cmd.handleExecutionError(throwable, context, owning, methodName);
-            if (res) {
-                return true;
+        for (Command<S> current = cmd; current != null; current = current.getParent()) {
+            if (CUSTOM_ERROR_HANDLING.get(current.getClass())) {
+                return handleThroughCommands(cmd, throwable, context, owning, methodName);
+            }
+        }
+
+        Throwable handled = null;
+        HandlerResolution<S> best = HandlerResolution.none();
+        for (Throwable current = throwable; current != null && best.level() > 0; current = current.getCause()) {
+            HandlerResolution<S> resolution = current instanceof SelfHandlingException
+                                                      ? HandlerResolution.selfHandling()
+                                                      : resolveHandler(cmd, current.getClass());
+            if (resolution.level() < best.level()) {
+                best = resolution;
+                handled = current;
             }
-            cmd = cmd.getParent();
         }
 
-        //Trying to handle the error from the Central Throwable Handler.
-        var res = ImperatConfig.super.handleExecutionError(throwable, context, owning, methodName);
-        if (!res) {
+        if (handled == null) {
+            throwablePrinter.print(throwable);
+        } else if (handled instanceof SelfHandlingException selfHandlingException) {
+            selfHandlingException.handle(context);
+        } else {
+            ImperatDebugger.debug("Found handler for exception '%s'", handled.getClass().getName());
+            ((CommandExceptionHandler<? super Throwable, S>) best.handler()).resolve(handled, context);
+        }
+        return true;
+    }
+
+    /**
+     * Lets each command from the given one up to the root handle the throwable through its own
+     * {@link Command#handleExecutionError}, then the global handlers, for the chains of commands
+     * overriding it, whose handling can't be resolved from their handlers.
+     */
+    private <E extends Throwable> boolean handleThroughCommands(@Nullable Command<S> cmd, @NotNull E throwable, CommandContext<S> context,
+            Class<?> owning, String methodName) {
+        for (Command<S> current = cmd; current != null; current = current.getParent()) {
+            if (current.handleExecutionError(throwable, context, owning, methodName)) {
+                return true;
+            }
+        }
+        if (!ImperatConfig.super.handleExecutionError(throwable, context, owning, methodName)) {
             throwablePrinter.print(throwable);
         }
         return true;
@@ -671,12 +878,61 @@ final class ImperatConfigImpl<S extends CommandSource> implements ImperatConfig<
         return coroutineScope != null;
     }
 
+    private record StampedResolution<S extends CommandSource>(long generation, HandlerResolution<S> resolution) {
+
+    }
+
+    private record ResolutionKey(@Nullable Command<?> command, Class<?> type) {
+
+        // commands are compared by identity, subcommands of different commands may be equal
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof ResolutionKey other && other.command == command && other.type == type;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(command) + type.hashCode();
+        }
+    }
+
+    /**
+     * @param level   how far from the command the handler was found, its parents then the config being further
+     * @param handler the handler, {@code null} if none was found
+     */
+    private record HandlerResolution<S extends CommandSource>(int level, @Nullable CommandExceptionHandler<?, S> handler) {
+
+        private static final HandlerResolution<?> NONE = new HandlerResolution<>(Integer.MAX_VALUE, null);
+        private static final HandlerResolution<?> SELF_HANDLING = new HandlerResolution<>(0, null);
+
+        @SuppressWarnings("unchecked")
+        static <S extends CommandSource> HandlerResolution<S> none() {
+            return (HandlerResolution<S>) NONE;
+        }
+
+        @SuppressWarnings("unchecked")
+        static <S extends CommandSource> HandlerResolution<S> selfHandling() {
+            return (HandlerResolution<S>) SELF_HANDLING;
+        }
+    }
+
     private void regDefThrowableResolvers() {
         // Structural/flow exceptions — reply with their own plain message directly
         this.setErrorHandler(InvalidSyntaxException.class, (exception, ctx) -> {
             String invalidUsageFormat = exception.getInvalidUsage();
             ctx.source().error("Invalid command usage: '" + invalidUsageFormat + "'");
 
+            var closestSubCommands = exception.getClosestSubCommands();
+            var unknownSubCommand = this.getResponseRegistry().getResponse(ResponseKey.UNKNOWN_SUB_COMMAND);
+            if (!closestSubCommands.isEmpty() && unknownSubCommand != null) {
+                var placeholders = ResponseException.of(ResponseKey.UNKNOWN_SUB_COMMAND)
+                                           .withPlaceholder("input", Objects.requireNonNull(exception.getMistypedSubCommand()))
+                                           .withClosestMatches(closestSubCommands)
+                                           .withContextPlaceholders(ctx)
+                                           .getPlaceholderDataProvider();
+                unknownSubCommand.sendContent(ctx, placeholders);
+            }
+
             var closestUsage = exception.getClosestUsage();
             if (closestUsage != null) {
                 String closestUsageFormat = UsageFormatting.formatClosestUsage(
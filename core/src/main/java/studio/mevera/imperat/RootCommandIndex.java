@@ -0,0 +1,109 @@
+package studio.mevera.imperat;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import studio.mevera.imperat.command.Command;
+import studio.mevera.imperat.context.CommandSource;
+import studio.mevera.imperat.util.BKTree;
+import studio.mevera.imperat.util.PrefixIndex;
+import studio.mevera.imperat.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the root commands by label (names, aliases and shortcuts), case-folded and
+ * without the {@code namespace:} prefix platforms may add.
+ * <p>
+ * Lookups are lock-free. The labels are also kept sorted in an immutable snapshot that
+ * is rebuilt on registration, which is rare compared to lookups, to list the labels
+ * starting with a prefix for root-level completions, along with a {@link BKTree} of the
+ * labels of the non-secret commands to suggest the closest ones to an unknown label.
+ */
+final class RootCommandIndex<S extends CommandSource> {
+
+    private final Map<String, Command<S>> byLabel = new ConcurrentHashMap<>();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    static @NotNull String fold(@NotNull String label) {
+        return StringUtils.stripNamespace(label.trim()).toLowerCase(Locale.ROOT);
+    }
+
+    synchronized void put(@NotNull String label, @NotNull Command<S> command) {
+        byLabel.put(fold(label), command);
+        snapshot = null;
+    }
+
+    synchronized @Nullable Command<S> remove(@NotNull String label) {
+        Command<S> removed = byLabel.remove(fold(label));
+        if (removed != null) {
+            snapshot = null;
+        }
+        return removed;
+    }
+
+    synchronized void clear() {
+        byLabel.clear();
+        snapshot = Snapshot.EMPTY;
+    }
+
+    @Nullable Command<S> get(@NotNull String label) {
+        // most labels are typed as registered, skip folding for those
+        Command<S> command = byLabel.get(label);
+        return command != null ? command : byLabel.get(fold(label));
+    }
+
+    @NotNull Collection<Command<S>> values() {
+        return byLabel.values();
+    }
+
+    /**
+     * @param prefix the typed label, its namespace and case are ignored
+     * @return the labels starting with the prefix, in alphabetical order
+     */
+    @NotNull List<String> labelsStartingWith(@NotNull String prefix) {
+        Snapshot current = snapshot();
+        return current.index().select(current.labels(), fold(prefix));
+    }
+
+    /**
+     * @param label the unknown label, its namespace and case are ignored
+     * @return the closest labels of the non-secret commands, nearest first
+     */
+    @NotNull List<String> closestLabels(@NotNull String label) {
+        return snapshot().bkTree().closest(fold(label));
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                List<String> labels = new ArrayList<>(byLabel.keySet());
+                Collections.sort(labels);
+                labels = Collections.unmodifiableList(labels);
+
+                List<String> visible = new ArrayList<>(labels.size());
+                for (String label : labels) {
+                    if (!byLabel.get(label).isSecret()) {
+                        visible.add(label);
+                    }
+                }
+                snapshot = new Snapshot(labels, PrefixIndex.of(labels), BKTree.of(visible));
+            }
+            return snapshot;
+        }
+    }
+
+    private record Snapshot(List<String> labels, PrefixIndex index, BKTree bkTree) {
+
+        static final Snapshot EMPTY = new Snapshot(List.of(), PrefixIndex.of(List.of()), BKTree.of(List.of()));
+    }
+}
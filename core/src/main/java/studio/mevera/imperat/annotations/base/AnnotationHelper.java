@@ -18,6 +18,7 @@ import studio.mevera.imperat.command.arguments.DefaultValueProvider;
 import studio.mevera.imperat.context.CommandSource;
 import studio.mevera.imperat.context.ExecutionContext;
 import studio.mevera.imperat.exception.CommandException;
+import studio.mevera.imperat.exception.DeferredArgumentException;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
@@ -48,74 +49,106 @@ public final class AnnotationHelper {
         }
 
         Object[] paramsInstances = new Object[method.getParameters().size()];
+        for (int i = 0; i < method.size(); i++) {
+            paramsInstances[i] = loadParameterInstance(dispatcher, source, context, method, i);
+        }
+        return paramsInstances;
+    }
 
-        ParameterElement firstParam = method.getParameterAt(0);
-        assert firstParam != null;
-
-        if (dispatcher.canBeSender(firstParam.getType())) {
+    /**
+     * Loads the instance of one parameter of a method, the first one being the source.
+     *
+     * @param dispatcher the imperat instance
+     * @param source the source of the command
+     * @param context the execution context of the command
+     * @param method the method we're operating on
+     * @param index the index of the parameter
+     * @return the instance of the parameter, or {@code null} if its argument has no value
+     * @param <S> the source
+     * @throws CommandException if resolution fails
+     */
+    public static <S extends CommandSource> @Nullable Object loadParameterInstance(
+            Imperat<S> dispatcher,
+            S source,
+            ExecutionContext<S> context,
+            MethodElement method,
+            int index
+    ) throws CommandException {
+        ParameterElement actualParameter = method.getParameterAt(index);
+        assert actualParameter != null;
 
-            if (source.getClass().equals(firstParam.getType())) {
-                paramsInstances[0] = source;
-            } else {
-                paramsInstances[0] = context.provideSource(firstParam.getType());
+        if (index == 0) {
+            if (dispatcher.canBeSender(actualParameter.getType()) && source.getClass().equals(actualParameter.getType())) {
+                return source;
             }
-
-        } else {
-            paramsInstances[0] = context.provideSource(firstParam.getType());
+            return context.provideSource(actualParameter.getType());
         }
 
-        for (int i = 1, p = 0; i < method.size(); i++, p++) {
-            ParameterElement actualParameter = method.getParameterAt(i);
-            assert actualParameter != null;
+        if (actualParameter.isContextResolved()) {
+            var contextResolver = dispatcher.config().getContextArgumentProviderFor(actualParameter);
+
+            if (contextResolver != null) {
+                return contextResolver.provide(context, actualParameter);
+            }
 
-            if (actualParameter.isContextResolved()) {
-                var contextResolver = dispatcher.config().getContextArgumentProviderFor(actualParameter);
+            throw new IllegalStateException(
+                    ("In class '%s', In method '%s', The parameter '%s' is set to be context resolved while not having a context resolver "
+                             + "for its type '%s'")
+                            .formatted(method.getParent().getName(), method.getName(), actualParameter.getName(),
+                                    actualParameter.getType().getTypeName())
+            );
+        }
 
-                if (contextResolver != null) {
-                    paramsInstances[i] = contextResolver.provide(context, actualParameter);
-                    p--;
-                    continue;
-                }
+        // not context resolved
+        if (actualParameter.isAnnotationPresent(Flag.class) || actualParameter.isAnnotationPresent(Switch.class)) {
+            //flag parameters
+            Flag flag = actualParameter.getAnnotation(Flag.class);
+            Switch switchAnnotation = actualParameter.getAnnotation(Switch.class);
 
+            if (flag != null) {
+                return context.getFlagValue(flag.value()[0]);
+            }
+            var switchParsedValue = context.getFlagValue(switchAnnotation.value()[0]);
+            if (switchParsedValue == null) {
                 throw new IllegalStateException(
-                        ("In class '%s', In method '%s', The parameter '%s' is set to be context resolved while not having a context resolver "
-                                 + "for its type '%s'")
+                        ("In class '%s', In method '%s', The parameter '%s' is annotated with @Switch but the switch '%s' is not "
+                                 + "present in the command context")
                                 .formatted(method.getParent().getName(), method.getName(), actualParameter.getName(),
-                                        actualParameter.getType().getTypeName())
+                                        switchAnnotation.value()[0])
                 );
-            } else {
-                // not context resolved
-                if (actualParameter.isAnnotationPresent(Flag.class) || actualParameter.isAnnotationPresent(Switch.class)) {
-                    //flag parameters
-                    Flag flag = actualParameter.getAnnotation(Flag.class);
-                    Switch switchAnnotation = actualParameter.getAnnotation(Switch.class);
-
-                    if (flag != null) {
-                        paramsInstances[i] = context.getFlagValue(flag.value()[0]);
-                    } else if (switchAnnotation != null) {
-                        var switchParsedValue = context.getFlagValue(switchAnnotation.value()[0]);
-                        if (switchParsedValue == null) {
-                            throw new IllegalStateException(
-                                    ("In class '%s', In method '%s', The parameter '%s' is annotated with @Switch but the switch '%s' is not "
-                                             + "present in the command context")
-                                            .formatted(method.getParent().getName(), method.getName(), actualParameter.getName(),
-                                                    switchAnnotation.value()[0])
-                            );
-                        }
-                        paramsInstances[i] = switchParsedValue;
-                    }
-                    p--;
-                } else {
-                    var argumentValue = context.getArgument(actualParameter.getName());
-                    if (argumentValue != null) {
-                        paramsInstances[i] = argumentValue;
-                        continue;
-                    }
-                }
             }
+            return switchParsedValue;
+        }
 
+        try {
+            return context.getArgument(actualParameter.getName());
+        } catch (DeferredArgumentException ex) {
+            throw asCommandException(ex);
         }
-        return paramsInstances;
+    }
+
+    /**
+     * @param parameter a parameter of a method, other than its first one
+     * @return whether the parameter takes the value of an argument, rather than of a flag or a context resolver
+     */
+    static boolean isArgumentParameter(ParameterElement parameter) {
+        return !parameter.isContextResolved()
+                       && !parameter.isAnnotationPresent(Flag.class)
+                       && !parameter.isAnnotationPresent(Switch.class);
+    }
+
+    /**
+     * Reports the failure of parsing the input of a deferred argument the way an eagerly parsed argument would.
+     *
+     * @param ex the failure of accessing the value of the argument
+     * @return the failure to throw, if it's not a {@link CommandException}
+     * @throws CommandException the failure of parsing the input, if it's one
+     */
+    static RuntimeException asCommandException(DeferredArgumentException ex) throws CommandException {
+        if (ex.getCause() instanceof CommandException commandException) {
+            throw commandException;
+        }
+        return ex;
     }
 
     private static <S extends CommandSource> @Nullable Argument<S> getUsageParam(List<? extends Argument<S>> params, int index) {
@@ -21,6 +21,7 @@ import studio.mevera.imperat.annotations.types.PathwayCommand;
 import studio.mevera.imperat.annotations.types.Permission;
 import studio.mevera.imperat.annotations.types.Processor;
 import studio.mevera.imperat.annotations.types.Range;
+import studio.mevera.imperat.annotations.types.RateLimit;
 import studio.mevera.imperat.annotations.types.RootCommand;
 import studio.mevera.imperat.annotations.types.Shortcut;
 import studio.mevera.imperat.annotations.types.SubCommand;
@@ -51,7 +52,7 @@ final class AnnotationRegistry {
                 Suggest.class, SuggestionProvider.class, Default.class, DefaultProvider.class, Values.class,
                 Switch.class, Flag.class, Greedy.class, Named.class, Optional.class, Context.class, Range.class, Async.class,
                 Processor.class, ExceptionHandler.class,
-                Validators.class, ArgType.class, InheritedArg.class, PathwayCommand.class
+                Validators.class, ArgType.class, InheritedArg.class, PathwayCommand.class, RateLimit.class
         );
     }
 
@@ -2,6 +2,7 @@ package studio.mevera.imperat.annotations.base;
 
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import studio.mevera.imperat.Imperat;
 import studio.mevera.imperat.annotations.base.element.ClassElement;
 import studio.mevera.imperat.annotations.base.element.MethodElement;
@@ -20,6 +21,8 @@ public class MethodCommandExecutor<S extends CommandSource> implements CommandEx
     private final Imperat<S> dispatcher;
     private final MethodElement method;
     private final MethodCaller.BoundMethodCaller boundMethodCaller;
+    // null for a method without parameters, which can't be executed
+    private final @Nullable TypedMethodInvoker invoker;
 
     private MethodCommandExecutor(
             Imperat<S> dispatcher,
@@ -32,6 +35,7 @@ public class MethodCommandExecutor<S extends CommandSource> implements CommandEx
 
             ClassElement methodOwner = method.getParent();
             boundMethodCaller = DefaultMethodCallerFactory.INSTANCE.createFor(method.getElement()).bindTo(methodOwner.getObjectInstance());
+            invoker = method.getParameters().isEmpty() ? null : TypedMethodInvoker.of(dispatcher, method, methodOwner.getObjectInstance());
         } catch (Throwable e) {
             throw new RuntimeException(e);
         }
@@ -60,9 +64,8 @@ public class MethodCommandExecutor<S extends CommandSource> implements CommandEx
      */
     @Override
     public void execute(S source, ExecutionContext<S> context) throws CommandException {
-        var arguments = this.prepareArguments(context);
-
-        Object returned = boundMethodCaller.call(arguments);
+        // the parameters are loaded straight into the method's signature, the primitive ones without boxing
+        Object returned = invoker != null ? invoker.invoke(context) : boundMethodCaller.call(this.prepareArguments(context));
         if (method.getReturnType() == void.class) {
             return;
         }
@@ -0,0 +1,158 @@
+package studio.mevera.imperat.annotations.base;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import studio.mevera.imperat.Imperat;
+import studio.mevera.imperat.annotations.base.element.MethodElement;
+import studio.mevera.imperat.annotations.base.element.ParameterElement;
+import studio.mevera.imperat.context.CommandSource;
+import studio.mevera.imperat.context.ExecutionContext;
+import studio.mevera.imperat.exception.CommandException;
+import studio.mevera.imperat.exception.DeferredArgumentException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Invokes a command method through a method handle taking the execution context only, which loads every parameter
+ * of the method from the context straight into the method's signature, instead of through an array of them.
+ * <p>
+ * The {@code int}, {@code long} and {@code double} parameters taking the value of an argument are read from
+ * the primitive slot of the argument (see {@link ExecutionContext#getIntArgument(String)}), so numeric commands
+ * run without boxing their arguments. The other parameters are loaded by
+ * {@link AnnotationHelper#loadParameterInstance(Imperat, CommandSource, ExecutionContext, MethodElement, int)}.
+ */
+final class TypedMethodInvoker {
+
+    private static final MethodHandle LOAD_PARAMETER;
+    private static final MethodHandle LOAD_INT;
+    private static final MethodHandle LOAD_LONG;
+    private static final MethodHandle LOAD_DOUBLE;
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            LOAD_PARAMETER = lookup.findStatic(TypedMethodInvoker.class, "loadParameter",
+                    MethodType.methodType(Object.class, Imperat.class, MethodElement.class, int.class, ExecutionContext.class));
+            LOAD_INT = lookup.findStatic(TypedMethodInvoker.class, "loadInt",
+                    MethodType.methodType(int.class, ExecutionContext.class, String.class));
+            LOAD_LONG = lookup.findStatic(TypedMethodInvoker.class, "loadLong",
+                    MethodType.methodType(long.class, ExecutionContext.class, String.class));
+            LOAD_DOUBLE = lookup.findStatic(TypedMethodInvoker.class, "loadDouble",
+                    MethodType.methodType(double.class, ExecutionContext.class, String.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // (ExecutionContext) -> Object
+    private final MethodHandle invoker;
+
+    private TypedMethodInvoker(MethodHandle invoker) {
+        this.invoker = invoker;
+    }
+
+    /**
+     * @param dispatcher the imperat instance
+     * @param method     the method to invoke, with at least its source parameter
+     * @param instance   the instance to invoke the method on, ignored for a static method
+     * @return the invoker of the method
+     * @throws IllegalAccessException if the method isn't accessible
+     */
+    static <S extends CommandSource> @NotNull TypedMethodInvoker of(
+            @NotNull Imperat<S> dispatcher,
+            @NotNull MethodElement method,
+            @Nullable Object instance
+    ) throws IllegalAccessException {
+        Method element = method.getElement();
+        element.setAccessible(true);
+        MethodHandle target = MethodHandles.lookup().unreflect(element).asFixedArity();
+        if (!Modifier.isStatic(element.getModifiers())) {
+            target = target.bindTo(instance);
+        }
+
+        Class<?>[] types = element.getParameterTypes();
+        MethodHandle[] loaders = new MethodHandle[types.length];
+        for (int i = 0; i < types.length; i++) {
+            loaders[i] = loaderOf(dispatcher, method, i, types[i]);
+        }
+        target = MethodHandles.filterArguments(target, 0, loaders);
+        // every loader reads the same context
+        target = MethodHandles.permuteArguments(
+                target,
+                MethodType.methodType(target.type().returnType(), ExecutionContext.class),
+                new int[types.length]
+        );
+        return new TypedMethodInvoker(target.asType(MethodType.methodType(Object.class, ExecutionContext.class)));
+    }
+
+    private static MethodHandle loaderOf(Imperat<?> dispatcher, MethodElement method, int index, Class<?> type) {
+        ParameterElement parameter = method.getParameterAt(index);
+        assert parameter != null;
+        if (index > 0 && AnnotationHelper.isArgumentParameter(parameter)) {
+            if (type == int.class) {
+                return MethodHandles.insertArguments(LOAD_INT, 1, parameter.getName());
+            } else if (type == long.class) {
+                return MethodHandles.insertArguments(LOAD_LONG, 1, parameter.getName());
+            } else if (type == double.class) {
+                return MethodHandles.insertArguments(LOAD_DOUBLE, 1, parameter.getName());
+            }
+        }
+        return MethodHandles.insertArguments(LOAD_PARAMETER, 0, dispatcher, method, index)
+                       .asType(MethodType.methodType(type, ExecutionContext.class));
+    }
+
+    /**
+     * Invokes the method with the parameters loaded from the context.
+     *
+     * @param context the execution context of the command
+     * @return the value returned by the method, {@code null} for a {@code void} method
+     * @throws CommandException if a parameter couldn't be loaded, or the method threw it
+     */
+    @Nullable Object invoke(@NotNull ExecutionContext<?> context) throws CommandException {
+        try {
+            return (Object) invoker.invokeExact(context);
+        } catch (CommandException | RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            // Wrap other checked exceptions in RuntimeException
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static <S extends CommandSource> @Nullable Object loadParameter(
+            Imperat<S> dispatcher,
+            MethodElement method,
+            int index,
+            ExecutionContext<S> context
+    ) throws CommandException {
+        return AnnotationHelper.loadParameterInstance(dispatcher, context.source(), context, method, index);
+    }
+
+    private static int loadInt(ExecutionContext<?> context, String name) throws CommandException {
+        try {
+            return context.getIntArgument(name);
+        } catch (DeferredArgumentException ex) {
+            throw AnnotationHelper.asCommandException(ex);
+        }
+    }
+
+    private static long loadLong(ExecutionContext<?> context, String name) throws CommandException {
+        try {
+            return context.getLongArgument(name);
+        } catch (DeferredArgumentException ex) {
+            throw AnnotationHelper.asCommandException(ex);
+        }
+    }
+
+    private static double loadDouble(ExecutionContext<?> context, String name) throws CommandException {
+        try {
+            return context.getDoubleArgument(name);
+        } catch (DeferredArgumentException ex) {
+            throw AnnotationHelper.asCommandException(ex);
+        }
+    }
+}
@@ -23,6 +23,7 @@ import studio.mevera.imperat.annotations.types.InheritedArg;
 import studio.mevera.imperat.annotations.types.PathwayCommand;
 import studio.mevera.imperat.annotations.types.Permission;
 import studio.mevera.imperat.annotations.types.Processor;
+import studio.mevera.imperat.annotations.types.RateLimit;
 import studio.mevera.imperat.annotations.types.RootCommand;
 import studio.mevera.imperat.annotations.types.Secret;
 import studio.mevera.imperat.annotations.types.Shortcut;
@@ -532,6 +533,13 @@ public class CommandElementParser<S extends CommandSource> extends CommandClassP
             builder.cooldown(ann.value(), ann.unit(), perm);
         }
 
+        if (method.isAnnotationPresent(RateLimit.class)) {
+            RateLimit ann = method.getAnnotation(RateLimit.class);
+            assert ann != null;
+            String perm = ann.permission().isEmpty() ? null : ann.permission();
+            builder.rateLimit(ann.uses(), ann.per(), ann.unit(), perm);
+        }
+
         if (method.isAnnotationPresent(Async.class)) {
             var ann = method.getAnnotation(Async.class);
             assert ann != null;
@@ -7,6 +7,7 @@ import studio.mevera.imperat.annotations.base.element.ParameterElement;
 import studio.mevera.imperat.annotations.parameters.AnnotationArgumentDecorator;
 import studio.mevera.imperat.annotations.parameters.NumericArgumentDecorator;
 import studio.mevera.imperat.annotations.types.ArgType;
+import studio.mevera.imperat.annotations.types.CachedSuggestions;
 import studio.mevera.imperat.annotations.types.Default;
 import studio.mevera.imperat.annotations.types.DefaultProvider;
 import studio.mevera.imperat.annotations.types.Flag;
@@ -28,6 +29,8 @@ import studio.mevera.imperat.command.arguments.validator.ConstrainedValueValidat
 import studio.mevera.imperat.context.CommandSource;
 import studio.mevera.imperat.exception.CommandException;
 import studio.mevera.imperat.permissions.PermissionsData;
+import studio.mevera.imperat.providers.SuggestionCacheKey;
+import studio.mevera.imperat.providers.SuggestionCachePolicy;
 import studio.mevera.imperat.providers.SuggestionProvider;
 import studio.mevera.imperat.util.ImperatDebugger;
 import studio.mevera.imperat.util.TypeUtility;
@@ -189,13 +192,16 @@ final class ParameterParser<S extends CommandSource> {
         studio.mevera.imperat.annotations.types.SuggestionProvider providerAnn =
                 param.getAnnotation(studio.mevera.imperat.annotations.types.SuggestionProvider.class);
         if (providerAnn != null) {
+            SuggestionProvider<S> provider;
             try {
-                return (SuggestionProvider<S>) config.getInstanceFactory()
-                                                       .createInstance(config, providerAnn.value());
+                provider = (SuggestionProvider<S>) config.getInstanceFactory()
+                                                           .createInstance(config, providerAnn.value());
             } catch (Exception e) {
                 throw new IllegalStateException(
                         "Failed to create suggestion provider for parameter: " + param.getName(), e);
             }
+            SuggestionCachePolicy<S> cachePolicy = parseSuggestionCachePolicy(providerAnn.value());
+            return cachePolicy == null ? provider : cachePolicy.apply(provider);
         } else if (param.isAnnotationPresent(Values.class)) {
             Values valuesAnn = param.getAnnotation(Values.class);
             assert valuesAnn != null;
@@ -205,6 +211,21 @@ final class ParameterParser<S extends CommandSource> {
         return null;
     }
 
+    private @Nullable SuggestionCachePolicy<S> parseSuggestionCachePolicy(Class<?> providerType) {
+        CachedSuggestions cachedAnn = providerType.getAnnotation(CachedSuggestions.class);
+        if (cachedAnn == null) {
+            return config.getSuggestionCachePolicy(providerType);
+        }
+        SuggestionCacheKey<S> key = switch (cachedAnn.scope()) {
+            case GLOBAL -> SuggestionCacheKey.global();
+            case SOURCE -> SuggestionCacheKey.perSource();
+            case PERMISSIONS -> SuggestionCacheKey.perPermissions(config.replacePlaceholders(cachedAnn.permissions()));
+        };
+        return SuggestionCachePolicy.<S>expireAfter(cachedAnn.ttl(), cachedAnn.unit())
+                       .maximumSize(cachedAnn.maxEntries())
+                       .keyedBy(key);
+    }
+
     private DefaultValueProvider parseDefaultValue(ParameterElement param) {
         if (!param.isOptional()) {
             return DefaultValueProvider.empty();
@@ -0,0 +1,52 @@
+package studio.mevera.imperat.annotations.types;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches the suggestions of a {@link studio.mevera.imperat.providers.SuggestionProvider} class
+ * referenced by {@link SuggestionProvider}, for {@link #ttl()} {@link #unit()}.
+ * <p>
+ * For example {@code @CachedSuggestions(ttl = 30, unit = TimeUnit.SECONDS, scope = Scope.SOURCE)}
+ * calls the provider at most once per source and argument every 30 seconds.
+ *
+ * @see studio.mevera.imperat.providers.CachedSuggestionProvider
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface CachedSuggestions {
+
+    long ttl();
+
+    TimeUnit unit() default TimeUnit.SECONDS;
+
+    int maxEntries() default 256;
+
+    Scope scope() default Scope.GLOBAL;
+
+    /**
+     * @return the permissions fingerprinted when the {@link #scope()} is {@link Scope#PERMISSIONS}
+     */
+    String[] permissions() default {};
+
+    enum Scope {
+
+        /**
+         * Every source shares the cached suggestions.
+         */
+        GLOBAL,
+
+        /**
+         * Each source has its own cached suggestions.
+         */
+        SOURCE,
+
+        /**
+         * Sources holding the same subset of {@link #permissions()} share the cached suggestions.
+         */
+        PERMISSIONS
+    }
+}
@@ -0,0 +1,32 @@
+package studio.mevera.imperat.annotations.types;
+
+import org.jetbrains.annotations.ApiStatus;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares alternative names an enum constant can be entered with, besides its own name,
+ * when parsed by an enum argument. Like names, aliases are matched ignoring case.
+ * <p>
+ * example:
+ * <pre>{@code
+ * enum Mode {
+ *     @EnumAlias({"c", "1"}) CREATIVE,
+ *     @EnumAlias({"s", "0"}) SURVIVAL
+ * }
+ * }</pre>
+ * </p>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+@ApiStatus.AvailableSince("3.6.0")
+public @interface EnumAlias {
+
+    /**
+     * @return the aliases of the constant
+     */
+    String[] value();
+}
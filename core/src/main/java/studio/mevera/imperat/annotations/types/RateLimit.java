@@ -0,0 +1,28 @@
+package studio.mevera.imperat.annotations.types;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies a burst-tolerant, per-source rate limit to a command method.
+ * Allows up to {@link #uses()} executions per {@link #per()} {@link #unit()},
+ * with the uses being refilled gradually over that period.
+ * <p>
+ * For example {@code @RateLimit(uses = 5, per = 10, unit = TimeUnit.SECONDS)}
+ * allows a burst of 5 executions, then one more every 2 seconds.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface RateLimit {
+
+    int uses();
+
+    long per();
+
+    TimeUnit unit();
+
+    String permission() default "";
+}
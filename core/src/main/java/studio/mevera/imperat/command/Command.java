@@ -293,6 +293,13 @@ public interface Command<S extends CommandSource> extends Argument<S>, BaseThrow
     @NotNull
     Collection<? extends Command<S>> getSubCommands();
 
+    /**
+     * @param input the mistyped sub-command label
+     * @return the names and aliases of the non-secret subcommands closest to the input, nearest first
+     */
+    @NotNull
+    List<String> getClosestSubCommands(@NotNull String input);
+
     default @Nullable CommandPathway<S> getUsage(Predicate<CommandPathway<S>> usagePredicate) {
         for (var usage : getDedicatedPathways()) {
             if (usagePredicate.test(usage)) {
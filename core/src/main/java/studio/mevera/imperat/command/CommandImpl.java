@@ -23,9 +23,11 @@ import studio.mevera.imperat.context.ExecutionContext;
 import studio.mevera.imperat.context.ParsedArgument;
 import studio.mevera.imperat.exception.CommandException;
 import studio.mevera.imperat.exception.CommandExceptionHandler;
+import studio.mevera.imperat.exception.ErrorHandlerRegistry;
 import studio.mevera.imperat.exception.ProcessorException;
 import studio.mevera.imperat.permissions.PermissionsData;
 import studio.mevera.imperat.providers.SuggestionProvider;
+import studio.mevera.imperat.util.BKTree;
 import studio.mevera.imperat.util.ImperatDebugger;
 import studio.mevera.imperat.util.priority.PriorityList;
 
@@ -47,10 +49,11 @@ final class CommandImpl<S extends CommandSource> implements Command<S> {
     private final int position;
     private final List<String> aliases = new ArrayList<>();
     private final Map<String, Command<S>> children = new LinkedHashMap<>();
+    private volatile @Nullable BKTree childrenLabels;
     private final AutoCompleter<S> autoCompleter;
     private final @NotNull CommandTree<S> tree;
     private final @NotNull CommandTreeVisualizer<S> visualizer;
-    private final Map<Class<? extends Throwable>, CommandExceptionHandler<?, S>> errorHandlers = new HashMap<>();
+    private final ErrorHandlerRegistry<S> errorHandlers = new ErrorHandlerRegistry<>();
     private final @NotNull SuggestionProvider<S> suggestionProvider;
     private PermissionsData permissions = PermissionsData.empty();
     private Description description = Description.EMPTY;
@@ -399,6 +402,7 @@ final class CommandImpl<S extends CommandSource> implements Command<S> {
         for (String alias : subCommand.aliases()) {
             children.put(alias, subCommand);
         }
+        childrenLabels = null;
         this.tree.parseSubCommand(subCommand, attachmentNode);
     }
 
@@ -442,6 +446,22 @@ final class CommandImpl<S extends CommandSource> implements Command<S> {
         return children.values();
     }
 
+    @Override
+    public @NotNull List<String> getClosestSubCommands(@NotNull String input) {
+        BKTree labels = childrenLabels;
+        if (labels == null) {
+            List<String> visible = new ArrayList<>(children.size());
+            for (var child : children.entrySet()) {
+                if (!child.getValue().isSecret()) {
+                    visible.add(child.getKey());
+                }
+            }
+            labels = BKTree.of(visible);
+            childrenLabels = labels;
+        }
+        return labels.closest(input);
+    }
+
     @Override
     public @Nullable Command<S> getShortcut(String shortcutName) {
         return shortcuts.get(shortcutName);
@@ -495,22 +515,12 @@ final class CommandImpl<S extends CommandSource> implements Command<S> {
 
     @Override
     public <T extends Throwable> void setErrorHandler(Class<T> exception, CommandExceptionHandler<T, S> resolver) {
-        errorHandlers.put(exception, resolver);
+        errorHandlers.register(exception, resolver);
     }
 
-    @Override @SuppressWarnings("unchecked")
+    @Override
     public @Nullable <T extends Throwable> CommandExceptionHandler<T, S> getErrorHandlerFor(Class<T> type) {
-
-        Class<?> current = type;
-        while (current != null && Throwable.class.isAssignableFrom(current)) {
-            var resolver = errorHandlers.get(current);
-            if (resolver != null) {
-                return (CommandExceptionHandler<T, S>) resolver;
-            }
-            current = current.getSuperclass();
-        }
-
-        return null;
+        return errorHandlers.get(type);
     }
 
     @Override
@@ -11,6 +11,8 @@ import studio.mevera.imperat.command.arguments.FlagArgumentBuilder;
 import studio.mevera.imperat.command.cooldown.CooldownHandler;
 import studio.mevera.imperat.command.cooldown.CooldownRecord;
 import studio.mevera.imperat.command.flags.FlagExtractor;
+import studio.mevera.imperat.command.ratelimit.RateLimitRecord;
+import studio.mevera.imperat.command.ratelimit.RateLimiter;
 import studio.mevera.imperat.context.CommandSource;
 import studio.mevera.imperat.context.ExecutionContext;
 import studio.mevera.imperat.context.FlagData;
@@ -252,6 +254,20 @@ public sealed interface CommandPathway<S extends CommandSource> extends Iterable
      */
     void setCooldownHandler(CooldownHandler<S> cooldownHandler);
 
+    /**
+     * @return the token-bucket rate limiter {@link RateLimiter} of this usage,
+     * or null if it is not rate limited
+     */
+    @Nullable
+    RateLimiter getRateLimiter();
+
+    /**
+     * Sets the token-bucket rate limiter {@link RateLimiter}
+     *
+     * @param rateLimiter the rate limiter to set, or null to remove the rate limit
+     */
+    void setRateLimiter(@Nullable RateLimiter rateLimiter);
+
     default boolean isDefault() {
         return getArguments().isEmpty();
     }
@@ -309,6 +325,7 @@ public sealed interface CommandPathway<S extends CommandSource> extends Iterable
         private CommandCoordinator<S> commandCoordinator = CommandCoordinator.sync();
         private @Nullable MethodElement methodElement;
         private CooldownRecord cooldown = null;
+        private @Nullable RateLimiter rateLimiter = null;
 
         Builder(@Nullable MethodElement methodElement) {
             this.methodElement = methodElement;
@@ -363,6 +380,20 @@ public sealed interface CommandPathway<S extends CommandSource> extends Iterable
             return this;
         }
 
+        public Builder<S> rateLimit(int uses, long period, TimeUnit unit) {
+            return rateLimit(uses, period, unit, null);
+        }
+
+        public Builder<S> rateLimit(int uses, long period, TimeUnit unit, @Nullable String permission) {
+            this.rateLimiter = new RateLimiter(new RateLimitRecord(uses, period, unit, permission));
+            return this;
+        }
+
+        public Builder<S> rateLimiter(@Nullable RateLimiter rateLimiter) {
+            this.rateLimiter = rateLimiter;
+            return this;
+        }
+
         public Builder<S> description(Description description) {
             if (description != null) {
                 this.description = description;
@@ -425,6 +456,7 @@ public sealed interface CommandPathway<S extends CommandSource> extends Iterable
             impl.setPermissionData(permission);
             impl.describe(description);
             impl.setCooldown(cooldown);
+            impl.setRateLimiter(rateLimiter);
 
             // Then set personal parameters (these are used for tree building)
             impl.addArguments(
@@ -450,6 +482,10 @@ public sealed interface CommandPathway<S extends CommandSource> extends Iterable
             return cooldown;
         }
 
+        public @Nullable RateLimiter getRateLimiter() {
+            return rateLimiter;
+        }
+
         public Description getDescription() {
             return description;
         }
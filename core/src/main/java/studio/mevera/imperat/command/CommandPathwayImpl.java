@@ -13,6 +13,7 @@ import studio.mevera.imperat.command.arguments.FlagArgument;
 import studio.mevera.imperat.command.cooldown.CooldownHandler;
 import studio.mevera.imperat.command.cooldown.CooldownRecord;
 import studio.mevera.imperat.command.flags.FlagExtractor;
+import studio.mevera.imperat.command.ratelimit.RateLimiter;
 import studio.mevera.imperat.context.CommandSource;
 import studio.mevera.imperat.context.ExecutionContext;
 import studio.mevera.imperat.context.FlagData;
@@ -47,7 +48,9 @@ final class CommandPathwayImpl<S extends CommandSource> implements CommandPathwa
     private CommandCoordinator<S> commandCoordinator;
     private final @Nullable MethodElement methodElement;
     private @Nullable CooldownRecord cooldown = null;
-
+    private @Nullable RateLimiter rateLimiter = null;
+    // reset whenever arguments or flags are added
+    private volatile @Nullable String formatted;
 
     CommandPathwayImpl(@Nullable MethodElement methodElement, @NotNull CommandExecution<S> execution) {
         this.methodElement = methodElement;
@@ -106,6 +109,7 @@ final class CommandPathwayImpl<S extends CommandSource> implements CommandPathwa
 
     @Override
     public void addFlag(FlagArgument<S> flagArgumentData) {
+        formatted = null;
         flagExtractor.insertFlag(flagArgumentData);
         FlagData<S> flagData = flagArgumentData.flagData();
         flagsByInput.put(flagArgumentData.getName().toLowerCase(Locale.ROOT), flagData);
@@ -122,6 +126,7 @@ final class CommandPathwayImpl<S extends CommandSource> implements CommandPathwa
 
     @Override
     public void addArguments(List<Argument<S>> params) {
+        formatted = null;
         for (var param : params) {
             if (param.isFlag()) {
                 addFlag(param.asFlagParameter());
@@ -164,6 +169,16 @@ final class CommandPathwayImpl<S extends CommandSource> implements CommandPathwa
         return combined;
     }
 
+    @Override
+    public String formatted() {
+        String cached = formatted;
+        if (cached == null) {
+            cached = CommandPathway.format((String) null, this);
+            formatted = cached;
+        }
+        return cached;
+    }
+
     @Override
     public List<String> getExamples() {
         return examples;
@@ -249,6 +264,16 @@ final class CommandPathwayImpl<S extends CommandSource> implements CommandPathwa
         this.cooldownHandler = cooldownHandler;
     }
 
+    @Override
+    public @Nullable RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    @Override
+    public void setRateLimiter(@Nullable RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
     @Override
     public CommandCoordinator<S> getCoordinator() {
         return commandCoordinator;
@@ -11,6 +11,7 @@ import studio.mevera.imperat.command.DescriptionHolder;
 import studio.mevera.imperat.command.arguments.type.ArgumentType;
 import studio.mevera.imperat.command.arguments.type.ArgumentTypes;
 import studio.mevera.imperat.command.arguments.validator.ArgValidator;
+import studio.mevera.imperat.context.CommandContext;
 import studio.mevera.imperat.context.CommandSource;
 import studio.mevera.imperat.context.ExecutionContext;
 import studio.mevera.imperat.context.ParsedArgument;
@@ -209,6 +210,36 @@ public interface Argument<S extends CommandSource> extends PermissionHolder, Des
     @NotNull
     DefaultValueProvider getDefaultValueSupplier();
 
+    /**
+     * Provides and parses the default value of this argument, used when its input is missing.
+     *
+     * @param context the context
+     * @return the parsed default value, or {@code null} if there is none
+     * @throws CommandException if the default value can't be parsed
+     */
+    @ApiStatus.AvailableSince("3.6.0")
+    default @Nullable Object getDefaultValue(ExecutionContext<S> context) throws CommandException {
+        DefaultValueProvider provider = getDefaultValueSupplier();
+        if (provider.isEmpty()) {
+            return null;
+        }
+        String raw = provider.provide(context, this);
+        return raw == null ? null : parseDefaultValue(context, raw);
+    }
+
+    /**
+     * Parses a default value provided by the {@link #getDefaultValueSupplier() default value supplier}.
+     *
+     * @param context the context
+     * @param raw     the provided default value
+     * @return the parsed default value
+     * @throws CommandException if the default value can't be parsed
+     */
+    @ApiStatus.AvailableSince("3.6.0")
+    default Object parseDefaultValue(CommandContext<S> context, @NotNull String raw) throws CommandException {
+        return type().parse(context, this, raw);
+    }
+
     /**
      * @return whether this is an optional argument
      */
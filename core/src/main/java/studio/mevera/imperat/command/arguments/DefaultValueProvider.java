@@ -1,7 +1,9 @@
 package studio.mevera.imperat.command.arguments;
 
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import studio.mevera.imperat.command.arguments.type.ArgumentType;
 import studio.mevera.imperat.context.CommandSource;
 import studio.mevera.imperat.context.ExecutionContext;
 import studio.mevera.imperat.util.Preconditions;
@@ -23,6 +25,11 @@ public interface DefaultValueProvider {
             public <S extends CommandSource> @NotNull String provide(ExecutionContext<S> context, Argument<S> parameter) {
                 return cachedValue;
             }
+
+            @Override
+            public boolean isConstant() {
+                return true;
+            }
         };
     }
 
@@ -34,6 +41,18 @@ public interface DefaultValueProvider {
         return this == EMPTY;
     }
 
+    /**
+     * Whether this provider always provides the same value, whatever the context is,
+     * as {@link #of(String)} does. The default value of an argument whose
+     * {@link ArgumentType#isContextFree() type is context-free} is then parsed once, and reused.
+     *
+     * @return whether the provided value is constant
+     */
+    @ApiStatus.AvailableSince("3.6.0")
+    default boolean isConstant() {
+        return false;
+    }
+
     /**
      * Supplies a default-value for optional
      * usage parameters {@link Argument}
@@ -4,6 +4,7 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import studio.mevera.imperat.command.Description;
+import studio.mevera.imperat.command.arguments.type.ArgumentType;
 import studio.mevera.imperat.command.arguments.type.ArgumentTypes;
 import studio.mevera.imperat.context.CommandSource;
 import studio.mevera.imperat.context.FlagData;
@@ -63,6 +64,11 @@ public final class FlagArgumentImpl<S extends CommandSource> extends InputArgume
         return inputValueSupplier;
     }
 
+    @Override
+    protected @NotNull ArgumentType<S, ?> getDefaultValueType() {
+        return Objects.requireNonNull(flag.inputType(), "a switch has no input type");
+    }
+
     @Override
     public @Nullable SuggestionProvider<S> inputSuggestionResolver() {
         if (isSwitch()) {
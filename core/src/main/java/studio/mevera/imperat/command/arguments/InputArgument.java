@@ -11,6 +11,7 @@ import studio.mevera.imperat.command.arguments.type.CollectionArgument;
 import studio.mevera.imperat.command.arguments.type.CommandArgument;
 import studio.mevera.imperat.command.arguments.type.MapArgument;
 import studio.mevera.imperat.command.arguments.validator.ArgValidator;
+import studio.mevera.imperat.context.CommandContext;
 import studio.mevera.imperat.context.CommandSource;
 import studio.mevera.imperat.context.ExecutionContext;
 import studio.mevera.imperat.context.ParsedArgument;
@@ -37,6 +38,8 @@ public abstract class InputArgument<S extends CommandSource> implements Argument
     protected PermissionsData permissionsData;
     protected Description description;
     protected int index;
+    // the last constant default value parsed, see parseDefaultValue
+    private volatile @Nullable ParsedDefault parsedDefault;
 
     protected InputArgument(
             String name,
@@ -137,6 +140,31 @@ public abstract class InputArgument<S extends CommandSource> implements Argument
         return defaultValueProvider.isEmpty() ? type.getDefaultValueProvider() : defaultValueProvider;
     }
 
+    /**
+     * Parses the default value with the {@link #getDefaultValueType() default value type}. A constant default
+     * value of a context-free type is parsed once, then reused as long as the provided value is the same.
+     */
+    @Override
+    public Object parseDefaultValue(CommandContext<S> context, @NotNull String raw) throws CommandException {
+        ArgumentType<S, ?> defaultValueType = getDefaultValueType();
+        if (!defaultValueType.isContextFree() || !getDefaultValueSupplier().isConstant()) {
+            return defaultValueType.parse(context, this, raw);
+        }
+        ParsedDefault cached = parsedDefault;
+        if (cached == null || !cached.raw().equals(raw)) {
+            cached = new ParsedDefault(raw, defaultValueType.parse(context, this, raw));
+            parsedDefault = cached;
+        }
+        return cached.value();
+    }
+
+    /**
+     * @return the type parsing the default value of this argument
+     */
+    protected @NotNull ArgumentType<S, ?> getDefaultValueType() {
+        return type;
+    }
+
     /**
      * @return whether this is an optional argument
      */
@@ -262,4 +290,7 @@ public abstract class InputArgument<S extends CommandSource> implements Argument
         return format();
     }
 
+    private record ParsedDefault(String raw, Object value) {
+
+    }
 }
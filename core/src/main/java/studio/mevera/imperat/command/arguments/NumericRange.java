@@ -44,6 +44,33 @@ public final class NumericRange {
         return value >= min && value <= max;
     }
 
+    /**
+     * Checks a whole value against the bounds exactly, where converting it to a double
+     * would round the values beyond 2^53.
+     *
+     * @param value the value to check
+     * @return whether the value is within the bounds
+     */
+    public boolean matches(long value) {
+        return compare(value, min) >= 0 && compare(value, max) <= 0;
+    }
+
+    private static int compare(long value, double bound) {
+        if (bound >= 0x1p63) {
+            return -1;
+        }
+        if (bound < -0x1p63) {
+            return 1;
+        }
+        // the integral part of the bound is exact, and so is its fractional part
+        long integral = (long) bound;
+        if (value != integral) {
+            return Long.compare(value, integral);
+        }
+        double fraction = bound - integral;
+        return fraction > 0 ? -1 : fraction < 0 ? 1 : 0;
+    }
+
     public double getMin() {
         return min;
     }
@@ -139,6 +139,58 @@ public abstract class ArgumentType<S extends CommandSource, T>
         return DefaultValueProvider.empty();
     }
 
+    /**
+     * Whether parsing an input always gives an equal and immutable value, whatever the context
+     * (e.g. the source) is, as for numbers or enum constants.
+     * The {@link DefaultValueProvider#isConstant() constant} default values of arguments of
+     * a context-free type are parsed once, then reused for every execution.
+     *
+     * @return whether parsing is independent of the context
+     */
+    @ApiStatus.AvailableSince("3.6.0")
+    public boolean isContextFree() {
+        return false;
+    }
+
+    /**
+     * Whether parsing an input is costly (e.g. a lookup of players or worlds), so it's deferred
+     * until the value is needed. When matching a required argument whose input can't go to any other
+     * argument, only the shape of the input is checked through {@link #couldMatch(String)}. The input is
+     * then parsed on the first access of its value through {@link ExecutionContext#getArgument(String)},
+     * or when binding the parameters of an annotated method, and the parsed value, or the failure of parsing it,
+     * is reused afterward. An input whose value is never read is never parsed, and a failure is reported on access
+     * through a {@link studio.mevera.imperat.exception.DeferredArgumentException}.
+     * <p>
+     * Optional arguments, and arguments competing with other arguments for the same input, are still parsed
+     * while matching, as their input decides which argument it goes to. Sibling sub-commands don't compete,
+     * as they only match their own names.
+     * The validation of a deferred argument happens along with its parsing.
+     *
+     * @return whether parsing is deferred until the value is needed
+     */
+    @ApiStatus.AvailableSince("3.6.0")
+    public boolean isDeferred() {
+        return false;
+    }
+
+    /**
+     * A cheap check rejecting the inputs that can't be parsed into a value of this type,
+     * without actually parsing them (e.g. a player name longer than 16 characters).
+     * Passing the check doesn't guarantee the input is parsed successfully.
+     * <p>
+     * Inputs failing the check are never parsed while matching the command tree, which only
+     * parses them for their error if it's reported, and {@link EitherArgument} picks its branch by it.
+     * The check must thus never reject an input that {@link #parse} accepts.
+     *
+     * @param input the raw input
+     * @return {@code false} if the input surely can't be parsed, {@code true} otherwise
+     * @see #isDeferred()
+     */
+    @ApiStatus.AvailableSince("3.6.0")
+    public boolean couldMatch(@NotNull String input) {
+        return true;
+    }
+
     /**
      * Checks if the given type is related to this parameter type.
      *
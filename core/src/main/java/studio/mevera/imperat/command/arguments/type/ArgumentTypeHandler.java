@@ -1,5 +1,6 @@
 package studio.mevera.imperat.command.arguments.type;
 
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import studio.mevera.imperat.context.CommandSource;
@@ -55,6 +56,22 @@ public interface ArgumentTypeHandler<S extends CommandSource> extends Prioritiza
     );
 
 
+    /**
+     * Whether the argument types resolved by this handler hold no state specific to a parameter,
+     * so the type resolved once for a {@link Type} is reused by every parameter of that type
+     * instead of being resolved again (e.g. an {@link EnumArgument} indexing the constants of its enum).
+     * <p>
+     * Handlers whose resolved types may be customized per parameter, such as through
+     * {@link ArgumentType#addStaticSuggestions(String...)}, shouldn't share them.
+     * </p>
+     *
+     * @return whether the resolved argument types can be shared
+     */
+    @ApiStatus.AvailableSince("3.6.0")
+    default boolean isShareable() {
+        return false;
+    }
+
     default <T> void onRegisteringResolver(@NotNull SimpleTypeResolver<S, T> resolver) {
         // Default implementation does nothing, but can be overridden by handlers that need to register additional handlers
 
@@ -1,6 +1,7 @@
 package studio.mevera.imperat.command.arguments.type;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import studio.mevera.imperat.command.arguments.Argument;
 import studio.mevera.imperat.context.CommandContext;
 import studio.mevera.imperat.context.CommandSource;
@@ -27,18 +28,30 @@ public final class BooleanArgument<S extends CommandSource> extends ArgumentType
         addStaticSuggestions("true", "false");
     }
 
+    @Override
+    public boolean isContextFree() {
+        return true;
+    }
+
     @Override
     public Boolean parse(@NotNull CommandContext<S> context, @NotNull Argument<S> argument, @NotNull String input) throws ArgumentParseException {
+        Boolean value = lookup(input);
+        if (value == null) {
+            throw new ArgumentParseException(ResponseKey.INVALID_BOOLEAN, input);
+        }
+        return value;
+    }
+
+    @Override
+    public boolean couldMatch(@NotNull String input) {
+        return lookup(input) != null;
+    }
+
+    private @Nullable Boolean lookup(String input) {
         if (input.equalsIgnoreCase("true") || input.equalsIgnoreCase("false")) {
             return Boolean.parseBoolean(input);
         }
-        if (allowVariants) {
-            Boolean value = VARIANTS.get(input.toLowerCase());
-            if (value != null) {
-                return value;
-            }
-        }
-        throw new ArgumentParseException(ResponseKey.INVALID_BOOLEAN, input);
+        return allowVariants ? VARIANTS.get(input.toLowerCase()) : null;
     }
 
 
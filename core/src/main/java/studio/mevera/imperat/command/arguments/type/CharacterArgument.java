@@ -9,6 +9,16 @@ import studio.mevera.imperat.exception.ResponseException;
 import studio.mevera.imperat.responses.ResponseKey;
 
 public final class CharacterArgument<S extends CommandSource> extends ArgumentType<S, Character> {
+    @Override
+    public boolean isContextFree() {
+        return true;
+    }
+
+    @Override
+    public boolean couldMatch(@NotNull String input) {
+        return input.length() == 1;
+    }
+
     @Override
     public Character parse(@NotNull CommandContext<S> context, @NotNull Argument<S> argument, @NotNull String input) throws ResponseException {
         if (input.length() > 1) {
@@ -31,13 +31,23 @@ public class EitherArgument<S extends CommandSource, A, B> extends ArgumentType<
             throw new CommandException("Neither primary nor fallback argument type is registered for '%s' or '%s'"
                                                .formatted(primaryType.getType().getTypeName(), fallbackType.getType().getTypeName()));
         }
-        try {
+        // the branch is picked by the cheap checks of both types, so an input only one of them could match
+        // is parsed once, the primary type is only tried first when both could match
+        boolean primaryCouldMatch = primaryArgType.couldMatch(input);
+        if (primaryCouldMatch && !fallbackArgType.couldMatch(input)) {
             A primaryValue = primaryArgType.parse(context, argument, input);
             if (primaryValue != null) {
                 return Either.ofPrimary(primaryValue);
             }
-        } catch (Exception ignored) {
-            // Try fallback
+        } else if (primaryCouldMatch) {
+            try {
+                A primaryValue = primaryArgType.parse(context, argument, input);
+                if (primaryValue != null) {
+                    return Either.ofPrimary(primaryValue);
+                }
+            } catch (Exception ignored) {
+                // Try fallback
+            }
         }
         B fallbackValue = fallbackArgType.parse(context, argument, input);
         return Either.ofFallback(fallbackValue);
@@ -1,36 +1,102 @@
 package studio.mevera.imperat.command.arguments.type;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import studio.mevera.imperat.annotations.types.EnumAlias;
 import studio.mevera.imperat.command.arguments.Argument;
 import studio.mevera.imperat.context.CommandContext;
 import studio.mevera.imperat.context.CommandSource;
 import studio.mevera.imperat.exception.ArgumentParseException;
 import studio.mevera.imperat.exception.ResponseException;
 import studio.mevera.imperat.responses.ResponseKey;
+import studio.mevera.imperat.util.BKTree;
 import studio.mevera.imperat.util.TypeWrap;
 
-import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
-@SuppressWarnings({"unchecked", "rawtypes"})
+/**
+ * Parses the constants of an enum by their name or {@link EnumAlias alias}, ignoring case,
+ * through lookup tables computed once per enum.
+ *
+ * @param <S> the command source type
+ */
+@SuppressWarnings("unchecked")
 public final class EnumArgument<S extends CommandSource> extends ArgumentType<S, Enum<?>> {
+
+    // exact names and aliases first, so that constants differing only by case stay reachable
+    private final Map<String, Enum<?>> constants = new HashMap<>();
+    private final Map<String, Enum<?>> foldedConstants = new HashMap<>();
+    private final BKTree constantNames;
+
     public EnumArgument(TypeWrap<Enum<?>> typeWrap) {
         super(typeWrap.getType());
         Class<? extends Enum<?>> type = (Class<? extends Enum<?>>) typeWrap.getType();
+        List<String> names = new ArrayList<>();
         for (var constantEnum : type.getEnumConstants()) {
             suggestions.add(constantEnum.name());
+            names.add(constantEnum.name());
+            register(constantEnum.name(), constantEnum);
+        }
+        for (var constantEnum : type.getEnumConstants()) {
+            for (String alias : aliasesOf(type, constantEnum)) {
+                names.add(alias);
+                register(alias, constantEnum);
+            }
         }
+        this.constantNames = BKTree.of(names);
+    }
+
+    private static String[] aliasesOf(Class<? extends Enum<?>> type, Enum<?> constant) {
+        try {
+            EnumAlias aliases = type.getField(constant.name()).getAnnotation(EnumAlias.class);
+            return aliases == null ? new String[0] : aliases.value();
+        } catch (NoSuchFieldException ex) {
+            return new String[0];
+        }
+    }
+
+    private void register(String name, Enum<?> constant) {
+        constants.putIfAbsent(name, constant);
+        foldedConstants.putIfAbsent(fold(name), constant);
+    }
+
+    private static String fold(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @param input the raw input
+     * @return the constant named or aliased by the input ignoring case, or {@code null} if there's none
+     */
+    public @Nullable Enum<?> lookup(@NotNull String input) {
+        Enum<?> constant = constants.get(input);
+        return constant != null ? constant : foldedConstants.get(fold(input));
+    }
+
+    @Override
+    public boolean couldMatch(@NotNull String input) {
+        return lookup(input) != null;
+    }
+
+    @Override
+    public boolean isContextFree() {
+        return true;
     }
 
     @Override
     public Enum<?> parse(@NotNull CommandContext<S> context, @NotNull Argument<S> argument, @NotNull String input)
             throws ResponseException {
-        Type enumType = type;
-        try {
-            return Enum.valueOf((Class<? extends Enum>) enumType, input);
-        } catch (IllegalArgumentException | EnumConstantNotPresentException ex) {
+        Enum<?> constant = lookup(input);
+        if (constant == null) {
             throw new ArgumentParseException(ResponseKey.INVALID_ENUM, input)
-                          .withPlaceholder("enum_type", ((Class<?>) enumType).getTypeName());
+                          .withClosestMatches(constantNames.closest(input))
+                          .withPlaceholder("enum_type", ((Class<?>) type).getTypeName());
         }
+        return constant;
     }
 
 }
@@ -47,12 +47,99 @@ public abstract class NumberArgument<S extends CommandSource, N extends Number>
     @Override
     public abstract N parse(@NotNull CommandContext<S> context, @NotNull Argument<S> argument, @NotNull String input) throws ResponseException;
 
+    @Override
+    public boolean isContextFree() {
+        return true;
+    }
+
+    /**
+     * Rejects the inputs without any digit, as every number is written with one,
+     * except the special values of floating point numbers ({@code NaN} and {@code Infinity}).
+     */
+    @Override
+    public boolean couldMatch(@NotNull String input) {
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (Character.isDigit(c) || c == 'N' || c == 'I') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param input the raw input
+     * @return whether the input is made of decimal digits only, optionally signed, as read by {@link #parseWhole}
+     */
+    protected static boolean isWholeNumber(@NotNull String input) {
+        final int length = input.length();
+        int index = length > 1 && (input.charAt(0) == '-' || input.charAt(0) == '+') ? 1 : 0;
+        if (index == length) {
+            return false;
+        }
+        for (; index < length; index++) {
+            char c = input.charAt(index);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
 
     public abstract String display();
 
     public abstract N cast(double value) throws ClassCastException;
 
-    static class IntArgument<S extends CommandSource> extends NumberArgument<S, Integer> {
+    protected ResponseException invalidFormat(String input) {
+        return new ArgumentParseException(ResponseKey.INVALID_NUMBER_FORMAT, input)
+                       .withPlaceholder("number_type", display());
+    }
+
+    /**
+     * Parses a whole number written in decimal digits, optionally signed, straight from the characters
+     * of the input, rejecting it without going through a {@link NumberFormatException}.
+     * The value is accumulated negatively, as {@link Long#parseLong(String)} does, so the minimum fits.
+     *
+     * @param input the raw input
+     * @param min   the smallest accepted value
+     * @param max   the largest accepted value
+     * @return the parsed value
+     * @throws ResponseException if the input isn't a whole number within the bounds
+     */
+    protected final long parseWhole(String input, long min, long max) throws ResponseException {
+        final int length = input.length();
+        if (length == 0) {
+            throw invalidFormat(input);
+        }
+        int index = 0;
+        boolean negative = false;
+        char first = input.charAt(0);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            if (length == 1) {
+                throw invalidFormat(input);
+            }
+            index = 1;
+        }
+
+        final long limit = negative ? min : -max;
+        final long multiplyLimit = limit / 10;
+        long result = 0;
+        for (; index < length; index++) {
+            int digit = input.charAt(index) - '0';
+            if (digit < 0 || digit > 9 || result < multiplyLimit) {
+                throw invalidFormat(input);
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw invalidFormat(input);
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    public static class IntArgument<S extends CommandSource> extends NumberArgument<S, Integer> {
 
         protected IntArgument() {
             super();
@@ -68,14 +155,26 @@ public abstract class NumberArgument<S extends CommandSource, N extends Number>
         }
 
         @Override
-        public Integer parse(@NotNull CommandContext<S> context, @NotNull Argument<S> argument, @NotNull String input)
+        public final Integer parse(@NotNull CommandContext<S> context, @NotNull Argument<S> argument, @NotNull String input)
                 throws ArgumentParseException, ResponseException {
-            try {
-                return Integer.parseInt(input);
-            } catch (NumberFormatException ex) {
-                throw new ArgumentParseException(ResponseKey.INVALID_NUMBER_FORMAT, input)
-                              .withPlaceholder("number_type", display());
-            }
+            return parseInt(input);
+        }
+
+        /**
+         * Parses the input into the primitive slot of the execution context, which is what subclasses override
+         * instead of {@link #parse(CommandContext, Argument, String)}.
+         *
+         * @param input the raw input
+         * @return the parsed value, without boxing it
+         * @throws ResponseException if the input isn't a decimal int
+         */
+        public int parseInt(@NotNull String input) throws ResponseException {
+            return (int) parseWhole(input, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public boolean couldMatch(@NotNull String input) {
+            return isWholeNumber(input);
         }
         @Override
         public @NotNull Priority getPriority() {
@@ -120,7 +219,7 @@ public abstract class NumberArgument<S extends CommandSource, N extends Number>
     }
 
 
-    static class LongArgument<S extends CommandSource> extends NumberArgument<S, Long> {
+    public static class LongArgument<S extends CommandSource> extends NumberArgument<S, Long> {
 
         protected LongArgument() {
             super();
@@ -136,13 +235,25 @@ public abstract class NumberArgument<S extends CommandSource, N extends Number>
         }
 
         @Override
-        public Long parse(@NotNull CommandContext<S> context, @NotNull Argument<S> argument, @NotNull String input) throws ResponseException {
-            try {
-                return Long.parseLong(input);
-            } catch (NumberFormatException ex) {
-                throw new ArgumentParseException(ResponseKey.INVALID_NUMBER_FORMAT, input)
-                              .withPlaceholder("number_type", display());
-            }
+        public final Long parse(@NotNull CommandContext<S> context, @NotNull Argument<S> argument, @NotNull String input) throws ResponseException {
+            return parseLong(input);
+        }
+
+        /**
+         * Parses the input into the primitive slot of the execution context, which is what subclasses override
+         * instead of {@link #parse(CommandContext, Argument, String)}.
+         *
+         * @param input the raw input
+         * @return the parsed value, without boxing it
+         * @throws ResponseException if the input isn't a decimal long
+         */
+        public long parseLong(@NotNull String input) throws ResponseException {
+            return parseWhole(input, Long.MIN_VALUE, Long.MAX_VALUE);
+        }
+
+        @Override
+        public boolean couldMatch(@NotNull String input) {
+            return isWholeNumber(input);
         }
 
         @Override
@@ -152,7 +263,15 @@ public abstract class NumberArgument<S extends CommandSource, N extends Number>
     }
 
 
-    static class DoubleArgument<S extends CommandSource> extends NumberArgument<S, Double> {
+    public static class DoubleArgument<S extends CommandSource> extends NumberArgument<S, Double> {
+
+        // the powers of ten represented exactly as doubles
+        private static final double[] POWERS_OF_TEN = {
+                1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+                1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+        };
+        // the largest mantissa represented exactly as a double
+        private static final long MAX_EXACT_MANTISSA = 1L << 53;
 
         protected DoubleArgument() {
             super();
@@ -168,13 +287,79 @@ public abstract class NumberArgument<S extends CommandSource, N extends Number>
         }
 
         @Override
-        public Double parse(@NotNull CommandContext<S> context, @NotNull Argument<S> argument, @NotNull String input) throws ResponseException {
-            try {
-                return Double.parseDouble(input);
-            } catch (NumberFormatException ex) {
-                throw new ArgumentParseException(ResponseKey.INVALID_NUMBER_FORMAT, input)
-                              .withPlaceholder("number_type", display());
+        public final Double parse(@NotNull CommandContext<S> context, @NotNull Argument<S> argument, @NotNull String input) throws ResponseException {
+            return parseDouble(input);
+        }
+
+        /**
+         * Parses the input into the primitive slot of the execution context, which is what subclasses override
+         * instead of {@link #parse(CommandContext, Argument, String)}.
+         * <p>
+         * Parses plain decimals such as {@code -12.5} straight from the characters of the input: their digits
+         * are read into an exact mantissa, divided once by an exact power of ten, which rounds correctly.
+         * Other forms (exponents, long mantissas, {@code NaN}, ...) are left to {@link Double#parseDouble(String)},
+         * and inputs without any digit are rejected before reaching it.
+         *
+         * @param input the raw input
+         * @return the parsed value, without boxing it
+         * @throws ResponseException if the input isn't a double
+         */
+        public double parseDouble(@NotNull String input) throws ResponseException {
+            final int length = input.length();
+            int index = 0;
+            boolean negative = false;
+            if (length > 0 && (input.charAt(0) == '-' || input.charAt(0) == '+')) {
+                negative = input.charAt(0) == '-';
+                index = 1;
             }
+
+            long mantissa = 0;
+            int digits = 0;
+            int fractionDigits = -1;
+            boolean plain = true;
+            for (; index < length; index++) {
+                char c = input.charAt(index);
+                if (c >= '0' && c <= '9') {
+                    mantissa = mantissa * 10 + (c - '0');
+                    digits++;
+                    if (fractionDigits >= 0) {
+                        fractionDigits++;
+                    }
+                    if (mantissa > MAX_EXACT_MANTISSA) {
+                        plain = false;
+                        break;
+                    }
+                } else if (c == '.' && fractionDigits < 0) {
+                    fractionDigits = 0;
+                } else {
+                    plain = false;
+                    break;
+                }
+            }
+
+            if (plain && digits > 0 && fractionDigits < POWERS_OF_TEN.length) {
+                double value = fractionDigits > 0 ? mantissa / POWERS_OF_TEN[fractionDigits] : mantissa;
+                return negative ? -value : value;
+            }
+            if (!plain && hasDigitOrSpecialValue(input)) {
+                try {
+                    return Double.parseDouble(input);
+                } catch (NumberFormatException ignored) {
+                    // reported below
+                }
+            }
+            throw invalidFormat(input);
+        }
+
+        // every double literal has a digit, except the special values
+        private static boolean hasDigitOrSpecialValue(String input) {
+            for (int i = 0; i < input.length(); i++) {
+                char c = input.charAt(i);
+                if ((c >= '0' && c <= '9') || c == 'N' || c == 'I') {
+                    return true;
+                }
+            }
+            return false;
         }
 
         @Override
@@ -200,12 +385,12 @@ public abstract class NumberArgument<S extends CommandSource, N extends Number>
         @Override
         public Byte parse(@NotNull CommandContext<S> context, @NotNull Argument<S> argument, @NotNull String input)
                 throws ArgumentParseException, ResponseException {
-            try {
-                return Byte.parseByte(input);
-            } catch (NumberFormatException ex) {
-                throw new ArgumentParseException(ResponseKey.INVALID_NUMBER_FORMAT, input)
-                              .withPlaceholder("number_type", display());
-            }
+            return (byte) parseWhole(input, Byte.MIN_VALUE, Byte.MAX_VALUE);
+        }
+
+        @Override
+        public boolean couldMatch(@NotNull String input) {
+            return isWholeNumber(input);
         }
 
         @Override
@@ -232,12 +417,12 @@ public abstract class NumberArgument<S extends CommandSource, N extends Number>
         @Override
         public Short parse(@NotNull CommandContext<S> context, @NotNull Argument<S> argument, @NotNull String input)
                 throws ArgumentParseException, ResponseException {
-            try {
-                return Short.parseShort(input);
-            } catch (NumberFormatException ex) {
-                throw new ArgumentParseException(ResponseKey.INVALID_NUMBER_FORMAT, input)
-                              .withPlaceholder("number_type", display());
-            }
+            return (short) parseWhole(input, Short.MIN_VALUE, Short.MAX_VALUE);
+        }
+
+        @Override
+        public boolean couldMatch(@NotNull String input) {
+            return isWholeNumber(input);
         }
 
         @Override
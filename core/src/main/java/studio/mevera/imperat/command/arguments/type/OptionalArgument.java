@@ -33,6 +33,11 @@ public final class OptionalArgument<S extends CommandSource, T> extends Argument
         return typeResolver.getDefaultValueProvider();
     }
 
+    @Override
+    public boolean isContextFree() {
+        return typeResolver.isContextFree();
+    }
+
     @Override
     public boolean isGreedy(Argument<S> parameter) {
         return typeResolver.isGreedy(parameter);
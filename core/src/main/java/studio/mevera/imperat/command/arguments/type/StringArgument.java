@@ -12,6 +12,11 @@ public final class StringArgument<S extends CommandSource> extends ArgumentType<
         super();
     }
 
+    @Override
+    public boolean isContextFree() {
+        return true;
+    }
+
     @Override
     public String parse(@NotNull CommandContext<S> context, @NotNull Argument<S> argument, @NotNull String input) throws CommandException {
         if (input.isEmpty()) {
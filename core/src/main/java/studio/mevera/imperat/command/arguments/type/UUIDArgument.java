@@ -16,6 +16,31 @@ public final class UUIDArgument<S extends CommandSource> extends ArgumentType<S,
         super();
     }
 
+    @Override
+    public boolean isContextFree() {
+        return true;
+    }
+
+    /**
+     * Rejects the inputs not shaped as five groups of hex digits separated by dashes.
+     */
+    @Override
+    public boolean couldMatch(@NotNull String input) {
+        if (input.length() > 36) {
+            return false;
+        }
+        int dashes = 0;
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (c == '-') {
+                dashes++;
+            } else if (Character.digit(c, 16) < 0 && c != '+') {
+                return false;
+            }
+        }
+        return dashes == 4;
+    }
+
     @Override
     public UUID parse(@NotNull CommandContext<S> context, @NotNull Argument<S> argument, @NotNull String input) throws ResponseException {
         try {
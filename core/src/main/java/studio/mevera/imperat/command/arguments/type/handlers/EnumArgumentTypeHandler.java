@@ -38,6 +38,11 @@ public final class EnumArgumentTypeHandler<S extends CommandSource> implements A
         return (ArgumentType<S, T>) new EnumArgument<>((TypeWrap<Enum<?>>) wrap);
     }
 
+    @Override
+    public boolean isShareable() {
+        return true;
+    }
+
     @Override
     public @NotNull Priority getPriority() {
         // Low priority so specific enum types registered by user take precedence
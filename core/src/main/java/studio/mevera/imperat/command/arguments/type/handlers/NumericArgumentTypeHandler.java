@@ -43,6 +43,11 @@ public final class NumericArgumentTypeHandler<S extends CommandSource> implement
         return (ArgumentType<S, T>) ArgumentTypes.numeric((Class<? extends Number>) clazz);
     }
 
+    @Override
+    public boolean isShareable() {
+        return true;
+    }
+
     @Override
     public @NotNull Priority getPriority() {
         return Priority.NORMAL;
@@ -7,31 +7,39 @@ import studio.mevera.imperat.context.ParsedArgument;
 import studio.mevera.imperat.exception.ArgumentParseException;
 import studio.mevera.imperat.exception.CommandException;
 import studio.mevera.imperat.responses.ResponseKey;
+import studio.mevera.imperat.util.BKTree;
 import studio.mevera.imperat.util.priority.Priority;
 
+import java.util.Locale;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 public final class ConstrainedValueValidator<S extends CommandSource> implements ArgValidator<S> {
 
     private final Set<String> allowedValues;
     private final boolean caseSensitive;
+    // the allowed values folded to lower case once, when the matching ignores case
+    private final Set<String> foldedValues;
+    private final BKTree closestValues;
 
     public ConstrainedValueValidator(Set<String> allowedValues, boolean caseSensitive) {
         this.allowedValues = allowedValues;
         this.caseSensitive = caseSensitive;
+        this.foldedValues = caseSensitive ? Set.of() : allowedValues.stream()
+                                                               .map(ConstrainedValueValidator::fold)
+                                                               .collect(Collectors.toUnmodifiableSet());
+        this.closestValues = BKTree.of(allowedValues);
     }
 
-    private static boolean contains(String input, Set<String> allowedValues, boolean caseSensitive) {
+    private static String fold(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private boolean contains(String input) {
         if (caseSensitive) {
             return allowedValues.contains(input);
         }
-
-        for (String value : allowedValues) {
-            if (input.equalsIgnoreCase(value)) {
-                return true;
-            }
-        }
-        return false;
+        return foldedValues.contains(fold(input));
     }
 
     @Override
@@ -42,8 +50,9 @@ public final class ConstrainedValueValidator<S extends CommandSource> implements
     @Override
     public void validate(CommandContext<S> context, ParsedArgument<S> parsedArgument) throws CommandException {
         String input = parsedArgument.getArgumentRawInput();
-        if (!contains(input, allowedValues, caseSensitive)) {
+        if (!contains(input)) {
             throw new ArgumentParseException(ResponseKey.VALUE_OUT_OF_CONSTRAINT, input)
+                          .withClosestMatches(closestValues.closest(input))
                           .withPlaceholder("allowed_values", String.join(",", allowedValues));
         }
     }
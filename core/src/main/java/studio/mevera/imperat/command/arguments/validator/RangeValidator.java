@@ -1,8 +1,10 @@
 package studio.mevera.imperat.command.arguments.validator;
 
+import studio.mevera.imperat.command.arguments.NumericRange;
 import studio.mevera.imperat.context.CommandContext;
 import studio.mevera.imperat.context.CommandSource;
 import studio.mevera.imperat.context.ParsedArgument;
+import studio.mevera.imperat.context.internal.PrimitiveParsedArgument;
 import studio.mevera.imperat.exception.CommandException;
 import studio.mevera.imperat.exception.ResponseException;
 import studio.mevera.imperat.responses.ResponseKey;
@@ -11,40 +13,27 @@ public final class RangeValidator<S extends CommandSource> implements ArgValidat
 
     @Override
     public void validate(CommandContext<S> context, ParsedArgument<S> parsedArgument) throws CommandException {
+        // primitive values are checked without boxing them
+        if (parsedArgument instanceof PrimitiveParsedArgument<S> primitive) {
+            var range = parsedArgument.getOriginalArgument().asNumeric().getRange();
+            if (!range.isEmpty() && !primitive.isWithin(range)) {
+                throw outOfRange(parsedArgument, primitive.getArgumentParsedValue(), range);
+            }
+            return;
+        }
         Object value = parsedArgument.getArgumentParsedValue();
         if (value == null) {
             return;
         }
         if (value instanceof Number number) {
-            double doubleValue = number.doubleValue();
-            var param = parsedArgument.getOriginalArgument().asNumeric();
-            var range = param.getRange();
+            var range = parsedArgument.getOriginalArgument().asNumeric().getRange();
 
             if (range.isEmpty()) {
                 return;
             }
 
-            if (!range.matches(doubleValue)) {
-                // Build range description
-                final StringBuilder rangeBuilder = new StringBuilder();
-                if (range.getMin() != Double.MIN_VALUE && range.getMax() != Double.MAX_VALUE) {
-                    rangeBuilder.append("within ").append(range.getMin()).append('-').append(range.getMax());
-                } else if (range.getMin() != Double.MIN_VALUE) {
-                    rangeBuilder.append("at least '").append(range.getMin()).append("'");
-                } else if (range.getMax() != Double.MAX_VALUE) {
-                    rangeBuilder.append("at most '").append(range.getMax()).append("'");
-                } else {
-                    rangeBuilder.append("(Open range)");
-                }
-
-                throw ResponseException.of(ResponseKey.NUMBER_OUT_OF_RANGE)
-                              .withPlaceholder("original_input", parsedArgument.getArgumentRawInput())
-                              .withPlaceholder("value", String.valueOf(number))
-                              .withPlaceholder("parameter", param.format())
-                              .withPlaceholder("parameter_name", param.getName())
-                              .withPlaceholder("range", rangeBuilder.toString())
-                              .withPlaceholder("range_min", String.valueOf(range.getMin()))
-                              .withPlaceholder("range_max", String.valueOf(range.getMax()));
+            if (!matches(range, number)) {
+                throw outOfRange(parsedArgument, number, range);
             }
 
         } else {
@@ -53,4 +42,36 @@ public final class RangeValidator<S extends CommandSource> implements ArgValidat
                                                                                                                    .type().getTypeName());
         }
     }
+
+    private ResponseException outOfRange(ParsedArgument<S> parsedArgument, Number number, NumericRange range) {
+        var param = parsedArgument.getOriginalArgument();
+        // Build range description
+        final StringBuilder rangeBuilder = new StringBuilder();
+        if (range.getMin() != Double.MIN_VALUE && range.getMax() != Double.MAX_VALUE) {
+            rangeBuilder.append("within ").append(range.getMin()).append('-').append(range.getMax());
+        } else if (range.getMin() != Double.MIN_VALUE) {
+            rangeBuilder.append("at least '").append(range.getMin()).append("'");
+        } else if (range.getMax() != Double.MAX_VALUE) {
+            rangeBuilder.append("at most '").append(range.getMax()).append("'");
+        } else {
+            rangeBuilder.append("(Open range)");
+        }
+
+        return ResponseException.of(ResponseKey.NUMBER_OUT_OF_RANGE)
+                       .withPlaceholder("original_input", parsedArgument.getArgumentRawInput())
+                       .withPlaceholder("value", String.valueOf(number))
+                       .withPlaceholder("parameter", param.format())
+                       .withPlaceholder("parameter_name", param.getName())
+                       .withPlaceholder("range", rangeBuilder.toString())
+                       .withPlaceholder("range_min", String.valueOf(range.getMin()))
+                       .withPlaceholder("range_max", String.valueOf(range.getMax()));
+    }
+
+    // whole values are compared exactly, without going through a double
+    private static boolean matches(NumericRange range, Number number) {
+        if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte) {
+            return range.matches(number.longValue());
+        }
+        return range.matches(number.doubleValue());
+    }
 }
@@ -8,4 +8,8 @@ public final class DefaultProcessors {
         return new CooldownProcessor<>();
     }
 
+    public static <S extends CommandSource> RateLimitProcessor<S> rateLimitProcessor() {
+        return new RateLimitProcessor<>();
+    }
+
 }
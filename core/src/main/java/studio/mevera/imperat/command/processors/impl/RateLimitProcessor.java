@@ -0,0 +1,81 @@
+package studio.mevera.imperat.command.processors.impl;
+
+import studio.mevera.imperat.command.processors.CommandPostProcessor;
+import studio.mevera.imperat.command.processors.CommandPreProcessor;
+import studio.mevera.imperat.command.ratelimit.RateLimitRecord;
+import studio.mevera.imperat.command.ratelimit.RateLimiter;
+import studio.mevera.imperat.context.CommandContext;
+import studio.mevera.imperat.context.CommandSource;
+import studio.mevera.imperat.context.ExecutionContext;
+import studio.mevera.imperat.exception.CommandException;
+import studio.mevera.imperat.exception.ResponseException;
+import studio.mevera.imperat.responses.ResponseKey;
+
+import java.time.Duration;
+
+/**
+ * Enforces the token-bucket rate limits, the global per-source limit
+ * is consumed BEFORE the resolving of the arguments (so spam is rejected
+ * before touching the command tree), while the pathway's own limit is consumed
+ * AFTER, once the executed pathway is known.
+ *
+ * @param <S> the command source type
+ */
+public final class RateLimitProcessor<S extends CommandSource> implements CommandPreProcessor<S>, CommandPostProcessor<S> {
+
+    RateLimitProcessor() {
+
+    }
+
+    /**
+     * Consumes a token from the global per-source rate limiter, if configured.
+     *
+     * @param context the context
+     * @throws CommandException if the source has exceeded the global rate limit
+     */
+    @Override
+    public void process(CommandContext<S> context) throws CommandException {
+        RateLimiter limiter = context.imperatConfig().getGlobalRateLimiter();
+        if (limiter != null) {
+            acquire(context, limiter, "global");
+        }
+    }
+
+    /**
+     * Consumes a token from the detected pathway's rate limiter, if it has any.
+     *
+     * @param context the context
+     * @throws CommandException if the source has exceeded the pathway's rate limit
+     */
+    @Override
+    public void process(ExecutionContext<S> context) throws CommandException {
+        RateLimiter limiter = context.getDetectedPathway().getRateLimiter();
+        if (limiter != null) {
+            acquire(context, limiter, "command");
+        }
+    }
+
+    private void acquire(CommandContext<S> context, RateLimiter limiter, String scope) throws ResponseException {
+        var source = context.source();
+        RateLimitRecord record = limiter.getRecord();
+        String permission = record.permission();
+        if (permission != null && !permission.isEmpty()
+                    && context.imperatConfig().getPermissionChecker().hasPermission(source, permission)) {
+            return;
+        }
+
+        long retryAfterMillis = limiter.tryAcquire(source.name());
+        if (retryAfterMillis == 0L) {
+            return;
+        }
+
+        Duration retryAfter = Duration.ofMillis(retryAfterMillis);
+        throw ResponseException.of(ResponseKey.RATE_LIMITED)
+                      .withPlaceholder("seconds", String.valueOf((retryAfterMillis + 999L) / 1000L))
+                      .withPlaceholder("retry_after", retryAfter.toString())
+                      .withPlaceholder("uses", String.valueOf(record.uses()))
+                      .withPlaceholder("period", record.toDuration().toString())
+                      .withPlaceholder("scope", scope);
+    }
+
+}
@@ -0,0 +1,86 @@
+package studio.mevera.imperat.command.ratelimit;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Represents a burst-tolerant rate limit, allowing up to {@link #uses()}
+ * executions per {@link #toDuration()}, with tokens being refilled gradually
+ * over that period.
+ *
+ * @see RateLimiter
+ */
+@ApiStatus.AvailableSince("3.6.0")
+public final class RateLimitRecord {
+
+    private final int uses;
+    private final long period;
+    private final TimeUnit unit;
+    private final Duration duration;
+    private final @Nullable String permission;
+
+    /**
+     * @param uses       the maximum amount of uses within the period (the bucket capacity)
+     * @param period     the length of the period
+     * @param unit       the unit of the period
+     * @param permission the permission that bypasses this rate limit, may be null
+     */
+    public RateLimitRecord(int uses, long period, TimeUnit unit, @Nullable String permission) {
+        if (uses <= 0 || uses > RateLimiter.MAX_CAPACITY) {
+            throw new IllegalArgumentException("Rate limit uses must be between 1 and " + RateLimiter.MAX_CAPACITY + ", got " + uses);
+        }
+        if (period <= 0) {
+            throw new IllegalArgumentException("Rate limit period must be positive, got " + period);
+        }
+        this.uses = uses;
+        this.period = period;
+        this.unit = unit;
+        this.permission = permission;
+        this.duration = Duration.of(period, unit.toChronoUnit());
+    }
+
+    public int uses() {
+        return uses;
+    }
+
+    public long period() {
+        return period;
+    }
+
+    public TimeUnit unit() {
+        return unit;
+    }
+
+    public Duration toDuration() {
+        return duration;
+    }
+
+    public @Nullable String permission() {
+        return permission;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj == null || obj.getClass() != this.getClass()) {
+            return false;
+        }
+        var that = (RateLimitRecord) obj;
+        return this.uses == that.uses &&
+                       this.period == that.period &&
+                       Objects.equals(this.unit, that.unit) &&
+                       Objects.equals(this.permission, that.permission);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(uses, period, unit, permission);
+    }
+
+}
@@ -0,0 +1,154 @@
+package studio.mevera.imperat.command.ratelimit;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free token-bucket limiter keyed by source name.
+ * <p>
+ * Each bucket is a single {@link AtomicLong} packing the time of the last refill
+ * (upper 48 bits, milliseconds since the limiter's creation) and the amount of
+ * available tokens (lower 16 bits), so acquiring a token is one CAS on the hot path.
+ * Buckets that have fully refilled are purged periodically to avoid retaining
+ * sources that stopped executing commands, a purged bucket is marked as removed
+ * in the same CAS, so a concurrent acquire retries on a fresh bucket instead of losing its token.
+ */
+@ApiStatus.AvailableSince("3.6.0")
+public final class RateLimiter {
+
+    /**
+     * The maximum capacity of a single bucket.
+     */
+    public static final int MAX_CAPACITY = 0xFFFF;
+
+    private static final int TOKEN_BITS = 16;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    private static final int PURGE_INTERVAL = 1024;
+    // the state of a bucket removed from the map, never reached by a packed state
+    private static final long REMOVED = -1L;
+
+    private final RateLimitRecord record;
+    private final long capacity;
+    private final long refillIntervalMillis;
+    private final long epoch = System.currentTimeMillis();
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicInteger createdBuckets = new AtomicInteger();
+
+    public RateLimiter(@NotNull RateLimitRecord record) {
+        this.record = record;
+        this.capacity = record.uses();
+        this.refillIntervalMillis = Math.max(1L, record.unit().toMillis(record.period()) / record.uses());
+    }
+
+    private static long pack(long lastRefill, long tokens) {
+        return (lastRefill << TOKEN_BITS) | tokens;
+    }
+
+    public @NotNull RateLimitRecord getRecord() {
+        return record;
+    }
+
+    /**
+     * Tries to take a single token from the bucket of the given key.
+     *
+     * @param key the key of the bucket, usually the source's name
+     * @return {@code 0} if a token was taken, otherwise the milliseconds
+     * left until the next token becomes available
+     */
+    public long tryAcquire(@NotNull String key) {
+        return tryAcquire(key, System.currentTimeMillis());
+    }
+
+    long tryAcquire(@NotNull String key, long currentTimeMillis) {
+        long now = Math.max(0L, currentTimeMillis - epoch);
+        AtomicLong bucket = bucketOf(key, now, currentTimeMillis);
+
+        while (true) {
+            long state = bucket.get();
+            if (state == REMOVED) {
+                bucket = bucketOf(key, now, currentTimeMillis);
+                continue;
+            }
+            long lastRefill = state >>> TOKEN_BITS;
+            long tokens = state & TOKEN_MASK;
+
+            long elapsed = now - lastRefill;
+            if (elapsed < 0) {
+                lastRefill = now;
+            } else if (elapsed >= refillIntervalMillis) {
+                long refilled = elapsed / refillIntervalMillis;
+                if (tokens + refilled >= capacity) {
+                    tokens = capacity;
+                    lastRefill = now;
+                } else {
+                    tokens += refilled;
+                    lastRefill += refilled * refillIntervalMillis;
+                }
+            }
+
+            if (tokens == 0) {
+                return Math.max(1L, refillIntervalMillis - (now - lastRefill));
+            }
+            if (bucket.compareAndSet(state, pack(lastRefill, tokens - 1))) {
+                return 0L;
+            }
+        }
+    }
+
+    private AtomicLong bucketOf(String key, long now, long currentTimeMillis) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        AtomicLong created = new AtomicLong(pack(now, capacity));
+        bucket = buckets.putIfAbsent(key, created);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (createdBuckets.incrementAndGet() % PURGE_INTERVAL == 0) {
+            purge(currentTimeMillis);
+        }
+        return created;
+    }
+
+    /**
+     * Resets the bucket of the given key, restoring its full capacity.
+     *
+     * @param key the key of the bucket
+     */
+    public void reset(@NotNull String key) {
+        buckets.computeIfPresent(key, (k, bucket) -> {
+            bucket.set(REMOVED);
+            return null;
+        });
+    }
+
+    /**
+     * Removes every bucket that would be full by now,
+     * as they are indistinguishable from a freshly created bucket.
+     */
+    public void purge() {
+        purge(System.currentTimeMillis());
+    }
+
+    private void purge(long currentTimeMillis) {
+        long now = Math.max(0L, currentTimeMillis - epoch);
+        for (String key : buckets.keySet()) {
+            buckets.computeIfPresent(key, (k, bucket) -> {
+                long state = bucket.get();
+                return isRefilled(state, now) && bucket.compareAndSet(state, REMOVED) ? null : bucket;
+            });
+        }
+    }
+
+    private boolean isRefilled(long state, long now) {
+        long missing = capacity - (state & TOKEN_MASK);
+        return now - (state >>> TOKEN_BITS) >= missing * refillIntervalMillis;
+    }
+
+}
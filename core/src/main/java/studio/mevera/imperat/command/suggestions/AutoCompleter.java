@@ -5,6 +5,7 @@ import org.jetbrains.annotations.NotNull;
 import studio.mevera.imperat.Imperat;
 import studio.mevera.imperat.command.Command;
 import studio.mevera.imperat.context.ArgumentInput;
+import studio.mevera.imperat.context.CommandContext;
 import studio.mevera.imperat.context.CommandSource;
 import studio.mevera.imperat.context.SuggestionContext;
 
@@ -86,4 +87,40 @@ public abstract class AutoCompleter<S extends CommandSource> {
     public abstract CompletableFuture<List<String>> autoComplete(
             SuggestionContext<S> context
     );
+
+    /**
+     * Autocompletes an argument on the caller's thread, meant for callers
+     * that are already off the main thread or that would block on the result anyway.
+     * <p>
+     * The default implementation waits for {@link #autoComplete(SuggestionContext)},
+     * implementations that compute suggestions synchronously should override it.
+     *
+     * @param context the context for suggestions
+     * @return the auto-completed results
+     */
+    @ApiStatus.AvailableSince("3.6.0")
+    public List<String> autoCompleteSync(SuggestionContext<S> context) {
+        return autoComplete(context).join();
+    }
+
+    /**
+     * Called after the command was executed successfully, allowing completers to learn
+     * from the input, e.g. to rank frequently used suggestions first. Does nothing by default.
+     *
+     * @param context the context of the execution
+     */
+    @ApiStatus.AvailableSince("3.6.0")
+    public void onExecuted(@NotNull CommandContext<S> context) {
+    }
+
+    /**
+     * Runs {@link #autoCompleteSync(SuggestionContext)} on the configured
+     * {@link studio.mevera.imperat.ImperatConfig#getCompletionExecutor() completion executor}.
+     *
+     * @param context the context for suggestions
+     * @return the future auto-completed results
+     */
+    protected final CompletableFuture<List<String>> supplyAsync(SuggestionContext<S> context) {
+        return CompletableFuture.supplyAsync(() -> autoCompleteSync(context), context.imperatConfig().getCompletionExecutor());
+    }
 }
@@ -21,16 +21,19 @@ public final class FuzzyAutoCompleter<S extends CommandSource> extends AutoCompl
 
     @Override
     public CompletableFuture<List<String>> autoComplete(SuggestionContext<S> context) {
-        return CompletableFuture.supplyAsync(() -> {
-            List<String> all = command.tree().tabCompleteRaw(context);
-            String prefix = context.getArgToComplete().value();
-            if (prefix.isBlank()) {
-                return all;
-            }
-            String lower = prefix.toLowerCase();
-            return all.stream()
-                    .filter(s -> s.toLowerCase().contains(lower))
-                    .toList();
-        });
+        return supplyAsync(context);
+    }
+
+    @Override
+    public List<String> autoCompleteSync(SuggestionContext<S> context) {
+        List<String> all = command.tree().tabCompleteRaw(context);
+        String prefix = context.getArgToComplete().value();
+        if (prefix.isBlank()) {
+            return all;
+        }
+        String lower = prefix.toLowerCase();
+        return all.stream()
+                .filter(s -> s.toLowerCase().contains(lower))
+                .toList();
     }
 }
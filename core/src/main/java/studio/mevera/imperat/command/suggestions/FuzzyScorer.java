@@ -0,0 +1,103 @@
+package studio.mevera.imperat.command.suggestions;
+
+/**
+ * Scores how well a suggestion matches a fuzzy query, ignoring case and without allocating.
+ * <p>
+ * Any contiguous match outscores any scattered (subsequence) match, ordered as:
+ * prefix, word start, substring, subsequence. Within a tier, shorter suggestions and
+ * tighter subsequences rank higher.
+ */
+final class FuzzyScorer {
+
+    static final int NO_MATCH = -1;
+
+    static final int PREFIX = 4000;
+    static final int WORD_START = 3500;
+    static final int SUBSTRING = 3000;
+
+    // upper bound of the subsequence tier, below the lowest possible substring score
+    static final int MAX_SUBSEQUENCE = 2500;
+
+    private static final int MAX_LENGTH_PENALTY = 255;
+
+    private FuzzyScorer() {
+        throw new AssertionError();
+    }
+
+    /**
+     * @param candidate the suggestion
+     * @param query     the input being completed
+     * @return the match quality, higher is better, or {@link #NO_MATCH}
+     */
+    static int score(String candidate, String query) {
+        final int n = candidate.length(), m = query.length();
+        if (m == 0) {
+            return PREFIX;
+        }
+        if (m > n) {
+            return NO_MATCH;
+        }
+
+        int best = NO_MATCH;
+        for (int i = 0; i + m <= n; i++) {
+            if (!candidate.regionMatches(true, i, query, 0, m)) {
+                continue;
+            }
+            if (i == 0) {
+                best = PREFIX;
+                break;
+            }
+            if (isWordStart(candidate, i)) {
+                best = WORD_START;
+                break;
+            }
+            if (best == NO_MATCH) {
+                best = SUBSTRING;
+            }
+        }
+        if (best != NO_MATCH) {
+            return best - Math.min(n - m, MAX_LENGTH_PENALTY);
+        }
+        return scoreSubsequence(candidate, query);
+    }
+
+    private static int scoreSubsequence(String candidate, String query) {
+        final int n = candidate.length(), m = query.length();
+        int first = -1, previous = -2;
+        int consecutive = 0, wordStarts = 0;
+        int q = 0;
+        for (int i = 0; i < n && q < m; i++) {
+            if (!equalsIgnoreCase(candidate.charAt(i), query.charAt(q))) {
+                continue;
+            }
+            if (first < 0) {
+                first = i;
+            }
+            if (previous == i - 1) {
+                consecutive++;
+            }
+            if (i == 0 || isWordStart(candidate, i)) {
+                wordStarts++;
+            }
+            previous = i;
+            q++;
+        }
+        if (q < m) {
+            return NO_MATCH;
+        }
+
+        int gaps = (previous - first + 1) - m;
+        int score = 1000 + consecutive * 40 + wordStarts * 20 - Math.min(gaps, 500) - Math.min(first, 200);
+        return Math.max(1, Math.min(score, MAX_SUBSEQUENCE));
+    }
+
+    private static boolean isWordStart(String candidate, int index) {
+        char previous = candidate.charAt(index - 1);
+        return !Character.isLetterOrDigit(previous)
+                       || (Character.isLowerCase(previous) && Character.isUpperCase(candidate.charAt(index)));
+    }
+
+    private static boolean equalsIgnoreCase(char a, char b) {
+        return a == b || Character.toLowerCase(a) == Character.toLowerCase(b);
+    }
+}
@@ -22,7 +22,12 @@ final class NativeAutoCompleter<S extends CommandSource> extends AutoCompleter<S
      */
     @Override
     public CompletableFuture<List<String>> autoComplete(final SuggestionContext<S> context) {
-        return CompletableFuture.supplyAsync(() -> command.tree().tabComplete(context));
+        return supplyAsync(context);
+    }
+
+    @Override
+    public List<String> autoCompleteSync(final SuggestionContext<S> context) {
+        return command.tree().tabComplete(context);
     }
 
 }
@@ -1,17 +1,20 @@
 package studio.mevera.imperat.command.suggestions;
 
+import org.jetbrains.annotations.ApiStatus;
 import studio.mevera.imperat.command.Command;
 import studio.mevera.imperat.context.CommandSource;
 
 /**
- * Default {@link AutoCompleterFactory} that produces either a native (prefix-based)
- * or fuzzy (substring-based) completer depending on the {@code useFuzzy} flag.
+ * Default {@link AutoCompleterFactory} that produces either a native (prefix-based),
+ * fuzzy (substring-based) or {@link RankedAutoCompleter ranked} (fuzzy, best matches first) completer
+ * depending on the {@code useFuzzy} and {@code useRanked} flags, ranking taking precedence.
  *
  * @param <S> the command-source type
  */
 public final class NativeAutoCompleterFactory<S extends CommandSource> implements AutoCompleterFactory<S> {
 
     private boolean useFuzzy;
+    private boolean useRanked;
 
     public NativeAutoCompleterFactory(boolean useFuzzy) {
         this.useFuzzy = useFuzzy;
@@ -22,8 +25,17 @@ public final class NativeAutoCompleterFactory<S extends CommandSource> implement
         return this;
     }
 
+    @ApiStatus.AvailableSince("3.6.0")
+    public NativeAutoCompleterFactory<S> useRanked(boolean useRanked) {
+        this.useRanked = useRanked;
+        return this;
+    }
+
     @Override
     public AutoCompleter<S> create(Command<S> command) {
+        if (useRanked) {
+            return new RankedAutoCompleter<>(command);
+        }
         return useFuzzy ? new FuzzyAutoCompleter<>(command) : AutoCompleter.createNative(command);
     }
 }
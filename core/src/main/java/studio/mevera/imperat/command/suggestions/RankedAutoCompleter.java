@@ -0,0 +1,174 @@
+package studio.mevera.imperat.command.suggestions;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import studio.mevera.imperat.command.Command;
+import studio.mevera.imperat.context.CommandContext;
+import studio.mevera.imperat.context.CommandSource;
+import studio.mevera.imperat.context.SuggestionContext;
+import studio.mevera.imperat.providers.SuggestionProvider;
+import studio.mevera.imperat.providers.SuggestionSink;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An {@link AutoCompleter} that fuzzy-matches the input against every suggestion, ignoring case,
+ * and returns the best matches first: prefix matches, then word-start and substring matches,
+ * then subsequence matches (typing "ejj" surfaces "Ein_Jojo"), with frequently executed
+ * inputs ranked higher within a tier. At most
+ * {@link studio.mevera.imperat.ImperatConfig#getSuggestionLimit()} suggestions are returned, or
+ * {@value #DEFAULT_SUGGESTION_LIMIT} while the limit is left unlimited, as ranking every match
+ * of a large set is rarely useful and would leave nothing to prune.
+ * <p>
+ * The {@link SuggestionProvider#stableSuggestions() stable suggestions} of a provider (literals,
+ * enum constants, static lists) are indexed once into trigram posting lists, so a query only scores
+ * the suggestions sharing its trigrams, and scans the others only while scattered matches could still
+ * make the cut, i.e. until the limit is reached by better matches. Suggestions of dynamic providers
+ * are scored in a single pass.
+ *
+ * @param <S> the command-source type
+ */
+@ApiStatus.AvailableSince("3.6.0")
+public final class RankedAutoCompleter<S extends CommandSource> extends AutoCompleter<S> {
+
+    /**
+     * The maximum number of ranked suggestions when the {@link studio.mevera.imperat.ImperatConfig#getSuggestionLimit() limit}
+     * of the config is unlimited.
+     */
+    public static final int DEFAULT_SUGGESTION_LIMIT = 100;
+
+    private static final int MAX_TRACKED_USAGES = 4096;
+    private static final int MAX_USAGE = (1 << 20) - 1;
+
+    private final Map<SuggestionProvider<S>, TrigramIndex> indexes = new ConcurrentHashMap<>();
+    private final Map<String, Integer> usages = new ConcurrentHashMap<>();
+
+    public RankedAutoCompleter(Command<S> command) {
+        super(command);
+    }
+
+    private static long score(int quality, int usage) {
+        return ((long) quality << 20) | Math.min(usage, MAX_USAGE);
+    }
+
+    @Override
+    public CompletableFuture<List<String>> autoComplete(SuggestionContext<S> context) {
+        return supplyAsync(context);
+    }
+
+    @Override
+    public List<String> autoCompleteSync(SuggestionContext<S> context) {
+        var candidates = command.tree().completionCandidates(context);
+        String query = context.getArgToComplete().value();
+        int limit = context.imperatConfig().getSuggestionLimit();
+        long budget = context.imperatConfig().getCompletionLatencyBudget();
+        long deadline = budget <= 0 ? 0L : System.nanoTime() + budget;
+
+        if (query.isBlank()) {
+            SuggestionSink sink = SuggestionSink.unfiltered(limit);
+            for (var candidate : candidates.entrySet()) {
+                if (sink.isFull() || context.isCancelled() || isPastDeadline(deadline)) {
+                    break;
+                }
+                candidate.getValue().provide(context, candidate.getKey(), "", sink);
+            }
+            return sink.results();
+        }
+
+        RankedSuggestions ranked = new RankedSuggestions(limit == Integer.MAX_VALUE ? DEFAULT_SUGGESTION_LIMIT : limit);
+        for (var candidate : candidates.entrySet()) {
+            if (context.isCancelled() || isPastDeadline(deadline)) {
+                break;
+            }
+            SuggestionProvider<S> provider = candidate.getValue();
+            List<String> stable = provider.stableSuggestions();
+            if (stable != null) {
+                rankIndexed(provider, stable, query, ranked);
+            } else {
+                rankAll(provider.provide(context, candidate.getKey()), query, ranked);
+            }
+        }
+        return ranked.results();
+    }
+
+    private static boolean isPastDeadline(long deadline) {
+        return deadline != 0L && System.nanoTime() - deadline >= 0;
+    }
+
+    private void rankIndexed(SuggestionProvider<S> provider, List<String> suggestions, String query, RankedSuggestions ranked) {
+        int[] matches = index(provider, suggestions).candidates(query);
+        if (matches == null) {
+            rankAll(suggestions, query, ranked);
+            return;
+        }
+        for (int position : matches) {
+            rank(suggestions.get(position), query, ranked);
+        }
+        // the others can only match as a subsequence, skip them if those can't rank anymore
+        if (ranked.isFullAtOrAbove(score(FuzzyScorer.MAX_SUBSEQUENCE, MAX_USAGE))) {
+            return;
+        }
+        int next = 0;
+        for (int position = 0; position < suggestions.size(); position++) {
+            if (next < matches.length && matches[next] == position) {
+                next++;
+                continue;
+            }
+            rank(suggestions.get(position), query, ranked);
+        }
+    }
+
+    // stable suggestions may still grow (e.g. aliases added later), re-index when they do
+    private TrigramIndex index(SuggestionProvider<S> provider, List<String> suggestions) {
+        TrigramIndex index = indexes.get(provider);
+        if (index == null || index.size() != suggestions.size()) {
+            index = TrigramIndex.of(suggestions);
+            indexes.put(provider, index);
+        }
+        return index;
+    }
+
+    private void rankAll(List<String> suggestions, String query, RankedSuggestions ranked) {
+        if (suggestions == null) {
+            return;
+        }
+        for (String suggestion : suggestions) {
+            rank(suggestion, query, ranked);
+        }
+    }
+
+    private void rank(String suggestion, String query, RankedSuggestions ranked) {
+        if (suggestion == null) {
+            return;
+        }
+        int quality = FuzzyScorer.score(suggestion, query);
+        if (quality != FuzzyScorer.NO_MATCH) {
+            ranked.offer(suggestion, score(quality, usages.getOrDefault(suggestion, 0)));
+        }
+    }
+
+    /**
+     * Counts every input of the execution as a usage, ranking it higher among matches of the same quality.
+     *
+     * @param context the context of the execution
+     */
+    @Override
+    public void onExecuted(@NotNull CommandContext<S> context) {
+        for (String input : context.arguments()) {
+            if (usages.size() < MAX_TRACKED_USAGES || usages.containsKey(input)) {
+                usages.merge(input, 1, Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * @param suggestion the suggestion
+     * @return how many executions used the suggestion as an input
+     */
+    public int getUsage(@NotNull String suggestion) {
+        return usages.getOrDefault(suggestion, 0);
+    }
+}
@@ -0,0 +1,59 @@
+package studio.mevera.imperat.command.suggestions;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps the best scored suggestions offered to it, up to a limit, in a bounded min-heap.
+ * Suggestions with equal scores keep the order they were offered in.
+ */
+final class RankedSuggestions {
+
+    // worst first: lowest score, then latest offered
+    private static final Comparator<Entry> WORST_FIRST = Comparator.comparingLong(Entry::score)
+                                                                 .thenComparing(Comparator.comparingInt(Entry::order).reversed());
+
+    private final int limit;
+    private final PriorityQueue<Entry> heap;
+    private int offered;
+
+    RankedSuggestions(int limit) {
+        this.limit = limit;
+        this.heap = new PriorityQueue<>(Math.min(limit, 64), WORST_FIRST);
+    }
+
+    void offer(String suggestion, long score) {
+        int order = offered++;
+        if (heap.size() < limit) {
+            heap.add(new Entry(suggestion, score, order));
+        } else if (score > heap.peek().score()) {
+            heap.poll();
+            heap.add(new Entry(suggestion, score, order));
+        }
+    }
+
+    /**
+     * @param score the score to compare against
+     * @return whether the heap is full of suggestions scoring at least {@code score},
+     * so no suggestion scoring at most that can enter it anymore
+     */
+    boolean isFullAtOrAbove(long score) {
+        return heap.size() >= limit && heap.peek().score() >= score;
+    }
+
+    List<String> results() {
+        List<Entry> entries = new ArrayList<>(heap);
+        entries.sort(WORST_FIRST.reversed());
+        List<String> results = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            results.add(entry.suggestion());
+        }
+        return results;
+    }
+
+    private record Entry(String suggestion, long score, int order) {
+
+    }
+}
@@ -0,0 +1,116 @@
+package studio.mevera.imperat.command.suggestions;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Case-folded trigram posting lists over a fixed list of suggestions.
+ * <p>
+ * A suggestion containing the query (ignoring case) necessarily contains every trigram of it,
+ * so intersecting the posting lists of the query's trigrams narrows the suggestions to scan
+ * down to the likely substring matches, without looking at the others.
+ */
+final class TrigramIndex {
+
+    private static final int[] NONE = new int[0];
+
+    private final int size;
+    private final Map<Long, int[]> postings;
+
+    private TrigramIndex(int size, Map<Long, int[]> postings) {
+        this.size = size;
+        this.postings = postings;
+    }
+
+    static @NotNull TrigramIndex of(@NotNull List<String> keys) {
+        Map<Long, int[]> postings = new HashMap<>();
+        Map<Long, Integer> lengths = new HashMap<>();
+        for (int position = 0; position < keys.size(); position++) {
+            String key = fold(keys.get(position));
+            for (int i = 0; i + 3 <= key.length(); i++) {
+                long trigram = trigram(key, i);
+                int[] list = postings.get(trigram);
+                int length = lengths.getOrDefault(trigram, 0);
+                if (list == null) {
+                    list = new int[4];
+                } else if (list[length - 1] == position) {
+                    continue; // trigram repeated within the same key
+                } else if (length == list.length) {
+                    list = Arrays.copyOf(list, length * 2);
+                }
+                list[length] = position;
+                postings.put(trigram, list);
+                lengths.put(trigram, length + 1);
+            }
+        }
+        postings.replaceAll((trigram, list) -> Arrays.copyOf(list, lengths.get(trigram)));
+        return new TrigramIndex(keys.size(), postings);
+    }
+
+    // char by char, so folded keys keep the indices of the original ones, as FuzzyScorer compares them
+    private static String fold(String key) {
+        char[] chars = key.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    private static long trigram(String folded, int index) {
+        return ((long) folded.charAt(index) << 32) | ((long) folded.charAt(index + 1) << 16) | folded.charAt(index + 2);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @param query the input being completed
+     * @return the ascending positions of the suggestions containing every trigram of the query,
+     * or {@code null} if the query is too short to have trigrams
+     */
+    int @Nullable [] candidates(@NotNull String query) {
+        if (query.length() < 3) {
+            return null;
+        }
+        String folded = fold(query);
+        int count = folded.length() - 2;
+        int[][] lists = new int[count][];
+        for (int i = 0; i < count; i++) {
+            int[] list = postings.get(trigram(folded, i));
+            if (list == null) {
+                return NONE;
+            }
+            lists[i] = list;
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.length, b.length));
+
+        int[] result = lists[0];
+        for (int i = 1; i < count && result.length > 0; i++) {
+            result = intersect(result, lists[i]);
+        }
+        return result;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[k++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return k == out.length ? out : Arrays.copyOf(out, k);
+    }
+}
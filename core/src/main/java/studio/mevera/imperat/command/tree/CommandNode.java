@@ -10,10 +10,12 @@ import studio.mevera.imperat.command.arguments.type.ArgumentType;
 import studio.mevera.imperat.context.CommandContext;
 import studio.mevera.imperat.context.CommandSource;
 import studio.mevera.imperat.context.FlagData;
+import studio.mevera.imperat.context.internal.PrimitiveParsedArgument;
 import studio.mevera.imperat.exception.CommandException;
 import studio.mevera.imperat.permissions.PermissionsData;
 import studio.mevera.imperat.providers.SuggestionProvider;
 import studio.mevera.imperat.util.Patterns;
+import studio.mevera.imperat.util.PrefixIndex;
 import studio.mevera.imperat.util.priority.Prioritizable;
 import studio.mevera.imperat.util.priority.PriorityList;
 
@@ -30,6 +32,7 @@ public abstract class CommandNode<S extends CommandSource, T extends Argument<S>
     private final @Nullable CommandNode<S, ?> parent;
     protected @Nullable CommandPathway<S> executableUsage;
     private @Nullable CommandPathway<S> nearestExecutableUsage;
+    private @Nullable CommandPathway<S> mostSpecificUsage;
     private @NotNull CompletionCache<S> completionCache = CompletionCache.empty();
 
     protected CommandNode(@Nullable CommandNode<S, ?> parent, @NotNull T data, int depth, @Nullable CommandPathway<S> executableUsage) {
@@ -77,6 +80,17 @@ public abstract class CommandNode<S extends CommandSource, T extends Argument<S>
         this.nearestExecutableUsage = nearestExecutableUsage;
     }
 
+    /**
+     * @return the executable usage with the most arguments in the subtree of this node, including itself
+     */
+    public @Nullable CommandPathway<S> getMostSpecificUsage() {
+        return mostSpecificUsage;
+    }
+
+    public void setMostSpecificUsage(@Nullable CommandPathway<S> mostSpecificUsage) {
+        this.mostSpecificUsage = mostSpecificUsage;
+    }
+
     public @NotNull CompletionCache<S> getCompletionCache() {
         return completionCache;
     }
@@ -105,6 +119,30 @@ public abstract class CommandNode<S extends CommandSource, T extends Argument<S>
         return children;
     }
 
+    /**
+     * Whether matching the input never depends on parsing it at this node, as neither this node nor the nodes
+     * leading to it are optional or have argument siblings, so that a {@link ArgumentType#isDeferred() deferred} type
+     * can wait for its value to be needed before parsing the input.
+     * Sub-command siblings only match their own names, so they never make a node ambiguous.
+     */
+    private boolean isUnambiguous() {
+        for (CommandNode<S, ?> node = this; node.parent != null; node = node.parent) {
+            if (node.isOptional() || node.hasArgumentSiblings()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean hasArgumentSiblings() {
+        for (CommandNode<S, ?> sibling : parent.children) {
+            if (sibling != this && !sibling.isLiteral()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private ParseResult<S> parse(
             ArgumentType<S, ?> type,
             int depth,
@@ -150,12 +188,7 @@ public abstract class CommandNode<S extends CommandSource, T extends Argument<S>
             }
 
             if (resolveFlagData(ctx, flagScopePathway, depth) == null) {
-                try {
-                    var obj = type.parse(ctx, this.data, rawInput);
-                    return ParseResult.successful(obj, data, rawInput, data.getPosition(), depth + 1);
-                } catch (Exception e) {
-                    return ParseResult.failed(e, data, rawInput, data.getPosition(), depth + 1);
-                }
+                return parseInput(type, ctx, rawInput, depth + 1);
             }
         }
 
@@ -165,20 +198,42 @@ public abstract class CommandNode<S extends CommandSource, T extends Argument<S>
             throw new IllegalArgumentException("Number of args to consume for type " + type.getClass().getSimpleName() + " must be at least 1");
         }
 
-        MatchCollection parseOutcome = null;
+        MatchCollection parseOutcome;
         try {
             parseOutcome = collectMatchInput(ctx, depth, tokensToConsume, flagScopePathway);
-            var obj = type.parse(ctx, this.data, parseOutcome.input());
-            return ParseResult.successful(obj, data, parseOutcome.input(), data.getPosition(), parseOutcome.nextDepth());
         } catch (Exception e) {
-            return ParseResult.failed(
-                    e,
-                    data,
-                    parseOutcome == null ? null : parseOutcome.input(),
-                    data.getPosition(),
-                    parseOutcome == null ? depth : parseOutcome.nextDepth()
-            );
+            return ParseResult.failed(e, data, null, data.getPosition(), depth);
         }
+        return parseInput(type, ctx, parseOutcome.input(), parseOutcome.nextDepth());
+    }
+
+    // inputs failing the shape check aren't parsed at all, unless the error of parsing them gets reported
+    private ParseResult<S> parseInput(ArgumentType<S, ?> type, CommandContext<S> ctx, String input, int nextDepth) {
+        if (!type.couldMatch(input)) {
+            return ParseResult.rejected(() -> parseError(type, ctx, input), data, input, data.getPosition(), nextDepth);
+        }
+        if (type.isDeferred() && isUnambiguous()) {
+            return ParseResult.deferred(data, input, data.getPosition(), nextDepth);
+        }
+        try {
+            var primitive = PrimitiveParsedArgument.parse(type, this.data, input, data.getPosition());
+            if (primitive != null) {
+                return ParseResult.successful(primitive, nextDepth);
+            }
+            var obj = type.parse(ctx, this.data, input);
+            return ParseResult.successful(obj, data, input, data.getPosition(), nextDepth);
+        } catch (Exception e) {
+            return ParseResult.failed(e, data, input, data.getPosition(), nextDepth);
+        }
+    }
+
+    private Throwable parseError(ArgumentType<S, ?> type, CommandContext<S> ctx, String input) {
+        try {
+            type.parse(ctx, this.data, input);
+        } catch (Exception e) {
+            return e;
+        }
+        return new IllegalArgumentException("Input '" + input + "' was rejected by " + type.getClass().getSimpleName() + " for " + data.format());
     }
 
     private int resolveMatchTokenCount(ArgumentType<S, ?> type, int remainingTokens, int requestedTokensToConsume) {
@@ -424,11 +479,22 @@ public abstract class CommandNode<S extends CommandSource, T extends Argument<S>
             @NotNull List<CommandNode<S, ?>> optionalOverlapDescendants,
             @NotNull List<CommandNode<S, ?>> literalChildren,
             @NotNull List<CommandNode<S, ?>> nonLiteralChildren,
-            @NotNull Map<String, List<CommandNode<S, ?>>> literalChildLookup
+            @NotNull Map<String, List<CommandNode<S, ?>>> literalChildLookup,
+            @NotNull List<CommandNode<S, ?>> literalKeyOwners,
+            @NotNull PrefixIndex literalKeyIndex
     ) {
 
         public static <S extends CommandSource> @NotNull CompletionCache<S> empty() {
-            return new CompletionCache<>((context, argument) -> List.of(), List.of(), Map.of(), List.of(), List.of(), List.of(), Map.of());
+            return new CompletionCache<>((context, argument) -> List.of(), List.of(), Map.of(), List.of(), List.of(), List.of(), Map.of(),
+                    List.of(), PrefixIndex.of(List.of()));
+        }
+
+        /**
+         * @param prefix the non-empty prefix being completed
+         * @return the literal children whose name or one of its aliases starts with the prefix, ignoring case
+         */
+        public @NotNull List<CommandNode<S, ?>> literalChildrenMatching(@NotNull String prefix) {
+            return literalKeyIndex.select(literalKeyOwners, prefix);
         }
     }
 
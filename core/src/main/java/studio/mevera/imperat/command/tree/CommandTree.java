@@ -1,9 +1,11 @@
 package studio.mevera.imperat.command.tree;
 
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import studio.mevera.imperat.ImperatConfig;
 import studio.mevera.imperat.command.Command;
 import studio.mevera.imperat.command.CommandPathway;
+import studio.mevera.imperat.command.arguments.Argument;
 import studio.mevera.imperat.command.tree.help.HelpEntry;
 import studio.mevera.imperat.command.tree.help.HelpQuery;
 import studio.mevera.imperat.command.tree.help.HelpResult;
@@ -12,8 +14,10 @@ import studio.mevera.imperat.context.CommandSource;
 import studio.mevera.imperat.context.ExecutionContext;
 import studio.mevera.imperat.context.SuggestionContext;
 import studio.mevera.imperat.exception.CommandException;
+import studio.mevera.imperat.providers.SuggestionProvider;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Represents a tree structure for commands, providing methods for parsing, matching,
@@ -94,6 +98,22 @@ public interface CommandTree<S extends CommandSource> {
             @NotNull SuggestionContext<S> context
     );
 
+    /**
+     * Returns the arguments that can be completed at the cursor, each mapped to its
+     * suggestion provider, in the order their suggestions would be listed.
+     * Arguments the source isn't allowed to see are already excluded.
+     * <p>
+     * Intended for {@link studio.mevera.imperat.command.suggestions.AutoCompleter}
+     * implementations that treat providers differently, e.g. indexing the stable ones.
+     *
+     * @param context the suggestion context
+     * @return the ordered completion candidates, never null
+     */
+    @ApiStatus.AvailableSince("3.6.0")
+    @NotNull Map<Argument<S>, SuggestionProvider<S>> completionCandidates(
+            @NotNull SuggestionContext<S> context
+    );
+
     /**
      * Queries the help system to retrieve a set of help entries that match the specified criteria.
      *
@@ -0,0 +1,264 @@
+package studio.mevera.imperat.command.tree;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import studio.mevera.imperat.command.CommandPathway;
+import studio.mevera.imperat.command.arguments.Argument;
+import studio.mevera.imperat.context.CommandSource;
+import studio.mevera.imperat.permissions.CachingPermissionChecker;
+import studio.mevera.imperat.permissions.PermissionChecker;
+import studio.mevera.imperat.permissions.PermissionHolder;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Permission-pruned views of a command tree for tab completion.
+ * <p>
+ * A source's permission fingerprint is the set of distinct permissions used in the tree
+ * that it holds. Since most sources share a handful of permission sets, the visibility
+ * of every node is computed once per fingerprint and reused, so completion cost depends on
+ * the visible tree rather than on the number of permission checks.
+ * <p>
+ * Fingerprints are only used with a {@link CachingPermissionChecker}: the fingerprint of a source is kept
+ * along with its cached decisions, weakly keyed on them, so it's only recomputed after
+ * {@link studio.mevera.imperat.ImperatConfig#invalidatePermissions(CommandSource) an invalidation}.
+ * Other checkers come without any invalidation, so a fingerprint would have to be computed on every request
+ * through a check of every permission of the tree. Their views are lazy instead, checking the permissions
+ * of the nodes a request visits only, once per request.
+ * The whole instance is rebuilt whenever the tree structure changes.
+ */
+final class CompletionPermissionViews<S extends CommandSource> {
+
+    private static final int MAX_VIEWS = 256;
+
+    private final PermissionChecker<S> permissionChecker;
+    private final String[] permissions;
+    private final Map<String, Integer> permissionIndex;
+    private final IdentityHashMap<CommandNode<S, ?>, Integer> nodeIndex;
+    private final List<CommandNode<S, ?>> nodes;
+    private final ConcurrentHashMap<BitSet, View> views = new ConcurrentHashMap<>();
+    private final Map<Object, BitSet> fingerprints = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private CompletionPermissionViews(
+            PermissionChecker<S> permissionChecker,
+            List<String> permissions,
+            List<CommandNode<S, ?>> nodes
+    ) {
+        this.permissionChecker = permissionChecker;
+        this.permissions = permissions.toArray(new String[0]);
+        this.permissionIndex = new HashMap<>(this.permissions.length * 2);
+        for (int i = 0; i < this.permissions.length; i++) {
+            permissionIndex.put(this.permissions[i], i);
+        }
+        this.nodes = nodes;
+        this.nodeIndex = new IdentityHashMap<>(nodes.size());
+        for (int i = 0; i < nodes.size(); i++) {
+            nodeIndex.put(nodes.get(i), i);
+        }
+    }
+
+    static <S extends CommandSource> @NotNull CompletionPermissionViews<S> index(
+            @NotNull CommandNode<S, ?> root,
+            @NotNull PermissionChecker<S> permissionChecker
+    ) {
+        Set<String> permissions = new LinkedHashSet<>();
+        List<CommandNode<S, ?>> nodes = new ArrayList<>();
+        collect(root, permissions, nodes);
+        return new CompletionPermissionViews<>(permissionChecker, new ArrayList<>(permissions), nodes);
+    }
+
+    private static <S extends CommandSource> void collect(
+            CommandNode<S, ?> node,
+            Set<String> permissions,
+            List<CommandNode<S, ?>> nodes
+    ) {
+        nodes.add(node);
+        collectPermissions(node.getData(), permissions);
+        CommandPathway<S> pathway = node.getExecutableUsage();
+        if (pathway != null) {
+            collectPermissions(pathway, permissions);
+        }
+        for (var flag : node.getCompletionCache().visibleFlags()) {
+            collectPermissions(flag, permissions);
+        }
+        for (var child : node.getChildren()) {
+            collect(child, permissions, nodes);
+        }
+    }
+
+    private static void collectPermissions(PermissionHolder holder, Set<String> permissions) {
+        for (String permission : holder.getPermissionsData().getCondition().collectPermissionsUsedOnConditions()) {
+            if (!permission.isEmpty()) {
+                permissions.add(permission);
+            }
+        }
+    }
+
+    /**
+     * Resolves the pruned view matching the permission fingerprint of the source,
+     * or a lazy view for the request if the permission checker doesn't cache its decisions.
+     *
+     * @param source the source requesting completions
+     * @return the view for the source's fingerprint, or a lazy view
+     */
+    @NotNull View viewFor(@NotNull S source) {
+        if (!(permissionChecker instanceof CachingPermissionChecker<S> caching)) {
+            return new View();
+        }
+        BitSet fingerprint = fingerprintOf(caching, source);
+        View view = views.get(fingerprint);
+        if (view != null) {
+            return view;
+        }
+        if (views.size() >= MAX_VIEWS) {
+            views.clear();
+        }
+        return views.computeIfAbsent(fingerprint, (key) -> new View(source, key));
+    }
+
+    private BitSet fingerprintOf(CachingPermissionChecker<S> caching, S source) {
+        Object decisions = caching.decisionsOf(source);
+        BitSet fingerprint = fingerprints.get(decisions);
+        if (fingerprint == null) {
+            fingerprint = computeFingerprint(source);
+            fingerprints.put(decisions, fingerprint);
+        }
+        return fingerprint;
+    }
+
+    private BitSet computeFingerprint(S source) {
+        BitSet fingerprint = new BitSet(permissions.length);
+        for (int i = 0; i < permissions.length; i++) {
+            if (permissionChecker.hasPermission(source, permissions[i])) {
+                fingerprint.set(i);
+            }
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Visibility of every node of the tree for one permission fingerprint.
+     * It also acts as a {@link PermissionChecker} answering from the fingerprint, for holders
+     * that aren't nodes of the tree (e.g. flags).
+     * <p>
+     * A lazy view, without any fingerprint, is made for one request: it computes the visibility of a node
+     * on its first visit through the permission checker, which also answers for the other holders.
+     */
+    final class View implements PermissionChecker<S> {
+
+        private final @Nullable BitSet fingerprint;
+        private final BitSet visible;
+        private final BitSet suggestible;
+        // the nodes whose visibility is known, for a lazy view
+        private final @Nullable BitSet computed;
+
+        private View(S source, BitSet fingerprint) {
+            this.fingerprint = fingerprint;
+            this.visible = new BitSet(nodes.size());
+            this.suggestible = new BitSet(nodes.size());
+            this.computed = null;
+            for (int i = 0; i < nodes.size(); i++) {
+                compute(source, i);
+            }
+        }
+
+        private View() {
+            this.fingerprint = null;
+            this.visible = new BitSet(nodes.size());
+            this.suggestible = new BitSet(nodes.size());
+            this.computed = new BitSet(nodes.size());
+        }
+
+        private void compute(S source, int index) {
+            CommandNode<S, ?> node = nodes.get(index);
+            if (computeVisible(source, node)) {
+                visible.set(index);
+
+                CommandPathway<S> pathway = node.getExecutableUsage();
+                if (pathway == null || hasPermission(source, pathway)) {
+                    suggestible.set(index);
+                }
+            }
+            if (computed != null) {
+                computed.set(index);
+            }
+        }
+
+        private boolean isKnown(S source, @Nullable Integer index) {
+            if (index == null) {
+                return false;
+            }
+            if (computed != null && !computed.get(index)) {
+                compute(source, index);
+            }
+            return true;
+        }
+
+        /**
+         * @return what tells views with the same decisions apart from the others, all the lazy views sharing one
+         */
+        @NotNull Object decisionsKey() {
+            return fingerprint == null ? CompletionPermissionViews.this : this;
+        }
+
+        private boolean computeVisible(S source, CommandNode<S, ?> node) {
+            if (node.isLiteral()) {
+                var command = node.getData().asCommand();
+                if (command.isSecret()) {
+                    return false;
+                }
+                if (command.isIgnoringACPerms()) {
+                    return true;
+                }
+            }
+            return hasPermission(source, node.getData());
+        }
+
+        @Override
+        public boolean hasPermission(@NotNull S source, @Nullable String permission) {
+            if (fingerprint == null || permission == null || permission.isEmpty()) {
+                return permissionChecker.hasPermission(source, permission);
+            }
+            Integer index = permissionIndex.get(permission);
+            return index == null ? permissionChecker.hasPermission(source, permission) : fingerprint.get(index);
+        }
+
+        boolean canSee(@NotNull S source, @NotNull CommandNode<S, ?> node) {
+            Integer index = nodeIndex.get(node);
+            return isKnown(source, index) ? visible.get(index) : computeVisible(source, node);
+        }
+
+        boolean canSuggest(@NotNull S source, @NotNull CommandNode<S, ?> node) {
+            Integer index = nodeIndex.get(node);
+            if (isKnown(source, index)) {
+                return suggestible.get(index);
+            }
+            CommandPathway<S> pathway = node.getExecutableUsage();
+            return computeVisible(source, node) && (pathway == null || hasPermission(source, pathway));
+        }
+
+        boolean canSee(@NotNull S source, @NotNull Argument<S> argument) {
+            if (argument.isCommand()) {
+                var command = argument.asCommand();
+                if (command.isSecret()) {
+                    return false;
+                }
+                if (command.isIgnoringACPerms()) {
+                    return true;
+                }
+            }
+            return hasPermission(source, argument);
+        }
+    }
+
+}
@@ -0,0 +1,139 @@
+package studio.mevera.imperat.command.tree;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import studio.mevera.imperat.context.CommandSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remembers, for one source, where the traversal of its previous completion requests reached the token being completed.
+ * <p>
+ * Successive requests usually differ only in the token being typed, so every request records its frontier:
+ * the steps of the traversal reaching into the token being completed, or past it, in the order they were taken.
+ * The steps before them only depend on the tokens before that token. When a new request shares those tokens,
+ * the traversal resumes from the steps of the deepest such frontier, instead of walking the tree from its root
+ * and matching the shared tokens again.
+ * <p>
+ * The matches behind a frontier may depend on the context (e.g. online players), so a frontier is only reused
+ * for a short while after the tokens it's built on were last matched.
+ * Sessions are owned and evicted by the tree, and are not thread-safe on their own.
+ */
+final class CompletionSession<S extends CommandSource> {
+
+    private static final long FRONTIER_TTL_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private List<String> tokens = List.of();
+    private @Nullable Object view;
+    // by ascending cut
+    private final List<Frontier<S>> frontiers = new ArrayList<>();
+    private @Nullable Frontier<S> recording;
+    private int nesting;
+    private long lastAccess = System.nanoTime();
+
+    /**
+     * Moves the session onto a new request, keeping the frontiers built only on the tokens it shares
+     * with the previous request, and starts recording the frontier of the new request if it isn't known yet.
+     *
+     * @param newTokens the tokens of the new request
+     * @param cursor    the index of the token being completed
+     * @param view      what tells the permission views of the source apart, the frontiers being only valid for one view
+     * @return the deepest frontier to resume the traversal from, or {@code null} to walk the tree from its root
+     */
+    @Nullable Frontier<S> rebase(@NotNull List<String> newTokens, int cursor, @NotNull Object view) {
+        long now = System.nanoTime();
+        lastAccess = now;
+        int shared = 0;
+        int max = Math.min(tokens.size(), newTokens.size());
+        while (shared < max && tokens.get(shared).equals(newTokens.get(shared))) {
+            shared++;
+        }
+        tokens = new ArrayList<>(newTokens);
+        if (this.view != view) {
+            this.view = view;
+            frontiers.clear();
+        }
+
+        final int reusable = Math.min(shared, cursor);
+        frontiers.removeIf((frontier) -> frontier.cut > reusable || now - frontier.matchedAt > FRONTIER_TTL_NANOS);
+        Frontier<S> resumed = frontiers.isEmpty() ? null : frontiers.get(frontiers.size() - 1);
+        nesting = 0;
+        recording = resumed != null && resumed.cut == cursor ? null : new Frontier<>(cursor, resumed == null ? now : resumed.matchedAt);
+        return resumed;
+    }
+
+    /**
+     * Keeps the frontier recorded by the traversal of the current request.
+     */
+    void finish() {
+        if (recording != null) {
+            frontiers.add(recording);
+            recording = null;
+        }
+    }
+
+    /**
+     * Enters a step of the traversal, which is recorded if it reads up to the cut of the recorded frontier
+     * while not being part of another recorded step.
+     *
+     * @param end the index after the last token the step reads
+     * @return whether the step was recorded, in which case it must be {@link #exit() exited}
+     */
+    boolean enter(@NotNull StepKind kind, @NotNull CommandNode<S, ?> node, int depth, int end) {
+        if (recording == null || nesting > 0 || end <= recording.cut) {
+            return false;
+        }
+        recording.steps.add(new Step<>(kind, node, depth));
+        nesting++;
+        return true;
+    }
+
+    void exit() {
+        nesting--;
+    }
+
+    boolean isIdleSince(long since) {
+        return lastAccess - since < 0;
+    }
+
+    enum StepKind {
+        /**
+         * Matching the children of the node against the token at the depth.
+         */
+        CHILDREN,
+        /**
+         * Matching the node against the tokens from the depth.
+         */
+        NODE,
+        /**
+         * Suggesting the unused flags of the last node of a pathway, matched at the depth.
+         */
+        FLAGS
+    }
+
+    record Step<S extends CommandSource>(StepKind kind, CommandNode<S, ?> node, int depth) {
+
+    }
+
+    /**
+     * The steps of a traversal reaching the token at the cut, or past it.
+     */
+    static final class Frontier<S extends CommandSource> {
+
+        private final int cut;
+        // when the oldest match behind the frontier happened
+        private final long matchedAt;
+        private final List<Step<S>> steps = new ArrayList<>();
+
+        private Frontier(int cut, long matchedAt) {
+            this.cut = cut;
+            this.matchedAt = matchedAt;
+        }
+
+        @NotNull List<Step<S>> steps() {
+            return steps;
+        }
+    }
+}
@@ -6,10 +6,16 @@ import studio.mevera.imperat.command.arguments.Argument;
 import studio.mevera.imperat.context.CommandSource;
 import studio.mevera.imperat.context.ParsedArgument;
 
+import java.util.function.Supplier;
+
 public final class ParseResult<S extends CommandSource> {
 
     private final Object value;
-    private final Throwable error;
+    private final @Nullable ParsedArgument<S> parsed;
+    private final boolean deferred;
+    private final boolean failed;
+    private Throwable error;
+    private @Nullable Supplier<? extends Throwable> errorSource;
     private final @Nullable Argument<S> argument;
     private final @Nullable String rawInput;
     private final int inputPosition;
@@ -17,12 +23,16 @@ public final class ParseResult<S extends CommandSource> {
 
     private ParseResult(
             Object value,
+            boolean deferred,
             @Nullable Argument<S> argument,
             @Nullable String rawInput,
             int inputPosition,
             int nextDepth
     ) {
         this.value = value;
+        this.parsed = null;
+        this.deferred = deferred;
+        this.failed = false;
         this.error = null;
         this.argument = argument;
         this.rawInput = rawInput;
@@ -30,15 +40,32 @@ public final class ParseResult<S extends CommandSource> {
         this.nextDepth = nextDepth;
     }
 
+    private ParseResult(ParsedArgument<S> parsed, int nextDepth) {
+        this.value = null;
+        this.parsed = parsed;
+        this.deferred = false;
+        this.failed = false;
+        this.error = null;
+        this.argument = parsed.getOriginalArgument();
+        this.rawInput = parsed.getArgumentRawInput();
+        this.inputPosition = parsed.getInputPosition();
+        this.nextDepth = nextDepth;
+    }
+
     private ParseResult(
             Throwable error,
+            @Nullable Supplier<? extends Throwable> errorSource,
             @Nullable Argument<S> argument,
             @Nullable String rawInput,
             int inputPosition,
             int nextDepth
     ) {
+        this.failed = true;
         this.error = error;
+        this.errorSource = errorSource;
         this.value = null;
+        this.parsed = null;
+        this.deferred = false;
         this.argument = argument;
         this.rawInput = rawInput;
         this.inputPosition = inputPosition;
@@ -52,11 +79,33 @@ public final class ParseResult<S extends CommandSource> {
             int inputPosition,
             int nextDepth
     ) {
-        return new ParseResult<>(value, argument, rawInput, inputPosition, nextDepth);
+        return new ParseResult<>(value, false, argument, rawInput, inputPosition, nextDepth);
+    }
+
+    /**
+     * A successful result carrying the parsed argument as is, e.g. with its value in a primitive slot,
+     * so that the value isn't boxed unless it's read as an object.
+     */
+    public static <S extends CommandSource> ParseResult<S> successful(@NotNull ParsedArgument<S> parsed, int nextDepth) {
+        return new ParseResult<>(parsed, nextDepth);
+    }
+
+    /**
+     * A successful result whose input matched the shape of a
+     * {@link studio.mevera.imperat.command.arguments.type.ArgumentType#isDeferred() deferred} type,
+     * and whose value is only parsed on its first access during execution.
+     */
+    public static <S extends CommandSource> ParseResult<S> deferred(
+            @NotNull Argument<S> argument,
+            @NotNull String rawInput,
+            int inputPosition,
+            int nextDepth
+    ) {
+        return new ParseResult<>(null, true, argument, rawInput, inputPosition, nextDepth);
     }
 
     public static <S extends CommandSource> ParseResult<S> failed(Throwable ex) {
-        return new ParseResult<>(ex, null, null, -1, -1);
+        return new ParseResult<>(ex, null, null, null, -1, -1);
     }
 
     public static <S extends CommandSource> ParseResult<S> failed(
@@ -66,19 +115,42 @@ public final class ParseResult<S extends CommandSource> {
             int inputPosition,
             int nextDepth
     ) {
-        return new ParseResult<>(ex, argument, rawInput, inputPosition, nextDepth);
+        return new ParseResult<>(ex, null, argument, rawInput, inputPosition, nextDepth);
+    }
+
+    /**
+     * A failed result whose input was rejected by
+     * {@link studio.mevera.imperat.command.arguments.type.ArgumentType#couldMatch(String)} without being parsed.
+     * Its error is only made, by the given source, if it's {@link #getError() asked for}
+     * (i.e. when this failure ends up reported), which is seldom the case while traversing the tree.
+     */
+    public static <S extends CommandSource> ParseResult<S> rejected(
+            @NotNull Supplier<? extends Throwable> errorSource,
+            @NotNull Argument<S> argument,
+            @NotNull String rawInput,
+            int inputPosition,
+            int nextDepth
+    ) {
+        return new ParseResult<>(null, errorSource, argument, rawInput, inputPosition, nextDepth);
     }
 
     public boolean isSuccessful() {
-        return error == null;
+        return !failed;
     }
 
     public boolean isFailure() {
-        return error != null;
+        return failed;
+    }
+
+    /**
+     * @return whether the value is yet to be parsed, in which case {@link #getParsedValue()} is {@code null}
+     */
+    public boolean isDeferred() {
+        return deferred;
     }
 
     public @Nullable Object getParsedValue() {
-        return value;
+        return parsed != null ? parsed.getArgumentParsedValue() : value;
     }
 
     /**
@@ -86,6 +158,10 @@ public final class ParseResult<S extends CommandSource> {
      * (or a structural error raised during parse orchestration). {@code null} on success.
      */
     public @Nullable Throwable getError() {
+        if (errorSource != null) {
+            error = errorSource.get();
+            errorSource = null;
+        }
         return error;
     }
 
@@ -113,6 +189,12 @@ public final class ParseResult<S extends CommandSource> {
         if (!isSuccessful() || argument == null) {
             throw new IllegalStateException("This parse result does not carry a reusable parsed argument");
         }
+        if (deferred) {
+            throw new IllegalStateException("A deferred parse result has no value to carry yet");
+        }
+        if (parsed != null) {
+            return parsed;
+        }
         return new ParsedArgument<>(rawInput, argument, inputPosition, value);
     }
 }
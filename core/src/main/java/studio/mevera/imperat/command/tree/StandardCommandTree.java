@@ -22,9 +22,11 @@ import studio.mevera.imperat.exception.CommandException;
 import studio.mevera.imperat.permissions.PermissionChecker;
 import studio.mevera.imperat.permissions.PermissionHolder;
 import studio.mevera.imperat.providers.SuggestionProvider;
+import studio.mevera.imperat.providers.SuggestionSink;
 import studio.mevera.imperat.util.ImperatDebugger;
 import studio.mevera.imperat.util.Pair;
 import studio.mevera.imperat.util.Patterns;
+import studio.mevera.imperat.util.PrefixIndex;
 import studio.mevera.imperat.util.TypeUtility;
 
 import java.lang.reflect.Type;
@@ -39,6 +41,11 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * N-ary tree implementation focused on maximum performance
@@ -46,6 +53,10 @@ import java.util.Set;
  */
 final class StandardCommandTree<S extends CommandSource> implements CommandTree<S> {
 
+    // completion sessions of sources idle for longer are the first evicted once there are too many
+    private static final int MAX_COMPLETION_SESSIONS = 512;
+    private static final long COMPLETION_SESSION_IDLE_NANOS = TimeUnit.SECONDS.toNanos(30);
+
     // Pre-computed immutable collections to eliminate allocations
     final LiteralCommandNode<S> root;
     private final Command<S> rootCommand;
@@ -56,6 +67,8 @@ final class StandardCommandTree<S extends CommandSource> implements CommandTree<
     private final ImperatConfig<S> imperatConfig;
     private final @NotNull PermissionChecker<S> permissionChecker;
     private boolean nodeCachesDirty;
+    private CompletionPermissionViews<S> completionViews;
+    private final Map<String, CompletionSession<S>> completionSessions = new ConcurrentHashMap<>();
     int size;
 
     StandardCommandTree(ImperatConfig<S> imperatConfig, Command<S> command) {
@@ -267,6 +280,7 @@ final class StandardCommandTree<S extends CommandSource> implements CommandTree<
                               .description(original.getDescription())
                               .coordinator(original.getCoordinator())
                               .cooldown(original.getCooldown())
+                              .rateLimiter(original.getRateLimiter())
                               .examples(original.getExamples());
 
         Command<S> owningCommand = findOwningCommandFromPath(prefix);
@@ -421,22 +435,6 @@ final class StandardCommandTree<S extends CommandSource> implements CommandTree<
         return input != null && node.isLiteral() && node.getData().asCommand().hasName(input);
     }
 
-    private boolean literalMatchesPrefix(@NotNull CommandNode<S, ?> node, @Nullable String prefix) {
-        if (!node.isLiteral() || prefix == null || prefix.isBlank()) {
-            return true;
-        }
-        Command<S> command = node.getData().asCommand();
-        if (fastStartsWith(command.getName(), prefix)) {
-            return true;
-        }
-        for (String alias : command.aliases()) {
-            if (fastStartsWith(alias, prefix)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     private void addSuggestions(
             List<String> results,
             @Nullable List<String> suggestions,
@@ -500,12 +498,12 @@ final class StandardCommandTree<S extends CommandSource> implements CommandTree<
     ) {
         int failureDepth = Math.max(parseResult.getNextDepth(), fallbackDepth);
         CommandPathway<S> closestUsage = resolveClosestUsageAfterParseFailure(context, node, parseResult);
-        return TreeExecutionResult.noMatch(
+        return TreeExecutionResult.parseFailure(
                 closestUsage,
                 getCommandFromNode(node),
                 failureDepth,
                 advanceMatchScore(matchScore, node),
-                parseResult.getError()
+                parseResult
         );
     }
 
@@ -529,6 +527,12 @@ final class StandardCommandTree<S extends CommandSource> implements CommandTree<
     ) {
         CommandPathway<S> bestUsage = getUsableExecutableUsage(node);
         for (var child : node.getChildren()) {
+            CommandPathway<S> reachableUsage = child.getMostSpecificUsage();
+            if (reachableUsage == null || (bestUsage != null && reachableUsage.size() <= bestUsage.size())) {
+                // nothing in this subtree can be more specific, no need to parse into it
+                continue;
+            }
+
             CommandPathway<S> candidateUsage = null;
             if (child.isLiteral()) {
                 if (literalMatchesInput(child, context.arguments().getOr(depth, null))) {
@@ -1201,6 +1205,9 @@ final class StandardCommandTree<S extends CommandSource> implements CommandTree<
                 continue;
             }
 
+            if (!parameter.type().couldMatch(match.input())) {
+                continue;
+            }
             try {
                 parameter.type().parse(context, parameter, match.input());
             } catch (Exception ignored) {
@@ -1368,7 +1375,10 @@ final class StandardCommandTree<S extends CommandSource> implements CommandTree<
 
     private void refreshNodeCaches() {
         computeNearestExecutableUsage(root, null);
+        computeMostSpecificUsage(root);
         computeCompletionCaches(root);
+        completionViews = CompletionPermissionViews.index(root, permissionChecker);
+        completionSessions.clear();
         nodeCachesDirty = false;
     }
 
@@ -1402,6 +1412,15 @@ final class StandardCommandTree<S extends CommandSource> implements CommandTree<
         return nearestInSubtree;
     }
 
+    private @Nullable CommandPathway<S> computeMostSpecificUsage(@NotNull CommandNode<S, ?> node) {
+        CommandPathway<S> mostSpecific = getUsableExecutableUsage(node);
+        for (var child : node.getChildren()) {
+            mostSpecific = pickMoreSpecificUsage(mostSpecific, computeMostSpecificUsage(child));
+        }
+        node.setMostSpecificUsage(mostSpecific);
+        return mostSpecific;
+    }
+
     private boolean hasDedicatedDefaultPathway(@NotNull Command<S> command) {
         for (CommandPathway<S> pathway : command.getDedicatedPathways()) {
             if (pathway.isDefault()) {
@@ -1437,7 +1456,9 @@ final class StandardCommandTree<S extends CommandSource> implements CommandTree<
                 collectOptionalOverlapDescendants(node),
                 childCompletionCache.literalChildren(),
                 childCompletionCache.nonLiteralChildren(),
-                childCompletionCache.literalChildLookup()
+                childCompletionCache.literalChildLookup(),
+                childCompletionCache.literalKeyOwners(),
+                PrefixIndex.of(childCompletionCache.literalKeys())
         ));
 
         for (var child : node.getChildren()) {
@@ -1482,6 +1503,8 @@ final class StandardCommandTree<S extends CommandSource> implements CommandTree<
         List<CommandNode<S, ?>> literalChildren = new ArrayList<>();
         List<CommandNode<S, ?>> nonLiteralChildren = new ArrayList<>();
         Map<String, List<CommandNode<S, ?>>> literalLookup = new HashMap<>();
+        List<String> literalKeys = new ArrayList<>();
+        List<CommandNode<S, ?>> literalKeyOwners = new ArrayList<>();
 
         for (var child : node.getChildren()) {
             if (!child.isLiteral()) {
@@ -1491,8 +1514,12 @@ final class StandardCommandTree<S extends CommandSource> implements CommandTree<
 
             literalChildren.add(child);
             registerLiteralLookupEntry(literalLookup, child.getData().asCommand().getName(), child);
+            literalKeys.add(child.getData().asCommand().getName());
+            literalKeyOwners.add(child);
             for (String alias : child.getData().asCommand().aliases()) {
                 registerLiteralLookupEntry(literalLookup, alias, child);
+                literalKeys.add(alias);
+                literalKeyOwners.add(child);
             }
         }
 
@@ -1514,7 +1541,9 @@ final class StandardCommandTree<S extends CommandSource> implements CommandTree<
         return new ChildCompletionCache<>(
                 literalChildren.isEmpty() ? List.of() : List.copyOf(literalChildren),
                 nonLiteralChildren.isEmpty() ? List.of() : List.copyOf(nonLiteralChildren),
-                immutableLookup
+                immutableLookup,
+                List.copyOf(literalKeys),
+                List.copyOf(literalKeyOwners)
         );
     }
 
@@ -1643,60 +1672,202 @@ final class StandardCommandTree<S extends CommandSource> implements CommandTree<
 
     @Override
     public @NotNull List<String> tabComplete(@NotNull SuggestionContext<S> context) {
-        if (!hasAutoCompletionPermission(context.source(), root)) {
-            return Collections.emptyList();
-        }
-
-        ensureNodeCaches();
-        if (hasBlankGapBeforeCursor(context)) {
-            return Collections.emptyList();
-        }
         String prefix = context.getArgToComplete().value();
         boolean hasPrefix = !prefix.isBlank();
 
-        Map<Argument<S>, SuggestionProvider<S>> candidates = new LinkedHashMap<>();
-        collectMatchingChildren(root, 0, context, candidates);
-        collectRootOnlyFlagSuggestions(context, candidates);
-
-        List<String> list = new ArrayList<>();
+        final long deadline = completionDeadline();
+        SuggestionSink sink = SuggestionSink.startingWith(hasPrefix ? prefix : null, imperatConfig.getSuggestionLimit());
+        Map<Argument<S>, SuggestionProvider<S>> candidates = completionCandidates(context);
+        if (imperatConfig.isParallelSuggestionProvidersEnabled() && candidates.size() > 1 && hasDynamicProvider(candidates)) {
+            return fanOutSuggestions(context, candidates, hasPrefix ? prefix : "", sink, deadline);
+        }
         for (var candidate : candidates.entrySet()) {
-            Argument<S> arg = candidate.getKey();
-            if (!hasAutoCompletionPermission(context.source(), arg)) {
-                continue;
+            if (sink.isFull() || context.isCancelled() || isPastDeadline(deadline)) {
+                break;
             }
-            SuggestionProvider<S> suggestionProvider = candidate.getValue();
-            list.addAll(suggestionProvider.provide(context, arg));
-
+            candidate.getValue().provide(context, candidate.getKey(), hasPrefix ? prefix : "", sink);
         }
-        return !hasPrefix ? list : list.stream()
-                                   .filter((suggestion) -> suggestion.startsWith(prefix))
-                                   .toList();
+        return sink.results();
     }
 
     @Override
     public @NotNull List<String> tabCompleteRaw(@NotNull SuggestionContext<S> context) {
-        if (!hasAutoCompletionPermission(context.source(), root)) {
-            return Collections.emptyList();
+        // unlimited and unfiltered, the caller ranks and trims the raw suggestions itself
+        final long deadline = completionDeadline();
+        SuggestionSink sink = SuggestionSink.unfiltered(Integer.MAX_VALUE);
+        for (var candidate : completionCandidates(context).entrySet()) {
+            if (context.isCancelled() || isPastDeadline(deadline)) {
+                break;
+            }
+            candidate.getValue().provide(context, candidate.getKey(), "", sink);
         }
+        return sink.results();
+    }
 
+    @Override
+    public @NotNull Map<Argument<S>, SuggestionProvider<S>> completionCandidates(@NotNull SuggestionContext<S> context) {
         ensureNodeCaches();
+        final var view = completionViews.viewFor(context.source());
+        if (!view.canSee(context.source(), root)) {
+            return Collections.emptyMap();
+        }
+
         if (hasBlankGapBeforeCursor(context)) {
-            return Collections.emptyList();
+            return Collections.emptyMap();
         }
 
         Map<Argument<S>, SuggestionProvider<S>> candidates = new LinkedHashMap<>();
-        collectMatchingChildren(root, 0, context, candidates);
+        CompletionSession<S> session = completionSession(context.source());
+        synchronized (session) {
+            var frontier = session.rebase(context.arguments(), context.getArgToComplete().index(), view.decisionsKey());
+            if (frontier == null) {
+                collectMatchingChildren(root, 0, context, view, session, candidates);
+            } else {
+                resumeFrom(frontier, context, view, session, candidates);
+            }
+            session.finish();
+        }
         collectRootOnlyFlagSuggestions(context, candidates);
+        candidates.keySet().removeIf((arg) -> !view.canSee(context.source(), arg));
+        return candidates;
+    }
 
-        List<String> list = new ArrayList<>();
+    private static <S extends CommandSource> boolean hasDynamicProvider(Map<Argument<S>, SuggestionProvider<S>> candidates) {
+        for (SuggestionProvider<S> provider : candidates.values()) {
+            if (provider.stableSuggestions() == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Calls the providers computing their suggestions per request concurrently on the
+     * completion executor, and the ones with {@link SuggestionProvider#stableSuggestions() stable suggestions}
+     * on this thread, each streaming into a sink of its own filtered by the prefix and bounded by the limit.
+     * Their suggestions are then merged in candidate order without duplicates.
+     * <p>
+     * Providers failing or still running at the deadline are dropped, and the ones not awaited yet
+     * when the request is cancelled are cancelled too. Cancelling only skips the providers that
+     * haven't started; a provider already running keeps its executor thread until it returns,
+     * its suggestions being discarded.
+     */
+    private List<String> fanOutSuggestions(
+            SuggestionContext<S> context,
+            Map<Argument<S>, SuggestionProvider<S>> candidates,
+            String prefix,
+            SuggestionSink sink,
+            long deadline
+    ) {
+        List<Argument<S>> arguments = new ArrayList<>(candidates.size());
+        List<CompletableFuture<List<String>>> futures = new ArrayList<>(candidates.size());
         for (var candidate : candidates.entrySet()) {
-            Argument<S> arg = candidate.getKey();
-            if (!hasAutoCompletionPermission(context.source(), arg)) {
+            Argument<S> argument = candidate.getKey();
+            SuggestionProvider<S> provider = candidate.getValue();
+            arguments.add(argument);
+            futures.add(provider.stableSuggestions() == null
+                                ? CompletableFuture.supplyAsync(() -> provideInto(context, argument, provider, prefix, sink.limit()),
+                                        imperatConfig.getCompletionExecutor())
+                                : null);
+        }
+
+        Set<String> merged = new LinkedHashSet<>();
+        for (int i = 0; i < futures.size(); i++) {
+            CompletableFuture<List<String>> future = futures.get(i);
+            if (context.isCancelled()) {
+                if (future != null) {
+                    future.cancel(false);
+                }
                 continue;
             }
-            list.addAll(candidate.getValue().provide(context, arg));
+            List<String> suggestions = future == null
+                                               ? provideInto(context, arguments.get(i), candidates.get(arguments.get(i)), prefix, sink.limit())
+                                               : awaitSuggestions(arguments.get(i), future, deadline);
+            if (suggestions != null) {
+                merged.addAll(suggestions);
+            }
+        }
+        for (String suggestion : merged) {
+            if (!sink.accept(suggestion)) {
+                break;
+            }
+        }
+        return sink.results();
+    }
+
+    private static <S extends CommandSource> List<String> provideInto(
+            SuggestionContext<S> context,
+            Argument<S> argument,
+            SuggestionProvider<S> provider,
+            String prefix,
+            int limit
+    ) {
+        SuggestionSink sink = SuggestionSink.startingWith(prefix, limit);
+        provider.provide(context, argument, prefix, sink);
+        return sink.results();
+    }
+
+    private static <S extends CommandSource> @Nullable List<String> awaitSuggestions(
+            Argument<S> argument,
+            CompletableFuture<List<String>> future,
+            long deadline
+    ) {
+        try {
+            if (deadline == 0L) {
+                return future.get();
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining > 0) {
+                return future.get(remaining, TimeUnit.NANOSECONDS);
+            }
+            if (future.isDone()) {
+                return future.get();
+            }
+            throw new TimeoutException();
+        } catch (TimeoutException ex) {
+            // skips the provider if it hasn't started, a running one isn't interrupted
+            future.cancel(false);
+            ImperatDebugger.warning("Suggestion provider of argument '%s' missed the completion deadline, dropping its suggestions",
+                    argument.getName());
+        } catch (ExecutionException ex) {
+            ImperatDebugger.warning("Suggestion provider of argument '%s' failed, dropping its suggestions: %s",
+                    argument.getName(), ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    /**
+     * @return the {@link System#nanoTime()} after which remaining suggestion providers
+     * are skipped, or {@code 0} if there's no completion latency budget
+     */
+    private long completionDeadline() {
+        long budget = imperatConfig.getCompletionLatencyBudget();
+        return budget <= 0 ? 0L : System.nanoTime() + budget;
+    }
+
+    private static boolean isPastDeadline(long deadline) {
+        if (deadline == 0L || System.nanoTime() - deadline < 0) {
+            return false;
+        }
+        ImperatDebugger.debug("Completion latency budget exceeded, returning partial suggestions");
+        return true;
+    }
+
+    private CompletionSession<S> completionSession(S source) {
+        CompletionSession<S> session = completionSessions.get(source.name());
+        if (session != null) {
+            return session;
+        }
+        if (completionSessions.size() >= MAX_COMPLETION_SESSIONS) {
+            long idleSince = System.nanoTime() - COMPLETION_SESSION_IDLE_NANOS;
+            completionSessions.values().removeIf((idle) -> idle.isIdleSince(idleSince));
+            if (completionSessions.size() >= MAX_COMPLETION_SESSIONS) {
+                completionSessions.clear();
+            }
         }
-        return list;
+        return completionSessions.computeIfAbsent(source.name(), (name) -> new CompletionSession<>());
     }
 
     private void collectRootOnlyFlagSuggestions(
@@ -1783,16 +1954,57 @@ final class StandardCommandTree<S extends CommandSource> implements CommandTree<
                        && context.getArgToComplete().value().isBlank();
     }
 
+    /**
+     * Takes again the steps of a previous traversal reaching the token being completed,
+     * whose tokens before it are the same as the ones of this request.
+     */
+    private void resumeFrom(
+            @NotNull CompletionSession.Frontier<S> frontier,
+            @NotNull SuggestionContext<S> context,
+            @NotNull CompletionPermissionViews<S>.View view,
+            @NotNull CompletionSession<S> session,
+            @NotNull Map<Argument<S>, SuggestionProvider<S>> candidates
+    ) {
+        for (var step : frontier.steps()) {
+            switch (step.kind()) {
+                case CHILDREN -> collectMatchingChildren(step.node(), step.depth(), context, view, session, candidates);
+                case NODE -> findLongestMatchingNodes(step.depth(), step.node(), context, view, session, candidates);
+                case FLAGS -> collectUnusedFlagsOfLastNode(step.node(), step.depth(), context, session, candidates);
+            }
+        }
+    }
+
     private void collectMatchingChildren(
             @NotNull CommandNode<S, ?> parentNode,
             int depth,
             @NotNull SuggestionContext<S> context,
+            @NotNull CompletionPermissionViews<S>.View view,
+            @NotNull CompletionSession<S> session,
             @NotNull Map<Argument<S>, SuggestionProvider<S>> candidates
     ) {
         if (parentNode.getChildren().isEmpty()) {
             return;
         }
 
+        boolean step = session.enter(CompletionSession.StepKind.CHILDREN, parentNode, depth, depth + 1);
+        try {
+            collectMatchingChildrenAt(parentNode, depth, context, view, session, candidates);
+        } finally {
+            if (step) {
+                session.exit();
+            }
+        }
+    }
+
+    private void collectMatchingChildrenAt(
+            @NotNull CommandNode<S, ?> parentNode,
+            int depth,
+            @NotNull SuggestionContext<S> context,
+            @NotNull CompletionPermissionViews<S>.View view,
+            @NotNull CompletionSession<S> session,
+            @NotNull Map<Argument<S>, SuggestionProvider<S>> candidates
+    ) {
+
         String token = context.arguments().getOr(depth, null);
         boolean hasConcreteToken = token != null && !token.isBlank();
         boolean flagPosition = hasConcreteToken && context.isFlagPosition(depth);
@@ -1804,22 +2016,28 @@ final class StandardCommandTree<S extends CommandSource> implements CommandTree<
                                                              .get(token.toLowerCase(Locale.ROOT));
             if (literalMatches != null) {
                 for (var childNode : literalMatches) {
-                    findLongestMatchingNodes(depth, childNode, context, candidates);
+                    findLongestMatchingNodes(depth, childNode, context, view, session, candidates);
                 }
             }
         }
 
         for (var childNode : parentNode.getCompletionCache().nonLiteralChildren()) {
-            findLongestMatchingNodes(depth, childNode, context, candidates);
+            findLongestMatchingNodes(depth, childNode, context, view, session, candidates);
         }
 
         if (!hasConcreteToken || flagPosition || completingCurrentToken) {
-            for (var childNode : parentNode.getCompletionCache().literalChildren()) {
-                if (completingCurrentToken && hasConcreteToken
-                            && !literalMatchesPrefix(childNode, token)) {
+            var completionCache = parentNode.getCompletionCache();
+            List<CommandNode<S, ?>> literalChildren = completingCurrentToken && hasConcreteToken
+                                                              ? completionCache.literalChildrenMatching(token)
+                                                              : completionCache.literalChildren();
+            CommandNode<S, ?> previous = null;
+            for (var childNode : literalChildren) {
+                // a literal matching by both its name and aliases appears consecutively
+                if (childNode == previous) {
                     continue;
                 }
-                findLongestMatchingNodes(depth, childNode, context, candidates);
+                previous = childNode;
+                findLongestMatchingNodes(depth, childNode, context, view, session, candidates);
             }
         }
     }
@@ -1828,12 +2046,34 @@ final class StandardCommandTree<S extends CommandSource> implements CommandTree<
             int depth,
             CommandNode<S, ?> currentNode,
             final SuggestionContext<S> context,
+            CompletionPermissionViews<S>.View view,
+            CompletionSession<S> session,
             Map<Argument<S>, SuggestionProvider<S>> candidates
     ) {
-        if (!hasAutoCompletionPermission(context.source(), currentNode)) {
+        if (!view.canSee(context.source(), currentNode)) {
             return candidates;
         }
 
+        // a node consuming several tokens may skip flags between them, so it may read any token after its depth
+        int end = currentNode.isGreedyParam() || currentNode.getNumberOfParametersToConsume() > 1 ? Integer.MAX_VALUE : depth + 1;
+        boolean step = session.enter(CompletionSession.StepKind.NODE, currentNode, depth, end);
+        try {
+            return findLongestMatchingNodesAt(depth, currentNode, context, view, session, candidates);
+        } finally {
+            if (step) {
+                session.exit();
+            }
+        }
+    }
+
+    private @NotNull Map<Argument<S>, SuggestionProvider<S>> findLongestMatchingNodesAt(
+            int depth,
+            CommandNode<S, ?> currentNode,
+            final SuggestionContext<S> context,
+            CompletionPermissionViews<S>.View view,
+            CompletionSession<S> session,
+            Map<Argument<S>, SuggestionProvider<S>> candidates
+    ) {
         int lastIndex = context.getArgToComplete().index();
         if (depth >= lastIndex) {
 
@@ -1852,7 +2092,7 @@ final class StandardCommandTree<S extends CommandSource> implements CommandTree<
 
             }
 
-            addSuggestionCandidate(context.source(), currentNode, candidates);
+            addSuggestionCandidate(context.source(), currentNode, view, candidates);
             if (prevNode != null) {
                 var flagScope = resolveFlagScopePathway(prevNode);
                 if (flagScope != null) {
@@ -1871,7 +2111,7 @@ final class StandardCommandTree<S extends CommandSource> implements CommandTree<
 
             if (imperatConfig.isOptionalParameterSuggestionOverlappingEnabled() && currentNode.isOptional() && !currentNode.isLast()
                         && !currentNode.isTrueFlag()) {
-                collectOverlappingNodes(context.source(), currentNode, candidates);
+                collectOverlappingNodes(context.source(), currentNode, view, candidates);
             }
 
             return candidates;
@@ -1882,58 +2122,84 @@ final class StandardCommandTree<S extends CommandSource> implements CommandTree<
             if (currentNode.isLast()) {
                 //we are in a situation of extra input args , extra apart from the nodes!
                 //TODO check for flags
-                List<FlagArgument<S>> unusedFlags = new ArrayList<>(currentNode.getCompletionCache().visibleFlags());
-                for (int i = depth + 1; i < lastIndex - 1; i++) {
-                    if (!context.isFlagPosition(i)) {
-                        continue;
-                    }
-                    String argInput = context.arguments().getOr(i, null);
-                    if (argInput == null) {
-                        break;
-                    }
-                    unusedFlags.removeIf((flagArg) -> flagArg.flagData().acceptsInput(argInput));
-                }
-                addSuggestionCandidates(unusedFlags, candidates);
-
+                collectUnusedFlagsOfLastNode(currentNode, depth, context, session, candidates);
             } else {
                 collectMatchingChildren(
                         currentNode,
                         depth + currentNode.getNumberOfParametersToConsume(),
                         context,
+                        view,
+                        session,
                         candidates
                 );
             }
             return candidates;
         } else {
             if (context.isFlagPosition(depth)) {
-                findLongestMatchingNodes(depth + 1, currentNode, context, candidates);
+                findLongestMatchingNodes(depth + 1, currentNode, context, view, session, candidates);
             }
         }
 
         return candidates;
     }
 
+    private void collectUnusedFlagsOfLastNode(
+            CommandNode<S, ?> currentNode,
+            int depth,
+            SuggestionContext<S> context,
+            CompletionSession<S> session,
+            Map<Argument<S>, SuggestionProvider<S>> candidates
+    ) {
+        // the flags used depend on the tokens up to the one being completed
+        boolean step = session.enter(CompletionSession.StepKind.FLAGS, currentNode, depth, Integer.MAX_VALUE);
+        try {
+            int lastIndex = context.getArgToComplete().index();
+            List<FlagArgument<S>> unusedFlags = new ArrayList<>(currentNode.getCompletionCache().visibleFlags());
+            for (int i = depth + 1; i < lastIndex - 1; i++) {
+                if (!context.isFlagPosition(i)) {
+                    continue;
+                }
+                String argInput = context.arguments().getOr(i, null);
+                if (argInput == null) {
+                    break;
+                }
+                unusedFlags.removeIf((flagArg) -> flagArg.flagData().acceptsInput(argInput));
+            }
+            addSuggestionCandidates(unusedFlags, candidates);
+        } finally {
+            if (step) {
+                session.exit();
+            }
+        }
+    }
+
     private void collectOverlappingNodes(
             @NotNull S source,
             CommandNode<S, ?> curr,
+            CompletionPermissionViews<S>.View view,
             Map<Argument<S>, SuggestionProvider<S>> candidates
     ) {
         for (var child : curr.getChildren()) {
 
             //check if parent and child are of same data-type, therefore impossible to differentiate between the two.
 
-            addSuggestionCandidate(source, child, candidates);
+            addSuggestionCandidate(source, child, view, candidates);
             if (child.isRequired()) {
                 break;
             }
 
-            collectOverlappingNodes(source, child, candidates);
+            collectOverlappingNodes(source, child, view, candidates);
 
 
         }
     }
 
-    private boolean nodeMatches(CommandNode<S, ?> node, int depth, SuggestionContext<S> ctx, CommandPathway<S> flagsScope) {
+    private boolean nodeMatches(
+            CommandNode<S, ?> node,
+            int depth,
+            SuggestionContext<S> ctx,
+            CommandPathway<S> flagsScope
+    ) {
         String token = ctx.arguments().getOr(depth, null);
         if (token == null) {
             return false;
@@ -1951,8 +2217,7 @@ final class StandardCommandTree<S extends CommandSource> implements CommandTree<
             return true;
         }
 
-        ParseResult<S> parseResult = node.parse(depth, ctx, flagsScope);
-        return !parseResult.isFailure();
+        return !node.parse(depth, ctx, flagsScope).isFailure();
     }
 
     private boolean appendParsedArgument(
@@ -1977,44 +2242,6 @@ final class StandardCommandTree<S extends CommandSource> implements CommandTree<
         return permissionChecker.hasPermission(source, node.data);
     }
 
-    private boolean hasAutoCompletionPermission(S src, CommandNode<S, ?> node) {
-
-        if (node.isLiteral() && node.data.asCommand().isSecret()) {
-            return false;
-        }
-
-        if (node.isLiteral() && node.getData().asCommand().isIgnoringACPerms()) {
-            return true;
-        }
-        return hasPermission(src, node);
-    }
-
-    private boolean hasAutoCompletionSuggestionPermission(S src, CommandNode<S, ?> node) {
-        if (!hasAutoCompletionPermission(src, node)) {
-            return false;
-        }
-
-        if (!node.isExecutable()) {
-            return true;
-        }
-
-        CommandPathway<S> pathway = node.getExecutableUsage();
-        return pathway == null || permissionChecker.hasPermission(src, pathway);
-    }
-
-    private boolean hasAutoCompletionPermission(S src, Argument<S> arg) {
-
-        if (arg.isCommand() && arg.asCommand().isSecret()) {
-            return false;
-        }
-
-        if (arg.isCommand() && arg.asCommand().isIgnoringACPerms()) {
-            return true;
-        }
-        return permissionChecker.hasPermission(src, arg);
-    }
-
-
     private SuggestionProvider<S> getResolverCached(Argument<S> param) {
         return imperatConfig.getParameterSuggestionResolver(param);
     }
@@ -2042,9 +2269,10 @@ final class StandardCommandTree<S extends CommandSource> implements CommandTree<
     private void addSuggestionCandidate(
             @NotNull S source,
             @NotNull CommandNode<S, ?> node,
+            @NotNull CompletionPermissionViews<S>.View view,
             @NotNull Map<Argument<S>, SuggestionProvider<S>> candidates
     ) {
-        if (!hasAutoCompletionSuggestionPermission(source, node)) {
+        if (!view.canSuggest(source, node)) {
             return;
         }
         candidates.putIfAbsent(node.getData(), node.getCompletionCache().suggestionProvider());
@@ -2069,11 +2297,13 @@ final class StandardCommandTree<S extends CommandSource> implements CommandTree<
     private record ChildCompletionCache<S extends CommandSource>(
             @NotNull List<CommandNode<S, ?>> literalChildren,
             @NotNull List<CommandNode<S, ?>> nonLiteralChildren,
-            @NotNull Map<String, List<CommandNode<S, ?>>> literalChildLookup
+            @NotNull Map<String, List<CommandNode<S, ?>>> literalChildLookup,
+            @NotNull List<String> literalKeys,
+            @NotNull List<CommandNode<S, ?>> literalKeyOwners
     ) {
 
         private static <S extends CommandSource> @NotNull ChildCompletionCache<S> empty() {
-            return new ChildCompletionCache<>(List.of(), List.of(), Map.of());
+            return new ChildCompletionCache<>(List.of(), List.of(), Map.of(), List.of(), List.of());
         }
     }
 
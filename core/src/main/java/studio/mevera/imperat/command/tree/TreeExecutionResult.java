@@ -1,5 +1,6 @@
 package studio.mevera.imperat.command.tree;
 
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import studio.mevera.imperat.command.Command;
@@ -9,6 +10,7 @@ import studio.mevera.imperat.context.ExecutionContext;
 import studio.mevera.imperat.permissions.PermissionHolder;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Represents the result of a direct tree execution.
@@ -29,7 +31,7 @@ public final class TreeExecutionResult<S extends CommandSource> {
     private final @NotNull List<ParseResult<S>> parsedArguments;
     private final int furthestMatchDepth;
     private final int matchScore;
-    private final @Nullable Throwable parseError;
+    private final @Nullable Supplier<? extends Throwable> parseError;
 
     private TreeExecutionResult(
             @NotNull Status status,
@@ -41,7 +43,7 @@ public final class TreeExecutionResult<S extends CommandSource> {
             @NotNull List<ParseResult<S>> parsedArguments,
             int furthestMatchDepth,
             int matchScore,
-            @Nullable Throwable parseError
+            @Nullable Supplier<? extends Throwable> parseError
     ) {
         this.status = status;
         this.executionContext = executionContext;
@@ -118,7 +120,26 @@ public final class TreeExecutionResult<S extends CommandSource> {
             @Nullable Throwable parseError
     ) {
         return new TreeExecutionResult<>(Status.NO_MATCH, null, closestUsage == null ? lastCommand.getDefaultPathway() : closestUsage, closestUsage,
-                null, lastCommand, List.of(), furthestMatchDepth, matchScore, parseError);
+                null, lastCommand, List.of(), furthestMatchDepth, matchScore, parseError == null ? null : () -> parseError);
+    }
+
+    /**
+     * Creates a {@link Status#NO_MATCH} result caused by the given failed parse, whose error is only made once
+     * {@link #getParseError() asked for}, so that the failures of the branches the traversal
+     * moves past don't pay for errors never reported.
+     *
+     * @see ParseResult#rejected
+     */
+    @ApiStatus.AvailableSince("3.6.0")
+    public static <S extends CommandSource> TreeExecutionResult<S> parseFailure(
+            @Nullable CommandPathway<S> closestUsage,
+            @NotNull Command<S> lastCommand,
+            int furthestMatchDepth,
+            int matchScore,
+            @NotNull ParseResult<S> failedParse
+    ) {
+        return new TreeExecutionResult<>(Status.NO_MATCH, null, closestUsage == null ? lastCommand.getDefaultPathway() : closestUsage, closestUsage,
+                null, lastCommand, List.of(), furthestMatchDepth, matchScore, failedParse::getError);
     }
 
     public @NotNull Status getStatus() {
@@ -162,7 +183,7 @@ public final class TreeExecutionResult<S extends CommandSource> {
      * {@link Status#NO_MATCH}, or {@code null} if this result is not tied to a specific parse failure.
      */
     public @Nullable Throwable getParseError() {
-        return parseError;
+        return parseError == null ? null : parseError.get();
     }
 
     public boolean isSuccess() {
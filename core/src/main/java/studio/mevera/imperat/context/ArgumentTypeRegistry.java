@@ -2,6 +2,7 @@ package studio.mevera.imperat.context;
 
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import studio.mevera.imperat.command.arguments.type.ArgumentType;
 import studio.mevera.imperat.command.arguments.type.ArgumentTypeHandler;
 import studio.mevera.imperat.command.arguments.type.ArgumentTypeLookup;
@@ -25,6 +26,7 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -40,6 +42,11 @@ import java.util.function.Supplier;
  * which internally creates a {@link SimpleTypeResolver}. Complex types like collections,
  * arrays, and maps are handled by specialized handlers that can be customized.
  * </p>
+ * <p>
+ * The handler resolving a type is looked up once, then remembered until a handler or resolver
+ * is registered. The argument types of {@link ArgumentTypeHandler#isShareable() shareable} handlers
+ * are remembered as well, so every parameter of the same type reuses the same instance.
+ * </p>
  *
  * @param <S> the source type
  */
@@ -47,6 +54,8 @@ import java.util.function.Supplier;
 public final class ArgumentTypeRegistry<S extends CommandSource> {
 
     private final PriorityList<ArgumentTypeHandler<S>> handlers = new PriorityList<>();
+    private final Map<Type, Resolution<S>> resolutions = new ConcurrentHashMap<>();
+    private final ArgumentTypeLookup<S> lookup = this::getResolver;
 
     private final ArrayArgumentTypeHandler<S> arrayHandler = new ArrayArgumentTypeHandler<>();
     private final CollectionArgumentTypeHandler<S> collectionHandler = new CollectionArgumentTypeHandler<>();
@@ -96,6 +105,7 @@ public final class ArgumentTypeRegistry<S extends CommandSource> {
      */
     public void registerHandler(@NotNull ArgumentTypeHandler<S> handler) {
         handlers.add(handler);
+        resolutions.clear();
     }
 
     /**
@@ -133,6 +143,7 @@ public final class ArgumentTypeRegistry<S extends CommandSource> {
             SimpleTypeResolver<S, T> boxedResolver = new SimpleTypeResolver<>(boxedType, supplier, priority);
             handlers.add(boxedResolver);
         }
+        resolutions.clear();
     }
 
     /**
@@ -151,6 +162,7 @@ public final class ArgumentTypeRegistry<S extends CommandSource> {
     ) {
 
         collectionHandler.registerInitializer(type, initializerFunction);
+        resolutions.clear();
     }
 
     /**
@@ -167,6 +179,7 @@ public final class ArgumentTypeRegistry<S extends CommandSource> {
             @NotNull Function<Integer, T[]> initializerFunction
     ) {
         arrayHandler.registerInitializer(componentType, initializerFunction);
+        resolutions.clear();
     }
 
     /**
@@ -184,13 +197,16 @@ public final class ArgumentTypeRegistry<S extends CommandSource> {
             @NotNull Supplier<M> initializerFunction
     ) {
         mapHandler.registerInitializer(type, initializerFunction);
+        resolutions.clear();
     }
 
     /**
      * Resolves an {@link ArgumentType} for the given type.
      * <p>
-     * This method iterates through all registered handlers in priority order and
-     * returns the first successful resolution.
+     * The first time a type is resolved, this method iterates through all registered handlers
+     * in priority order and returns the first successful resolution. The next times, the handler
+     * of that resolution is reused directly, as is its argument type if the handler is
+     * {@link ArgumentTypeHandler#isShareable() shareable}.
      * </p>
      *
      * @param type the type to resolve
@@ -198,20 +214,25 @@ public final class ArgumentTypeRegistry<S extends CommandSource> {
      * @return an optional containing the ArgumentType if found
      */
     public <T> Optional<ArgumentType<S, T>> getResolver(@NotNull Type type) {
+        Resolution<S> resolution = resolutions.get(type);
+        if (resolution != null) {
+            return resolution.resolve(lookup);
+        }
+
         Type boxedType = TypeUtility.primitiveToBoxed(type);
         TypeWrap<?> wrap = TypeWrap.of(boxedType);
 
-        ArgumentTypeLookup<S> lookup = this::getResolver;
-
         for (ArgumentTypeHandler<S> handler : handlers) {
             if (handler.canHandle(boxedType, wrap)) {
                 ArgumentType<S, T> resolved = handler.resolve(boxedType, wrap, lookup);
                 if (resolved != null) {
+                    resolutions.put(type, new Resolution<>(handler, boxedType, wrap, handler.isShareable() ? resolved : null));
                     return Optional.of(resolved);
                 }
             }
         }
 
+        resolutions.put(type, Resolution.unresolved());
         return Optional.empty();
     }
 
@@ -227,4 +248,31 @@ public final class ArgumentTypeRegistry<S extends CommandSource> {
     public MapArgumentTypeHandler<S> getMapHandler() {
         return mapHandler;
     }
+
+    /**
+     * The handler a type was resolved by, and its argument type if it's shared,
+     * a {@code null} handler meaning no handler could resolve the type.
+     */
+    private record Resolution<S extends CommandSource>(
+            @Nullable ArgumentTypeHandler<S> handler,
+            @Nullable Type type,
+            @Nullable TypeWrap<?> wrap,
+            @Nullable ArgumentType<S, ?> shared
+    ) {
+
+        static <S extends CommandSource> Resolution<S> unresolved() {
+            return new Resolution<>(null, null, null, null);
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> Optional<ArgumentType<S, T>> resolve(ArgumentTypeLookup<S> lookup) {
+            if (shared != null) {
+                return Optional.of((ArgumentType<S, T>) shared);
+            }
+            if (handler == null) {
+                return Optional.empty();
+            }
+            return Optional.ofNullable(handler.resolve(type, wrap, lookup));
+        }
+    }
 }
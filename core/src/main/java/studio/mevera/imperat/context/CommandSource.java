@@ -2,6 +2,7 @@ package studio.mevera.imperat.context;
 
 import org.jetbrains.annotations.ApiStatus;
 
+import java.util.Locale;
 import java.util.UUID;
 
 /**
@@ -59,6 +60,15 @@ public interface CommandSource {
         return CONSOLE_UUID;
     }
 
+    /**
+     * @return the locale responses are sent to this source in,
+     * {@link Locale#ROOT} when unknown, for which the default content is used
+     */
+    @ApiStatus.AvailableSince("3.6.0")
+    default Locale locale() {
+        return Locale.ROOT;
+    }
+
     @SuppressWarnings("unchecked")
     default <T> T as(Class<T> clazz) {
         return (T) this.origin();
@@ -84,9 +84,60 @@ public interface ExecutionContext<S extends CommandSource> extends CommandContex
      * @param name the parameter name defined in the {@link CommandPathway}
      * @return the resolved argument value, or {@code null} if not provided or couldn't be resolved
      * @see ParsedArgument
+     * @see studio.mevera.imperat.command.arguments.type.ArgumentType#isDeferred()
      */
     <T> @Nullable T getArgument(String name);
 
+    /**
+     * Gets a resolved argument of an {@code int} type by its parameter name,
+     * without boxing its value.
+     *
+     * @param name the parameter name defined in the {@link CommandPathway}
+     * @return the resolved argument value
+     * @throws IllegalStateException if the argument has no value
+     * @see ParsedArgument#getIntValue()
+     */
+    @ApiStatus.AvailableSince("3.6.0")
+    default int getIntArgument(String name) {
+        return requireParsedArgument(name).getIntValue();
+    }
+
+    /**
+     * Gets a resolved argument of a {@code long} type by its parameter name,
+     * without boxing its value.
+     *
+     * @param name the parameter name defined in the {@link CommandPathway}
+     * @return the resolved argument value
+     * @throws IllegalStateException if the argument has no value
+     * @see ParsedArgument#getLongValue()
+     */
+    @ApiStatus.AvailableSince("3.6.0")
+    default long getLongArgument(String name) {
+        return requireParsedArgument(name).getLongValue();
+    }
+
+    /**
+     * Gets a resolved argument of a {@code double} type by its parameter name,
+     * without boxing its value.
+     *
+     * @param name the parameter name defined in the {@link CommandPathway}
+     * @return the resolved argument value
+     * @throws IllegalStateException if the argument has no value
+     * @see ParsedArgument#getDoubleValue()
+     */
+    @ApiStatus.AvailableSince("3.6.0")
+    default double getDoubleArgument(String name) {
+        return requireParsedArgument(name).getDoubleValue();
+    }
+
+    private @NotNull ParsedArgument<S> requireParsedArgument(String name) {
+        ParsedArgument<S> argument = getParsedArgument(name);
+        if (argument == null) {
+            throw new IllegalStateException("Argument '" + name + "' has no value");
+        }
+        return argument;
+    }
+
     /**
      * Gets a resolved argument or returns a default value if not present.
      *
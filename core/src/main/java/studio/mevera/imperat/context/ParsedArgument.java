@@ -1,5 +1,6 @@
 package studio.mevera.imperat.context;
 
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import studio.mevera.imperat.command.arguments.Argument;
@@ -43,6 +44,41 @@ public class ParsedArgument<S extends CommandSource> {
         return (T) argumentParsedValue;
     }
 
+    /**
+     * @return the value as an {@code int}, which must be a number
+     * @throws IllegalStateException if there's no value
+     */
+    @ApiStatus.AvailableSince("3.6.0")
+    public int getIntValue() {
+        return numericValue().intValue();
+    }
+
+    /**
+     * @return the value as a {@code long}, which must be a number
+     * @throws IllegalStateException if there's no value
+     */
+    @ApiStatus.AvailableSince("3.6.0")
+    public long getLongValue() {
+        return numericValue().longValue();
+    }
+
+    /**
+     * @return the value as a {@code double}, which must be a number
+     * @throws IllegalStateException if there's no value
+     */
+    @ApiStatus.AvailableSince("3.6.0")
+    public double getDoubleValue() {
+        return numericValue().doubleValue();
+    }
+
+    private Number numericValue() {
+        Number value = getArgumentParsedValue();
+        if (value == null) {
+            throw new IllegalStateException("Argument '" + getArgumentName() + "' has no value");
+        }
+        return value;
+    }
+
     @Override
     public @NotNull String toString() {
         return "Argument{" +
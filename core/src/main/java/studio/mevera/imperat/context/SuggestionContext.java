@@ -1,5 +1,6 @@
 package studio.mevera.imperat.context;
 
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import studio.mevera.imperat.command.suggestions.CompletionArg;
 
@@ -22,4 +23,20 @@ public interface SuggestionContext<S extends CommandSource> extends CommandConte
      * @return Whether the input at the given depth/index is a flag.
      */
     boolean isFlagPosition(int depth);
+
+    /**
+     * Checks whether this completion request was cancelled, e.g. superseded by a newer
+     * request of the same source. Long-running providers should check it and stop early,
+     * their suggestions are discarded anyway.
+     *
+     * @return whether this completion request was cancelled
+     */
+    @ApiStatus.AvailableSince("3.6.0")
+    boolean isCancelled();
+
+    /**
+     * Cancels this completion request, remaining suggestion providers are skipped.
+     */
+    @ApiStatus.AvailableSince("3.6.0")
+    void cancel();
 }
@@ -12,6 +12,8 @@ import studio.mevera.imperat.exception.CommandException;
 import studio.mevera.imperat.util.Patterns;
 import studio.mevera.imperat.util.TypeWrap;
 
+import java.util.Objects;
+
 final class ArgumentValueBinder {
 
     private static final TypeWrap<String> STRING_TYPE = TypeWrap.of(String.class);
@@ -26,14 +28,23 @@ final class ArgumentValueBinder {
         Argument<S> argument = requireCurrentParameter(cursor);
         Cursor<S> working = cursor.copy();
         String input = collectInput(context, working, argument);
-        Object value = argument.type().parse(context, argument, input);
-
-        context.parseArgument(new ParsedArgument<>(
-                input,
-                argument,
-                cursor.currentParameterPosition(),
-                value
-        ));
+        // an optional argument falls back to its default value when its input can't be parsed
+        if (argument.type().isDeferred() && argument.isRequired() && argument.type().couldMatch(input)) {
+            context.parseArgument(new DeferredParsedArgument<>(context, input, argument, cursor.currentParameterPosition()));
+        } else {
+            ParsedArgument<S> primitive = PrimitiveParsedArgument.parse(argument.type(), argument, input, cursor.currentParameterPosition());
+            if (primitive != null) {
+                context.parseArgument(primitive);
+            } else {
+                Object value = argument.type().parse(context, argument, input);
+                context.parseArgument(new ParsedArgument<>(
+                        input,
+                        argument,
+                        cursor.currentParameterPosition(),
+                        value
+                ));
+            }
+        }
 
         cursor.setAt(working);
         cursor.skipParameter();
@@ -49,7 +60,12 @@ final class ArgumentValueBinder {
             throw new IllegalStateException("Pre-parsed argument does not match the current cursor parameter");
         }
 
-        context.parseArgument(parseResult.toParsedArgument());
+        if (parseResult.isDeferred()) {
+            String raw = Objects.requireNonNull(parseResult.getRawInput());
+            context.parseArgument(new DeferredParsedArgument<>(context, raw, argument, parseResult.getInputPosition()));
+        } else {
+            context.parseArgument(parseResult.toParsedArgument());
+        }
 
         while (cursor.currentRawPosition() < parseResult.getNextDepth()) {
             cursor.skipRaw();
@@ -213,7 +229,19 @@ final class ArgumentValueBinder {
             @Nullable Argument<S> argument,
             String input
     ) {
-        if (argument == null) {
+        return argument != null && matchesType(context, argument, input);
+    }
+
+    /**
+     * @return whether the input can be parsed by the type of the argument, which isn't attempted
+     * for inputs failing {@link studio.mevera.imperat.command.arguments.type.ArgumentType#couldMatch(String)}
+     */
+    static <S extends CommandSource> boolean matchesType(
+            ExecutionContext<S> context,
+            @NotNull Argument<S> argument,
+            String input
+    ) {
+        if (!argument.type().couldMatch(input)) {
             return false;
         }
         try {
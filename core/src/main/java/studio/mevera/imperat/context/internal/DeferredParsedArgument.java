@@ -0,0 +1,101 @@
+package studio.mevera.imperat.context.internal;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import studio.mevera.imperat.command.arguments.Argument;
+import studio.mevera.imperat.context.CommandSource;
+import studio.mevera.imperat.context.ExecutionContext;
+import studio.mevera.imperat.context.ParsedArgument;
+import studio.mevera.imperat.exception.CommandException;
+import studio.mevera.imperat.exception.DeferredArgumentException;
+
+/**
+ * A parsed argument of a {@link studio.mevera.imperat.command.arguments.type.ArgumentType#isDeferred() deferred}
+ * type, whose input is parsed and validated on the first access of its value only, so an input
+ * whose value is never read is never parsed. The value, or the failure of parsing it, is then kept for the next accesses.
+ *
+ * @param <S> the command source type
+ */
+final class DeferredParsedArgument<S extends CommandSource> extends ParsedArgument<S> {
+
+    private final ExecutionContext<S> context;
+    private volatile boolean resolved;
+    private boolean validating;
+    private @Nullable Object value;
+    private @Nullable Exception failure;
+
+    DeferredParsedArgument(
+            @NotNull ExecutionContext<S> context,
+            @NotNull String raw,
+            @NotNull Argument<S> originalArgument,
+            int inputPosition
+    ) {
+        super(raw, originalArgument, inputPosition, null);
+        this.context = context;
+    }
+
+    /**
+     * Parses the input on the first call, then validates the parsed value.
+     *
+     * @return the parsed value
+     * @throws CommandException if the input couldn't be parsed, or its value isn't valid
+     * @throws RuntimeException if the type failed to parse the input otherwise
+     */
+    @Nullable Object resolve() throws CommandException {
+        if (!resolved) {
+            synchronized (this) {
+                // validators read the value back through this argument while it's validated
+                if (!resolved && !validating) {
+                    try {
+                        value = originalArgument.type().parse(context, originalArgument, raw);
+                        validating = true;
+                        originalArgument.validate(context, this);
+                    } catch (CommandException | RuntimeException ex) {
+                        failure = ex;
+                    } finally {
+                        validating = false;
+                        resolved = true;
+                    }
+                }
+            }
+        }
+        if (failure instanceof CommandException commandException) {
+            throw commandException;
+        } else if (failure != null) {
+            throw (RuntimeException) failure;
+        }
+        return value;
+    }
+
+    boolean isResolved() {
+        return resolved;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The input is parsed on the first call.
+     *
+     * @throws DeferredArgumentException if the input couldn't be parsed, or its value isn't valid,
+     *                                   caused by the failure of parsing it
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> @Nullable T getArgumentParsedValue() {
+        try {
+            return (T) resolve();
+        } catch (CommandException | RuntimeException ex) {
+            throw new DeferredArgumentException(originalArgument, raw, ex);
+        }
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "Argument{" +
+                       "raw='" + raw + '\'' +
+                       ", parameter=" + originalArgument.format() +
+                       ", index=" + inputPosition +
+                       ", value=" + (resolved ? value : "<deferred>") +
+                       '}';
+    }
+}
@@ -6,6 +6,7 @@ import org.jetbrains.annotations.Nullable;
 import studio.mevera.imperat.command.Command;
 import studio.mevera.imperat.command.CommandPathway;
 import studio.mevera.imperat.command.arguments.Argument;
+import studio.mevera.imperat.command.arguments.DefaultValueProvider;
 import studio.mevera.imperat.command.arguments.FlagArgument;
 import studio.mevera.imperat.command.tree.ParseResult;
 import studio.mevera.imperat.command.tree.TreeExecutionResult;
@@ -303,15 +304,7 @@ final class ExecutionContextImpl<S extends CommandSource> extends ContextImpl<S>
     }
 
     private Object getDefaultValue(Argument<S> argument) throws CommandException {
-        var supplier = argument.getDefaultValueSupplier();
-        if (supplier.isEmpty()) {
-            return null;
-        }
-        String raw = supplier.provide(this, argument);
-        if (raw == null) {
-            return null;
-        }
-        return argument.type().parse(this, argument, raw);
+        return argument.getDefaultValue(this);
     }
 
     private String validateExtractedFlagsAndGetInputRaw(String currentRaw, @Nullable String nextRaw, Set<FlagArgument<S>> extracted)
@@ -349,11 +342,10 @@ final class ExecutionContextImpl<S extends CommandSource> extends ContextImpl<S>
             return;
         }
 
-        String defValue = flagArgument.getDefaultValueSupplier().provide(this, flagArgument);
+        DefaultValueProvider defaultValueSupplier = flagArgument.getDefaultValueSupplier();
+        String defValue = defaultValueSupplier.provide(this, flagArgument);
         if (defValue != null) {
-            Object flagValueResolved = flagArgument.getDefaultValueSupplier().isEmpty() ? null :
-                                               Objects.requireNonNull(flagArgument.flagData().inputType()).parse(
-                                                       this, flagArgument, defValue);
+            Object flagValueResolved = defaultValueSupplier.isEmpty() ? null : flagArgument.parseDefaultValue(this, defValue);
             this.resolveFlag(ParsedFlagArgument.forDefaultFlag(flagArgument, defValue, flagValueResolved));
         }
     }
@@ -361,7 +353,8 @@ final class ExecutionContextImpl<S extends CommandSource> extends ContextImpl<S>
     @Override
     public void parseArgument(ParsedArgument<S> parsedArgument) throws CommandException {
         var argument = parsedArgument.getOriginalArgument();
-        if (!argument.isCommand()) {
+        // deferred arguments are validated once parsed
+        if (!argument.isCommand() && !(parsedArgument instanceof DeferredParsedArgument<S>)) {
             argument.validate(this, parsedArgument);
         }
         resolvedArgumentsPerCommand.update(getLastUsedCommand(), (existingResolvedArgs) -> {
@@ -463,6 +456,12 @@ final class ExecutionContextImpl<S extends CommandSource> extends ContextImpl<S>
         }
 
         for (var arg : allResolvedArgs.getAll()) {
+            if (arg instanceof DeferredParsedArgument<S> deferred && !deferred.isResolved()) {
+                // debugging mustn't parse a value the execution may never read
+                ImperatDebugger.debug("Argument '%s' at index #%s with input='%s' isn't parsed yet",
+                        arg.getOriginalArgument().format(), arg.getInputPosition(), arg.getArgumentRawInput());
+                continue;
+            }
             ImperatDebugger.debug("Argument '%s' at index #%s with input='%s' with value='%s'",
                     arg.getOriginalArgument().format(), arg.getInputPosition(), arg.getArgumentRawInput(), arg.getArgumentParsedValue());
         }
@@ -1,7 +1,6 @@
 package studio.mevera.imperat.context.internal;
 
 import studio.mevera.imperat.command.arguments.Argument;
-import studio.mevera.imperat.command.arguments.DefaultValueProvider;
 import studio.mevera.imperat.command.arguments.FlagArgument;
 import studio.mevera.imperat.command.tree.TreeExecutionResult;
 import studio.mevera.imperat.context.CommandSource;
@@ -67,14 +66,7 @@ public final class OptionalArgumentHandler<S extends CommandSource> implements A
 
         // Step 3: Smart skipping enabled - check type compatibility
         if (!Patterns.isInputFlag(currentRaw)) {
-            boolean typeMatches = false;
-            try {
-                currentParameter.type().parse(context, currentParameter, currentRaw);
-                typeMatches = true;
-            } catch (Exception ignored) {
-                // Not a match
-            }
-            if (typeMatches) {
+            if (ArgumentValueBinder.matchesType(context, currentParameter, currentRaw)) {
                 // Type matches - CAN consume input
                 ImperatDebugger.debug("IT MATCHES TYPE, CONSUMING RIGHT AWAY");
                 consumeInput(currentParameter, context, stream);
@@ -142,13 +134,8 @@ public final class OptionalArgumentHandler<S extends CommandSource> implements A
             Argument<S> param = stream.getParametersList().get(i);
             if (param.isOptional() && !param.isFlag()) {
                 String input = ctx.arguments().getOr(currRawPos, null);
-                if (input != null) {
-                    try {
-                        param.type().parse(ctx, param, input);
-                        return param;
-                    } catch (Exception ignored) {
-                        // Not a match
-                    }
+                if (input != null && ArgumentValueBinder.matchesType(ctx, param, input)) {
+                    return param;
                 }
             }
         }
@@ -189,16 +176,6 @@ public final class OptionalArgumentHandler<S extends CommandSource> implements A
      */
     @SuppressWarnings("unchecked")
     private <T> T getDefaultValue(ExecutionContext<S> context, Argument<S> argument) throws CommandException {
-        DefaultValueProvider optionalSupplier = argument.getDefaultValueSupplier();
-        if (optionalSupplier.isEmpty()) {
-            return null;
-        }
-        String value = optionalSupplier.provide(context, argument);
-
-        if (value != null) {
-            return (T) argument.type().parse(context, argument, value);
-        }
-
-        return null;
+        return (T) argument.getDefaultValue(context);
     }
 }
@@ -0,0 +1,131 @@
+package studio.mevera.imperat.context.internal;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import studio.mevera.imperat.command.arguments.Argument;
+import studio.mevera.imperat.command.arguments.NumericRange;
+import studio.mevera.imperat.command.arguments.type.ArgumentType;
+import studio.mevera.imperat.command.arguments.type.NumberArgument;
+import studio.mevera.imperat.context.CommandSource;
+import studio.mevera.imperat.context.ParsedArgument;
+import studio.mevera.imperat.exception.ResponseException;
+
+/**
+ * A parsed argument of an {@code int}, {@code long} or {@code double} type, whose value is kept in a primitive slot.
+ * It's read through {@link #getIntValue()}, {@link #getLongValue()} and {@link #getDoubleValue()} without being boxed,
+ * and only boxed on the first access of {@link #getArgumentParsedValue()}.
+ *
+ * @param <S> the command source type
+ */
+@ApiStatus.Internal
+public final class PrimitiveParsedArgument<S extends CommandSource> extends ParsedArgument<S> {
+
+    private final Kind kind;
+    // the value for the whole kinds, or the bits of the double
+    private final long bits;
+    private @Nullable Object boxed;
+
+    private PrimitiveParsedArgument(
+            @NotNull String raw,
+            @NotNull Argument<S> originalArgument,
+            int inputPosition,
+            @NotNull Kind kind,
+            long bits
+    ) {
+        super(raw, originalArgument, inputPosition, null);
+        this.kind = kind;
+        this.bits = bits;
+    }
+
+    /**
+     * Parses the input of an argument into a primitive slot, if its type is one of
+     * {@link NumberArgument.IntArgument}, {@link NumberArgument.LongArgument} or {@link NumberArgument.DoubleArgument}.
+     *
+     * @param type          the type parsing the input
+     * @param argument      the argument of the input
+     * @param raw           the raw input
+     * @param inputPosition the position of the argument
+     * @return the parsed argument, or {@code null} if the type has no primitive form
+     * @throws ResponseException if the input isn't a number of the type
+     */
+    public static <S extends CommandSource> @Nullable PrimitiveParsedArgument<S> parse(
+            @NotNull ArgumentType<S, ?> type,
+            @NotNull Argument<S> argument,
+            @NotNull String raw,
+            int inputPosition
+    ) throws ResponseException {
+        if (type instanceof NumberArgument.IntArgument<?> ints) {
+            return new PrimitiveParsedArgument<>(raw, argument, inputPosition, Kind.INT, ints.parseInt(raw));
+        } else if (type instanceof NumberArgument.LongArgument<?> longs) {
+            return new PrimitiveParsedArgument<>(raw, argument, inputPosition, Kind.LONG, longs.parseLong(raw));
+        } else if (type instanceof NumberArgument.DoubleArgument<?> doubles) {
+            return new PrimitiveParsedArgument<>(raw, argument, inputPosition, Kind.DOUBLE,
+                    Double.doubleToRawLongBits(doubles.parseDouble(raw)));
+        }
+        return null;
+    }
+
+    /**
+     * @return whether the value is a {@code double}, rather than a whole value
+     */
+    public boolean isDecimal() {
+        return kind == Kind.DOUBLE;
+    }
+
+    /**
+     * Checks the value against the bounds of a range, exactly for whole values.
+     *
+     * @param range the range to check against
+     * @return whether the value is within the bounds
+     */
+    public boolean isWithin(@NotNull NumericRange range) {
+        return isDecimal() ? range.matches(getDoubleValue()) : range.matches(bits);
+    }
+
+    @Override
+    public int getIntValue() {
+        return isDecimal() ? (int) getDoubleValue() : (int) bits;
+    }
+
+    @Override
+    public long getLongValue() {
+        return isDecimal() ? (long) getDoubleValue() : bits;
+    }
+
+    @Override
+    public double getDoubleValue() {
+        return isDecimal() ? Double.longBitsToDouble(bits) : bits;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> @Nullable T getArgumentParsedValue() {
+        Object value = boxed;
+        if (value == null) {
+            value = switch (kind) {
+                case INT -> Integer.valueOf((int) bits);
+                case LONG -> Long.valueOf(bits);
+                case DOUBLE -> Double.valueOf(getDoubleValue());
+            };
+            boxed = value;
+        }
+        return (T) value;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "Argument{" +
+                       "raw='" + raw + '\'' +
+                       ", parameter=" + originalArgument.format() +
+                       ", index=" + inputPosition +
+                       ", value=" + (isDecimal() ? String.valueOf(getDoubleValue()) : String.valueOf(bits)) +
+                       '}';
+    }
+
+    private enum Kind {
+        INT,
+        LONG,
+        DOUBLE
+    }
+}
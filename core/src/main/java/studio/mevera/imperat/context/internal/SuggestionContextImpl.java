@@ -16,6 +16,7 @@ final class SuggestionContextImpl<S extends CommandSource> extends ContextImpl<S
     private final CompletionArg completionArg;
     private final static char FLAG_START = '-';
     private final Set<Integer> flagEnteredPositions = new HashSet<>();
+    private volatile boolean cancelled;
 
     SuggestionContextImpl(
             Imperat<S> dispatcher,
@@ -62,5 +63,15 @@ final class SuggestionContextImpl<S extends CommandSource> extends ContextImpl<S
         return flagEnteredPositions.contains(depth);
     }
 
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public void cancel() {
+        this.cancelled = true;
+    }
+
 
 }
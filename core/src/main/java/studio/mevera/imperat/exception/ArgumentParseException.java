@@ -2,6 +2,8 @@ package studio.mevera.imperat.exception;
 
 import studio.mevera.imperat.responses.ResponseKey;
 
+import java.util.List;
+
 /**
  * Thrown when a raw argument string cannot be parsed into the expected type.
  * <p>
@@ -10,7 +12,8 @@ import studio.mevera.imperat.responses.ResponseKey;
  * throw site.
  * <p>
  * Subclasses may call {@link #withPlaceholder} to add further context-specific
- * placeholders on top of the base {@code %input%}.
+ * placeholders on top of the base {@code %input%}, and {@link #withClosestMatches}
+ * to suggest the accepted values closest to a mistyped input.
  */
 public class ArgumentParseException extends ResponseException {
 
@@ -25,5 +28,11 @@ public class ArgumentParseException extends ResponseException {
     public String getInput() {
         return input;
     }
+
+    @Override
+    public ArgumentParseException withClosestMatches(List<String> closestMatches) {
+        super.withClosestMatches(closestMatches);
+        return this;
+    }
 }
 
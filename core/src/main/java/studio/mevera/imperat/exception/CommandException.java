@@ -16,4 +16,9 @@ public class CommandException extends Exception {
     public CommandException() {
         super();
     }
+
+    @ApiStatus.AvailableSince("3.6.0")
+    protected CommandException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
 }
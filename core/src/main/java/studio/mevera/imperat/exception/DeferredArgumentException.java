@@ -0,0 +1,21 @@
+package studio.mevera.imperat.exception;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import studio.mevera.imperat.command.arguments.Argument;
+
+/**
+ * Thrown when the value of an argument of a {@link studio.mevera.imperat.command.arguments.type.ArgumentType#isDeferred() deferred}
+ * type is accessed while its input couldn't be parsed, or its value isn't valid.
+ * <p>
+ * The failure of parsing the input is its {@link #getCause() cause}, which is a {@link CommandException} unless the type
+ * failed with a runtime exception, so that the error handlers of that failure still handle it.
+ * The same failure is reported on every access of the value.
+ */
+@ApiStatus.AvailableSince("3.6.0")
+public final class DeferredArgumentException extends RuntimeException {
+
+    public DeferredArgumentException(@NotNull Argument<?> argument, @NotNull String input, @NotNull Exception cause) {
+        super("Couldn't parse the input '" + input + "' of argument '" + argument.format() + "'", cause);
+    }
+}
@@ -0,0 +1,79 @@
+package studio.mevera.imperat.exception;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import studio.mevera.imperat.context.CommandSource;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The {@link CommandExceptionHandler}s registered on a command or on the config, by the type of
+ * throwable they handle.
+ * <p>
+ * A throwable is handled by the handler of its class or of its closest superclass. That walk is
+ * done once per throwable class, then served from a cache until a handler is registered.
+ * Each registration, on any registry, also bumps a global {@link #generation() generation}, so
+ * caches combining several registries (e.g. a command, its parents and the config) know to drop
+ * their entries.
+ *
+ * @param <S> the command-source type
+ */
+@ApiStatus.Internal
+public final class ErrorHandlerRegistry<S extends CommandSource> {
+
+    private static final AtomicLong GENERATION = new AtomicLong();
+
+    // stands for "no handler" in the cache, which can't hold nulls
+    private static final CommandExceptionHandler<?, ?> NONE = (exception, context) -> {};
+
+    private final Map<Class<? extends Throwable>, CommandExceptionHandler<?, S>> handlers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, CommandExceptionHandler<?, ?>> resolved = new ConcurrentHashMap<>();
+
+    /**
+     * @return a counter increased whenever a handler is registered on any registry
+     */
+    public static long generation() {
+        return GENERATION.get();
+    }
+
+    public synchronized <T extends Throwable> void register(@NotNull Class<T> type, @NotNull CommandExceptionHandler<T, S> handler) {
+        handlers.put(type, handler);
+        resolved.clear();
+        GENERATION.incrementAndGet();
+    }
+
+    /**
+     * @param type the type of the throwable to handle
+     * @return the handler of the type or of its closest superclass, or {@code null} if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Throwable> @Nullable CommandExceptionHandler<T, S> get(@NotNull Class<T> type) {
+        CommandExceptionHandler<?, ?> handler = resolved.get(type);
+        if (handler == null) {
+            long generation = GENERATION.get();
+            handler = resolve(type);
+            synchronized (this) {
+                // a handler registered meanwhile may change the resolution, leave it to the next lookup
+                if (generation == GENERATION.get()) {
+                    resolved.put(type, handler);
+                }
+            }
+        }
+        return handler == NONE ? null : (CommandExceptionHandler<T, S>) handler;
+    }
+
+    private CommandExceptionHandler<?, ?> resolve(Class<?> type) {
+        Class<?> current = type;
+        while (current != null && Throwable.class.isAssignableFrom(current)) {
+            var handler = handlers.get(current);
+            if (handler != null) {
+                return handler;
+            }
+            current = current.getSuperclass();
+        }
+        return NONE;
+    }
+}
@@ -1,19 +1,27 @@
 package studio.mevera.imperat.exception;
 
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import studio.mevera.imperat.command.CommandPathway;
 import studio.mevera.imperat.context.CommandSource;
 
+import java.util.List;
+
 /**
  * Thrown when a command's syntax does not match any valid usage pathway.
  * <p>
  * Carries {@code %invalid_usage%} and {@code %closest_usage%} placeholders
- * which are used by the throwable resolver in {@code ImperatConfigImpl}.
+ * which are used by the throwable resolver in {@code ImperatConfigImpl}, along with
+ * the subcommands closest to a mistyped sub-command label, if any, which the resolver sends
+ * as the {@link studio.mevera.imperat.responses.ResponseKey#UNKNOWN_SUB_COMMAND} response.
  */
 public final class InvalidSyntaxException extends CommandException {
 
     private final String invalidUsage;
-    private final @Nullable CommandPathway<? extends CommandSource> closestUsage;
+    // not kept by a serialized exception, neither type being declared serializable
+    private final transient @Nullable CommandPathway<? extends CommandSource> closestUsage;
+    private final @Nullable String mistypedSubCommand;
+    private final transient @Nullable List<String> closestSubCommands;
 
     /**
      * @param invalidUsage  what the user actually typed (e.g. "/give sword stone")
@@ -29,9 +37,28 @@ public final class InvalidSyntaxException extends CommandException {
      * @param cause         the underlying exception that caused the invalid syntax (e.g. a parse failure), or {@code null}
      */
     public <S extends CommandSource> InvalidSyntaxException(String invalidUsage, @Nullable CommandPathway<S> closestUsage, @Nullable Throwable cause) {
+        this(invalidUsage, closestUsage, cause, null, List.of());
+    }
+
+    /**
+     * @param invalidUsage        what the user actually typed (e.g. "/give sword stone")
+     * @param closestUsage        the closest valid usage hint, or {@code null} if unavailable
+     * @param cause               the underlying exception that caused the invalid syntax (e.g. a parse failure), or {@code null}
+     * @param mistypedSubCommand  the input the traversal stopped at, or {@code null} if it ran out of input
+     * @param closestSubCommands  the subcommands closest to a mistyped sub-command label, nearest first
+     */
+    public <S extends CommandSource> InvalidSyntaxException(
+            String invalidUsage,
+            @Nullable CommandPathway<S> closestUsage,
+            @Nullable Throwable cause,
+            @Nullable String mistypedSubCommand,
+            @NotNull List<String> closestSubCommands
+    ) {
         super("Invalid command usage '%s'", cause, invalidUsage);
         this.invalidUsage = invalidUsage;
         this.closestUsage = closestUsage;
+        this.mistypedSubCommand = mistypedSubCommand;
+        this.closestSubCommands = List.copyOf(closestSubCommands);
     }
 
     public String getInvalidUsage() {
@@ -41,4 +68,16 @@ public final class InvalidSyntaxException extends CommandException {
     public @Nullable CommandPathway<? extends CommandSource> getClosestUsage() {
         return closestUsage;
     }
+
+    /**
+     * @return the input the traversal stopped at, the mistyped label when there are
+     * {@link #getClosestSubCommands() closest subcommands}
+     */
+    public @Nullable String getMistypedSubCommand() {
+        return mistypedSubCommand;
+    }
+
+    public @NotNull List<String> getClosestSubCommands() {
+        return closestSubCommands == null ? List.of() : closestSubCommands;
+    }
 }
@@ -1,13 +1,18 @@
 package studio.mevera.imperat.exception;
 
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import studio.mevera.imperat.context.CommandContext;
 import studio.mevera.imperat.context.CommandSource;
 import studio.mevera.imperat.placeholders.Placeholder;
 import studio.mevera.imperat.placeholders.PlaceholderDataProvider;
+import studio.mevera.imperat.placeholders.PlaceholderResolver;
 import studio.mevera.imperat.responses.ResponseKey;
+import studio.mevera.imperat.util.ImperatDebugger;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.function.Supplier;
 
 /**
@@ -22,23 +27,35 @@ import java.util.function.Supplier;
  * <strong>NOT</strong> for structural/flow exceptions like {@link InvalidSyntaxException}
  * or {@link PermissionDeniedException} — those extend {@link CommandException} directly
  * and carry their own plain message.
+ * <p>
+ * Being thrown for expected outcomes on every invalid input, response exceptions don't capture
+ * their stack trace unless {@link ImperatDebugger#setCapturingStackTraces(boolean)} is turned on,
+ * and their placeholders are only turned into a {@link PlaceholderDataProvider} once the
+ * response is sent.
  */
 public abstract class ResponseException extends CommandException {
 
     private final @NotNull ResponseKey responseKey;
     private @Nullable PlaceholderDataProvider placeholderDataProvider;
 
+    // placeholders not registered in the provider yet, each value being
+    // a String, a Supplier<String> or a Placeholder, which aren't all serializable,
+    // so a serialized exception keeps none of them
+    private transient String @Nullable [] placeholderKeys;
+    private transient Object @Nullable [] placeholderValues;
+    private transient int pendingPlaceholders;
+
     /**
      * @param responseKey the registry key used to look up the response message
      */
     protected ResponseException(@NotNull ResponseKey responseKey) {
-        super();
+        super(null, null, false, ImperatDebugger.isCapturingStackTraces());
         this.responseKey = responseKey;
     }
 
     protected ResponseException(@NotNull ResponseKey responseKey,
             @Nullable PlaceholderDataProvider placeholderDataProvider) {
-        super();
+        super(null, null, false, ImperatDebugger.isCapturingStackTraces());
         this.responseKey = responseKey;
         this.placeholderDataProvider = placeholderDataProvider;
     }
@@ -55,19 +72,37 @@ public abstract class ResponseException extends CommandException {
     }
 
     public @Nullable PlaceholderDataProvider getPlaceholderDataProvider() {
+        if (pendingPlaceholders > 0) {
+            if (placeholderDataProvider == null) {
+                placeholderDataProvider = PlaceholderDataProvider.createDefault();
+            }
+            for (int i = 0; i < pendingPlaceholders; i++) {
+                placeholderDataProvider.register(placeholderKeys[i], toPlaceholder(placeholderKeys[i], placeholderValues[i]));
+            }
+            pendingPlaceholders = 0;
+            placeholderKeys = null;
+            placeholderValues = null;
+        }
         return placeholderDataProvider;
     }
 
+    @SuppressWarnings("unchecked")
+    private static Placeholder toPlaceholder(String key, Object value) {
+        if (value instanceof Placeholder placeholder) {
+            return placeholder;
+        }
+        PlaceholderResolver resolver = value instanceof String string
+                                               ? (id) -> string
+                                               : (id) -> ((Supplier<String>) value).get();
+        return Placeholder.builder(key).resolver(resolver).build();
+    }
+
     public ResponseException withPlaceholder(String key, String value) {
-        return withPlaceholder(key, () -> value);
+        return addPlaceholder(key, value);
     }
 
     public ResponseException withPlaceholder(String key, Supplier<String> valueSupplier) {
-        return withPlaceholder(
-                Placeholder.builder(key)
-                        .resolver((id) -> valueSupplier.get())
-                        .build()
-        );
+        return addPlaceholder(key, valueSupplier);
     }
 
     public <S extends CommandSource> ResponseException withContextPlaceholders(CommandContext<S> ctx) {
@@ -76,12 +111,40 @@ public abstract class ResponseException extends CommandException {
                        .withPlaceholder("source", ctx.source().name());
     }
 
+    /**
+     * Registers {@code %closest_matches%}, the given values joined by commas, and
+     * {@code %did_you_mean%}, a {@code ", did you mean '...'?"} hint, empty if there are none.
+     *
+     * @param closestMatches the accepted values closest to the input, nearest first
+     * @return this exception
+     */
+    @ApiStatus.AvailableSince("3.6.0")
+    public ResponseException withClosestMatches(List<String> closestMatches) {
+        withPlaceholder("closest_matches", String.join(", ", closestMatches));
+        return withPlaceholder("did_you_mean", didYouMean(closestMatches));
+    }
+
+    /**
+     * @return the {@code ", did you mean '...'?"} hint of the given values, empty if there are none
+     */
+    static String didYouMean(List<String> closestMatches) {
+        return closestMatches.isEmpty() ? "" : ", did you mean '" + String.join("', '", closestMatches) + "'?";
+    }
+
     public ResponseException withPlaceholder(Placeholder placeholder) {
-        if (placeholderDataProvider == null) {
-            placeholderDataProvider = PlaceholderDataProvider.createDefault();
+        return addPlaceholder(placeholder.id(), placeholder);
+    }
+
+    private ResponseException addPlaceholder(String key, Object value) {
+        if (placeholderKeys == null) {
+            placeholderKeys = new String[4];
+            placeholderValues = new Object[4];
+        } else if (pendingPlaceholders == placeholderKeys.length) {
+            placeholderKeys = Arrays.copyOf(placeholderKeys, pendingPlaceholders * 2);
+            placeholderValues = Arrays.copyOf(placeholderValues, pendingPlaceholders * 2);
         }
-        placeholderDataProvider.register(placeholder.id(), placeholder);
+        placeholderKeys[pendingPlaceholders] = key;
+        placeholderValues[pendingPlaceholders++] = value;
         return this;
     }
 }
-
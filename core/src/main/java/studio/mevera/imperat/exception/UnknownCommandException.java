@@ -1,19 +1,40 @@
 package studio.mevera.imperat.exception;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
 
 public class UnknownCommandException extends RuntimeException {
 
     private final String command;
+    // not kept by a serialized exception
+    private final transient @Nullable List<String> closestCommands;
 
     public UnknownCommandException(String command) {
-        super("No command named '" + command + "' is registered");
+        this(command, List.of());
+    }
+
+    /**
+     * @param command         the unknown label
+     * @param closestCommands the labels of the registered commands closest to it, nearest first
+     */
+    public UnknownCommandException(String command, @NotNull List<String> closestCommands) {
+        super("No command named '" + command + "' is registered" + ResponseException.didYouMean(closestCommands));
         this.command = command;
+        this.closestCommands = List.copyOf(closestCommands);
     }
 
     @NotNull
     public String getCommand() {
         return command;
     }
-}
 
+    /**
+     * @return the labels of the registered commands closest to the unknown one, nearest first
+     */
+    @NotNull
+    public List<String> getClosestCommands() {
+        return closestCommands == null ? List.of() : closestCommands;
+    }
+}
@@ -0,0 +1,160 @@
+package studio.mevera.imperat.permissions;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import studio.mevera.imperat.context.CommandSource;
+import studio.mevera.imperat.util.Pair;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link PermissionChecker} that remembers the decisions of a delegate checker
+ * per source, keyed by {@link CommandSource#name()} and the interned permission id.
+ * Only the permissions of compiled conditions (e.g. of registered commands) are interned,
+ * the decisions for any other permission are always resolved by the delegate.
+ * <p>
+ * Decisions stay cached until they are invalidated, so platforms (or permission plugin
+ * listeners, e.g. LuckPerms' {@code UserDataRecalculateEvent}) must call
+ * {@link #invalidate(CommandSource)} whenever the permissions of a source change,
+ * and when the source disconnects.
+ *
+ * @param <S> the command source type
+ */
+@ApiStatus.AvailableSince("3.6.0")
+public final class CachingPermissionChecker<S extends CommandSource> implements PermissionChecker<S> {
+
+    static final Pair<PermissionHolder, Boolean> GRANTED = new Pair<>(null, true);
+
+    private final PermissionChecker<S> delegate;
+    private final ConcurrentHashMap<String, Decisions> decisions = new ConcurrentHashMap<>();
+
+    private CachingPermissionChecker(PermissionChecker<S> delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Wraps the given checker with a decision cache, wrapping an
+     * already caching checker returns it as-is.
+     *
+     * @param delegate the checker resolving uncached decisions
+     * @param <S>      the command source type
+     * @return the caching checker
+     */
+    public static <S extends CommandSource> CachingPermissionChecker<S> of(@NotNull PermissionChecker<S> delegate) {
+        if (delegate instanceof CachingPermissionChecker<S> caching) {
+            return caching;
+        }
+        return new CachingPermissionChecker<>(delegate);
+    }
+
+    @Override
+    public boolean hasPermission(@NotNull S source, @Nullable String permission) {
+        if (permission == null) {
+            return delegate.hasPermission(source, (String) null);
+        }
+        int permissionId = PermissionIds.idOf(permission);
+        if (permissionId < 0) {
+            return delegate.hasPermission(source, permission);
+        }
+        return hasPermission(source, permissionId, permission);
+    }
+
+    boolean hasPermission(@NotNull S source, int permissionId, @NotNull String permission) {
+        Decisions sourceDecisions = decisions.computeIfAbsent(source.name(), (ignored) -> new Decisions());
+        int cached = sourceDecisions.lookup(permissionId, permission);
+        if (cached != Decisions.UNKNOWN) {
+            return cached == Decisions.GRANTED;
+        }
+        boolean granted = delegate.hasPermission(source, permission);
+        sourceDecisions.record(permissionId, permission, granted);
+        return granted;
+    }
+
+    /**
+     * The cached decisions of a source, as an opaque token that's replaced when they're invalidated.
+     * Caches derived from the decisions of a source can be keyed weakly on it, so they follow
+     * the invalidations and are dropped along with the decisions.
+     *
+     * @param source the source
+     * @return the token of the source's current decisions
+     */
+    @ApiStatus.Internal
+    public @NotNull Object decisionsOf(@NotNull S source) {
+        return decisions.computeIfAbsent(source.name(), (ignored) -> new Decisions());
+    }
+
+    /**
+     * Drops every cached decision of the given source.
+     *
+     * @param source the source whose permissions changed
+     */
+    public void invalidate(@NotNull S source) {
+        invalidate(source.name());
+    }
+
+    /**
+     * Drops every cached decision of the source with the given name.
+     *
+     * @param sourceName the name of the source whose permissions changed
+     */
+    public void invalidate(@NotNull String sourceName) {
+        decisions.remove(sourceName);
+    }
+
+    /**
+     * Drops all cached decisions, e.g. after a permission plugin reload.
+     */
+    public void invalidateAll() {
+        decisions.clear();
+    }
+
+    public @NotNull PermissionChecker<S> getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Two bitsets indexed by permission id: whether a decision is known, and the decision itself.
+     * The permission each decision was made for is kept along, since a released id is given to another permission.
+     */
+    private static final class Decisions {
+
+        private static final int UNKNOWN = -1, DENIED = 0, GRANTED = 1;
+
+        private long[] known = new long[Math.max(1, (PermissionIds.size() + 63) >>> 6)];
+        private long[] granted = new long[known.length];
+        private String[] permissions = new String[known.length << 6];
+
+        synchronized int lookup(int id, String permission) {
+            int word = id >>> 6;
+            if (word >= known.length) {
+                return UNKNOWN;
+            }
+            long bit = 1L << id;
+            if ((known[word] & bit) == 0L || !permission.equals(permissions[id])) {
+                return UNKNOWN;
+            }
+            return (granted[word] & bit) != 0L ? GRANTED : DENIED;
+        }
+
+        synchronized void record(int id, String permission, boolean decision) {
+            int word = id >>> 6;
+            if (word >= known.length) {
+                int length = Math.max(word + 1, known.length << 1);
+                known = Arrays.copyOf(known, length);
+                granted = Arrays.copyOf(granted, length);
+                permissions = Arrays.copyOf(permissions, length << 6);
+            }
+            long bit = 1L << id;
+            known[word] |= bit;
+            permissions[id] = permission;
+            if (decision) {
+                granted[word] |= bit;
+            } else {
+                granted[word] &= ~bit;
+            }
+        }
+    }
+
+}
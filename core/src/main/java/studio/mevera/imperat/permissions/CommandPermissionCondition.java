@@ -17,6 +17,7 @@ public class CommandPermissionCondition {
     private final List<CommandPermissionCondition> children = new ArrayList<>();
     private final String permission;  // leaf node
     private final Operator operator;
+    private volatile CompiledPermissionCondition compiled;
     // --- Constructors ---
     private CommandPermissionCondition() {  // empty constructor
         this.permission = null;
@@ -230,7 +231,46 @@ public class CommandPermissionCondition {
 
     // --- Evaluate ---
     public <S extends CommandSource> boolean has(S source, PermissionChecker<S> checker) {
-        return check(source, checker).right();
+        return compiled().evaluate(source, checker);
+    }
+
+    /**
+     * Compiles this condition into its flat form, the result is cached
+     * so repeated checks reuse the same program.
+     *
+     * @return the compiled program
+     */
+    CompiledPermissionCondition compiled() {
+        CompiledPermissionCondition program = compiled;
+        if (program == null) {
+            program = CompiledPermissionCondition.compile(this);
+            compiled = program;
+        }
+        return program;
+    }
+
+    void emit(CompiledPermissionCondition.Emitter emitter) {
+        if (permission != null) {
+            emitter.permission(permission);
+            return;
+        }
+        if (operator == null) {
+            emitter.constantTrue();
+            return;
+        }
+
+        if (operator == Operator.NOT) {
+            children.get(0).emit(emitter);
+            emitter.not();
+            return;
+        }
+        int op = operator == Operator.AND ? CompiledPermissionCondition.OP_AND : CompiledPermissionCondition.OP_OR;
+        children.get(0).emit(emitter);
+        for (int i = 1; i < children.size(); i++) {
+            int slot = emitter.beginRightOperand(op);
+            children.get(i).emit(emitter);
+            emitter.endRightOperand(slot);
+        }
     }
 
     public <S extends CommandSource> Pair<String, Boolean> check(S source, PermissionChecker<S> checker) {
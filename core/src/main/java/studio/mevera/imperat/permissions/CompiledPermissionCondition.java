@@ -0,0 +1,115 @@
+package studio.mevera.imperat.permissions;
+
+import org.jetbrains.annotations.NotNull;
+import studio.mevera.imperat.context.CommandSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Flat form of a {@link CommandPermissionCondition}.
+ * <p>
+ * Every leaf permission is interned through {@link PermissionIds}; the program is a
+ * sequence of opcodes where a non-negative value sets the decision to the one for the permission
+ * with that id, and the negative values are the boolean operators. The operands of
+ * {@code AND} and {@code OR} are evaluated one by one: after the left operand, the operator
+ * jumps over the right one if the left operand already decides the result, so a permission
+ * is only checked while it can still change the decision, and checking a condition never allocates.
+ */
+final class CompiledPermissionCondition {
+
+    static final int OP_AND = -1;
+    static final int OP_OR = -2;
+    static final int OP_NOT = -3;
+    static final int OP_TRUE = -4;
+
+    private final int[] program;
+    private final String[] operands;
+
+    private CompiledPermissionCondition(int[] program, String[] operands) {
+        this.program = program;
+        this.operands = operands;
+    }
+
+    /**
+     * Compiles the given condition tree.
+     *
+     * @param condition the condition to compile
+     * @return the compiled program
+     */
+    static @NotNull CompiledPermissionCondition compile(@NotNull CommandPermissionCondition condition) {
+        Emitter emitter = new Emitter();
+        condition.emit(emitter);
+        int[] program = new int[emitter.ops.size()];
+        for (int i = 0; i < program.length; i++) {
+            program[i] = emitter.ops.get(i);
+        }
+        return new CompiledPermissionCondition(program, emitter.operands.toArray(new String[0]));
+    }
+
+    <S extends CommandSource> boolean evaluate(@NotNull S source, @NotNull PermissionChecker<S> checker) {
+        final int[] program = this.program;
+        final CachingPermissionChecker<S> cache = checker instanceof CachingPermissionChecker<S> caching ? caching : null;
+
+        boolean decision = true;
+        for (int pc = 0; pc < program.length; pc++) {
+            final int op = program[pc];
+            switch (op) {
+                // the slot after AND/OR holds the length of the right operand, skipped when the left one decides
+                case OP_AND -> pc += decision ? 1 : 1 + program[pc + 1];
+                case OP_OR -> pc += decision ? 1 + program[pc + 1] : 1;
+                case OP_NOT -> decision = !decision;
+                case OP_TRUE -> decision = true;
+                default -> decision = cache != null
+                                              ? cache.hasPermission(source, op, operands[pc])
+                                              : checker.hasPermission(source, operands[pc]);
+            }
+        }
+        return decision;
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledPermissionCondition" + Arrays.toString(program);
+    }
+
+    static final class Emitter {
+
+        private final List<Integer> ops = new ArrayList<>();
+        private final List<String> operands = new ArrayList<>();
+
+        void permission(@NotNull String permission) {
+            add(PermissionIds.intern(permission), permission);
+        }
+
+        void constantTrue() {
+            add(OP_TRUE, null);
+        }
+
+        void not() {
+            add(OP_NOT, null);
+        }
+
+        /**
+         * Emits an {@code AND}/{@code OR} between the operand emitted last and the next one.
+         *
+         * @return the slot to pass to {@link #endRightOperand(int)} once the right operand is emitted
+         */
+        int beginRightOperand(int op) {
+            add(op, null);
+            add(0, null);
+            return ops.size() - 1;
+        }
+
+        void endRightOperand(int slot) {
+            ops.set(slot, ops.size() - 1 - slot);
+        }
+
+        private void add(int op, String operand) {
+            ops.add(op);
+            operands.add(operand);
+        }
+    }
+
+}
@@ -20,16 +20,25 @@ public interface PermissionChecker<S extends CommandSource> {
      */
     boolean hasPermission(@NotNull S source, @Nullable String permission);
 
+    /**
+     * Evaluates the compiled permission condition of the holder, without
+     * allocating any intermediate results.
+     *
+     * @param source the source of the command
+     * @param holder the holder of the permission condition
+     * @return whether the source satisfies the holder's permission condition
+     */
     default boolean hasPermission(@NotNull S source, @NotNull PermissionHolder holder) {
-        return checkPermission(source, holder).right();
+        return holder.getPermissionsData().getCondition().has(source, this);
     }
 
+    /**
+     * @param source the source of the command
+     * @param holder the holder of the permission condition
+     * @return a pair of the denied holder (or {@code null}) and whether the source is permitted
+     */
     default Pair<PermissionHolder, Boolean> checkPermission(@NotNull S source, @NotNull PermissionHolder holder) {
-        PermissionsData data = holder.getPermissionsData();
-        CommandPermissionCondition permissionCondition = data.getCondition();
-        Pair<String, Boolean> result = permissionCondition.check(source, this);
-
-        return new Pair<>(result.right() ? null : holder, result.right());
+        return hasPermission(source, holder) ? CachingPermissionChecker.GRANTED : new Pair<>(holder, false);
     }
 
 }
@@ -0,0 +1,64 @@
+package studio.mevera.imperat.permissions;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Global intern table mapping the permissions of compiled conditions to dense integer ids.
+ * <p>
+ * Ids let compiled conditions and {@link CachingPermissionChecker} address permission
+ * decisions by bit index instead of hashing the permission string on every check.
+ * The permissions of unregistered commands are released from the table, and their ids are given
+ * to the next permissions interned, so the ids stay as dense as the permissions in use.
+ * A program still holding a released id keeps working, as the decisions cached for an id
+ * are only served to the permission they were made for.
+ */
+final class PermissionIds {
+
+    private static final ConcurrentHashMap<String, Integer> IDS = new ConcurrentHashMap<>();
+    private static final ArrayDeque<Integer> FREE_IDS = new ArrayDeque<>();
+    private static volatile int size;
+
+    private PermissionIds() {
+        throw new AssertionError();
+    }
+
+    static int intern(@NotNull String permission) {
+        Integer id = IDS.get(permission);
+        if (id != null) {
+            return id;
+        }
+        synchronized (FREE_IDS) {
+            return IDS.computeIfAbsent(permission, (ignored) -> FREE_IDS.isEmpty() ? size++ : FREE_IDS.pop());
+        }
+    }
+
+    /**
+     * @return the id of the permission, or {@code -1} if it isn't used by any compiled condition
+     */
+    static int idOf(@NotNull String permission) {
+        return IDS.getOrDefault(permission, -1);
+    }
+
+    static void release(@NotNull Collection<String> permissions) {
+        synchronized (FREE_IDS) {
+            for (String permission : permissions) {
+                Integer id = IDS.remove(permission);
+                if (id != null) {
+                    FREE_IDS.push(id);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the number of ids given so far, which bounds every id in use
+     */
+    static int size() {
+        return size;
+    }
+
+}
@@ -1,9 +1,11 @@
 package studio.mevera.imperat.permissions;
 
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 
 public final class PermissionsData {
@@ -13,12 +15,12 @@ public final class PermissionsData {
 
     private PermissionsData(List<String> permissions) {
         this.permissions = permissions;
-        this.condition = CommandPermissionCondition.all(permissions);
+        this.condition = compile(CommandPermissionCondition.all(permissions));
     }
 
     private PermissionsData(CommandPermissionCondition condition) {
         this.permissions = condition.collectPermissionsUsedOnConditions();
-        this.condition = condition;
+        this.condition = compile(condition);
     }
 
     private PermissionsData() {
@@ -42,6 +44,17 @@ public final class PermissionsData {
         return new PermissionsData();
     }
 
+    /**
+     * Releases the permissions of unregistered commands from the table interning them
+     * for compiled conditions, the caller must only pass the permissions that no registered command uses.
+     *
+     * @param permissions the permissions no longer used
+     */
+    @ApiStatus.Internal
+    public static void release(@NotNull Collection<String> permissions) {
+        PermissionIds.release(permissions);
+    }
+
     public static PermissionsData fromText(String permLine) {
         return of(CommandPermissionCondition.fromText(permLine));
     }
@@ -51,14 +64,14 @@ public final class PermissionsData {
     }
 
     public void setCondition(CommandPermissionCondition condition) {
-        this.condition = condition;
+        this.condition = compile(condition);
         this.permissions.clear();
         this.permissions.addAll(condition.collectPermissionsUsedOnConditions());
     }
 
     public void addPermissions(String... permissions) {
         this.permissions.addAll(Arrays.asList(permissions));
-        condition = condition.and(permissions);
+        condition = compile(condition.and(permissions));
     }
 
     public List<String> getPermissions() {
@@ -71,6 +84,12 @@ public final class PermissionsData {
 
     public void append(@NotNull PermissionsData permissionsData) {
         this.permissions.addAll(permissionsData.permissions);
-        this.condition = this.condition.and(permissionsData.condition);
+        this.condition = compile(this.condition.and(permissionsData.condition));
+    }
+
+    // conditions are compiled as soon as they're registered, not on the first check
+    private static CommandPermissionCondition compile(CommandPermissionCondition condition) {
+        condition.compiled();
+        return condition;
     }
 }
@@ -3,6 +3,7 @@ package studio.mevera.imperat.placeholders;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Objects;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 final class PlaceholderImpl implements Placeholder {
@@ -54,7 +55,7 @@ final class PlaceholderImpl implements Placeholder {
     public String replaceResolved(String id, String input) {
         assert isUsedIn(input);
         return pattern.matcher(input).replaceAll(
-                resolveInput(id)
+                Matcher.quoteReplacement(resolveInput(id))
         );
     }
 
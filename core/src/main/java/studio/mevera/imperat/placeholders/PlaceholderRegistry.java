@@ -13,17 +13,7 @@ public final class PlaceholderRegistry extends Registry<String, Placeholder> {
     }
 
     public String applyPlaceholders(String input) {
-
-        String result = input;
-        for (var placeHolder : getAll()) {
-
-            if (placeHolder.isUsedIn(result)) {
-                String id = placeHolder.id();
-                result = placeHolder.replaceResolved(id, result);
-            }
-
-        }
-        return result;
+        return PlaceholderTemplate.compile(input).render(this);
     }
 
     public String[] resolvedArray(String[] array) {
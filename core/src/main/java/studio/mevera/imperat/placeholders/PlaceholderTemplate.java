@@ -0,0 +1,122 @@
+package studio.mevera.imperat.placeholders;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A content string compiled once into its literal segments and the placeholder slots between them,
+ * so rendering it is a single pass appending each segment and resolving each slot by its id.
+ * <p>
+ * A placeholder is written {@code %id%}, where the id is neither empty nor contains whitespace.
+ * A {@code %} not opening such a placeholder is kept as is, and so are the placeholders
+ * missing from the registry a template is rendered with.
+ */
+@ApiStatus.AvailableSince("3.6.0")
+public final class PlaceholderTemplate {
+
+    private final String source;
+    // literals[i] precedes ids[i], the last literal follows the last id
+    private final String[] literals;
+    private final String[] ids;
+    private final int literalsLength;
+
+    private PlaceholderTemplate(String source, String[] literals, String[] ids) {
+        this.source = source;
+        this.literals = literals;
+        this.ids = ids;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalsLength = length;
+    }
+
+    public static @NotNull PlaceholderTemplate compile(@NotNull String content) {
+        List<String> literals = new ArrayList<>();
+        List<String> ids = new ArrayList<>();
+        int literalStart = 0;
+        int open = content.indexOf(PlaceholderImpl.PLACEHOLDER_PREFIX);
+        while (open != -1) {
+            int close = content.indexOf(PlaceholderImpl.PLACEHOLDER_SUFFIX, open + 1);
+            if (close == -1) {
+                break;
+            }
+            if (!isId(content, open + 1, close)) {
+                // the closing '%' may open the next placeholder
+                open = close;
+                continue;
+            }
+            literals.add(content.substring(literalStart, open));
+            ids.add(content.substring(open + 1, close));
+            literalStart = close + 1;
+            open = content.indexOf(PlaceholderImpl.PLACEHOLDER_PREFIX, literalStart);
+        }
+        literals.add(content.substring(literalStart));
+        return new PlaceholderTemplate(content, literals.toArray(new String[0]), ids.toArray(new String[0]));
+    }
+
+    private static boolean isId(String content, int start, int end) {
+        if (start == end) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            if (Character.isWhitespace(content.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the content this template was compiled from
+     */
+    public @NotNull String source() {
+        return source;
+    }
+
+    /**
+     * @return the ids of the placeholders used in the content, in order of appearance
+     */
+    public @NotNull List<String> placeholderIds() {
+        return List.of(ids);
+    }
+
+    /**
+     * @param registry the placeholders to resolve the slots with
+     * @return the content, with its placeholders present in the registry resolved
+     */
+    public @NotNull String render(@NotNull PlaceholderRegistry registry) {
+        return render(registry, Map.of());
+    }
+
+    /**
+     * @param registry the placeholders to resolve the slots with, if any
+     * @param defaults the values of the placeholders missing from the registry
+     * @return the content, with its placeholders present in the registry or the defaults resolved
+     */
+    public @NotNull String render(@Nullable PlaceholderRegistry registry, @NotNull Map<String, String> defaults) {
+        if (ids.length == 0) {
+            return source;
+        }
+        StringBuilder builder = new StringBuilder(literalsLength + 16 * ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            builder.append(literals[i]);
+            String id = ids[i];
+            Placeholder placeholder = registry == null ? null : registry.getMap().get(id);
+            String defaultValue;
+            if (placeholder != null) {
+                builder.append(placeholder.resolveInput(id));
+            } else if ((defaultValue = defaults.get(id)) != null) {
+                builder.append(defaultValue);
+            } else {
+                builder.append(PlaceholderImpl.PLACEHOLDER_PREFIX).append(id).append(PlaceholderImpl.PLACEHOLDER_SUFFIX);
+            }
+        }
+        return builder.append(literals[ids.length]).toString();
+    }
+}
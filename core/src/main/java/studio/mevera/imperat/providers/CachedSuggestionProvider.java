@@ -0,0 +1,171 @@
+package studio.mevera.imperat.providers;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import studio.mevera.imperat.command.arguments.Argument;
+import studio.mevera.imperat.context.CommandSource;
+import studio.mevera.imperat.context.SuggestionContext;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Decorates an expensive, slowly changing {@link SuggestionProvider} (e.g. backed by a database),
+ * serving its suggestions from a cache for a limited time instead of calling it on every keystroke.
+ * <p>
+ * Entries are keyed by the argument being completed and the {@link SuggestionCacheKey} of the
+ * {@link SuggestionCachePolicy policy}, and the least recently used ones are evicted first.
+ * The entry of a load in flight holds its future, so concurrent requests missing the same entry,
+ * synchronous or not, share a single call of the delegate, which runs outside of the cache's lock.
+ * Prefix filtering runs against the cached suggestions.
+ *
+ * @param <S> the command-source type
+ */
+@ApiStatus.AvailableSince("3.6.0")
+public final class CachedSuggestionProvider<S extends CommandSource> implements SuggestionProvider<S> {
+
+    private final SuggestionProvider<S> delegate;
+    private final SuggestionCachePolicy<S> policy;
+    // access-ordered, its eldest entry is the least recently used one; guarded by itself
+    private final Map<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    CachedSuggestionProvider(SuggestionProvider<S> delegate, SuggestionCachePolicy<S> policy) {
+        this.delegate = delegate;
+        this.policy = policy;
+    }
+
+    @Override
+    public List<String> provide(SuggestionContext<S> context, Argument<S> argument) {
+        Key key = new Key(argument, policy.key().keyOf(context));
+        Entry entry = new Entry();
+        Entry current = claim(key, entry);
+        if (current != entry) {
+            return current.suggestions.join();
+        }
+        try {
+            load(entry, delegate.provide(context, argument));
+        } catch (RuntimeException | Error ex) {
+            fail(key, entry, ex);
+            throw ex;
+        }
+        return entry.suggestions.join();
+    }
+
+    @Override
+    public List<String> provideMatching(SuggestionContext<S> context, Argument<S> argument, String prefix) {
+        List<String> cached = provide(context, argument);
+        List<String> matching = new ArrayList<>();
+        for (String suggestion : cached) {
+            if (suggestion.regionMatches(true, 0, prefix, 0, prefix.length())) {
+                matching.add(suggestion);
+            }
+        }
+        return matching;
+    }
+
+    @Override
+    public CompletableFuture<List<String>> provideAsynchronously(SuggestionContext<S> context, Argument<S> parameter) {
+        Key key = new Key(parameter, policy.key().keyOf(context));
+        Entry entry = new Entry();
+        Entry current = claim(key, entry);
+        if (current == entry) {
+            delegate.provideAsynchronously(context, parameter).whenComplete((suggestions, ex) -> {
+                if (ex == null) {
+                    load(entry, suggestions);
+                } else {
+                    fail(key, entry, ex);
+                }
+            });
+        }
+        // a copy, so a caller cancelling its future doesn't cancel the shared load
+        return current.suggestions.copy();
+    }
+
+    /**
+     * @return the cached or loading entry of the key, or the given one if it has to be loaded by the caller
+     */
+    private Entry claim(Key key, Entry loading) {
+        long now = System.nanoTime();
+        synchronized (entries) {
+            Entry current = entries.get(key);
+            if (current != null && !current.isExpired(now)) {
+                return current;
+            }
+            entries.put(key, loading);
+            if (entries.size() > policy.maximumSize()) {
+                Iterator<Entry> eldest = entries.values().iterator();
+                eldest.next();
+                eldest.remove();
+            }
+            return loading;
+        }
+    }
+
+    private void load(Entry entry, @Nullable List<String> suggestions) {
+        entry.expiresAt = System.nanoTime() + policy.ttlNanos();
+        entry.suggestions.complete(suggestions == null ? List.of() : List.copyOf(suggestions));
+    }
+
+    // a failed load isn't cached, the next request calls the delegate again
+    private void fail(Key key, Entry entry, Throwable ex) {
+        synchronized (entries) {
+            entries.remove(key, entry);
+        }
+        entry.suggestions.completeExceptionally(ex);
+    }
+
+    /**
+     * Drops the cached suggestions of the given cache key, e.g. a source name
+     * when keyed {@link SuggestionCacheKey#perSource() per source}.
+     *
+     * @param cacheKey the key, as returned by the {@link SuggestionCacheKey}
+     */
+    public void invalidate(@NotNull Object cacheKey) {
+        synchronized (entries) {
+            entries.keySet().removeIf((key) -> key.cacheKey().equals(cacheKey));
+        }
+    }
+
+    /**
+     * Drops every cached suggestion.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public @NotNull SuggestionProvider<S> getDelegate() {
+        return delegate;
+    }
+
+    public @NotNull SuggestionCachePolicy<S> getPolicy() {
+        return policy;
+    }
+
+    private record Key(Argument<?> argument, Object cacheKey) {
+
+    }
+
+    private static final class Entry {
+
+        private final CompletableFuture<List<String>> suggestions = new CompletableFuture<>();
+        // set once loaded, a loading entry never expires
+        private volatile long expiresAt;
+
+        boolean isExpired(long now) {
+            return suggestions.isDone() && now - expiresAt >= 0;
+        }
+    }
+}
@@ -3,12 +3,14 @@ package studio.mevera.imperat.providers;
 import studio.mevera.imperat.command.arguments.Argument;
 import studio.mevera.imperat.context.CommandSource;
 import studio.mevera.imperat.context.SuggestionContext;
+import studio.mevera.imperat.util.PrefixIndex;
 
 import java.util.List;
 
 final class StaticSuggestionProvider<S extends CommandSource> implements SuggestionProvider<S> {
 
     private final List<String> suggestions;
+    private volatile PrefixIndex index;
 
     StaticSuggestionProvider(List<String> suggestions) {
         this.suggestions = suggestions;
@@ -22,4 +24,28 @@ final class StaticSuggestionProvider<S extends CommandSource> implements Suggest
     ) {
         return suggestions;
     }
+
+    @Override
+    public List<String> provideMatching(
+            SuggestionContext<S> context,
+            Argument<S> argument,
+            String prefix
+    ) {
+        return index().select(suggestions, prefix);
+    }
+
+    @Override
+    public List<String> stableSuggestions() {
+        return suggestions;
+    }
+
+    // the backing list may still grow after creation (e.g. ArgumentType#addStaticSuggestions), re-index when it does
+    private PrefixIndex index() {
+        PrefixIndex current = index;
+        if (current == null || current.size() != suggestions.size()) {
+            current = PrefixIndex.of(suggestions);
+            index = current;
+        }
+        return current;
+    }
 }
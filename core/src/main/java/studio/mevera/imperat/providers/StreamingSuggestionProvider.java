@@ -0,0 +1,41 @@
+package studio.mevera.imperat.providers;
+
+import org.jetbrains.annotations.ApiStatus;
+import studio.mevera.imperat.command.arguments.Argument;
+import studio.mevera.imperat.context.CommandSource;
+import studio.mevera.imperat.context.SuggestionContext;
+
+import java.util.List;
+
+/**
+ * A {@link SuggestionProvider} that streams its suggestions into a bounded {@link SuggestionSink}
+ * instead of materializing a complete list, e.g. for providers iterating over thousands of players.
+ * <p>
+ * The list-based methods are derived from the streaming one, so such providers
+ * can be used anywhere a regular {@link SuggestionProvider} is expected.
+ *
+ * @param <S> the command-sender valueType
+ */
+@ApiStatus.AvailableSince("3.6.0")
+@FunctionalInterface
+public interface StreamingSuggestionProvider<S extends CommandSource> extends SuggestionProvider<S> {
+
+    @Override
+    void provide(SuggestionContext<S> context, Argument<S> argument, String prefix, SuggestionSink sink);
+
+    @Override
+    default List<String> provide(SuggestionContext<S> context, Argument<S> argument) {
+        SuggestionSink sink = SuggestionSink.unfiltered(Integer.MAX_VALUE);
+        provide(context, argument, "", sink);
+        return sink.results();
+    }
+
+    @Override
+    default List<String> provideMatching(SuggestionContext<S> context, Argument<S> argument, String prefix) {
+        SuggestionSink sink = SuggestionSink.unfiltered(Integer.MAX_VALUE);
+        provide(context, argument, prefix, sink);
+        List<String> matching = sink.results();
+        matching.removeIf((suggestion) -> !suggestion.regionMatches(true, 0, prefix, 0, prefix.length()));
+        return matching;
+    }
+}
@@ -0,0 +1,62 @@
+package studio.mevera.imperat.providers;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import studio.mevera.imperat.context.CommandSource;
+import studio.mevera.imperat.context.SuggestionContext;
+import studio.mevera.imperat.permissions.PermissionChecker;
+
+import java.util.BitSet;
+
+/**
+ * Decides which completion requests share cached suggestions in a {@link CachedSuggestionProvider},
+ * on top of the argument being completed: requests with equal keys share the same entry.
+ *
+ * @param <S> the command-source type
+ */
+@ApiStatus.AvailableSince("3.6.0")
+@FunctionalInterface
+public interface SuggestionCacheKey<S extends CommandSource> {
+
+    /**
+     * @return a key shared by every source
+     */
+    static <S extends CommandSource> SuggestionCacheKey<S> global() {
+        return (context) -> "global";
+    }
+
+    /**
+     * @return a key per source, by name
+     */
+    static <S extends CommandSource> SuggestionCacheKey<S> perSource() {
+        return (context) -> context.source().name();
+    }
+
+    /**
+     * Keys by permission fingerprint: sources holding the same subset of the given
+     * permissions share the same entry, e.g. staff and regular players.
+     *
+     * @param permissions the permissions the suggestions depend on
+     * @return a key per permission fingerprint
+     */
+    static <S extends CommandSource> SuggestionCacheKey<S> perPermissions(String... permissions) {
+        final String[] copy = permissions.clone();
+        return (context) -> {
+            PermissionChecker<S> checker = context.imperatConfig().getPermissionChecker();
+            BitSet fingerprint = new BitSet(copy.length);
+            for (int i = 0; i < copy.length; i++) {
+                if (checker.hasPermission(context.source(), copy[i])) {
+                    fingerprint.set(i);
+                }
+            }
+            return fingerprint;
+        };
+    }
+
+    /**
+     * @param context the context of the completion request
+     * @return the key of the cache entry serving the request, compared by {@link Object#equals(Object)}
+     */
+    @NotNull Object keyOf(@NotNull SuggestionContext<S> context);
+
+}
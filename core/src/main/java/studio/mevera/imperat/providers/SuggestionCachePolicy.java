@@ -0,0 +1,55 @@
+package studio.mevera.imperat.providers;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import studio.mevera.imperat.context.CommandSource;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * How a {@link CachedSuggestionProvider} caches the suggestions of the provider it decorates.
+ *
+ * @param ttlNanos    how long cached suggestions are served, in nanoseconds
+ * @param maximumSize the maximum number of cached entries, the least recently used ones being evicted first
+ * @param key         which completion requests share an entry
+ * @param <S>         the command-source type
+ */
+@ApiStatus.AvailableSince("3.6.0")
+public record SuggestionCachePolicy<S extends CommandSource>(long ttlNanos, int maximumSize, @NotNull SuggestionCacheKey<S> key) {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+    public SuggestionCachePolicy {
+        if (ttlNanos <= 0) {
+            throw new IllegalArgumentException("Suggestion cache TTL must be positive");
+        }
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Suggestion cache size must be at least 1");
+        }
+    }
+
+    /**
+     * @param ttl  how long cached suggestions are served
+     * @param unit the unit of the TTL
+     * @return a policy sharing suggestions between every source, with the default maximum size
+     */
+    public static <S extends CommandSource> @NotNull SuggestionCachePolicy<S> expireAfter(long ttl, @NotNull TimeUnit unit) {
+        return new SuggestionCachePolicy<>(unit.toNanos(ttl), DEFAULT_MAXIMUM_SIZE, SuggestionCacheKey.global());
+    }
+
+    public @NotNull SuggestionCachePolicy<S> maximumSize(int maximumSize) {
+        return new SuggestionCachePolicy<>(ttlNanos, maximumSize, key);
+    }
+
+    public @NotNull SuggestionCachePolicy<S> keyedBy(@NotNull SuggestionCacheKey<S> key) {
+        return new SuggestionCachePolicy<>(ttlNanos, maximumSize, key);
+    }
+
+    /**
+     * @param provider the provider to cache the suggestions of
+     * @return the caching provider
+     */
+    public @NotNull CachedSuggestionProvider<S> apply(@NotNull SuggestionProvider<S> provider) {
+        return new CachedSuggestionProvider<>(provider, this);
+    }
+}
@@ -1,11 +1,13 @@
 package studio.mevera.imperat.providers;
 
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
 import studio.mevera.imperat.command.Command;
 import studio.mevera.imperat.command.arguments.Argument;
 import studio.mevera.imperat.context.CommandSource;
 import studio.mevera.imperat.context.SuggestionContext;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -30,12 +32,18 @@ public interface SuggestionProvider<S extends CommandSource> {
     }
 
     static <S extends CommandSource> SuggestionProvider<S> forCommand(Command<S> command) {
-        return (context, argument) -> {
-            List<String> list = new ArrayList<>(1 + command.aliases().size());
-            list.add(command.getName());
-            list.addAll(command.aliases());
-            return list;
-        };
+        // live view of the name and aliases, so aliases added later are still suggested
+        return new StaticSuggestionProvider<>(new AbstractList<>() {
+            @Override
+            public String get(int index) {
+                return index == 0 ? command.getName() : command.aliases().get(index - 1);
+            }
+
+            @Override
+            public int size() {
+                return 1 + command.aliases().size();
+            }
+        });
     }
 
 
@@ -46,7 +54,68 @@ public interface SuggestionProvider<S extends CommandSource> {
      */
     List<String> provide(SuggestionContext<S> context, Argument<S> argument);
 
+    /**
+     * Provides the suggestions starting with the given prefix, ignoring case.
+     * Static suggestions answer this from a sorted prefix index instead of
+     * filtering every suggestion on every call.
+     *
+     * @param context  the context for suggestions
+     * @param argument the argument of the value to complete
+     * @param prefix   the input being completed
+     * @return the suggestions starting with the prefix, in their original order
+     */
+    @ApiStatus.AvailableSince("3.6.0")
+    default List<String> provideMatching(SuggestionContext<S> context, Argument<S> argument, String prefix) {
+        List<String> suggestions = provide(context, argument);
+        if (prefix.isEmpty() || suggestions == null) {
+            return suggestions;
+        }
+        List<String> matching = new ArrayList<>();
+        for (String suggestion : suggestions) {
+            if (suggestion.regionMatches(true, 0, prefix, 0, prefix.length())) {
+                matching.add(suggestion);
+            }
+        }
+        return matching;
+    }
+
+    /**
+     * Returns the suggestions of this provider when they don't depend on the context
+     * (e.g. literals, enum constants, static lists), allowing auto-completers to index them once.
+     *
+     * @return the stable suggestions, or {@code null} if they are computed per request
+     */
+    @ApiStatus.AvailableSince("3.6.0")
+    default @Nullable List<String> stableSuggestions() {
+        return null;
+    }
+
+    /**
+     * Streams the suggestions starting with the given prefix into the sink, stopping
+     * as soon as the sink is full. List-based providers are adapted by streaming the
+     * result of {@link #provideMatching(SuggestionContext, Argument, String)}; providers
+     * backed by large data sets should override this to avoid materializing every suggestion.
+     *
+     * @param context  the context for suggestions
+     * @param argument the argument of the value to complete
+     * @param prefix   the input being completed
+     * @param sink     the sink receiving the suggestions, bounded by {@link SuggestionSink#limit()}
+     */
+    @ApiStatus.AvailableSince("3.6.0")
+    default void provide(SuggestionContext<S> context, Argument<S> argument, String prefix, SuggestionSink sink) {
+        sink.acceptAll(prefix.isEmpty() ? provide(context, argument) : provideMatching(context, argument, prefix));
+    }
+
+    /**
+     * Provides the suggestions asynchronously, by default running {@link #provide(SuggestionContext, Argument)}
+     * on the configured {@link studio.mevera.imperat.ImperatConfig#getCompletionExecutor() completion executor}.
+     * Providers backed by an asynchronous source (e.g. a database) should override it to avoid blocking a thread.
+     *
+     * @param context   the context for suggestions
+     * @param parameter the argument of the value to complete
+     * @return the future suggestions of the current argument
+     */
     default CompletableFuture<List<String>> provideAsynchronously(SuggestionContext<S> context, Argument<S> parameter) {
-        return CompletableFuture.supplyAsync(() -> provide(context, parameter));
+        return CompletableFuture.supplyAsync(() -> provide(context, parameter), context.imperatConfig().getCompletionExecutor());
     }
 }
@@ -0,0 +1,99 @@
+package studio.mevera.imperat.providers;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Receives the suggestions streamed by a {@link SuggestionProvider},
+ * up to a maximum number of results.
+ * <p>
+ * The sink enforces the prefix filter of the completion request itself, so providers
+ * may skip filtering, but should stop producing suggestions as soon as
+ * {@link #accept(String)} returns {@code false}.
+ */
+@ApiStatus.AvailableSince("3.6.0")
+public final class SuggestionSink {
+
+    private final List<String> results = new ArrayList<>();
+    private final @Nullable String prefix;
+    private final int limit;
+
+    private SuggestionSink(@Nullable String prefix, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Suggestion limit cannot be negative");
+        }
+        this.prefix = prefix == null || prefix.isEmpty() ? null : prefix;
+        this.limit = limit;
+    }
+
+    /**
+     * @param limit the maximum number of suggestions to accept
+     * @return a sink accepting every suggestion, up to the limit
+     */
+    public static @NotNull SuggestionSink unfiltered(int limit) {
+        return new SuggestionSink(null, limit);
+    }
+
+    /**
+     * @param prefix the input being completed, suggestions not starting with it are ignored
+     * @param limit  the maximum number of suggestions to accept
+     * @return a sink accepting the suggestions starting with the prefix, up to the limit
+     */
+    public static @NotNull SuggestionSink startingWith(@Nullable String prefix, int limit) {
+        return new SuggestionSink(prefix, limit);
+    }
+
+    /**
+     * Offers a suggestion to this sink.
+     *
+     * @param suggestion the suggestion
+     * @return whether the sink can take more suggestions
+     */
+    public boolean accept(@Nullable String suggestion) {
+        if (results.size() >= limit) {
+            return false;
+        }
+        if (suggestion != null && (prefix == null || suggestion.startsWith(prefix))) {
+            results.add(suggestion);
+        }
+        return results.size() < limit;
+    }
+
+    /**
+     * Offers every suggestion of the list, until the sink is full.
+     *
+     * @param suggestions the suggestions
+     * @return whether the sink can take more suggestions
+     */
+    public boolean acceptAll(@Nullable List<String> suggestions) {
+        if (suggestions == null) {
+            return !isFull();
+        }
+        for (String suggestion : suggestions) {
+            if (!accept(suggestion)) {
+                return false;
+            }
+        }
+        return !isFull();
+    }
+
+    public boolean isFull() {
+        return results.size() >= limit;
+    }
+
+    public int remaining() {
+        return Math.max(0, limit - results.size());
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public @NotNull List<String> results() {
+        return results;
+    }
+}
@@ -0,0 +1,153 @@
+package studio.mevera.imperat.responses;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.ResourceBundle;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+/**
+ * Fetches the content of responses from UTF-8 {@code .properties} language files in a directory,
+ * mapping each {@link ResponseKey#getKey() response key} to its content, e.g. a file
+ * {@code messages_fr.properties} containing {@code args.parsing.invalid-boolean=Booléen invalide '%input%'}.
+ * <p>
+ * The files of a locale are looked up from the most to the least specific, as resource bundles
+ * are ({@code messages_fr_CA}, {@code messages_fr}, then {@code messages}), and the default content
+ * of the response is used when none of them has its key.
+ * <p>
+ * Fetches run on an executor, the common pool by default, so no file is read on the thread sending
+ * the response. A file is only read again once its modification time or size changes, which picks up
+ * edits; pair the fetcher with a {@link ResponseCache} to skip the fetch altogether on most sends.
+ */
+@ApiStatus.AvailableSince("3.6.0")
+public final class FileContentFetcher implements ResponseContentFetcher {
+
+    private static final String EXTENSION = ".properties";
+    private static final ResourceBundle.Control CONTROL = ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_PROPERTIES);
+
+    private final Path directory;
+    private final String baseName;
+    private final Executor executor;
+    private final Map<Path, LoadedFile> loadedFiles = new ConcurrentHashMap<>();
+
+    private FileContentFetcher(Path directory, String baseName, Executor executor) {
+        this.directory = directory;
+        this.baseName = baseName;
+        this.executor = executor;
+    }
+
+    /**
+     * @param directory the directory of the language files
+     * @param baseName  the name of the files without locale suffix nor extension, e.g. {@code messages}
+     * @return the fetcher, reading the files on the common pool
+     */
+    public static @NotNull FileContentFetcher of(@NotNull Path directory, @NotNull String baseName) {
+        return of(directory, baseName, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param directory the directory of the language files
+     * @param baseName  the name of the files without locale suffix nor extension, e.g. {@code messages}
+     * @param executor  the executor reading the files
+     * @return the fetcher
+     */
+    public static @NotNull FileContentFetcher of(@NotNull Path directory, @NotNull String baseName, @NotNull Executor executor) {
+        return new FileContentFetcher(directory, baseName, executor);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<String> fetch(@NotNull Supplier<String> contentSupplier) {
+        return CompletableFuture.completedFuture(contentSupplier.get());
+    }
+
+    @Override
+    public @NotNull CompletableFuture<String> fetch(@NotNull ResponseKey key, @NotNull Locale locale, @NotNull Supplier<String> contentSupplier) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                for (Path file : filesOf(locale)) {
+                    Properties properties = propertiesOf(file);
+                    String content = properties == null ? null : properties.getProperty(key.getKey());
+                    if (content != null) {
+                        return content;
+                    }
+                }
+                return contentSupplier.get();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }, executor);
+    }
+
+    /**
+     * @param locale the locale
+     * @return the language files of the locale, from the most to the least specific
+     */
+    public @NotNull List<Path> filesOf(@NotNull Locale locale) {
+        return CONTROL.getCandidateLocales(baseName, locale).stream()
+                       .map((candidate) -> directory.resolve(CONTROL.toBundleName(baseName, candidate) + EXTENSION))
+                       .toList();
+    }
+
+    /**
+     * @return the properties of the file, read again only once it is modified, or {@code null} if there's no such file
+     */
+    private @Nullable Properties propertiesOf(Path file) throws IOException {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (NoSuchFileException ex) {
+            loadedFiles.remove(file);
+            return null;
+        }
+        if (!attributes.isRegularFile()) {
+            return null;
+        }
+        LoadedFile loaded = loadedFiles.get(file);
+        if (loaded == null || !loaded.isCurrent(attributes)) {
+            loaded = new LoadedFile(load(file), attributes.lastModifiedTime(), attributes.size());
+            loadedFiles.put(file, loaded);
+        }
+        return loaded.properties();
+    }
+
+    private static Properties load(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        return properties;
+    }
+
+    public @NotNull Path getDirectory() {
+        return directory;
+    }
+
+    public @NotNull String getBaseName() {
+        return baseName;
+    }
+
+    private record LoadedFile(Properties properties, FileTime lastModified, long size) {
+
+        boolean isCurrent(BasicFileAttributes attributes) {
+            return lastModified.equals(attributes.lastModifiedTime()) && size == attributes.size();
+        }
+    }
+}
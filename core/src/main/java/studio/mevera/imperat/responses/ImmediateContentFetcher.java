@@ -0,0 +1,27 @@
+package studio.mevera.imperat.responses;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Fetches the content from its supplier on the calling thread, the default for in-memory content.
+ */
+final class ImmediateContentFetcher implements ResponseContentFetcher {
+
+    static final ImmediateContentFetcher INSTANCE = new ImmediateContentFetcher();
+
+    private ImmediateContentFetcher() {
+    }
+
+    @Override
+    public @NotNull CompletableFuture<String> fetch(@NotNull Supplier<String> contentSupplier) {
+        return CompletableFuture.completedFuture(contentSupplier.get());
+    }
+
+    @Override
+    public boolean isImmediate() {
+        return true;
+    }
+}
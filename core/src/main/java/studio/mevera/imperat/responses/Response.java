@@ -1,14 +1,19 @@
 package studio.mevera.imperat.responses;
 
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import studio.mevera.imperat.context.CommandContext;
 import studio.mevera.imperat.context.CommandSource;
 import studio.mevera.imperat.placeholders.Placeholder;
 import studio.mevera.imperat.placeholders.PlaceholderDataProvider;
+import studio.mevera.imperat.placeholders.PlaceholderTemplate;
 import studio.mevera.imperat.util.ImperatDebugger;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
@@ -16,10 +21,15 @@ import java.util.stream.Collectors;
 
 public class Response {
 
+    private static final CompletableFuture<Void> DELIVERED = CompletableFuture.completedFuture(null);
+
     private final ResponseKey key;
     private final Supplier<String> contentSupplier;
     private final ResponseContentFetcher contentFetcher;
     private final Set<String> possiblePlaceholders = new HashSet<>();
+    private final Map<String, String> placeholderDefaults = new HashMap<>();
+    // compiled from the last fetched content, recompiled when the fetcher returns another one
+    private volatile @Nullable PlaceholderTemplate template;
 
     protected Response(
             ResponseKey key,
@@ -53,6 +63,21 @@ public class Response {
         return this;
     }
 
+    /**
+     * Adds a placeholder resolved to the given value whenever the sent response isn't provided with it,
+     * for the optional parts of a content such as hints.
+     *
+     * @param id           the id of the placeholder
+     * @param defaultValue the value of the placeholder when it isn't provided
+     * @return this response
+     */
+    @ApiStatus.AvailableSince("3.6.0")
+    public Response addPlaceholder(String id, String defaultValue) {
+        possiblePlaceholders.add(id);
+        placeholderDefaults.put(id, defaultValue);
+        return this;
+    }
+
     public Response addContextPlaceholders() {
         return addPlaceholder("command")
                        .addPlaceholder("arguments")
@@ -61,51 +86,101 @@ public class Response {
 
     public <S extends CommandSource> CompletableFuture<Void> sendContent(CommandContext<S> ctx, @Nullable PlaceholderDataProvider placeholders) {
         var src = ctx.source();
-        return getContent(ctx, placeholders)
-                .thenAccept((content) -> {
-                    if (content == null) {
-                        throw new IllegalStateException(
-                                "Failed to fetch content for response '" + key.getKey() + "'. Check previous logs for more details.");
-                    }
-                    src.reply(content);
-                });
-    }
-
-    private <S extends CommandSource> CompletableFuture<String> getContent(CommandContext<S> ctx, @Nullable PlaceholderDataProvider placeholders) {
-        var cfg = ctx.imperatConfig();
-        ResponseRegistry responseRegistry = cfg.getResponseRegistry();
-
+        ResponseRegistry responseRegistry = ctx.imperatConfig().getResponseRegistry();
         ResponseContentFetcher contentFetcher = this.contentFetcher != null
                                                         ? this.contentFetcher
                                                         : responseRegistry.loadDefaultContentFetcher();
+        if (contentFetcher.isImmediate()) {
+            // the content is at hand, deliver it on this thread without chaining futures
+            String content;
+            try {
+                content = applyPlaceholders(contentFetcher.fetchImmediately(contentSupplier), placeholders);
+            } catch (Exception ex) {
+                return failedDelivery(ex);
+            }
+            src.reply(content);
+            return DELIVERED;
+        }
+
+        Locale locale = src.locale();
+        ResponseCache contentCache = responseRegistry.getContentCache();
+        if (contentCache != null) {
+            PlaceholderTemplate cached = contentCache.get(key, locale);
+            if (cached != null) {
+                String content;
+                try {
+                    content = applyPlaceholders(cached, placeholders);
+                } catch (Exception ex) {
+                    return failedDelivery(ex);
+                }
+                src.reply(content);
+                return DELIVERED;
+            }
+        }
 
-        return contentFetcher.fetch(contentSupplier)
-                       .thenApply(content -> applyPlaceholders(content, placeholders))
+        return contentFetcher.fetch(key, locale, contentSupplier)
+                       .thenApply((content) -> contentCache != null
+                                                       ? applyPlaceholders(contentCache.put(key, locale, content), placeholders)
+                                                       : applyPlaceholders(content, placeholders))
                        .exceptionally((ex) -> {
                            ImperatDebugger.error("Failed to fetch content for response '" + key.getKey() + "', caused by: " + ex.getMessage());
                            return null;
+                       })
+                       .thenAccept((content) -> {
+                           if (content == null) {
+                               throw new IllegalStateException(
+                                       "Failed to fetch content for response '" + key.getKey() + "'. Check previous logs for more details.");
+                           }
+                           src.reply(content);
                        });
     }
 
+    private CompletableFuture<Void> failedDelivery(Exception ex) {
+        ImperatDebugger.error("Failed to fetch content for response '" + key.getKey() + "', caused by: " + ex.getMessage());
+        return CompletableFuture.failedFuture(new IllegalStateException(
+                "Failed to fetch content for response '" + key.getKey() + "'. Check previous logs for more details.", ex));
+    }
+
     private String applyPlaceholders(
             String content,
             @Nullable PlaceholderDataProvider placeholders
     ) {
-        if (placeholders == null) {
+        if (placeholders == null && placeholderDefaults.isEmpty()) {
             return content;
         }
+        return applyPlaceholders(templateOf(content), placeholders);
+    }
 
-        //we need to check if the possible placeholders are present in the data provider's registry.
-        Set<Placeholder> unknownPlaceholders = placeholders.registry().getAll().stream()
-                                                       .filter((placeholder) -> !possiblePlaceholders.contains(placeholder.id()))
-                                                       .collect(Collectors.toSet());
+    private String applyPlaceholders(
+            PlaceholderTemplate template,
+            @Nullable PlaceholderDataProvider placeholders
+    ) {
+        if (placeholders == null) {
+            return placeholderDefaults.isEmpty() ? template.source() : template.render(null, placeholderDefaults);
+        }
 
-        if (!unknownPlaceholders.isEmpty()) {
-            throw new IllegalStateException("The response '" + key.getKey() + "' was provided with unknown placeholders: " +
-                                                    unknownPlaceholders.stream().map(Placeholder::id).collect(Collectors.joining(", ")));
+        //we need to check if the possible placeholders are present in the data provider's registry.
+        for (String id : placeholders.registry().getKeys()) {
+            if (!possiblePlaceholders.contains(id)) {
+                throw new IllegalStateException("The response '" + key.getKey() + "' was provided with unknown placeholders: " +
+                                                        placeholders.registry().getAll().stream()
+                                                                .map(Placeholder::id)
+                                                                .filter((placeholderId) -> !possiblePlaceholders.contains(placeholderId))
+                                                                .collect(Collectors.joining(", ")));
+            }
         }
 
-        return placeholders.registry().applyPlaceholders(content);
+        return template.render(placeholders.registry(), placeholderDefaults);
+    }
+
+    private PlaceholderTemplate templateOf(String content) {
+        PlaceholderTemplate current = template;
+        if (current != null && (current.source() == content || current.source().equals(content))) {
+            return current;
+        }
+        current = PlaceholderTemplate.compile(content);
+        template = current;
+        return current;
     }
 
 }
@@ -0,0 +1,160 @@
+package studio.mevera.imperat.responses;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import studio.mevera.imperat.placeholders.PlaceholderTemplate;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches the content of responses per {@link ResponseKey} and locale, compiled into its
+ * {@link PlaceholderTemplate}, so a response whose {@link ResponseContentFetcher} loads its
+ * content from elsewhere (e.g. language files) isn't fetched again on every send.
+ * <p>
+ * Entries are served for a limited time, and the ones closest to expiring are evicted first
+ * once the maximum size is exceeded. Language files being reloaded, the entries can be dropped
+ * all at once, per response or per locale.
+ * Responses whose fetcher is {@link ResponseContentFetcher#isImmediate() immediate} are never cached.
+ *
+ * @see ResponseRegistry#setContentCache(ResponseCache)
+ */
+@ApiStatus.AvailableSince("3.6.0")
+public final class ResponseCache {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 512;
+
+    private final long ttlNanos;
+    private final int maximumSize;
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    private ResponseCache(long ttlNanos, int maximumSize) {
+        if (ttlNanos <= 0) {
+            throw new IllegalArgumentException("Response cache TTL must be positive");
+        }
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Response cache size must be at least 1");
+        }
+        this.ttlNanos = ttlNanos;
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * @param ttl  how long cached content is served
+     * @param unit the unit of the TTL
+     * @return a cache with the default maximum size
+     */
+    public static @NotNull ResponseCache expireAfter(long ttl, @NotNull TimeUnit unit) {
+        return expireAfter(ttl, unit, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * @param ttl         how long cached content is served
+     * @param unit        the unit of the TTL
+     * @param maximumSize the maximum number of cached entries
+     * @return the cache
+     */
+    public static @NotNull ResponseCache expireAfter(long ttl, @NotNull TimeUnit unit, int maximumSize) {
+        return new ResponseCache(unit.toNanos(ttl), maximumSize);
+    }
+
+    /**
+     * @param key    the key of the response
+     * @param locale the locale of the content
+     * @return the compiled content, or {@code null} if it isn't cached or has expired
+     */
+    public @Nullable PlaceholderTemplate get(@NotNull ResponseKey key, @NotNull Locale locale) {
+        Key cacheKey = new Key(key.getKey(), locale);
+        Entry entry = entries.get(cacheKey);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(System.nanoTime())) {
+            entries.remove(cacheKey, entry);
+            return null;
+        }
+        return entry.template();
+    }
+
+    /**
+     * Compiles and caches the fetched content of a response.
+     *
+     * @param key     the key of the response
+     * @param locale  the locale of the content
+     * @param content the fetched content
+     * @return the compiled content
+     */
+    public @NotNull PlaceholderTemplate put(@NotNull ResponseKey key, @NotNull Locale locale, @NotNull String content) {
+        long now = System.nanoTime();
+        PlaceholderTemplate template = PlaceholderTemplate.compile(content);
+        entries.put(new Key(key.getKey(), locale), new Entry(template, now + ttlNanos));
+        evictOverflow(now);
+        return template;
+    }
+
+    // drops expired entries first, then the ones closest to expiring
+    private void evictOverflow(long now) {
+        if (entries.size() <= maximumSize) {
+            return;
+        }
+        entries.values().removeIf((entry) -> entry.isExpired(now));
+        while (entries.size() > maximumSize) {
+            Key oldest = null;
+            long oldestExpiry = Long.MAX_VALUE;
+            for (var cached : entries.entrySet()) {
+                if (oldest == null || cached.getValue().expiresAt() - oldestExpiry < 0) {
+                    oldest = cached.getKey();
+                    oldestExpiry = cached.getValue().expiresAt();
+                }
+            }
+            if (oldest == null) {
+                return;
+            }
+            entries.remove(oldest);
+        }
+    }
+
+    /**
+     * Drops the cached content of a response, in every locale.
+     *
+     * @param key the key of the response
+     */
+    public void invalidate(@NotNull ResponseKey key) {
+        String id = key.getKey();
+        entries.keySet().removeIf((cacheKey) -> cacheKey.id().equals(id));
+    }
+
+    /**
+     * Drops the cached content of every response in a locale, e.g. when its language file is reloaded.
+     *
+     * @param locale the locale
+     */
+    public void invalidate(@NotNull Locale locale) {
+        entries.keySet().removeIf((cacheKey) -> cacheKey.locale().equals(locale));
+    }
+
+    /**
+     * Drops every cached content.
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private record Key(String id, Locale locale) {
+
+    }
+
+    private record Entry(PlaceholderTemplate template, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
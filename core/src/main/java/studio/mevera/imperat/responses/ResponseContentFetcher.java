@@ -1,14 +1,16 @@
 package studio.mevera.imperat.responses;
 
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Locale;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 public interface ResponseContentFetcher {
 
     static ResponseContentFetcher blocking() {
-        return (supplier) -> CompletableFuture.completedFuture(supplier.get());
+        return ImmediateContentFetcher.INSTANCE;
     }
 
     static ResponseContentFetcher async() {
@@ -17,4 +19,41 @@ public interface ResponseContentFetcher {
 
     @NotNull CompletableFuture<String> fetch(@NotNull Supplier<String> contentSupplier);
 
+    /**
+     * Fetches the content of a response in the locale of the source it is sent to,
+     * e.g. from a language file. Defaults to {@link #fetch(Supplier)}, ignoring the locale.
+     *
+     * @param key             the key of the response
+     * @param locale          the locale of the source, {@link Locale#ROOT} when unknown
+     * @param contentSupplier the supplier of the default content
+     * @return the localized content
+     */
+    @ApiStatus.AvailableSince("3.6.0")
+    default @NotNull CompletableFuture<String> fetch(@NotNull ResponseKey key, @NotNull Locale locale, @NotNull Supplier<String> contentSupplier) {
+        return fetch(contentSupplier);
+    }
+
+    /**
+     * Whether the content is available right away, e.g. held in memory, so responses
+     * are delivered inline through {@link #fetchImmediately(Supplier)}, without futures.
+     * Fetchers loading remote or localized content should keep the default.
+     *
+     * @return whether this fetcher supports {@link #fetchImmediately(Supplier)}
+     */
+    @ApiStatus.AvailableSince("3.6.0")
+    default boolean isImmediate() {
+        return false;
+    }
+
+    /**
+     * Only called when {@link #isImmediate()} is {@code true}.
+     *
+     * @param contentSupplier the supplier of the content
+     * @return the content, fetched on the calling thread
+     */
+    @ApiStatus.AvailableSince("3.6.0")
+    default String fetchImmediately(@NotNull Supplier<String> contentSupplier) {
+        return contentSupplier.get();
+    }
+
 }
@@ -23,6 +23,8 @@ public interface ResponseKey extends Keyed<String> {
 
     // Command exceptions
     ResponseKey COOLDOWN = () -> "command.cooldown";
+    ResponseKey RATE_LIMITED = () -> "command.rate-limited";
+    ResponseKey UNKNOWN_SUB_COMMAND = () -> "command.unknown-sub-command";
 
     // Help exceptions
     ResponseKey NO_HELP = () -> "help.not-available";
@@ -1,5 +1,10 @@
 package studio.mevera.imperat.responses;
 
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import studio.mevera.imperat.util.ImperatDebugger;
+
 import java.util.function.Supplier;
 
 public interface ResponseRegistry {
@@ -12,6 +17,35 @@ public interface ResponseRegistry {
         return ResponseContentFetcher.blocking();
     }
 
+    /**
+     * Sets the fetcher of the responses registered without one, e.g. a {@link FileContentFetcher}
+     * to localize every response. Registries implemented before 3.6.0 don't support it, and ignore it with a warning.
+     *
+     * @param contentFetcher the fetcher
+     */
+    @ApiStatus.AvailableSince("3.6.0")
+    default void setDefaultContentFetcher(@NotNull ResponseContentFetcher contentFetcher) {
+        ImperatDebugger.warning("The default content fetcher of %s can't be changed, ignoring it", getClass().getName());
+    }
+
+    /**
+     * @return the cache of the content fetched by non-immediate fetchers, or {@code null} if it isn't cached
+     */
+    @ApiStatus.AvailableSince("3.6.0")
+    default @Nullable ResponseCache getContentCache() {
+        return null;
+    }
+
+    /**
+     * Registries implemented before 3.6.0 don't cache content, and ignore it with a warning.
+     *
+     * @param contentCache the cache of the content fetched by non-immediate fetchers, {@code null} to fetch it on every send
+     */
+    @ApiStatus.AvailableSince("3.6.0")
+    default void setContentCache(@Nullable ResponseCache contentCache) {
+        ImperatDebugger.warning("%s doesn't cache content, ignoring the cache", getClass().getName());
+    }
+
     void registerResponse(Response response);
 
     default void registerResponse(
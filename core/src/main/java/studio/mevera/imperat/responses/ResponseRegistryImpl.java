@@ -1,11 +1,16 @@
 package studio.mevera.imperat.responses;
 
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 final class ResponseRegistryImpl implements ResponseRegistry {
 
     private final Map<String, Response> responses = new ConcurrentHashMap<>();
+    private volatile ResponseContentFetcher defaultContentFetcher = ResponseContentFetcher.blocking();
+    private volatile @Nullable ResponseCache contentCache;
 
     ResponseRegistryImpl() {
         registerDefaultResponses();
@@ -21,11 +26,13 @@ final class ResponseRegistryImpl implements ResponseRegistry {
                         .addContextPlaceholders()
         );
 
-        // InvalidEnumException: String input, Class<? extends Enum> enumType
+        // InvalidEnumException: String input, Class<? extends Enum> enumType, List<String> closestMatches
         registerResponse(
-                new Response(ResponseKey.INVALID_ENUM, () -> "Invalid %enum_type% '%input%'")
+                new Response(ResponseKey.INVALID_ENUM, () -> "Invalid %enum_type% '%input%'%did_you_mean%")
                         .addPlaceholder("input")
                         .addPlaceholder("enum_type")
+                        .addPlaceholder("closest_matches", "")
+                        .addPlaceholder("did_you_mean", "")
                         .addContextPlaceholders()
         );
 
@@ -59,11 +66,13 @@ final class ResponseRegistryImpl implements ResponseRegistry {
                         .addContextPlaceholders()
         );
 
-        // ValueOutOfConstraintException: String input, Set<String> allowedValues
+        // ValueOutOfConstraintException: String input, Set<String> allowedValues, List<String> closestMatches
         registerResponse(
-                new Response(ResponseKey.VALUE_OUT_OF_CONSTRAINT, () -> "Input '%input%' is not one of: [%allowed_values%]")
+                new Response(ResponseKey.VALUE_OUT_OF_CONSTRAINT, () -> "Input '%input%' is not one of: [%allowed_values%]%did_you_mean%")
                         .addPlaceholder("input")
                         .addPlaceholder("allowed_values")
+                        .addPlaceholder("closest_matches", "")
+                        .addPlaceholder("did_you_mean", "")
                         .addContextPlaceholders()
         );
 
@@ -125,6 +134,26 @@ final class ResponseRegistryImpl implements ResponseRegistry {
                         .addPlaceholder("last_executed")
         );
 
+        // RateLimitProcessor: Duration retryAfter, RateLimitRecord record, String scope (global/command)
+        registerResponse(
+                new Response(ResponseKey.RATE_LIMITED, () -> "You're executing commands too fast, try again in %seconds% second(s)!")
+                        .addContextPlaceholders()
+                        .addPlaceholder("seconds")
+                        .addPlaceholder("retry_after")
+                        .addPlaceholder("uses")
+                        .addPlaceholder("period")
+                        .addPlaceholder("scope")
+        );
+
+        // InvalidSyntaxException: String mistypedSubCommand, List<String> closestSubCommands
+        registerResponse(
+                new Response(ResponseKey.UNKNOWN_SUB_COMMAND, () -> "Unknown sub-command '%input%'%did_you_mean%")
+                        .addPlaceholder("input")
+                        .addPlaceholder("closest_matches", "")
+                        .addPlaceholder("did_you_mean", "")
+                        .addContextPlaceholders()
+        );
+
         // Help exceptions
 
         // NoHelpException: no specific data, but we extract from context
@@ -143,6 +172,26 @@ final class ResponseRegistryImpl implements ResponseRegistry {
 
     }
 
+    @Override
+    public ResponseContentFetcher loadDefaultContentFetcher() {
+        return defaultContentFetcher;
+    }
+
+    @Override
+    public void setDefaultContentFetcher(@NotNull ResponseContentFetcher contentFetcher) {
+        this.defaultContentFetcher = contentFetcher;
+    }
+
+    @Override
+    public @Nullable ResponseCache getContentCache() {
+        return contentCache;
+    }
+
+    @Override
+    public void setContentCache(@Nullable ResponseCache contentCache) {
+        this.contentCache = contentCache;
+    }
+
     @Override
     public void registerResponse(Response response) {
         responses.put(response.getKey().getKey(), response);
@@ -0,0 +1,220 @@
+package studio.mevera.imperat.util;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A BK-tree over a fixed set of case-folded keys, answering "which keys are within
+ * {@code d} edits of this input" for "did you mean" hints on mistyped literals.
+ * <p>
+ * Each child is stored under its edit distance to its parent, so by the triangle
+ * inequality a lookup only descends into the children whose distance lies within
+ * {@code d} of the parent's, visiting a small part of the tree instead of every key.
+ * Results keep the original casing of the keys and are ordered by distance,
+ * then by the order the keys were given in.
+ */
+@ApiStatus.AvailableSince("3.6.0")
+public final class BKTree {
+
+    /**
+     * How many keys {@link #closest(String)} reports at most.
+     */
+    public static final int DEFAULT_LIMIT = 3;
+
+    private static final BKTree EMPTY = new BKTree(null);
+
+    private final Node root;
+
+    private BKTree(Node root) {
+        this.root = root;
+    }
+
+    public static @NotNull BKTree of(@NotNull Collection<String> keys) {
+        Node root = null;
+        Set<String> seen = new HashSet<>();
+        int position = 0;
+        for (String key : keys) {
+            String folded = fold(key);
+            if (!seen.add(folded)) {
+                continue;
+            }
+            Node node = new Node(folded, key, position++);
+            if (root == null) {
+                root = node;
+            } else {
+                root.add(node);
+            }
+        }
+        return root == null ? EMPTY : new BKTree(root);
+    }
+
+    /**
+     * @param input the mistyped input
+     * @return the edits tolerated for an input of that length, so short inputs aren't matched to anything
+     */
+    public static int defaultMaxDistance(@NotNull String input) {
+        int length = input.length();
+        return length <= 3 ? 1 : length <= 6 ? 2 : 3;
+    }
+
+    /**
+     * @param input the mistyped input
+     * @return the {@value #DEFAULT_LIMIT} closest keys at most, within {@link #defaultMaxDistance(String)} edits
+     */
+    public @NotNull List<String> closest(@NotNull String input) {
+        return closest(input, defaultMaxDistance(input), DEFAULT_LIMIT);
+    }
+
+    /**
+     * @param input       the mistyped input, its case is ignored
+     * @param maxDistance the maximum number of edits between the input and a key
+     * @param limit       the maximum number of keys to return
+     * @return the closest keys, nearest first, excluding a key equal to the input
+     */
+    public @NotNull List<String> closest(@NotNull String input, int maxDistance, int limit) {
+        if (root == null || limit <= 0) {
+            return List.of();
+        }
+        String query = fold(input);
+        List<Match> matches = new ArrayList<>();
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = distance(query, node.folded);
+            if (distance > 0 && distance <= maxDistance) {
+                matches.add(new Match(node, distance));
+            }
+            for (int i = 0; i < node.size; i++) {
+                if (Math.abs(node.distances[i] - distance) <= maxDistance) {
+                    pending.push(node.children[i]);
+                }
+            }
+        }
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+
+        matches.sort((a, b) -> a.distance != b.distance
+                                       ? Integer.compare(a.distance, b.distance)
+                                       : Integer.compare(a.node.position, b.node.position));
+        int size = Math.min(limit, matches.size());
+        List<String> closest = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            closest.add(matches.get(i).node.key);
+        }
+        return closest;
+    }
+
+    /**
+     * Damerau-Levenshtein distance, where swapping two letters is a single edit as with
+     * most typos. Unlike its restricted variant it is a metric, which the tree relies on,
+     * and lookups need it exact to select the children to visit.
+     */
+    static int distance(String a, String b) {
+        final int n = a.length();
+        final int m = b.length();
+        final int infinity = n + m;
+        int[][] d = new int[n + 2][m + 2];
+        d[0][0] = infinity;
+        for (int i = 0; i <= n; i++) {
+            d[i + 1][0] = infinity;
+            d[i + 1][1] = i;
+        }
+        for (int j = 0; j <= m; j++) {
+            d[0][j + 1] = infinity;
+            d[1][j + 1] = j;
+        }
+
+        // the last row each character was seen at in a
+        Map<Character, Integer> lastRow = new HashMap<>();
+        for (int i = 1; i <= n; i++) {
+            char ca = a.charAt(i - 1);
+            int lastMatchColumn = 0;
+            for (int j = 1; j <= m; j++) {
+                char cb = b.charAt(j - 1);
+                int i1 = lastRow.getOrDefault(cb, 0);
+                int j1 = lastMatchColumn;
+                int cost = 1;
+                if (ca == cb) {
+                    cost = 0;
+                    lastMatchColumn = j;
+                }
+                d[i + 1][j + 1] = Math.min(
+                        Math.min(d[i][j] + cost, d[i + 1][j] + 1),
+                        Math.min(d[i][j + 1] + 1, d[i1][j1] + (i - i1 - 1) + 1 + (j - j1 - 1))
+                );
+            }
+            lastRow.put(ca, i);
+        }
+        return d[n + 1][m + 1];
+    }
+
+    private static String fold(String key) {
+        return key.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Node {
+
+        private final String folded;
+        private final String key;
+        private final int position;
+        private int[] distances = new int[0];
+        private Node[] children = new Node[0];
+        private int size;
+
+        private Node(String folded, String key, int position) {
+            this.folded = folded;
+            this.key = key;
+            this.position = position;
+        }
+
+        private void add(Node node) {
+            Node parent = this;
+            while (true) {
+                int distance = distance(node.folded, parent.folded);
+                Node child = parent.child(distance);
+                if (child == null) {
+                    parent.append(distance, node);
+                    return;
+                }
+                parent = child;
+            }
+        }
+
+        private Node child(int distance) {
+            for (int i = 0; i < size; i++) {
+                if (distances[i] == distance) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private void append(int distance, Node node) {
+            if (size == children.length) {
+                int capacity = Math.max(4, size * 2);
+                distances = Arrays.copyOf(distances, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            distances[size] = distance;
+            children[size++] = node;
+        }
+    }
+
+    private record Match(Node node, int distance) {
+
+    }
+}
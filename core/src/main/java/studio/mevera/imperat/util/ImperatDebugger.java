@@ -17,6 +17,8 @@ public final class ImperatDebugger {
 
     private static boolean usingTestCases = false;
 
+    private static volatile boolean capturingStackTraces = false;
+
     private ImperatDebugger() {
     }
 
@@ -44,6 +46,25 @@ public final class ImperatDebugger {
         ImperatDebugger.enabled = enabled;
     }
 
+    /**
+     * @return whether exceptions for expected user errors, i.e. {@link studio.mevera.imperat.exception.ResponseException}s,
+     * capture their stack trace
+     */
+    public static boolean isCapturingStackTraces() {
+        return capturingStackTraces;
+    }
+
+    /**
+     * Sets whether exceptions for expected user errors, i.e. {@link studio.mevera.imperat.exception.ResponseException}s,
+     * capture their stack trace. They are thrown on every invalid input, so they don't by default,
+     * turn it on to find out where they are thrown from.
+     *
+     * @param capturingStackTraces whether to capture their stack trace
+     */
+    public static void setCapturingStackTraces(boolean capturingStackTraces) {
+        ImperatDebugger.capturingStackTraces = capturingStackTraces;
+    }
+
     public static void setLogger(Logger LOGGER) {
         ImperatDebugger.LOGGER = LOGGER;
     }
@@ -0,0 +1,141 @@
+package studio.mevera.imperat.util;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A sorted, case-folded index over a fixed list of keys, answering
+ * "which keys start with this prefix (ignoring case)" in {@code O(log n + k)}.
+ * <p>
+ * Keys are folded once when the index is built; a lookup only folds the prefix, then
+ * binary-searches the sorted keys for the range sharing it. Matches are reported by the
+ * position of the key in the list the index was built from, in ascending order,
+ * so results keep the original declaration order.
+ */
+@ApiStatus.AvailableSince("3.6.0")
+public final class PrefixIndex {
+
+    private static final PrefixIndex EMPTY = new PrefixIndex(new String[0], new int[0]);
+
+    private final String[] keys;
+    private final int[] positions;
+
+    private PrefixIndex(String[] keys, int[] positions) {
+        this.keys = keys;
+        this.positions = positions;
+    }
+
+    public static @NotNull PrefixIndex of(@NotNull List<String> keys) {
+        final int size = keys.size();
+        if (size == 0) {
+            return EMPTY;
+        }
+
+        String[] folded = new String[size];
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            folded[i] = fold(keys.get(i));
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> folded[a].compareTo(folded[b]));
+
+        String[] sortedKeys = new String[size];
+        int[] positions = new int[size];
+        for (int i = 0; i < size; i++) {
+            sortedKeys[i] = folded[order[i]];
+            positions[i] = order[i];
+        }
+        return new PrefixIndex(sortedKeys, positions);
+    }
+
+    private static String fold(String key) {
+        return key.toLowerCase(Locale.ROOT);
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * @param prefix the prefix to look up, matched ignoring case
+     * @return the ascending positions of the keys starting with the prefix
+     */
+    public int @NotNull [] matches(@NotNull String prefix) {
+        if (prefix.isEmpty()) {
+            int[] all = new int[keys.length];
+            for (int i = 0; i < all.length; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+
+        String folded = fold(prefix);
+        int from = lowerBound(folded);
+        int to = upperBound(folded, from);
+        if (from >= to) {
+            return new int[0];
+        }
+
+        int[] result = Arrays.copyOfRange(positions, from, to);
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * Selects the elements of {@code source} whose key starts with the prefix.
+     *
+     * @param source the list this index was built from, or a list parallel to it
+     * @param prefix the prefix to look up, matched ignoring case
+     * @param <T>    the element type
+     * @return the matching elements in their original order, {@code source} itself if the prefix is empty
+     */
+    public <T> @NotNull List<T> select(@NotNull List<T> source, @NotNull String prefix) {
+        if (prefix.isEmpty()) {
+            return source;
+        }
+        int[] matches = matches(prefix);
+        if (matches.length == 0) {
+            return Collections.emptyList();
+        }
+        List<T> selected = new ArrayList<>(matches.length);
+        for (int position : matches) {
+            selected.add(source.get(position));
+        }
+        return selected;
+    }
+
+    // first index whose key is >= prefix
+    private int lowerBound(String prefix) {
+        int low = 0, high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // first index at or after 'from' whose key doesn't start with prefix
+    private int upperBound(String prefix, int from) {
+        int low = from, high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].startsWith(prefix)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+}
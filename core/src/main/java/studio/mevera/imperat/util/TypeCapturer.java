@@ -5,8 +5,10 @@ import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 public abstract class TypeCapturer {
 
@@ -199,6 +201,25 @@ public abstract class TypeCapturer {
             return owner;
         }
 
+        // consistent with the JDK's own parameterized types, so both are interchangeable as keys
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ParameterizedType that)) {
+                return false;
+            }
+            return raw.equals(that.getRawType())
+                           && Objects.equals(owner, that.getOwnerType())
+                           && Arrays.equals(args, that.getActualTypeArguments());
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(args) ^ Objects.hashCode(owner) ^ raw.hashCode();
+        }
+
         @Override
         public String toString() {
             StringBuilder sb = new StringBuilder(raw.getTypeName());
@@ -229,6 +250,16 @@ public abstract class TypeCapturer {
             return component;
         }
 
+        @Override
+        public boolean equals(Object o) {
+            return this == o || o instanceof GenericArrayType that && component.equals(that.getGenericComponentType());
+        }
+
+        @Override
+        public int hashCode() {
+            return component.hashCode();
+        }
+
         @Override
         public String toString() {
             return component.getTypeName() + "[]";
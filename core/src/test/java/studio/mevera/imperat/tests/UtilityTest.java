@@ -4,10 +4,13 @@ import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import studio.mevera.imperat.util.PrefixIndex;
 import studio.mevera.imperat.util.priority.Prioritizable;
 import studio.mevera.imperat.util.priority.Priority;
 import studio.mevera.imperat.util.priority.PriorityList;
 
+import java.util.List;
+
 @DisplayName("Utility Test Suite")
 public class UtilityTest {
 
@@ -41,4 +44,16 @@ public class UtilityTest {
         Assertions.assertArrayEquals(expectedOrder, realOrder);
     }
 
+    @Test
+    public void testPrefixIndexKeepsDeclarationOrderIgnoringCase() {
+        List<String> values = List.of("Stone", "diamond", "DIRT", "stick", "Diamond_Sword", "apple");
+        PrefixIndex index = PrefixIndex.of(values);
+
+        Assertions.assertEquals(List.of("diamond", "DIRT", "Diamond_Sword"), index.select(values, "di"));
+        Assertions.assertEquals(List.of("Stone", "stick"), index.select(values, "ST"));
+        Assertions.assertEquals(List.of("Diamond_Sword"), index.select(values, "diamond_"));
+        Assertions.assertTrue(index.select(values, "z").isEmpty());
+        Assertions.assertSame(values, index.select(values, ""));
+    }
+
 }
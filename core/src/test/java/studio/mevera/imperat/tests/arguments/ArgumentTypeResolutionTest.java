@@ -0,0 +1,116 @@
+package studio.mevera.imperat.tests.arguments;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import studio.mevera.imperat.command.arguments.Argument;
+import studio.mevera.imperat.command.arguments.type.ArgumentType;
+import studio.mevera.imperat.command.arguments.type.ArgumentTypeHandler;
+import studio.mevera.imperat.command.arguments.type.ArgumentTypeLookup;
+import studio.mevera.imperat.context.ArgumentTypeRegistry;
+import studio.mevera.imperat.context.CommandContext;
+import studio.mevera.imperat.tests.TestCommandSource;
+import studio.mevera.imperat.util.TypeWrap;
+import studio.mevera.imperat.util.priority.Priority;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests that the resolution of argument types is remembered per type.
+ */
+@DisplayName("Argument Type Resolution Tests")
+class ArgumentTypeResolutionTest {
+
+    private final ArgumentTypeRegistry<TestCommandSource> registry = ArgumentTypeRegistry.createDefault();
+
+    private ArgumentType<TestCommandSource, ?> resolve(Type type) {
+        return registry.getResolver(type).orElseThrow();
+    }
+
+    @Test
+    @DisplayName("Should share the argument types of shareable handlers only")
+    void testSharedArgumentTypes() {
+        assertSame(resolve(TimeUnit.class), resolve(TimeUnit.class));
+        assertSame(resolve(int.class), resolve(int.class));
+        assertNotSame(resolve(String.class), resolve(String.class));
+
+        Type listOfIntegers = new TypeWrap<List<Integer>>() {}.getType();
+        assertNotSame(resolve(listOfIntegers), resolve(listOfIntegers));
+    }
+
+    @Test
+    @DisplayName("Should look up the handler of a type once until a handler or resolver is registered")
+    void testResolutionCached() {
+        CountingHandler handler = new CountingHandler();
+        registry.registerHandler(handler);
+
+        ArgumentType<TestCommandSource, ?> first = resolve(Point.class);
+        ArgumentType<TestCommandSource, ?> second = resolve(Point.class);
+        assertNotSame(first, second);
+        assertEquals(1, handler.checks.get());
+        assertEquals(2, handler.resolutions.get());
+
+        PointType custom = new PointType();
+        registry.registerResolver(Point.class, () -> custom);
+        assertSame(custom, resolve(Point.class));
+
+        ArgumentType<TestCommandSource, ?> enumType = resolve(TimeUnit.class);
+        registry.registerResolver(TimeUnit.class, () -> custom);
+        assertSame(custom, resolve(TimeUnit.class));
+        assertNotSame(custom, enumType);
+    }
+
+    private record Point(int x, int y) {
+
+    }
+
+    private static final class PointType extends ArgumentType<TestCommandSource, Point> {
+
+        private PointType() {
+            super(Point.class);
+        }
+
+        @Override
+        public Point parse(@NotNull CommandContext<TestCommandSource> context, @NotNull Argument<TestCommandSource> argument,
+                @NotNull String input) {
+            String[] coordinates = input.split(",");
+            return new Point(Integer.parseInt(coordinates[0]), Integer.parseInt(coordinates[1]));
+        }
+    }
+
+    private static final class CountingHandler implements ArgumentTypeHandler<TestCommandSource> {
+
+        private final AtomicInteger checks = new AtomicInteger();
+        private final AtomicInteger resolutions = new AtomicInteger();
+
+        @Override
+        public boolean canHandle(@NotNull Type type, @NotNull TypeWrap<?> wrap) {
+            checks.incrementAndGet();
+            return type == Point.class;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public @Nullable <T> ArgumentType<TestCommandSource, T> resolve(
+                @NotNull Type type,
+                @NotNull TypeWrap<?> wrap,
+                @NotNull ArgumentTypeLookup<TestCommandSource> lookup
+        ) {
+            resolutions.incrementAndGet();
+            return (ArgumentType<TestCommandSource, T>) new PointType();
+        }
+
+        @Override
+        public @NotNull Priority getPriority() {
+            return Priority.NORMAL;
+        }
+    }
+}
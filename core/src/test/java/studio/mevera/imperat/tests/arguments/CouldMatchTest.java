@@ -0,0 +1,192 @@
+package studio.mevera.imperat.tests.arguments;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import studio.mevera.imperat.command.Command;
+import studio.mevera.imperat.command.CommandPathway;
+import studio.mevera.imperat.command.arguments.Argument;
+import studio.mevera.imperat.command.arguments.Either;
+import studio.mevera.imperat.command.arguments.type.ArgumentType;
+import studio.mevera.imperat.command.arguments.type.ArgumentTypes;
+import studio.mevera.imperat.context.CommandContext;
+import studio.mevera.imperat.exception.CommandException;
+import studio.mevera.imperat.tests.TestCommandSource;
+import studio.mevera.imperat.tests.TestImperat;
+import studio.mevera.imperat.tests.TestImperatConfig;
+import studio.mevera.imperat.util.TypeWrap;
+import studio.mevera.imperat.util.priority.Priority;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests that inputs rejected by the cheap checks of argument types aren't parsed.
+ */
+@DisplayName("Could Match Tests")
+class CouldMatchTest {
+
+    private static final List<String> INPUTS = List.of(
+            "0", "-7", "+7", "2147483648", "", "-", "+", "1-", "abc", "1.5", ".5", "1e3", "NaN", "-Infinity",
+            "0x1p3", "true", "yes", "c", "ab", "123e4567-e89b-12d3-a456-426614174000", "1-1-1-1-1", "+1-2-3-4-5"
+    );
+
+    private final PointType pointType = new PointType();
+
+    private static boolean parses(ArgumentType<TestCommandSource, ?> type, String input) {
+        try {
+            return type.parse(null, null, input) != null;
+        } catch (Exception ex) {
+            return false;
+        }
+    }
+
+    private TestImperat createImperat() {
+        TestImperat imperat = TestImperatConfig.builder()
+                                      .argType(Point.class, pointType)
+                                      .build();
+        imperat.registerSimpleCommand(
+                Command.<TestCommandSource>create(imperat, "either")
+                        .pathway(CommandPathway.<TestCommandSource>builder()
+                                         .arguments(Argument.required("value", ArgumentTypes.either(
+                                                 new TypeWrap<Either<Point, Integer>>() {},
+                                                 TypeWrap.of(Point.class),
+                                                 TypeWrap.of(Integer.class)
+                                         )))
+                                         .execute((source, context) -> {}))
+                        .build()
+        );
+        imperat.registerSimpleCommand(
+                Command.<TestCommandSource>create(imperat, "go")
+                        .pathway(CommandPathway.<TestCommandSource>builder()
+                                         .arguments(Argument.required("point", pointType))
+                                         .execute((source, context) -> {}))
+                        .build()
+        );
+        imperat.registerSimpleCommand(
+                Command.<TestCommandSource>create(imperat, "pick")
+                        .pathway(CommandPathway.<TestCommandSource>builder()
+                                         .arguments(Argument.required("point", pointType))
+                                         .execute((source, context) -> {}))
+                        .pathway(CommandPathway.<TestCommandSource>builder()
+                                         .arguments(Argument.<TestCommandSource>requiredInt("amount"))
+                                         .execute((source, context) -> {}))
+                        .build()
+        );
+        return imperat;
+    }
+
+    private static Object executeAndGet(TestImperat imperat, String line, String argument) {
+        var result = imperat.execute(new TestCommandSource(System.out), line);
+        return result.hasFailed() ? null : result.getExecutionContext().getArgument(argument);
+    }
+
+    @Test
+    @DisplayName("Should never reject an input the built-in types parse")
+    void testBuiltInChecks() {
+        List<ArgumentType<TestCommandSource, ?>> types = List.of(
+                ArgumentTypes.numeric(Integer.class),
+                ArgumentTypes.numeric(Long.class),
+                ArgumentTypes.numeric(Short.class),
+                ArgumentTypes.numeric(Byte.class),
+                ArgumentTypes.numeric(Float.class),
+                ArgumentTypes.numeric(Double.class),
+                ArgumentTypes.numeric(java.math.BigInteger.class),
+                ArgumentTypes.numeric(java.math.BigDecimal.class),
+                ArgumentTypes.uuid(),
+                ArgumentTypes.bool(),
+                ArgumentTypes.character()
+        );
+        for (ArgumentType<TestCommandSource, ?> type : types) {
+            for (String input : INPUTS) {
+                if (parses(type, input)) {
+                    assertTrue(type.couldMatch(input), type.getClass().getSimpleName() + ": '" + input + "'");
+                }
+            }
+        }
+
+        assertFalse(ArgumentTypes.<TestCommandSource, Integer>numeric(Integer.class).couldMatch("1.5"));
+        assertFalse(ArgumentTypes.<TestCommandSource, Double>numeric(Double.class).couldMatch("abc"));
+        assertFalse(ArgumentTypes.<TestCommandSource>uuid().couldMatch("abc"));
+        assertTrue(ArgumentTypes.<TestCommandSource>uuid().couldMatch(UUID.randomUUID().toString()));
+    }
+
+    @Test
+    @DisplayName("Should pick the branch of an either argument by the input before parsing it")
+    void testEitherBranch() {
+        TestImperat imperat = createImperat();
+
+        Either<?, ?> number = (Either<?, ?>) executeAndGet(imperat, "either 5", "value");
+        assertNotNull(number);
+        assertEquals(5, number.getFallback().orElseThrow());
+        assertEquals(0, pointType.parses.get());
+
+        Either<?, ?> point = (Either<?, ?>) executeAndGet(imperat, "either 1,2", "value");
+        assertNotNull(point);
+        assertEquals(new Point(1, 2), point.getPrimary().orElseThrow());
+        assertEquals(1, pointType.parses.get());
+    }
+
+    @Test
+    @DisplayName("Should not parse rejected inputs while matching, only for the error reported")
+    void testRejectedInputs() {
+        TestImperat imperat = createImperat();
+        assertEquals(new Point(3, 4), executeAndGet(imperat, "go 3,4", "point"));
+        assertEquals(1, pointType.parses.get());
+
+        var result = imperat.execute(new TestCommandSource(System.out), "go 5");
+        assertTrue(result.hasFailed());
+        assertNotNull(result.getError());
+        assertEquals("Invalid point '5'", result.getError().getMessage());
+        assertEquals(2, pointType.parses.get());
+    }
+
+    @Test
+    @DisplayName("Should not parse the rejected input of a sibling branch the traversal moves past")
+    void testRejectedSiblingBranch() {
+        TestImperat imperat = createImperat();
+        assertEquals(5, executeAndGet(imperat, "pick 5", "amount"));
+        assertEquals(0, pointType.parses.get());
+    }
+
+    private record Point(int x, int y) {
+
+    }
+
+    private static final class PointType extends ArgumentType<TestCommandSource, Point> {
+
+        private final AtomicInteger parses = new AtomicInteger();
+
+        private PointType() {
+            super(Point.class);
+        }
+
+        @Override
+        public Point parse(@NotNull CommandContext<TestCommandSource> context, @NotNull Argument<TestCommandSource> argument,
+                @NotNull String input) throws CommandException {
+            parses.incrementAndGet();
+            String[] coordinates = input.split(",");
+            if (coordinates.length != 2) {
+                throw new CommandException("Invalid point '" + input + "'");
+            }
+            return new Point(Integer.parseInt(coordinates[0]), Integer.parseInt(coordinates[1]));
+        }
+
+        @Override
+        public boolean couldMatch(@NotNull String input) {
+            return input.indexOf(',') > 0;
+        }
+
+        // tried before the numbers of a node
+        @Override
+        public @NotNull Priority getPriority() {
+            return Priority.HIGH;
+        }
+    }
+}
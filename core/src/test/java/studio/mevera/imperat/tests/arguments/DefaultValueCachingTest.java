@@ -0,0 +1,109 @@
+package studio.mevera.imperat.tests.arguments;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import studio.mevera.imperat.command.Command;
+import studio.mevera.imperat.command.CommandPathway;
+import studio.mevera.imperat.command.arguments.Argument;
+import studio.mevera.imperat.command.arguments.DefaultValueProvider;
+import studio.mevera.imperat.command.arguments.type.ArgumentType;
+import studio.mevera.imperat.context.CommandContext;
+import studio.mevera.imperat.context.CommandSource;
+import studio.mevera.imperat.context.ExecutionContext;
+import studio.mevera.imperat.tests.TestCommandSource;
+import studio.mevera.imperat.tests.TestImperat;
+import studio.mevera.imperat.tests.TestImperatConfig;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests that constant default values of context-free types are parsed once.
+ */
+@DisplayName("Default Value Caching Tests")
+class DefaultValueCachingTest {
+
+    private static Object executeAndGet(TestImperat imperat, String line) {
+        var result = imperat.execute(new TestCommandSource(System.out), line);
+        assertNull(result.getError());
+        return result.getExecutionContext().getArgument("value");
+    }
+
+    private static TestImperat createImperat(CountingType type, DefaultValueProvider defaultValue) {
+        TestImperat imperat = TestImperatConfig.builder().build();
+        imperat.registerSimpleCommand(
+                Command.<TestCommandSource>create(imperat, "count")
+                        .pathway(CommandPathway.<TestCommandSource>builder()
+                                         .arguments(Argument.optional("value", type).defaultValue(defaultValue))
+                                         .execute((source, context) -> {}))
+                        .build()
+        );
+        return imperat;
+    }
+
+    @Test
+    @DisplayName("Should parse a constant default value once")
+    void testConstantDefaultParsedOnce() {
+        CountingType type = new CountingType(true);
+        TestImperat imperat = createImperat(type, DefaultValueProvider.of("1000"));
+
+        Object first = executeAndGet(imperat, "count");
+        Object second = executeAndGet(imperat, "count");
+        assertEquals(1000, first);
+        assertSame(first, second);
+        assertEquals(1, type.parses.get());
+
+        assertEquals(7, executeAndGet(imperat, "count 7"));
+        assertEquals(2, type.parses.get());
+    }
+
+    @Test
+    @DisplayName("Should parse dynamic or context-dependent default values on every execution")
+    void testDynamicDefaultParsedEveryTime() {
+        CountingType contextual = new CountingType(false);
+        TestImperat imperat = createImperat(contextual, DefaultValueProvider.of("1000"));
+        executeAndGet(imperat, "count");
+        executeAndGet(imperat, "count");
+        assertEquals(2, contextual.parses.get());
+
+        CountingType contextFree = new CountingType(true);
+        AtomicInteger provided = new AtomicInteger(1000);
+        imperat = createImperat(contextFree, new DefaultValueProvider() {
+            @Override
+            public @Nullable <S extends CommandSource> String provide(ExecutionContext<S> context, Argument<S> parameter) {
+                return String.valueOf(provided.getAndIncrement());
+            }
+        });
+        assertEquals(1000, executeAndGet(imperat, "count"));
+        assertEquals(1001, executeAndGet(imperat, "count"));
+        assertEquals(2, contextFree.parses.get());
+    }
+
+    private static final class CountingType extends ArgumentType<TestCommandSource, Integer> {
+
+        private final AtomicInteger parses = new AtomicInteger();
+        private final boolean contextFree;
+
+        private CountingType(boolean contextFree) {
+            super(Integer.class);
+            this.contextFree = contextFree;
+        }
+
+        @Override
+        public Integer parse(@NotNull CommandContext<TestCommandSource> context, @NotNull Argument<TestCommandSource> argument,
+                @NotNull String input) {
+            parses.incrementAndGet();
+            return Integer.valueOf(input);
+        }
+
+        @Override
+        public boolean isContextFree() {
+            return contextFree;
+        }
+    }
+}
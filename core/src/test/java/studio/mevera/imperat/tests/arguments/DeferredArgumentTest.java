@@ -0,0 +1,285 @@
+package studio.mevera.imperat.tests.arguments;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import studio.mevera.imperat.command.Command;
+import studio.mevera.imperat.command.CommandPathway;
+import studio.mevera.imperat.command.arguments.Argument;
+import studio.mevera.imperat.command.arguments.type.ArgumentType;
+import studio.mevera.imperat.context.CommandContext;
+import studio.mevera.imperat.exception.CommandException;
+import studio.mevera.imperat.exception.DeferredArgumentException;
+import studio.mevera.imperat.tests.TestCommandSource;
+import studio.mevera.imperat.tests.TestImperat;
+import studio.mevera.imperat.tests.TestImperatConfig;
+import studio.mevera.imperat.util.priority.Priority;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests that deferred argument types are only parsed once their value is needed.
+ */
+@DisplayName("Deferred Argument Tests")
+class DeferredArgumentTest {
+
+    private final LookupType type = new LookupType();
+    private final List<Object> accessed = new CopyOnWriteArrayList<>();
+
+    private TestImperat createImperat(boolean readValue) {
+        TestImperat imperat = TestImperatConfig.builder().build();
+        imperat.registerSimpleCommand(
+                Command.<TestCommandSource>create(imperat, "lookup")
+                        .pathway(CommandPathway.<TestCommandSource>builder()
+                                         .arguments(Argument.required("name", type))
+                                         .cooldown(10, TimeUnit.SECONDS)
+                                         .execute((source, context) -> {
+                                             if (readValue) {
+                                                 accessed.add(context.getArgument("name"));
+                                                 accessed.add(context.getArgument("name"));
+                                             }
+                                         }))
+                        .build()
+        );
+        return imperat;
+    }
+
+    private static Object executeAndGet(TestImperat imperat, String line, String argument) {
+        var result = imperat.execute(new TestCommandSource(System.out), line);
+        return result.hasFailed() ? null : result.getExecutionContext().getArgument(argument);
+    }
+
+    @Test
+    @DisplayName("Should parse a deferred argument once, on the first access of its value")
+    void testParsedOnceOnAccess() {
+        TestImperat imperat = createImperat(true);
+        var result = imperat.execute(new TestCommandSource(System.out), "lookup alex");
+
+        assertNull(result.getError());
+        assertEquals(1, type.lookups.get());
+        assertEquals(2, accessed.size());
+        assertEquals(new Profile("alex"), accessed.get(0));
+        assertSame(accessed.get(0), accessed.get(1));
+    }
+
+    @Test
+    @DisplayName("Should never parse a deferred argument whose value is never accessed")
+    void testNotParsedWhenNeverRead() {
+        TestImperat imperat = createImperat(false);
+        var result = imperat.execute(new TestCommandSource(System.out), "lookup alex");
+
+        assertNull(result.getError());
+        assertEquals(0, type.lookups.get());
+    }
+
+    @Test
+    @DisplayName("Should not parse a deferred argument of an execution rejected by a cooldown")
+    void testNotParsedWhenRejected() {
+        TestImperat imperat = createImperat(true);
+        TestCommandSource source = new TestCommandSource(System.out);
+
+        assertNull(imperat.execute(source, "lookup alex").getError());
+        assertTrue(imperat.execute(source, "lookup sam").hasFailed());
+        assertEquals(1, type.lookups.get());
+    }
+
+    @Test
+    @DisplayName("Should report the errors of inputs rejected by their shape or failing to parse on access")
+    void testParseErrors() {
+        TestImperat imperat = createImperat(true);
+        assertTrue(imperat.execute(new TestCommandSource(System.out), "lookup way-too-long-name").hasFailed());
+        assertEquals(0, type.lookups.get());
+
+        var result = imperat.execute(new TestCommandSource(System.out), "lookup nobody");
+        assertTrue(result.hasFailed());
+        assertInstanceOf(DeferredArgumentException.class, result.getError());
+        assertInstanceOf(CommandException.class, result.getError().getCause());
+        assertEquals("Unknown profile 'nobody'", result.getError().getCause().getMessage());
+        assertEquals(1, type.lookups.get());
+        assertEquals(0, accessed.size());
+    }
+
+    @Test
+    @DisplayName("Should keep reporting a failure of any type on the next accesses, without parsing again")
+    void testFailureKept() {
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+        TestImperat imperat = TestImperatConfig.builder().build();
+        imperat.registerSimpleCommand(
+                Command.<TestCommandSource>create(imperat, "lookup")
+                        .pathway(CommandPathway.<TestCommandSource>builder()
+                                         .arguments(Argument.required("name", type))
+                                         .execute((source, context) -> {
+                                             for (int i = 0; i < 2; i++) {
+                                                 try {
+                                                     accessed.add(context.getArgument("name"));
+                                                 } catch (DeferredArgumentException ex) {
+                                                     failures.add(ex.getCause());
+                                                 }
+                                             }
+                                         }))
+                        .build()
+        );
+
+        assertNull(imperat.execute(new TestCommandSource(System.out), "lookup broken").getError());
+        assertEquals(1, type.lookups.get());
+        assertEquals(0, accessed.size());
+        assertEquals(2, failures.size());
+        assertInstanceOf(IllegalStateException.class, failures.get(0));
+        assertSame(failures.get(0), failures.get(1));
+    }
+
+    @Test
+    @DisplayName("Should defer an argument with sibling sub-commands")
+    void testDeferredBesideSubCommands() {
+        TestImperat imperat = TestImperatConfig.builder().build();
+        imperat.registerSimpleCommand(
+                Command.<TestCommandSource>create(imperat, "eco")
+                        .subCommand(Command.<TestCommandSource>create(imperat, "give")
+                                            .pathway(CommandPathway.<TestCommandSource>builder()
+                                                             .arguments(Argument.required("name", type))
+                                                             .execute((source, context) -> {}))
+                                            .subCommand(Command.<TestCommandSource>create(imperat, "all")
+                                                                .pathway(CommandPathway.<TestCommandSource>builder()
+                                                                                 .execute((source, context) -> {}))
+                                                                .build())
+                                            .build())
+                        .subCommand(Command.<TestCommandSource>create(imperat, "take")
+                                            .pathway(CommandPathway.<TestCommandSource>builder()
+                                                             .arguments(Argument.<TestCommandSource>requiredInt("amount"))
+                                                             .execute((source, context) -> {}))
+                                            .build())
+                        .build()
+        );
+
+        var result = imperat.execute(new TestCommandSource(System.out), "eco give alex");
+        assertNull(result.getError());
+        assertEquals(0, type.lookups.get());
+        assertEquals(new Profile("alex"), result.getExecutionContext().getArgument("name"));
+        assertEquals(1, type.lookups.get());
+
+        assertNull(imperat.execute(new TestCommandSource(System.out), "eco give all").getError());
+        assertEquals(1, type.lookups.get());
+    }
+
+    @Test
+    @DisplayName("Should parse an optional deferred argument to decide whether it takes the input")
+    void testOptionalFollowedByRequired() {
+        TestImperat imperat = TestImperatConfig.builder().build();
+        imperat.registerSimpleCommand(
+                Command.<TestCommandSource>create(imperat, "opt")
+                        .pathway(CommandPathway.<TestCommandSource>builder()
+                                         .arguments(
+                                                 Argument.optional("name", type),
+                                                 Argument.<TestCommandSource>requiredInt("amount")
+                                         )
+                                         .execute((source, context) -> {}))
+                        .build()
+        );
+
+        var result = imperat.execute(new TestCommandSource(System.out), "opt 5");
+        assertNull(result.getError());
+        assertNull(result.getExecutionContext().getArgument("name"));
+        assertEquals(5, (Integer) result.getExecutionContext().getArgument("amount"));
+
+        result = imperat.execute(new TestCommandSource(System.out), "opt alex 5");
+        assertNull(result.getError());
+        assertEquals(new Profile("alex"), result.getExecutionContext().getArgument("name"));
+        assertEquals(5, (Integer) result.getExecutionContext().getArgument("amount"));
+    }
+
+    @Test
+    @DisplayName("Should parse an optional deferred argument to decide whether a following optional one takes the input")
+    void testOptionalFollowedByOptional() {
+        TestImperat imperat = TestImperatConfig.builder()
+                                      .handleMiddleOptionalArgSkipping(true)
+                                      .build();
+        imperat.registerSimpleCommand(
+                Command.<TestCommandSource>create(imperat, "opts")
+                        .pathway(CommandPathway.<TestCommandSource>builder()
+                                         .arguments(
+                                                 Argument.optional("name", type),
+                                                 Argument.<TestCommandSource>optionalInt("amount")
+                                         )
+                                         .execute((source, context) -> {}))
+                        .build()
+        );
+
+        var result = imperat.execute(new TestCommandSource(System.out), "opts 5");
+        assertNull(result.getError());
+        assertNull(result.getExecutionContext().getArgument("name"));
+        assertEquals(5, (Integer) result.getExecutionContext().getArgument("amount"));
+    }
+
+    @Test
+    @DisplayName("Should parse a deferred argument to pick between sibling branches")
+    void testSiblingBranches() {
+        TestImperat imperat = TestImperatConfig.builder().build();
+        imperat.registerSimpleCommand(
+                Command.<TestCommandSource>create(imperat, "branch")
+                        .pathway(CommandPathway.<TestCommandSource>builder()
+                                         .arguments(Argument.required("name", type))
+                                         .execute((source, context) -> {}))
+                        .pathway(CommandPathway.<TestCommandSource>builder()
+                                         .arguments(Argument.<TestCommandSource>requiredInt("amount"))
+                                         .execute((source, context) -> {}))
+                        .build()
+        );
+
+        assertEquals(5, executeAndGet(imperat, "branch 5", "amount"));
+        assertEquals(new Profile("alex"), executeAndGet(imperat, "branch alex", "name"));
+    }
+
+    private record Profile(String name) {
+
+    }
+
+    private static final class LookupType extends ArgumentType<TestCommandSource, Profile> {
+
+        private final AtomicInteger lookups = new AtomicInteger();
+
+        private LookupType() {
+            super(Profile.class);
+        }
+
+        @Override
+        public Profile parse(@NotNull CommandContext<TestCommandSource> context, @NotNull Argument<TestCommandSource> argument,
+                @NotNull String input) throws CommandException {
+            if (!couldMatch(input)) {
+                throw new CommandException("Invalid name '" + input + "'");
+            }
+            lookups.incrementAndGet();
+            if (input.equals("broken")) {
+                throw new IllegalStateException("Lookup service is down");
+            }
+            if (input.equals("nobody") || !Character.isLetter(input.charAt(0))) {
+                throw new CommandException("Unknown profile '" + input + "'");
+            }
+            return new Profile(input);
+        }
+
+        @Override
+        public boolean isDeferred() {
+            return true;
+        }
+
+        @Override
+        public boolean couldMatch(@NotNull String input) {
+            return input.length() <= 16;
+        }
+
+        // tried before the other branches of a node, as is any loose shape check
+        @Override
+        public @NotNull Priority getPriority() {
+            return Priority.HIGH;
+        }
+    }
+}
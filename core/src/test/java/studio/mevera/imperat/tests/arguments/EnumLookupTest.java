@@ -0,0 +1,107 @@
+package studio.mevera.imperat.tests.arguments;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import studio.mevera.imperat.annotations.types.EnumAlias;
+import studio.mevera.imperat.command.Command;
+import studio.mevera.imperat.command.CommandPathway;
+import studio.mevera.imperat.command.arguments.Argument;
+import studio.mevera.imperat.command.arguments.type.EnumArgument;
+import studio.mevera.imperat.command.arguments.validator.ConstrainedValueValidator;
+import studio.mevera.imperat.tests.TestCommandSource;
+import studio.mevera.imperat.tests.TestImperat;
+import studio.mevera.imperat.tests.TestImperatConfig;
+import studio.mevera.imperat.util.TypeWrap;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Tests the case-insensitive lookup of enum constants and constrained values.
+ */
+@DisplayName("Enum Lookup Tests")
+class EnumLookupTest {
+
+    @SuppressWarnings("unchecked")
+    private static final EnumArgument<TestCommandSource> MODES =
+            new EnumArgument<>((TypeWrap<Enum<?>>) (TypeWrap<?>) TypeWrap.of(Mode.class));
+
+    private static Object executeAndGet(TestImperat imperat, String line) {
+        var result = imperat.execute(new TestCommandSource(System.out), line);
+        return result.hasFailed() ? null : result.getExecutionContext().getArgument("value");
+    }
+
+    @Test
+    @DisplayName("Should look up constants by name or alias ignoring case, without failing on a miss")
+    void testLookup() {
+        assertEquals(Mode.CREATIVE, MODES.lookup("CREATIVE"));
+        assertEquals(Mode.CREATIVE, MODES.lookup("creative"));
+        assertEquals(Mode.CREATIVE, MODES.lookup("c"));
+        assertEquals(Mode.SURVIVAL, MODES.lookup("S"));
+        assertEquals(Mode.SURVIVAL, MODES.lookup("0"));
+        assertEquals(Mode.SPECTATOR, MODES.lookup("Spectator"));
+        assertNull(MODES.lookup("flying"));
+    }
+
+    @Test
+    @DisplayName("Should prefer the constant matching the exact case")
+    void testExactCaseFirst() {
+        assertEquals(Mode.spectator, MODES.lookup("spectator"));
+        assertEquals(Mode.SPECTATOR, MODES.lookup("SPECTATOR"));
+    }
+
+    @Test
+    @DisplayName("Should parse enum arguments ignoring case")
+    void testParseArgument() {
+        TestImperat imperat = TestImperatConfig.builder().build();
+        imperat.registerSimpleCommand(
+                Command.<TestCommandSource>create(imperat, "mode")
+                        .pathway(CommandPathway.<TestCommandSource>builder()
+                                         .arguments(Argument.required("value", MODES))
+                                         .execute((source, context) -> {}))
+                        .build()
+        );
+
+        assertEquals(Mode.CREATIVE, executeAndGet(imperat, "mode Creative"));
+        assertEquals(Mode.SURVIVAL, executeAndGet(imperat, "mode s"));
+        assertNull(executeAndGet(imperat, "mode flying"));
+    }
+
+    @Test
+    @DisplayName("Should match constrained values ignoring case when not case-sensitive")
+    void testConstrainedValues() {
+        var allowed = new LinkedHashSet<>(List.of("Red", "Green", "Blue"));
+        TestImperat imperat = TestImperatConfig.builder().build();
+        imperat.registerSimpleCommand(
+                Command.<TestCommandSource>create(imperat, "color")
+                        .pathway(CommandPathway.<TestCommandSource>builder()
+                                         .arguments(Argument.<TestCommandSource>requiredText("value")
+                                                            .validate(new ConstrainedValueValidator<>(allowed, false)))
+                                         .execute((source, context) -> {}))
+                        .build()
+        );
+        imperat.registerSimpleCommand(
+                Command.<TestCommandSource>create(imperat, "strictcolor")
+                        .pathway(CommandPathway.<TestCommandSource>builder()
+                                         .arguments(Argument.<TestCommandSource>requiredText("value")
+                                                            .validate(new ConstrainedValueValidator<>(allowed, true)))
+                                         .execute((source, context) -> {}))
+                        .build()
+        );
+
+        assertEquals("gREEN", executeAndGet(imperat, "color gREEN"));
+        assertNull(executeAndGet(imperat, "color purple"));
+        assertEquals("Green", executeAndGet(imperat, "strictcolor Green"));
+        assertNull(executeAndGet(imperat, "strictcolor green"));
+    }
+
+    private enum Mode {
+        @EnumAlias({"c", "1"}) CREATIVE,
+        @EnumAlias({"s", "0"}) SURVIVAL,
+        SPECTATOR,
+        spectator
+    }
+}
@@ -0,0 +1,196 @@
+package studio.mevera.imperat.tests.arguments;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import studio.mevera.imperat.annotations.types.Execute;
+import studio.mevera.imperat.annotations.types.Range;
+import studio.mevera.imperat.annotations.types.RootCommand;
+import studio.mevera.imperat.command.arguments.NumericRange;
+import studio.mevera.imperat.command.arguments.type.ArgumentTypes;
+import studio.mevera.imperat.command.arguments.type.NumberArgument;
+import studio.mevera.imperat.context.ExecutionContext;
+import studio.mevera.imperat.context.ExecutionResult;
+import studio.mevera.imperat.context.internal.PrimitiveParsedArgument;
+import studio.mevera.imperat.exception.ResponseException;
+import studio.mevera.imperat.tests.TestCommandSource;
+import studio.mevera.imperat.tests.TestImperat;
+import studio.mevera.imperat.tests.TestImperatConfig;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Tests that the primitive numeric parsing agrees with the JDK's, and that its values are kept and bound as primitives.
+ */
+@DisplayName("Numeric Parsing Tests")
+class NumericParsingTest {
+
+    private static final List<String> INPUTS = List.of(
+            "0", "-0", "+0", "7", "-7", "+7", "007", "2147483647", "2147483648", "-2147483648", "-2147483649",
+            "9223372036854775807", "9223372036854775808", "-9223372036854775808", "-9223372036854775809",
+            "", "-", "+", "--1", "1-", "12a", "abc", " 1", "1.5", "-12.25", ".5", "5.", ".", "1e3", "1E-3",
+            "0.1", "123456789012345678", "1.7976931348623157e308", "9007199254740993", "3.14159265358979323846",
+            "NaN", "-Infinity", "1d", "0x1p3", "12.34.5"
+    );
+
+    private static final NumberArgument.IntArgument<TestCommandSource> INT =
+            (NumberArgument.IntArgument<TestCommandSource>) ArgumentTypes.<TestCommandSource, Integer>numeric(Integer.class);
+    private static final NumberArgument.LongArgument<TestCommandSource> LONG =
+            (NumberArgument.LongArgument<TestCommandSource>) ArgumentTypes.<TestCommandSource, Long>numeric(Long.class);
+    private static final NumberArgument.DoubleArgument<TestCommandSource> DOUBLE =
+            (NumberArgument.DoubleArgument<TestCommandSource>) ArgumentTypes.<TestCommandSource, Double>numeric(Double.class);
+
+    private static String expectedInt(String input) {
+        try {
+            return String.valueOf(Integer.parseInt(input));
+        } catch (NumberFormatException ex) {
+            return "invalid";
+        }
+    }
+
+    private static String expectedLong(String input) {
+        try {
+            return String.valueOf(Long.parseLong(input));
+        } catch (NumberFormatException ex) {
+            return "invalid";
+        }
+    }
+
+    private static String expectedDouble(String input) {
+        try {
+            return String.valueOf(Double.doubleToRawLongBits(Double.parseDouble(input)));
+        } catch (NumberFormatException ex) {
+            return "invalid";
+        }
+    }
+
+    private static void assertParsedLikeJdk(String input) {
+        String actualInt;
+        try {
+            actualInt = String.valueOf(INT.parseInt(input));
+        } catch (ResponseException ex) {
+            actualInt = "invalid";
+        }
+        assertEquals(expectedInt(input), actualInt, "int: '" + input + "'");
+
+        String actualLong;
+        try {
+            actualLong = String.valueOf(LONG.parseLong(input));
+        } catch (ResponseException ex) {
+            actualLong = "invalid";
+        }
+        assertEquals(expectedLong(input), actualLong, "long: '" + input + "'");
+
+        String actualDouble;
+        try {
+            actualDouble = String.valueOf(Double.doubleToRawLongBits(DOUBLE.parseDouble(input)));
+        } catch (ResponseException ex) {
+            actualDouble = "invalid";
+        }
+        assertEquals(expectedDouble(input), actualDouble, "double: '" + input + "'");
+    }
+
+    @Test
+    @DisplayName("Should parse numbers as the JDK does")
+    void testParsedLikeJdk() {
+        INPUTS.forEach(NumericParsingTest::assertParsedLikeJdk);
+
+        Random random = new Random(48);
+        for (int i = 0; i < 10_000; i++) {
+            assertParsedLikeJdk(String.valueOf(random.nextInt()));
+            assertParsedLikeJdk(String.valueOf(random.nextLong()));
+            assertParsedLikeJdk(String.valueOf(random.nextDouble() * random.nextInt(1_000_000)));
+            assertParsedLikeJdk(random.nextInt(100_000) + "." + random.nextInt(100_000));
+        }
+    }
+
+    @Test
+    @DisplayName("Should check whole values against range bounds exactly")
+    void testExactRange() {
+        NumericRange range = NumericRange.max(9007199254740992.0);
+        assertTrue(range.matches(9007199254740992L));
+        assertFalse(range.matches(9007199254740993L));
+
+        NumericRange fractional = NumericRange.of(-1.5, 2.5);
+        assertTrue(fractional.matches(-1L));
+        assertTrue(fractional.matches(2L));
+        assertFalse(fractional.matches(-2L));
+        assertFalse(fractional.matches(3L));
+        assertTrue(NumericRange.min(0).matches(Long.MAX_VALUE));
+        assertFalse(NumericRange.min(0).matches(Long.MIN_VALUE));
+    }
+
+    @Test
+    @DisplayName("Should keep int, long and double arguments in primitive slots and bind them to the method")
+    void testPrimitiveBinding() {
+        TestImperat imperat = TestImperatConfig.builder().build();
+        imperat.registerCommand(TeleportCommand.class);
+        TestCommandSource source = new TestCommandSource(System.out);
+
+        ExecutionResult<TestCommandSource> result = imperat.execute(source, "tp 1.5 2 3 7");
+        assertFalse(result.hasFailed());
+        assertEquals(1.5, TeleportCommand.x);
+        assertEquals(2.0, TeleportCommand.y);
+        assertEquals(3.0, TeleportCommand.z);
+        assertEquals(7, TeleportCommand.world);
+
+        ExecutionContext<TestCommandSource> context = result.getExecutionContext();
+        assertInstanceOf(PrimitiveParsedArgument.class, context.getParsedArgument("x"));
+        assertInstanceOf(PrimitiveParsedArgument.class, context.getParsedArgument("world"));
+        assertEquals(2.0, context.getDoubleArgument("y"));
+        assertEquals(7, context.getIntArgument("world"));
+        assertEquals(7L, context.getLongArgument("world"));
+        // boxed on demand, as the parsed type
+        assertEquals(Integer.valueOf(7), context.getArgument("world"));
+        assertEquals(Double.valueOf(1.5), context.getArgument("x"));
+    }
+
+    @Test
+    @DisplayName("Should check primitive arguments against their range exactly")
+    void testPrimitiveRange() {
+        TestImperat imperat = TestImperatConfig.builder().build();
+        imperat.registerCommand(PayCommand.class);
+        TestCommandSource source = new TestCommandSource(System.out);
+
+        assertFalse(imperat.execute(source, "pay bob 9007199254740992").hasFailed());
+        assertEquals("bob", PayCommand.target);
+        assertEquals(9007199254740992L, PayCommand.amount);
+
+        assertTrue(imperat.execute(source, "pay bob 9007199254740993").hasFailed());
+        assertTrue(imperat.execute(source, "pay bob 0").hasFailed());
+        assertEquals(9007199254740992L, PayCommand.amount);
+    }
+
+    @RootCommand("tp")
+    public static final class TeleportCommand {
+
+        static volatile double x, y, z;
+        static volatile int world;
+
+        @Execute
+        public void teleport(TestCommandSource source, double x, double y, double z, int world) {
+            TeleportCommand.x = x;
+            TeleportCommand.y = y;
+            TeleportCommand.z = z;
+            TeleportCommand.world = world;
+        }
+    }
+
+    @RootCommand("pay")
+    public static final class PayCommand {
+
+        static volatile String target;
+        static volatile long amount;
+
+        @Execute
+        public void pay(TestCommandSource source, String target, @Range(min = 1, max = 9007199254740992.0) long amount) {
+            PayCommand.target = target;
+            PayCommand.amount = amount;
+        }
+    }
+}
@@ -3,11 +3,17 @@ package studio.mevera.imperat.tests.enhanced;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import studio.mevera.imperat.command.Command;
+import studio.mevera.imperat.command.CommandPathway;
+import studio.mevera.imperat.command.arguments.Argument;
+import studio.mevera.imperat.permissions.PermissionsData;
 import studio.mevera.imperat.tests.TestCommandSource;
 import studio.mevera.imperat.tests.TestImperat;
 import studio.mevera.imperat.tests.TestImperatConfig;
 import studio.mevera.imperat.tests.commands.MethodPermissionSuggestionCommand;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 @DisplayName("Auto Completion Permission Tests")
 class AutoCompletionPermissionTest {
 
@@ -31,4 +37,88 @@ class AutoCompletionPermissionTest {
         Assertions.assertThat(allowedSuggestions)
                 .contains("open", "restricted");
     }
+
+    @Test
+    @DisplayName("Should share pruned completions between sources with the same permissions and follow permission changes")
+    void testCompletionViewFollowsPermissionFingerprint() {
+        TestImperat imperat = TestImperatConfig.builder()
+                                      .permissionChecker((src, perm) -> perm == null || src.hasPermission(perm))
+                                      .build();
+        imperat.registerCommand(MethodPermissionSuggestionCommand.class);
+
+        TestCommandSource first = new TestCommandSource(System.out);
+        TestCommandSource second = new TestCommandSource(System.out);
+
+        Assertions.assertThat(imperat.autoComplete(first, "permcomplete ").join())
+                .containsExactly("open");
+        Assertions.assertThat(imperat.autoComplete(second, "permcomplete ").join())
+                .containsExactly("open");
+
+        second.withPerm("permcomplete.restricted");
+        Assertions.assertThat(imperat.autoComplete(second, "permcomplete ").join())
+                .containsExactlyInAnyOrder("open", "restricted");
+        Assertions.assertThat(imperat.autoComplete(first, "permcomplete ").join())
+                .containsExactly("open");
+    }
+
+    @Test
+    @DisplayName("Should keep the permission fingerprint of a source until its permissions are invalidated")
+    void testFingerprintCachedUntilInvalidated() {
+        AtomicInteger checks = new AtomicInteger();
+        TestImperat imperat = TestImperatConfig.builder()
+                                      .permissionChecker((src, perm) -> {
+                                          checks.incrementAndGet();
+                                          return perm == null || src.hasPermission(perm);
+                                      })
+                                      .cachePermissionDecisions(true)
+                                      .build();
+        imperat.registerCommand(MethodPermissionSuggestionCommand.class);
+        TestCommandSource source = new TestCommandSource(System.out);
+
+        Assertions.assertThat(imperat.autoComplete(source, "permcomplete ").join())
+                .containsExactly("open");
+        int checksAfterFirstCompletion = checks.get();
+        Assertions.assertThat(imperat.autoComplete(source, "permcomplete ").join())
+                .containsExactly("open");
+        Assertions.assertThat(checks.get()).isEqualTo(checksAfterFirstCompletion);
+
+        source.withPerm("permcomplete.restricted");
+        Assertions.assertThat(imperat.autoComplete(source, "permcomplete ").join())
+                .containsExactly("open");
+
+        imperat.config().invalidatePermissions(source);
+        Assertions.assertThat(imperat.autoComplete(source, "permcomplete ").join())
+                .containsExactlyInAnyOrder("open", "restricted");
+    }
+
+    @Test
+    @DisplayName("Should only check the permissions of the visited nodes without a permission decision cache")
+    void testLazyViewChecksVisitedNodes() {
+        AtomicInteger checks = new AtomicInteger();
+        TestImperat imperat = TestImperatConfig.builder()
+                                      .permissionChecker((src, perm) -> {
+                                          checks.incrementAndGet();
+                                          return perm == null || src.hasPermission(perm);
+                                      })
+                                      .build();
+        var command = Command.<TestCommandSource>create(imperat, "kit");
+        for (int i = 0; i < 20; i++) {
+            command.subCommand(Command.<TestCommandSource>create(imperat, "kit" + i)
+                                       .permission(PermissionsData.of("kit.use." + i))
+                                       .pathway(CommandPathway.<TestCommandSource>builder()
+                                                        .arguments(Argument.<TestCommandSource>requiredInt("amount").suggest("1"))
+                                                        .execute((source, context) -> {}))
+                                       .build());
+        }
+        imperat.registerSimpleCommand(command.build());
+        TestCommandSource source = new TestCommandSource(System.out).withPerm("kit.use.3");
+
+        Assertions.assertThat(imperat.autoComplete(source, "kit kit3 ").join())
+                .containsExactly("1");
+        // far fewer than the permissions of the tree
+        Assertions.assertThat(checks.get()).isLessThan(10);
+
+        Assertions.assertThat(imperat.autoComplete(source, "kit kit4 ").join())
+                .isEmpty();
+    }
 }
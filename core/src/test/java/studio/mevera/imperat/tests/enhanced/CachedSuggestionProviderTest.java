@@ -0,0 +1,134 @@
+package studio.mevera.imperat.tests.enhanced;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import studio.mevera.imperat.command.Command;
+import studio.mevera.imperat.command.CommandPathway;
+import studio.mevera.imperat.command.arguments.Argument;
+import studio.mevera.imperat.context.ArgumentInput;
+import studio.mevera.imperat.context.SuggestionContext;
+import studio.mevera.imperat.providers.CachedSuggestionProvider;
+import studio.mevera.imperat.providers.SuggestionCachePolicy;
+import studio.mevera.imperat.providers.SuggestionProvider;
+import studio.mevera.imperat.tests.TestCommandSource;
+import studio.mevera.imperat.tests.TestImperat;
+import studio.mevera.imperat.tests.TestImperatConfig;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@DisplayName("Cached Suggestion Provider Tests")
+class CachedSuggestionProviderTest {
+
+    @Test
+    @DisplayName("Cached providers should be called once per TTL and filtered from the cached set")
+    void testCachedSuggestionProvider() {
+        AtomicInteger calls = new AtomicInteger();
+        CachedSuggestionProvider<TestCommandSource> cached = SuggestionCachePolicy.<TestCommandSource>expireAfter(1, TimeUnit.MINUTES)
+                                                                     .apply((context, argument) -> {
+                                                                         calls.incrementAndGet();
+                                                                         return List.of("Steve", "Alex", "stan");
+                                                                     });
+        TestImperat imperat = TestImperatConfig.builder().build();
+        imperat.registerSimpleCommand(
+                Command.<TestCommandSource>create(imperat, "pay")
+                        .pathway(CommandPathway.<TestCommandSource>builder()
+                                         .arguments(Argument.<TestCommandSource>requiredText("target").suggest(cached))
+                                         .execute((source, context) -> {}))
+                        .build()
+        );
+        TestCommandSource source = new TestCommandSource(System.out);
+
+        for (int i = 0; i < 10; i++) {
+            imperat.autoCompleteSync(source, "pay ");
+        }
+        Assertions.assertThat(imperat.autoCompleteSync(source, "pay S")).containsExactly("Steve");
+        Assertions.assertThat(calls.get()).isEqualTo(1);
+
+        cached.invalidateAll();
+        Assertions.assertThat(imperat.autoCompleteSync(source, "pay s")).containsExactly("stan");
+        Assertions.assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Cached providers should evict the least recently used entries first")
+    void testLeastRecentlyUsedEviction() {
+        Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+        CachedSuggestionProvider<TestCommandSource> cached = SuggestionCachePolicy.<TestCommandSource>expireAfter(1, TimeUnit.MINUTES)
+                                                                     .maximumSize(2)
+                                                                     .apply((context, argument) -> {
+                                                                         calls.computeIfAbsent(argument.getName(), (name) -> new AtomicInteger())
+                                                                                 .incrementAndGet();
+                                                                         return List.of(argument.getName());
+                                                                     });
+        TestImperat imperat = TestImperatConfig.builder().build();
+        for (String name : List.of("a", "b", "c")) {
+            imperat.registerSimpleCommand(
+                    Command.<TestCommandSource>create(imperat, name)
+                            .pathway(CommandPathway.<TestCommandSource>builder()
+                                             .arguments(Argument.<TestCommandSource>requiredText(name).suggest(cached))
+                                             .execute((source, context) -> {}))
+                            .build()
+            );
+        }
+        TestCommandSource source = new TestCommandSource(System.out);
+
+        for (String line : List.of("a ", "b ", "a ", "c ", "a ")) {
+            imperat.autoCompleteSync(source, line);
+        }
+        Assertions.assertThat(calls.get("a").get()).isEqualTo(1);
+        Assertions.assertThat(cached.size()).isEqualTo(2);
+
+        imperat.autoCompleteSync(source, "b ");
+        Assertions.assertThat(calls.get("b").get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Concurrent asynchronous requests should share the load in flight")
+    void testAsynchronousLoadIsShared() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<List<String>> load = new CompletableFuture<>();
+        CachedSuggestionProvider<TestCommandSource> cached = SuggestionCachePolicy.<TestCommandSource>expireAfter(1, TimeUnit.MINUTES)
+                                                                     .apply(new SuggestionProvider<>() {
+                                                                         @Override
+                                                                         public List<String> provide(SuggestionContext<TestCommandSource> context,
+                                                                                 Argument<TestCommandSource> argument) {
+                                                                             return load.join();
+                                                                         }
+
+                                                                         @Override
+                                                                         public CompletableFuture<List<String>> provideAsynchronously(
+                                                                                 SuggestionContext<TestCommandSource> context,
+                                                                                 Argument<TestCommandSource> parameter) {
+                                                                             calls.incrementAndGet();
+                                                                             return load;
+                                                                         }
+                                                                     });
+        TestImperat imperat = TestImperatConfig.builder().build();
+        Argument<TestCommandSource> target = Argument.<TestCommandSource>requiredText("target").suggest(cached).build();
+        Command<TestCommandSource> command = Command.<TestCommandSource>create(imperat, "pay")
+                .pathway(CommandPathway.<TestCommandSource>builder()
+                                 .arguments(target)
+                                 .execute((source, context) -> {}))
+                .build();
+        imperat.registerSimpleCommand(command);
+        SuggestionContext<TestCommandSource> context = imperat.config().getContextFactory().createSuggestionContext(
+                imperat, new TestCommandSource(System.out), command, "pay", ArgumentInput.parseAutoCompletion("", true));
+
+        CompletableFuture<List<String>> first = cached.provideAsynchronously(context, target);
+        CompletableFuture<List<String>> second = cached.provideAsynchronously(context, target);
+        second.cancel(true);
+        Assertions.assertThat(calls.get()).isEqualTo(1);
+
+        load.complete(List.of("Steve"));
+        Assertions.assertThat(first.get(1, TimeUnit.SECONDS)).containsExactly("Steve");
+        Assertions.assertThat(cached.provideAsynchronously(context, target).get(1, TimeUnit.SECONDS)).containsExactly("Steve");
+        Assertions.assertThat(cached.provide(context, target)).containsExactly("Steve");
+        Assertions.assertThat(calls.get()).isEqualTo(1);
+    }
+}
@@ -3,12 +3,24 @@ package studio.mevera.imperat.tests.enhanced;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import studio.mevera.imperat.command.Command;
+import studio.mevera.imperat.command.CommandPathway;
+import studio.mevera.imperat.context.ArgumentInput;
+import studio.mevera.imperat.context.CommandContext;
 import studio.mevera.imperat.context.ExecutionResult;
+import studio.mevera.imperat.exception.CommandExceptionHandler;
 import studio.mevera.imperat.tests.TestCommandSource;
+import studio.mevera.imperat.tests.TestImperat;
+import studio.mevera.imperat.tests.TestImperatConfig;
 import studio.mevera.imperat.tests.commands.BuyCommand;
 import studio.mevera.imperat.tests.commands.ExceptionHandlerTestCmd;
 import studio.mevera.imperat.tests.commands.TestCommandException;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
 @DisplayName("Command-Specific Exception Handler Tests")
 class CommandExceptionHandlerTest extends EnhancedBaseImperatTest {
 
@@ -47,6 +59,68 @@ class CommandExceptionHandlerTest extends EnhancedBaseImperatTest {
                 .as("The handler should record the correct exception type")
                 .isEqualTo(TestCommandException.class);
     }
-}
 
+    @Test
+    @DisplayName("Should resolve the closest handler by superclass and re-resolve once a handler is registered")
+    void shouldResolveCachedHandlersUntilRegistration() {
+        TestImperat imperat = TestImperatConfig.builder().build();
+        Command<TestCommandSource> root = Command.<TestCommandSource>create(imperat, "resolve")
+                                                  .pathway(CommandPathway.<TestCommandSource>builder().execute((source, context) -> {}))
+                                                  .build();
+        Command<TestCommandSource> sub = Command.<TestCommandSource>create(imperat, "sub")
+                                                 .pathway(CommandPathway.<TestCommandSource>builder().execute((source, context) -> {}))
+                                                 .build();
+        root.addSubCommand(sub, "");
+        imperat.registerSimpleCommand(root);
+
+        CommandExceptionHandler<RuntimeException, TestCommandSource> rootHandler = (exception, context) -> {};
+        root.setErrorHandler(RuntimeException.class, rootHandler);
+        Assertions.assertThat((Object) imperat.config().resolveErrorHandler(sub, IllegalStateException.class))
+                .isSameAs(rootHandler);
+
+        CommandExceptionHandler<IllegalStateException, TestCommandSource> subHandler = (exception, context) -> {};
+        sub.setErrorHandler(IllegalStateException.class, subHandler);
+        Assertions.assertThat((Object) imperat.config().resolveErrorHandler(sub, IllegalStateException.class))
+                .isSameAs(subHandler);
+        Assertions.assertThat((Object) imperat.config().resolveErrorHandler(sub, IllegalArgumentException.class))
+                .isSameAs(rootHandler);
+        Assertions.assertThat((Object) imperat.config().resolveErrorHandler(null, IllegalArgumentException.class))
+                .isNull();
+    }
+
+    @Test
+    @DisplayName("Should let commands overriding handleExecutionError handle their errors")
+    @SuppressWarnings("unchecked")
+    void shouldRespectOverriddenHandleExecutionError() {
+        TestImperat imperat = TestImperatConfig.builder().build();
+        Command<TestCommandSource> real = Command.<TestCommandSource>create(imperat, "custom")
+                                                  .pathway(CommandPathway.<TestCommandSource>builder().execute((source, context) -> {}))
+                                                  .build();
+        List<Throwable> handledByCommand = new ArrayList<>();
+        List<Throwable> handledGlobally = new ArrayList<>();
+        // a command implementation of its own, delegating everything but its error handling
+        Command<TestCommandSource> custom = (Command<TestCommandSource>) Proxy.newProxyInstance(
+                Command.class.getClassLoader(),
+                new Class<?>[] {Command.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("handleExecutionError")) {
+                        handledByCommand.add((Throwable) args[0]);
+                        return true;
+                    }
+                    try {
+                        return method.invoke(real, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getCause();
+                    }
+                }
+        );
+        imperat.config().setErrorHandler(IllegalStateException.class, (exception, context) -> handledGlobally.add(exception));
+        CommandContext<TestCommandSource> context = imperat.config().getContextFactory().createContext(
+                imperat, new TestCommandSource(System.out), custom, "custom", ArgumentInput.of("custom"));
 
+        IllegalStateException error = new IllegalStateException("custom");
+        imperat.config().handleExecutionError(error, context, CommandExceptionHandlerTest.class, "test");
+        Assertions.assertThat(handledByCommand).containsExactly(error);
+        Assertions.assertThat(handledGlobally).isEmpty();
+    }
+}
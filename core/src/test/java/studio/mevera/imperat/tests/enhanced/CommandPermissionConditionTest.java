@@ -6,13 +6,18 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import studio.mevera.imperat.permissions.CachingPermissionChecker;
 import studio.mevera.imperat.permissions.CommandPermissionCondition;
 import studio.mevera.imperat.permissions.PermissionChecker;
+import studio.mevera.imperat.permissions.PermissionsData;
 import studio.mevera.imperat.tests.BaseImperatTest;
 import studio.mevera.imperat.tests.ImperatTestGlobals;
 import studio.mevera.imperat.tests.TestCommandSource;
 import studio.mevera.imperat.tests.TestImperat;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @DisplayName("CommandPermissionCondition Tests")
 public class CommandPermissionConditionTest extends BaseImperatTest {
 
@@ -93,4 +98,101 @@ public class CommandPermissionConditionTest extends BaseImperatTest {
         assertFalse(result.right());
         assertEquals("B", result.left());
     }
+
+    @Test
+    void testCompiledConditionMatchesTreeEvaluation() {
+        String[] expressions = {"A", "A & B", "A | B", "!A", "(A | B) & !C", "!(A & B) | C & D", "A & (B | (C & !D))"};
+        String[] perms = {"A", "B", "C", "D"};
+
+        for (String expression : expressions) {
+            CommandPermissionCondition cond = CommandPermissionCondition.fromText(expression);
+            for (int mask = 0; mask < 16; mask++) {
+                var src = new TestCommandSource(System.out);
+                for (int i = 0; i < perms.length; i++) {
+                    if ((mask & (1 << i)) != 0) {
+                        src.withPerm(perms[i]);
+                    }
+                }
+                assertEquals(cond.check(src, CHECKER).right(), cond.has(src, CHECKER), expression + " with mask " + mask);
+            }
+        }
+    }
+
+    @Test
+    void testCompiledConditionShortCircuits() {
+        List<String> checked = new ArrayList<>();
+        PermissionChecker<TestCommandSource> recording = (source, permission) -> {
+            checked.add(permission);
+            return source.hasPermission(permission);
+        };
+
+        assertFalse(CommandPermissionCondition.fromText("A & B & C").has(user("B", "C"), recording));
+        assertEquals(List.of("A"), checked);
+
+        checked.clear();
+        assertTrue(CommandPermissionCondition.fromText("A | B | C").has(user("A"), recording));
+        assertEquals(List.of("A"), checked);
+
+        checked.clear();
+        assertTrue(CommandPermissionCondition.fromText("(A & B) | C").has(user("C"), recording));
+        assertEquals(List.of("A", "C"), checked);
+
+        checked.clear();
+        assertFalse(CommandPermissionCondition.fromText("!A & B").has(user("A", "B"), recording));
+        assertEquals(List.of("A"), checked);
+    }
+
+    @Test
+    void testCachingCheckerServesDecisionsUntilInvalidated() {
+        int[] calls = {0};
+        PermissionChecker<TestCommandSource> counting = (source, permission) -> {
+            calls[0]++;
+            return source.hasPermission(permission);
+        };
+        CachingPermissionChecker<TestCommandSource> checker = CachingPermissionChecker.of(counting);
+        CommandPermissionCondition cond = CommandPermissionCondition.fromText("A & !B");
+        var src = user("A");
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(cond.has(src, checker));
+        }
+        assertEquals(2, calls[0]);
+
+        src.withPerm("B");
+        assertTrue(cond.has(src, checker));
+
+        checker.invalidate(src);
+        assertFalse(cond.has(src, checker));
+        assertEquals(4, calls[0]);
+    }
+
+    @Test
+    void testCachingCheckerResolvesUncompiledPermissionsThroughDelegate() {
+        int[] calls = {0};
+        PermissionChecker<TestCommandSource> counting = (source, permission) -> {
+            calls[0]++;
+            return source.hasPermission(permission);
+        };
+        CachingPermissionChecker<TestCommandSource> checker = CachingPermissionChecker.of(counting);
+        var src = user("adhoc.perm");
+
+        assertTrue(checker.hasPermission(src, "adhoc.perm"));
+        assertTrue(checker.hasPermission(src, "adhoc.perm"));
+        assertEquals(2, calls[0]);
+    }
+
+    @Test
+    void testCachingCheckerKeepsDecisionsOfReleasedPermissionsApart() {
+        CachingPermissionChecker<TestCommandSource> checker = CachingPermissionChecker.of(CHECKER);
+        CommandPermissionCondition released = CommandPermissionCondition.fromText("reuse.released");
+        var src = user("reuse.released");
+        assertTrue(released.has(src, checker));
+
+        // the id of the released permission goes to the next one interned
+        PermissionsData.release(List.of("reuse.released"));
+        CommandPermissionCondition next = CommandPermissionCondition.fromText("reuse.next");
+        assertFalse(next.has(src, checker));
+        assertTrue(released.has(src, checker));
+        assertFalse(next.has(src, checker));
+    }
 }
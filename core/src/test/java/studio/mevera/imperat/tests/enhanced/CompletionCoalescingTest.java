@@ -0,0 +1,141 @@
+package studio.mevera.imperat.tests.enhanced;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import studio.mevera.imperat.command.Command;
+import studio.mevera.imperat.command.CommandPathway;
+import studio.mevera.imperat.command.arguments.Argument;
+import studio.mevera.imperat.tests.TestCommandSource;
+import studio.mevera.imperat.tests.TestImperat;
+import studio.mevera.imperat.tests.TestImperatConfig;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@DisplayName("Completion Coalescing Tests")
+class CompletionCoalescingTest {
+
+    /**
+     * Waits on the latch for a short while, so that the provider checks whether it was cancelled in between.
+     */
+    private static void awaitBriefly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits until the thread has joined the pending completion, where it parks until that completes;
+     * running the provider itself instead, it would only ever wait on the latch with a timeout.
+     */
+    private static void awaitJoining(Thread thread) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING) {
+            if (System.nanoTime() - deadline > 0) {
+                throw new AssertionError("The request didn't join the pending completion, it's " + thread.getState());
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    @Test
+    @DisplayName("A newer completion request of the same source should supersede the pending one")
+    void testCompletionRequestsAreCoalesced() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        TestImperat imperat = TestImperatConfig.builder().build();
+        imperat.registerSimpleCommand(
+                Command.<TestCommandSource>create(imperat, "typing")
+                        .pathway(CommandPathway.<TestCommandSource>builder()
+                                         .arguments(
+                                                 Argument.<TestCommandSource>requiredText("name")
+                                                         .suggest((context, argument) -> {
+                                                             while (!context.isCancelled() && release.getCount() > 0) {
+                                                                 awaitBriefly(release);
+                                                             }
+                                                             return List.of("alpha", "beta");
+                                                         })
+                                         )
+                                         .execute((source, context) -> {}))
+                        .build()
+        );
+        TestCommandSource source = new TestCommandSource(System.out);
+
+        CompletableFuture<List<String>> first = imperat.autoComplete(source, "typing a");
+        Assertions.assertThat(imperat.autoComplete(source, "typing a")).isSameAs(first);
+
+        CompletableFuture<List<String>> newest = imperat.autoComplete(source, "typing al");
+        Assertions.assertThat(first.get(1, TimeUnit.SECONDS)).isEmpty();
+
+        release.countDown();
+        Assertions.assertThat(newest.get(1, TimeUnit.SECONDS)).containsExactly("alpha");
+    }
+
+    @Test
+    @DisplayName("Synchronous completion requests of the same source should be coalesced as well")
+    void testSyncCompletionRequestsAreCoalesced() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        TestImperat imperat = TestImperatConfig.builder().build();
+        imperat.registerSimpleCommand(
+                Command.<TestCommandSource>create(imperat, "typing")
+                        .pathway(CommandPathway.<TestCommandSource>builder()
+                                         .arguments(
+                                                 Argument.<TestCommandSource>requiredText("name")
+                                                         .suggest((context, argument) -> {
+                                                             calls.incrementAndGet();
+                                                             started.countDown();
+                                                             while (!context.isCancelled() && release.getCount() > 0) {
+                                                                 awaitBriefly(release);
+                                                             }
+                                                             return List.of("alpha", "beta");
+                                                         })
+                                         )
+                                         .execute((source, context) -> {}))
+                        .build()
+        );
+        TestCommandSource source = new TestCommandSource(System.out);
+
+        CompletableFuture<List<String>> first = CompletableFuture.supplyAsync(() -> imperat.autoCompleteSync(source, "typing a"));
+        Assertions.assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<List<String>> joined = new CompletableFuture<>();
+        Thread joining = new Thread(() -> joined.complete(imperat.autoCompleteSync(source, "typing a")));
+        joining.setDaemon(true);
+        joining.start();
+        awaitJoining(joining);
+        release.countDown();
+        Assertions.assertThat(first.get(1, TimeUnit.SECONDS)).containsExactly("alpha");
+        Assertions.assertThat(joined.get(1, TimeUnit.SECONDS)).containsExactly("alpha");
+        Assertions.assertThat(calls.get()).isEqualTo(1);
+
+        CountDownLatch slowStarted = new CountDownLatch(1);
+        CountDownLatch hold = new CountDownLatch(1);
+        imperat.registerSimpleCommand(
+                Command.<TestCommandSource>create(imperat, "slow")
+                        .pathway(CommandPathway.<TestCommandSource>builder()
+                                         .arguments(
+                                                 Argument.<TestCommandSource>requiredText("name")
+                                                         .suggest((context, argument) -> {
+                                                             slowStarted.countDown();
+                                                             while (!context.isCancelled() && hold.getCount() > 0) {
+                                                                 awaitBriefly(hold);
+                                                             }
+                                                             return List.of("alpha");
+                                                         })
+                                         )
+                                         .execute((src, ctx) -> {}))
+                        .build()
+        );
+        CompletableFuture<List<String>> superseded = CompletableFuture.supplyAsync(() -> imperat.autoCompleteSync(source, "slow a"));
+        Assertions.assertThat(slowStarted.await(1, TimeUnit.SECONDS)).isTrue();
+        Assertions.assertThat(imperat.autoComplete(source, "typing al").get(1, TimeUnit.SECONDS)).containsExactly("alpha");
+        Assertions.assertThat(superseded.get(1, TimeUnit.SECONDS)).isEmpty();
+        hold.countDown();
+    }
+}
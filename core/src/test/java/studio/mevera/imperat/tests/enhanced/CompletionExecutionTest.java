@@ -0,0 +1,84 @@
+package studio.mevera.imperat.tests.enhanced;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import studio.mevera.imperat.command.Command;
+import studio.mevera.imperat.command.CommandPathway;
+import studio.mevera.imperat.command.arguments.Argument;
+import studio.mevera.imperat.tests.TestCommandSource;
+import studio.mevera.imperat.tests.TestImperat;
+import studio.mevera.imperat.tests.TestImperatConfig;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+@DisplayName("Completion Execution Tests")
+class CompletionExecutionTest {
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void registerCompletionCommand(TestImperat imperat, long slowProviderMillis) {
+        imperat.registerSimpleCommand(
+                Command.<TestCommandSource>create(imperat, "complete")
+                        .pathway(CommandPathway.<TestCommandSource>builder()
+                                         .arguments(Argument.<TestCommandSource>requiredInt("amount")
+                                                            .suggest((context, argument) -> {
+                                                                sleep(slowProviderMillis);
+                                                                return List.of("1", "2");
+                                                            }))
+                                         .execute((source, context) -> {}))
+                        .pathway(CommandPathway.<TestCommandSource>builder()
+                                         .arguments(Argument.<TestCommandSource>requiredText("name").suggest("alpha"))
+                                         .execute((source, context) -> {}))
+                        .build()
+        );
+    }
+
+    @Test
+    @DisplayName("Synchronous completion should match asynchronous completion")
+    void testSyncMatchesAsync() {
+        TestImperat imperat = TestImperatConfig.builder().build();
+        registerCompletionCommand(imperat, 0);
+        TestCommandSource source = new TestCommandSource(System.out);
+
+        Assertions.assertThat(imperat.autoCompleteSync(source, "complete "))
+                .containsExactlyElementsOf(imperat.autoComplete(source, "complete ").join());
+    }
+
+    @Test
+    @DisplayName("Asynchronous completion should run on the configured executor")
+    void testCompletionExecutor() {
+        AtomicReference<Thread> runner = new AtomicReference<>();
+        TestImperat imperat = TestImperatConfig.builder()
+                                      .completionExecutor((task) -> {
+                                          runner.set(Thread.currentThread());
+                                          task.run();
+                                      })
+                                      .build();
+        registerCompletionCommand(imperat, 0);
+
+        Assertions.assertThat(imperat.autoComplete(new TestCommandSource(System.out), "complete ").join())
+                .contains("1", "2", "alpha");
+        Assertions.assertThat(runner.get()).isSameAs(Thread.currentThread());
+    }
+
+    @Test
+    @DisplayName("Exceeding the latency budget should return partial suggestions")
+    void testLatencyBudgetReturnsPartialResults() {
+        TestImperat imperat = TestImperatConfig.builder()
+                                      .completionLatencyBudget(10, TimeUnit.MILLISECONDS)
+                                      .build();
+        registerCompletionCommand(imperat, 50);
+
+        Assertions.assertThat(imperat.autoCompleteSync(new TestCommandSource(System.out), "complete "))
+                .containsExactly("1", "2");
+    }
+}
@@ -0,0 +1,196 @@
+package studio.mevera.imperat.tests.enhanced;
+
+import org.assertj.core.api.Assertions;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import studio.mevera.imperat.command.Command;
+import studio.mevera.imperat.command.CommandPathway;
+import studio.mevera.imperat.command.arguments.Argument;
+import studio.mevera.imperat.command.arguments.type.ArgumentType;
+import studio.mevera.imperat.context.CommandContext;
+import studio.mevera.imperat.exception.CommandException;
+import studio.mevera.imperat.tests.TestCommandSource;
+import studio.mevera.imperat.tests.TestImperat;
+import studio.mevera.imperat.tests.TestImperatConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@DisplayName("Completion Session Tests")
+class CompletionSessionTest {
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void registerEco(TestImperat imperat, PlayerType type) {
+        imperat.registerSimpleCommand(
+                Command.<TestCommandSource>create(imperat, "eco")
+                        .subCommand(Command.<TestCommandSource>create(imperat, "give")
+                                            .pathway(CommandPathway.<TestCommandSource>builder()
+                                                             .arguments(
+                                                                     Argument.<TestCommandSource, Player>required("target", type)
+                                                                             .suggest("Steve", "Sam"),
+                                                                     Argument.<TestCommandSource>requiredInt("amount").suggest("10", "100"),
+                                                                     Argument.<TestCommandSource>flagSwitch("silent")
+                                                             )
+                                                             .execute((source, context) -> {}))
+                                            .subCommand(Command.<TestCommandSource>create(imperat, "all")
+                                                                .pathway(CommandPathway.<TestCommandSource>builder()
+                                                                                 .arguments(Argument.<TestCommandSource>requiredInt("amount")
+                                                                                                    .suggest("10", "100"))
+                                                                                 .execute((source, context) -> {}))
+                                                                .build())
+                                            .build())
+                        .subCommand(Command.<TestCommandSource>create(imperat, "take")
+                                            .pathway(CommandPathway.<TestCommandSource>builder()
+                                                             .arguments(Argument.<TestCommandSource>requiredInt("amount").suggest("5"))
+                                                             .execute((source, context) -> {}))
+                                            .build())
+                        .build()
+        );
+    }
+
+    @Test
+    @DisplayName("Successive completions should resume from the frontier of the shared tokens")
+    void testCompletionSessionResumesFromFrontier() {
+        CountingIntType type = new CountingIntType();
+        TestImperat imperat = TestImperatConfig.builder().build();
+        imperat.registerSimpleCommand(
+                Command.<TestCommandSource>create(imperat, "tp")
+                        .pathway(CommandPathway.<TestCommandSource>builder()
+                                         .arguments(
+                                                 Argument.<TestCommandSource, Integer>required("x", type),
+                                                 Argument.<TestCommandSource, Integer>required("y", type),
+                                                 Argument.<TestCommandSource>requiredText("world").suggest("world", "world_nether")
+                                         )
+                                         .execute((source, context) -> {}))
+                        .build()
+        );
+        TestCommandSource source = new TestCommandSource(System.out);
+
+        Assertions.assertThat(imperat.autoCompleteSync(source, "tp 1 ")).isEmpty();
+        Assertions.assertThat(type.parses.get()).isEqualTo(1);
+
+        // only the second token is matched, from the frontier of the first one
+        Assertions.assertThat(imperat.autoCompleteSync(source, "tp 1 2 ")).containsExactly("world", "world_nether");
+        Assertions.assertThat(type.parses.get()).isEqualTo(2);
+
+        Assertions.assertThat(imperat.autoCompleteSync(source, "tp 1 2 world_")).containsExactly("world_nether");
+        Assertions.assertThat(type.parses.get()).isEqualTo(2);
+
+        Assertions.assertThat(imperat.autoCompleteSync(source, "tp 1 z w")).isEmpty();
+        Assertions.assertThat(type.parses.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Completions should match the shared tokens again once their frontier expired")
+    void testCompletionSessionFrontierExpires() {
+        Set<String> online = ConcurrentHashMap.newKeySet();
+        online.add("Steve");
+        PlayerType type = new PlayerType(online);
+        TestImperat imperat = TestImperatConfig.builder().build();
+        imperat.registerSimpleCommand(
+                Command.<TestCommandSource>create(imperat, "msg")
+                        .pathway(CommandPathway.<TestCommandSource>builder()
+                                         .arguments(
+                                                 Argument.<TestCommandSource, Player>required("target", type),
+                                                 Argument.<TestCommandSource>requiredText("channel").suggest("global", "guild")
+                                         )
+                                         .execute((source, context) -> {}))
+                        .build()
+        );
+        TestCommandSource source = new TestCommandSource(System.out);
+
+        Assertions.assertThat(imperat.autoCompleteSync(source, "msg Steve ")).containsExactly("global", "guild");
+        Assertions.assertThat(type.parses.get()).isEqualTo(1);
+        online.remove("Steve");
+
+        // past the lifetime of a frontier
+        sleep(600);
+        Assertions.assertThat(imperat.autoCompleteSync(source, "msg Steve g")).isEmpty();
+        Assertions.assertThat(type.parses.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Resumed completions should suggest the same as completions walking the whole tree")
+    void testResumedCompletionsMatchFreshOnes() {
+        PlayerType type = new PlayerType(Set.of("Steve", "Sam"));
+        TestImperat imperat = TestImperatConfig.builder().build();
+        registerEco(imperat, type);
+        TestCommandSource source = new TestCommandSource(System.out);
+
+        List<String> lines = new ArrayList<>();
+        for (String typed : List.of("eco give Steve 10 -s ", "eco give all 1", "eco take 5", "eco give Sam 100 ")) {
+            for (int end = typed.indexOf(' ') + 1; end <= typed.length(); end++) {
+                lines.add(typed.substring(0, end));
+            }
+            // erasing back into the previous tokens
+            for (int end = typed.length() - 1; end > typed.length() - 8; end--) {
+                lines.add(typed.substring(0, end));
+            }
+        }
+
+        for (String line : lines) {
+            TestImperat fresh = TestImperatConfig.builder().build();
+            registerEco(fresh, type);
+            Assertions.assertThat(imperat.autoCompleteSync(source, line))
+                    .as(line)
+                    .containsExactlyElementsOf(fresh.autoCompleteSync(new TestCommandSource(System.out), line));
+        }
+    }
+
+    private static final class CountingIntType extends ArgumentType<TestCommandSource, Integer> {
+
+        private final AtomicInteger parses = new AtomicInteger();
+
+        @Override
+        public Integer parse(
+                @NotNull CommandContext<TestCommandSource> context,
+                @NotNull Argument<TestCommandSource> argument,
+                @NotNull String input
+        ) throws CommandException {
+            parses.incrementAndGet();
+            try {
+                return Integer.parseInt(input);
+            } catch (NumberFormatException ex) {
+                throw new CommandException("Not a number: " + input);
+            }
+        }
+    }
+
+    private record Player(String name) {
+
+    }
+
+    private static final class PlayerType extends ArgumentType<TestCommandSource, Player> {
+
+        private final AtomicInteger parses = new AtomicInteger();
+        private final Set<String> online;
+
+        private PlayerType(Set<String> online) {
+            this.online = online;
+        }
+
+        @Override
+        public Player parse(
+                @NotNull CommandContext<TestCommandSource> context,
+                @NotNull Argument<TestCommandSource> argument,
+                @NotNull String input
+        ) throws CommandException {
+            parses.incrementAndGet();
+            if (!online.contains(input)) {
+                throw new CommandException("Not online: " + input);
+            }
+            return new Player(input);
+        }
+    }
+}
@@ -18,8 +18,8 @@ import java.util.concurrent.TimeUnit;
 /**
  * Tests for the cooldown system.
  *
- * <p>The cooldown is enforced in the post-process event listener inside
- * {@code BaseImperat}. When a pathway has a {@code CooldownRecord} set,
+ * <p>The cooldown is enforced inside {@code BaseImperat}, before the
+ * pathway's rate limit takes a token. When a pathway has a {@code CooldownRecord} set,
  * the handler tracks the last execution time per source.  On the second
  * invocation within the cooldown window the system throws a
  * {@link ResponseException} with {@link ResponseKey#COOLDOWN}.</p>
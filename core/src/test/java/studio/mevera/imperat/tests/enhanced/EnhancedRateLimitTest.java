@@ -0,0 +1,156 @@
+package studio.mevera.imperat.tests.enhanced;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import studio.mevera.imperat.command.Command;
+import studio.mevera.imperat.command.CommandPathway;
+import studio.mevera.imperat.command.arguments.Argument;
+import studio.mevera.imperat.command.ratelimit.RateLimitRecord;
+import studio.mevera.imperat.command.ratelimit.RateLimiter;
+import studio.mevera.imperat.tests.TestCommandSource;
+import studio.mevera.imperat.tests.TestImperat;
+import studio.mevera.imperat.tests.TestImperatConfig;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for the token-bucket rate limiting enforced by
+ * {@code RateLimitProcessor}, both per pathway and globally per source.
+ */
+@DisplayName("Rate Limit Tests")
+class EnhancedRateLimitTest extends EnhancedBaseImperatTest {
+
+    private static void registerLimitedCommand(TestImperat imperat, String name, int uses, long period, String permission) {
+        Command<TestCommandSource> cmd = Command.<TestCommandSource>create(imperat, name)
+                                          .pathway(
+                                                  CommandPathway.<TestCommandSource>builder()
+                                                          .arguments(Argument.requiredText("target"))
+                                                          .rateLimit(uses, period, TimeUnit.SECONDS, permission)
+                                                          .execute((source, context) -> source.reply("target=" + context.getArgument("target")))
+                                          )
+                                          .build();
+        imperat.registerSimpleCommand(cmd);
+    }
+
+    private static void registerPlainCommand(TestImperat imperat, String name) {
+        Command<TestCommandSource> cmd = Command.<TestCommandSource>create(imperat, name)
+                                          .defaultExecution((source, context) -> source.reply("executed " + name))
+                                          .build();
+        imperat.registerSimpleCommand(cmd);
+    }
+
+    @Test
+    @DisplayName("Burst within the bucket capacity should succeed, then be throttled")
+    void burstShouldBeThrottledAfterCapacity() {
+        TestImperat imperat = TestImperatConfig.builder().build();
+        registerLimitedCommand(imperat, "rl1", 3, 30, null);
+        TestCommandSource source = new TestCommandSource(System.out);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(imperat.execute(source, "rl1 player" + i)).isSuccessful();
+        }
+        assertThat(imperat.execute(source, "rl1 player")).hasFailed();
+    }
+
+    @Test
+    @DisplayName("Tokens should refill gradually over the period")
+    void tokensShouldRefill() throws InterruptedException {
+        TestImperat imperat = TestImperatConfig.builder().build();
+        registerLimitedCommand(imperat, "rl2", 2, 1, null);
+        TestCommandSource source = new TestCommandSource(System.out);
+
+        assertThat(imperat.execute(source, "rl2 a")).isSuccessful();
+        assertThat(imperat.execute(source, "rl2 b")).isSuccessful();
+        assertThat(imperat.execute(source, "rl2 c")).hasFailed();
+
+        // one token is refilled every 500ms
+        Thread.sleep(600);
+        assertThat(imperat.execute(source, "rl2 d")).isSuccessful();
+        assertThat(imperat.execute(source, "rl2 e")).hasFailed();
+    }
+
+    @Test
+    @DisplayName("Rate limits should be tracked per source")
+    void rateLimitShouldBePerSource() {
+        TestImperat imperat = TestImperatConfig.builder().build();
+        registerLimitedCommand(imperat, "rl3", 1, 30, null);
+        TestCommandSource source1 = new TestCommandSource(System.out);
+        TestCommandSource source2 = new TestCommandSource(System.out) {
+            @Override
+            public String name() {
+                return "PLAYER2";
+            }
+        };
+
+        assertThat(imperat.execute(source1, "rl3 a")).isSuccessful();
+        assertThat(imperat.execute(source1, "rl3 a")).hasFailed();
+        assertThat(imperat.execute(source2, "rl3 a")).isSuccessful();
+    }
+
+    @Test
+    @DisplayName("Bypass permission should skip the rate limit")
+    void bypassPermissionShouldSkipRateLimit() {
+        String bypassPerm = "ratelimit.bypass";
+        TestImperat imperat = TestImperatConfig.builder()
+                                      .permissionChecker((src, perm) -> perm == null || src.hasPermission(perm))
+                                      .build();
+        registerLimitedCommand(imperat, "rl4", 1, 30, bypassPerm);
+        TestCommandSource source = new TestCommandSource(System.out).withPerm(bypassPerm);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(imperat.execute(source, "rl4 a")).isSuccessful();
+        }
+    }
+
+    @Test
+    @DisplayName("Global rate limit should be shared across all commands")
+    void globalRateLimitShouldBeSharedAcrossCommands() {
+        TestImperat imperat = TestImperatConfig.builder()
+                                      .globalRateLimit(2, 30, TimeUnit.SECONDS)
+                                      .build();
+        registerPlainCommand(imperat, "glA");
+        registerPlainCommand(imperat, "glB");
+        TestCommandSource source = new TestCommandSource(System.out);
+
+        assertThat(imperat.execute(source, "glA")).isSuccessful();
+        assertThat(imperat.execute(source, "glB")).isSuccessful();
+        assertThat(imperat.execute(source, "glA")).hasFailed();
+        assertThat(imperat.execute(source, "glB")).hasFailed();
+    }
+
+    @Test
+    @DisplayName("A call rejected by the cooldown should not take a token")
+    void cooldownRejectionShouldNotTakeToken() throws InterruptedException {
+        TestImperat imperat = TestImperatConfig.builder().build();
+        Command<TestCommandSource> cmd = Command.<TestCommandSource>create(imperat, "rl5")
+                                          .pathway(
+                                                  CommandPathway.<TestCommandSource>builder()
+                                                          .rateLimit(2, 30, TimeUnit.SECONDS, null)
+                                                          .cooldown(200, TimeUnit.MILLISECONDS)
+                                                          .execute((source, context) -> source.reply("executed rl5"))
+                                          )
+                                          .build();
+        imperat.registerSimpleCommand(cmd);
+        TestCommandSource source = new TestCommandSource(System.out);
+
+        assertThat(imperat.execute(source, "rl5")).isSuccessful();
+        assertThat(imperat.execute(source, "rl5")).hasFailed();
+        Thread.sleep(250);
+        assertThat(imperat.execute(source, "rl5")).isSuccessful();
+    }
+
+    @Test
+    @DisplayName("Purging should only drop refilled buckets, and resetting should refill one")
+    void purgeShouldKeepConsumedBuckets() {
+        RateLimiter limiter = new RateLimiter(new RateLimitRecord(2, 30, TimeUnit.SECONDS, null));
+
+        Assertions.assertThat(limiter.tryAcquire("source")).isZero();
+        limiter.purge();
+        Assertions.assertThat(limiter.tryAcquire("source")).isZero();
+        Assertions.assertThat(limiter.tryAcquire("source")).isPositive();
+
+        limiter.reset("source");
+        Assertions.assertThat(limiter.tryAcquire("source")).isZero();
+    }
+}
@@ -0,0 +1,105 @@
+package studio.mevera.imperat.tests.enhanced;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import studio.mevera.imperat.command.Command;
+import studio.mevera.imperat.command.CommandPathway;
+import studio.mevera.imperat.command.arguments.Argument;
+import studio.mevera.imperat.context.SuggestionContext;
+import studio.mevera.imperat.providers.StreamingSuggestionProvider;
+import studio.mevera.imperat.providers.SuggestionProvider;
+import studio.mevera.imperat.tests.TestCommandSource;
+import studio.mevera.imperat.tests.TestImperat;
+import studio.mevera.imperat.tests.TestImperatConfig;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@DisplayName("Parallel Suggestion Tests")
+class ParallelSuggestionTest {
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    @DisplayName("Parallel providers should be merged without duplicates and dropped when missing the deadline")
+    void testParallelProvidersDropSlowOnes() {
+        TestImperat imperat = TestImperatConfig.builder()
+                                      .parallelSuggestionProviders(true)
+                                      .completionLatencyBudget(50, TimeUnit.MILLISECONDS)
+                                      .build();
+        imperat.registerSimpleCommand(
+                Command.<TestCommandSource>create(imperat, "fanout")
+                        .pathway(CommandPathway.<TestCommandSource>builder()
+                                         .arguments(Argument.<TestCommandSource>requiredInt("amount").suggest("1", "2"))
+                                         .execute((source, context) -> {}))
+                        .pathway(CommandPathway.<TestCommandSource>builder()
+                                         .arguments(Argument.<TestCommandSource>requiredText("name")
+                                                                     .suggest((context, argument) -> {
+                                                                         sleep(500);
+                                                                         return List.of("alpha");
+                                                                     }))
+                                         .execute((source, context) -> {}))
+                        .pathway(CommandPathway.<TestCommandSource>builder()
+                                         .arguments(Argument.<TestCommandSource>requiredDouble("ratio").suggest("2", "2.5"))
+                                         .execute((source, context) -> {}))
+                        .build()
+        );
+
+        Assertions.assertThat(imperat.autoCompleteSync(new TestCommandSource(System.out), "fanout "))
+                .containsExactlyInAnyOrder("1", "2", "2.5");
+    }
+
+    @Test
+    @DisplayName("Parallel providers should stream the input's matches and call static providers on the completing thread")
+    void testParallelProvidersFilterAndKeepStaticOnesInline() {
+        TestImperat imperat = TestImperatConfig.builder()
+                                      .parallelSuggestionProviders(true)
+                                      .build();
+        Set<Thread> staticThreads = ConcurrentHashMap.newKeySet();
+        Set<String> streamedPrefixes = ConcurrentHashMap.newKeySet();
+        SuggestionProvider<TestCommandSource> staticProvider = new SuggestionProvider<>() {
+            @Override
+            public List<String> provide(SuggestionContext<TestCommandSource> context, Argument<TestCommandSource> argument) {
+                staticThreads.add(Thread.currentThread());
+                return List.of("beta", "bravo", "charlie");
+            }
+
+            @Override
+            public List<String> stableSuggestions() {
+                return List.of("beta", "bravo", "charlie");
+            }
+        };
+        imperat.registerSimpleCommand(
+                Command.<TestCommandSource>create(imperat, "fanout")
+                        .pathway(CommandPathway.<TestCommandSource>builder()
+                                         .arguments(Argument.<TestCommandSource>requiredInt("amount").suggest(staticProvider))
+                                         .execute((source, context) -> {}))
+                        .pathway(CommandPathway.<TestCommandSource>builder()
+                                         .arguments(Argument.<TestCommandSource>requiredText("name")
+                                                                     .suggest((context, argument) -> List.of("alpha", "banana", "Blue")))
+                                         .execute((source, context) -> {}))
+                        .pathway(CommandPathway.<TestCommandSource>builder()
+                                         .arguments(Argument.<TestCommandSource>requiredDouble("ratio")
+                                                                     .suggest((StreamingSuggestionProvider<TestCommandSource>) (context, argument, prefix, sink) -> {
+                                                                         streamedPrefixes.add(prefix);
+                                                                         sink.acceptAll(List.of("bacon", "apple"));
+                                                                     }))
+                                         .execute((source, context) -> {}))
+                        .build()
+        );
+
+        Assertions.assertThat(imperat.autoCompleteSync(new TestCommandSource(System.out), "fanout b"))
+                .containsExactlyInAnyOrder("beta", "bravo", "banana", "bacon");
+        Assertions.assertThat(staticThreads).containsExactly(Thread.currentThread());
+        Assertions.assertThat(streamedPrefixes).containsExactly("b");
+    }
+}
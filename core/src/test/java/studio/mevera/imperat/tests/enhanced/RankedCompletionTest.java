@@ -0,0 +1,100 @@
+package studio.mevera.imperat.tests.enhanced;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import studio.mevera.imperat.command.Command;
+import studio.mevera.imperat.command.CommandPathway;
+import studio.mevera.imperat.command.arguments.Argument;
+import studio.mevera.imperat.command.suggestions.NativeAutoCompleterFactory;
+import studio.mevera.imperat.command.suggestions.RankedAutoCompleter;
+import studio.mevera.imperat.context.SuggestionContext;
+import studio.mevera.imperat.providers.SuggestionProvider;
+import studio.mevera.imperat.tests.TestCommandSource;
+import studio.mevera.imperat.tests.TestImperat;
+import studio.mevera.imperat.tests.TestImperatConfig;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@DisplayName("Ranked Completion Tests")
+class RankedCompletionTest {
+
+    @Test
+    @DisplayName("Ranked completion should list prefix, word-start, substring then subsequence matches")
+    void testRankedCompletionOrdering() {
+        TestImperat imperat = TestImperatConfig.builder()
+                                      .autoCompleterFactory(new NativeAutoCompleterFactory<TestCommandSource>(false).useRanked(true))
+                                      .build();
+        imperat.registerSimpleCommand(
+                Command.<TestCommandSource>create(imperat, "rank")
+                        .pathway(CommandPathway.<TestCommandSource>builder()
+                                         .arguments(
+                                                 Argument.<TestCommandSource>requiredText("name")
+                                                         .suggest("alpha1", "majojoz", "Ein_Jojo", "JoJoBa", "j_o_j_o", "alpha2")
+                                         )
+                                         .execute((source, context) -> {}))
+                        .build()
+        );
+        TestCommandSource source = new TestCommandSource(System.out);
+
+        Assertions.assertThat(imperat.autoCompleteSync(source, "rank jojo"))
+                .containsExactly("JoJoBa", "Ein_Jojo", "majojoz", "j_o_j_o");
+
+        Assertions.assertThat(imperat.autoCompleteSync(source, "rank alp"))
+                .containsExactly("alpha1", "alpha2");
+        imperat.execute(source, "rank alpha2");
+        Assertions.assertThat(imperat.autoCompleteSync(source, "rank alp"))
+                .containsExactly("alpha2", "alpha1");
+    }
+
+    @Test
+    @DisplayName("Ranked completion should skip the suggestions missing the input's trigrams once the limit is reached")
+    void testRankedCompletionSkipsNonCandidates() {
+        AtomicInteger reads = new AtomicInteger();
+        List<String> suggestions = new AbstractList<>() {
+            @Override
+            public String get(int index) {
+                reads.incrementAndGet();
+                return index < 150 ? "item" + index : "zzz" + index;
+            }
+
+            @Override
+            public int size() {
+                return 1150;
+            }
+        };
+        SuggestionProvider<TestCommandSource> provider = new SuggestionProvider<>() {
+            @Override
+            public List<String> provide(SuggestionContext<TestCommandSource> context, Argument<TestCommandSource> argument) {
+                return suggestions;
+            }
+
+            @Override
+            public List<String> stableSuggestions() {
+                return suggestions;
+            }
+        };
+        TestImperat imperat = TestImperatConfig.builder()
+                                      .autoCompleterFactory(new NativeAutoCompleterFactory<TestCommandSource>(false).useRanked(true))
+                                      .build();
+        imperat.registerSimpleCommand(
+                Command.<TestCommandSource>create(imperat, "rank")
+                        .pathway(CommandPathway.<TestCommandSource>builder()
+                                         .arguments(Argument.<TestCommandSource>requiredText("name").suggest(provider))
+                                         .execute((source, context) -> {}))
+                        .build()
+        );
+        TestCommandSource source = new TestCommandSource(System.out);
+
+        // indexes the suggestions
+        imperat.autoCompleteSync(source, "rank item");
+        reads.set(0);
+
+        Assertions.assertThat(imperat.autoCompleteSync(source, "rank item"))
+                .hasSize(RankedAutoCompleter.DEFAULT_SUGGESTION_LIMIT)
+                .allMatch((suggestion) -> suggestion.startsWith("item"));
+        Assertions.assertThat(reads.get()).isEqualTo(150);
+    }
+}
@@ -0,0 +1,52 @@
+package studio.mevera.imperat.tests.enhanced;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import studio.mevera.imperat.command.Command;
+import studio.mevera.imperat.command.CommandPathway;
+import studio.mevera.imperat.permissions.PermissionsData;
+import studio.mevera.imperat.tests.TestCommandSource;
+import studio.mevera.imperat.tests.TestImperat;
+import studio.mevera.imperat.tests.TestImperatConfig;
+
+@DisplayName("Root Label Completion Tests")
+class RootLabelCompletionTest {
+
+    @Test
+    @DisplayName("Root labels should complete by prefix, ignoring namespace and case, for visible commands only")
+    void testRootLabelCompletion() {
+        TestImperat imperat = TestImperatConfig.builder()
+                                      .permissionChecker((source, permission) -> permission == null || source.hasPermission(permission))
+                                      .build();
+        imperat.registerSimpleCommand(
+                Command.<TestCommandSource>create(imperat, "test")
+                        .aliases("te")
+                        .pathway(CommandPathway.<TestCommandSource>builder()
+                                         .execute((source, context) -> {}))
+                        .build()
+        );
+        imperat.registerSimpleCommand(
+                Command.<TestCommandSource>create(imperat, "teleport")
+                        .permission(PermissionsData.of("teleport"))
+                        .pathway(CommandPathway.<TestCommandSource>builder()
+                                         .execute((source, context) -> {}))
+                        .build()
+        );
+        imperat.registerSimpleCommand(
+                Command.<TestCommandSource>create(imperat, "tesla")
+                        .secret(true)
+                        .pathway(CommandPathway.<TestCommandSource>builder()
+                                         .execute((source, context) -> {}))
+                        .build()
+        );
+        TestCommandSource source = new TestCommandSource(System.out);
+
+        Assertions.assertThat(imperat.autoCompleteSync(source, "te"))
+                .containsExactly("te", "test");
+        Assertions.assertThat(imperat.autoCompleteSync(source, "plugin:TE"))
+                .containsExactly("plugin:te", "plugin:test");
+        Assertions.assertThat(imperat.autoCompleteSync(source.withPerm("teleport"), "te"))
+                .containsExactly("te", "teleport", "test");
+    }
+}
@@ -0,0 +1,46 @@
+package studio.mevera.imperat.tests.enhanced;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import studio.mevera.imperat.command.Command;
+import studio.mevera.imperat.command.CommandPathway;
+import studio.mevera.imperat.command.arguments.Argument;
+import studio.mevera.imperat.providers.StreamingSuggestionProvider;
+import studio.mevera.imperat.tests.TestCommandSource;
+import studio.mevera.imperat.tests.TestImperat;
+import studio.mevera.imperat.tests.TestImperatConfig;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@DisplayName("Suggestion Streaming Tests")
+class SuggestionStreamingTest {
+
+    @Test
+    @DisplayName("Streaming providers should stop once the suggestion limit is reached")
+    void testSuggestionLimitStopsStreaming() {
+        AtomicInteger offered = new AtomicInteger();
+        TestImperat imperat = TestImperatConfig.builder()
+                                      .suggestionLimit(3)
+                                      .build();
+        StreamingSuggestionProvider<TestCommandSource> players = (context, argument, prefix, sink) -> {
+            for (int i = 0; i < 10_000; i++) {
+                offered.incrementAndGet();
+                if (!sink.accept("player" + i)) {
+                    return;
+                }
+            }
+        };
+        imperat.registerSimpleCommand(
+                Command.<TestCommandSource>create(imperat, "stream")
+                        .pathway(CommandPathway.<TestCommandSource>builder()
+                                         .arguments(Argument.<TestCommandSource>requiredText("player").suggest(players))
+                                         .execute((source, context) -> {}))
+                        .build()
+        );
+
+        Assertions.assertThat(imperat.autoCompleteSync(new TestCommandSource(System.out), "stream player9"))
+                .containsExactly("player9", "player90", "player91");
+        Assertions.assertThat(offered.get()).isLessThan(100);
+    }
+}
@@ -0,0 +1,218 @@
+package studio.mevera.imperat.tests.responses;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import studio.mevera.imperat.command.Command;
+import studio.mevera.imperat.context.ArgumentInput;
+import studio.mevera.imperat.context.CommandContext;
+import studio.mevera.imperat.placeholders.Placeholder;
+import studio.mevera.imperat.placeholders.PlaceholderDataProvider;
+import studio.mevera.imperat.responses.FileContentFetcher;
+import studio.mevera.imperat.responses.Response;
+import studio.mevera.imperat.responses.ResponseCache;
+import studio.mevera.imperat.responses.ResponseContentFetcher;
+import studio.mevera.imperat.responses.ResponseKey;
+import studio.mevera.imperat.responses.ResponseRegistry;
+import studio.mevera.imperat.tests.TestCommandSource;
+import studio.mevera.imperat.tests.TestImperat;
+import studio.mevera.imperat.tests.TestImperatConfig;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Tests for the locale-aware caching of response content and the file-backed content fetcher.
+ */
+@DisplayName("Response Cache Tests")
+class ResponseCacheTest {
+
+    private static final ResponseKey GREETING = () -> "test.greeting";
+
+    @TempDir
+    Path directory;
+
+    private TestImperat imperat;
+    private List<String> capturedMessages;
+
+    @BeforeEach
+    void setUp() {
+        capturedMessages = new CopyOnWriteArrayList<>();
+        imperat = TestImperatConfig.builder().build();
+    }
+
+    private CommandContext<TestCommandSource> createContext(Locale locale) {
+        TestCommandSource source = new TestCommandSource(new PrintStream(new ByteArrayOutputStream())) {
+            @Override
+            public void reply(String message) {
+                capturedMessages.add(message);
+            }
+
+            @Override
+            public Locale locale() {
+                return locale;
+            }
+        };
+        return imperat.config().getContextFactory().createContext(
+                imperat,
+                source,
+                Command.<TestCommandSource>create(imperat, "test").build(),
+                "test",
+                ArgumentInput.of("test")
+        );
+    }
+
+    private PlaceholderDataProvider name(String value) {
+        PlaceholderDataProvider placeholders = PlaceholderDataProvider.createDefault();
+        placeholders.register("name", Placeholder.builder("name").resolver(id -> value).build());
+        return placeholders;
+    }
+
+    private void write(String fileName, String content) throws IOException {
+        Files.writeString(directory.resolve(fileName), content, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("Should fetch content from the language file of the source's locale")
+    void testFileContentFetcher() throws IOException {
+        write("messages.properties", "test.greeting=Hello %name%!");
+        write("messages_fr.properties", "test.greeting=Bonjour %name% !");
+        imperat.config().getResponseRegistry().setDefaultContentFetcher(FileContentFetcher.of(directory, "messages"));
+        Response response = new TestResponse(GREETING, () -> "Hi %name%").addPlaceholder("name");
+
+        response.sendContent(createContext(Locale.CANADA_FRENCH), name("Alex")).join();
+        response.sendContent(createContext(Locale.GERMAN), name("Alex")).join();
+        response.sendContent(createContext(Locale.ROOT), name("Alex")).join();
+
+        write("messages.properties", "test.other=Other");
+        response.sendContent(createContext(Locale.ROOT), name("Alex")).join();
+
+        assertThat(capturedMessages).containsExactly("Bonjour Alex !", "Hello Alex!", "Hello Alex!", "Hi Alex");
+    }
+
+    @Test
+    @DisplayName("Should read the language files off the sending thread, again only once modified")
+    void testFileContentFetcherReadsModifiedFilesOffThread() throws Exception {
+        write("messages.properties", "test.greeting=Hello");
+        Path file = directory.resolve("messages.properties");
+        FileTime written = Files.getLastModifiedTime(file);
+        Set<Thread> readers = ConcurrentHashMap.newKeySet();
+        Executor executor = (task) -> {
+            Thread reader = new Thread(task);
+            readers.add(reader);
+            reader.start();
+        };
+        FileContentFetcher files = FileContentFetcher.of(directory, "messages", executor);
+
+        assertThat(files.fetch(GREETING, Locale.ROOT, () -> "Hi").get(1, TimeUnit.SECONDS)).isEqualTo("Hello");
+        assertThat(readers).hasSize(1).doesNotContain(Thread.currentThread());
+
+        // same size and modification time, the loaded file is served
+        write("messages.properties", "test.greeting=Howdy");
+        Files.setLastModifiedTime(file, written);
+        assertThat(files.fetch(GREETING, Locale.ROOT, () -> "Hi").get(1, TimeUnit.SECONDS)).isEqualTo("Hello");
+
+        Files.setLastModifiedTime(file, FileTime.fromMillis(written.toMillis() + 1000));
+        assertThat(files.fetch(GREETING, Locale.ROOT, () -> "Hi").get(1, TimeUnit.SECONDS)).isEqualTo("Howdy");
+    }
+
+    @Test
+    @DisplayName("Registries implemented before content caching should keep compiling without it")
+    void testRegistryDefaults() {
+        ResponseRegistry registry = new ResponseRegistry() {
+            @Override
+            public void registerResponse(Response response) {
+            }
+
+            @Override
+            public Response getResponse(ResponseKey key) {
+                return null;
+            }
+        };
+        assertThat(registry.getContentCache()).isNull();
+        assertThat(registry.loadDefaultContentFetcher().isImmediate()).isTrue();
+
+        // ignored, so that configuring them through the config builder doesn't fail
+        registry.setContentCache(ResponseCache.expireAfter(1, TimeUnit.HOURS));
+        registry.setDefaultContentFetcher(ResponseContentFetcher.async());
+        assertThat(registry.getContentCache()).isNull();
+        assertThat(registry.loadDefaultContentFetcher().isImmediate()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should fetch content once per response and locale until invalidated")
+    void testCachedContent() throws IOException {
+        write("messages.properties", "test.greeting=Hello %name%!");
+        write("messages_fr.properties", "test.greeting=Bonjour %name% !");
+        AtomicInteger fetches = new AtomicInteger();
+        FileContentFetcher files = FileContentFetcher.of(directory, "messages");
+        ResponseContentFetcher countingFetcher = new ResponseContentFetcher() {
+            @Override
+            public CompletableFuture<String> fetch(Supplier<String> contentSupplier) {
+                return files.fetch(contentSupplier);
+            }
+
+            @Override
+            public CompletableFuture<String> fetch(ResponseKey key, Locale locale, Supplier<String> contentSupplier) {
+                fetches.incrementAndGet();
+                return files.fetch(key, locale, contentSupplier);
+            }
+        };
+        ResponseCache cache = ResponseCache.expireAfter(1, TimeUnit.HOURS);
+        imperat.config().getResponseRegistry().setContentCache(cache);
+        Response response = new TestResponse(GREETING, () -> "Hi %name%", countingFetcher).addPlaceholder("name");
+
+        response.sendContent(createContext(Locale.ROOT), name("Alex")).join();
+        response.sendContent(createContext(Locale.ROOT), name("Sam")).join();
+        response.sendContent(createContext(Locale.FRENCH), name("Alex")).join();
+        response.sendContent(createContext(Locale.FRENCH), name("Sam")).join();
+        assertThat(fetches).hasValue(2);
+        assertThat(cache.size()).isEqualTo(2);
+
+        write("messages_fr.properties", "test.greeting=Salut %name% !");
+        cache.invalidate(Locale.FRENCH);
+        assertThat(cache.size()).isEqualTo(1);
+        response.sendContent(createContext(Locale.FRENCH), name("Sam")).join();
+        assertThat(fetches).hasValue(3);
+
+        cache.invalidateAll();
+        assertThat(cache.size()).isZero();
+
+        assertThat(capturedMessages).containsExactly("Hello Alex!", "Hello Sam!", "Bonjour Alex !", "Bonjour Sam !", "Salut Sam !");
+    }
+
+    @Test
+    @DisplayName("Should evict entries beyond the maximum size")
+    void testCacheEviction() {
+        ResponseCache cache = ResponseCache.expireAfter(1, TimeUnit.HOURS, 2);
+        cache.put(GREETING, Locale.ENGLISH, "Hello");
+        cache.put(GREETING, Locale.FRENCH, "Bonjour");
+        cache.put(GREETING, Locale.GERMAN, "Hallo");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(GREETING, Locale.ENGLISH)).isNull();
+        assertThat(cache.get(GREETING, Locale.GERMAN).source()).isEqualTo("Hallo");
+
+        ResponseCache expiring = ResponseCache.expireAfter(1, TimeUnit.NANOSECONDS);
+        expiring.put(GREETING, Locale.ENGLISH, "Hello");
+        assertThat(expiring.get(GREETING, Locale.ENGLISH)).isNull();
+    }
+}
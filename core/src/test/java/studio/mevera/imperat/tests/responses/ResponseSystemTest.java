@@ -10,10 +10,12 @@ import studio.mevera.imperat.ImperatConfig;
 import studio.mevera.imperat.command.Command;
 import studio.mevera.imperat.context.ArgumentInput;
 import studio.mevera.imperat.context.CommandContext;
+import studio.mevera.imperat.exception.ArgumentParseException;
 import studio.mevera.imperat.exception.CommandException;
 import studio.mevera.imperat.exception.ResponseException;
 import studio.mevera.imperat.placeholders.Placeholder;
 import studio.mevera.imperat.placeholders.PlaceholderDataProvider;
+import studio.mevera.imperat.placeholders.PlaceholderTemplate;
 import studio.mevera.imperat.responses.Response;
 import studio.mevera.imperat.responses.ResponseContentFetcher;
 import studio.mevera.imperat.responses.ResponseKey;
@@ -22,12 +24,15 @@ import studio.mevera.imperat.tests.ImperatTestGlobals;
 import studio.mevera.imperat.tests.TestCommandSource;
 import studio.mevera.imperat.tests.TestImperat;
 import studio.mevera.imperat.tests.TestImperatConfig;
+import studio.mevera.imperat.util.BKTree;
+import studio.mevera.imperat.util.ImperatDebugger;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 /**
@@ -163,6 +168,46 @@ class ResponseSystemTest {
                 .isEqualTo("Hello World!");
     }
 
+    @Test
+    @DisplayName("Should recompile the response template when its content changes")
+    void testTemplateFollowsContentChanges() throws Exception {
+        ResponseKey testKey = () -> "test.changing-content";
+        AtomicReference<String> content = new AtomicReference<>("Hello %name%!");
+        Response response = new TestResponse(testKey, content::get)
+                                    .addPlaceholder("name");
+
+        PlaceholderDataProvider placeholders = PlaceholderDataProvider.createDefault();
+        placeholders.register("name", Placeholder.builder("name")
+                                              .resolver(id -> "World")
+                                              .build());
+
+        CommandContext<TestCommandSource> context = createContext();
+        response.sendContent(context, placeholders);
+        content.set("Bye %name%, 100% done");
+        response.sendContent(context, placeholders);
+        Thread.sleep(100);
+
+        assertThat(capturedMessages)
+                .containsExactly("Hello World!", "Bye World, 100% done");
+    }
+
+    @Test
+    @DisplayName("Compiled templates should resolve placeholders in one pass, keeping unknown ones and stray percent signs")
+    void testPlaceholderTemplateRendering() {
+        PlaceholderDataProvider placeholders = PlaceholderDataProvider.createDefault();
+        placeholders.register("input", Placeholder.builder("input")
+                                               .resolver(id -> "$5 %other%")
+                                               .build());
+        placeholders.register("other", Placeholder.builder("other")
+                                               .resolver(id -> "O")
+                                               .build());
+
+        PlaceholderTemplate template = PlaceholderTemplate.compile("Got 50% of %input% and %other%, %missing%");
+        assertThat(template.placeholderIds()).containsExactly("input", "other", "missing");
+        assertThat(template.render(placeholders.registry()))
+                .isEqualTo("Got 50% of $5 %other% and O, %missing%");
+    }
+
     @Test
     @DisplayName("Should resolve multiple placeholders in response")
     void testMultiplePlaceholderResolution() throws Exception {
@@ -314,6 +359,30 @@ class ResponseSystemTest {
                 .isEqualTo("Default fetcher message");
     }
 
+    @Test
+    @DisplayName("Should deliver content of immediate fetchers before sendContent returns")
+    void testImmediateContentDelivery() {
+        ResponseKey testKey = () -> "test.immediate";
+        Response response = new TestResponse(testKey, () -> "Immediate message")
+                                    .addPlaceholder("name");
+        responseRegistry.registerResponse(response);
+
+        assertThat(ResponseContentFetcher.blocking().isImmediate()).isTrue();
+        assertThat(ResponseContentFetcher.async().isImmediate()).isFalse();
+
+        CompletableFuture<Void> delivery = response.sendContent(createContext(), null);
+        assertThat(delivery).isDone();
+        assertThat(capturedMessages).containsExactly("Immediate message");
+
+        PlaceholderDataProvider placeholders = PlaceholderDataProvider.createDefault();
+        placeholders.register("unknown", Placeholder.builder("unknown")
+                                                 .resolver(id -> "value")
+                                                 .build());
+        delivery = response.sendContent(createContext(), placeholders);
+        assertThat(delivery).isCompletedExceptionally();
+        assertThat(capturedMessages).hasSize(1);
+    }
+
     @Test
     @DisplayName("Should handle custom content fetcher implementation")
     void testCustomContentFetcherImplementation() throws Exception {
@@ -415,6 +484,29 @@ class ResponseSystemTest {
                 .matches("Dynamic value: \\d+");
     }
 
+    @Test
+    @DisplayName("Should only capture stack traces of response exceptions when debugging")
+    void testStacklessResponseException() {
+        ResponseKey errorKey = () -> "error.stackless";
+        ResponseException exception = ResponseException.of(errorKey)
+                                              .withPlaceholder("first", "1")
+                                              .withPlaceholder("second", () -> "2")
+                                              .withPlaceholder("first", "overridden");
+        assertThat(exception.getStackTrace()).isEmpty();
+
+        PlaceholderDataProvider placeholders = exception.getPlaceholderDataProvider();
+        assertThat(placeholders).isNotNull();
+        assertThat(placeholders.registry().applyPlaceholders("%first% %second%")).isEqualTo("overridden 2");
+        assertThat(exception.getPlaceholderDataProvider()).isSameAs(placeholders);
+
+        ImperatDebugger.setCapturingStackTraces(true);
+        try {
+            assertThat(ResponseException.of(errorKey).getStackTrace()).isNotEmpty();
+        } finally {
+            ImperatDebugger.setCapturingStackTraces(false);
+        }
+    }
+
     // ==================== Default Response Tests ====================
 
     @Test
@@ -833,6 +925,22 @@ class ResponseSystemTest {
                 .doesNotContain("%");
     }
 
+    @Test
+    @DisplayName("Default INVALID_ENUM response should suggest the closest constants")
+    void testDefaultInvalidEnumDidYouMean() throws Exception {
+        CommandException exception = new ArgumentParseException(ResponseKey.INVALID_ENUM, "SURVIAVL")
+                                             .withClosestMatches(BKTree.of(List.of("SURVIVAL", "CREATIVE", "ADVENTURE", "SPECTATOR")).closest("SURVIAVL"))
+                                             .withPlaceholder("enum_type", "GameMode");
+
+        CommandContext<TestCommandSource> context = createContext();
+        config.handleExecutionError(exception, context, ResponseSystemTest.class, "testMethod");
+        Thread.sleep(100);
+
+        assertThat(capturedMessages).hasSize(1);
+        assertThat(capturedMessages.get(0))
+                .isEqualTo("Invalid GameMode 'SURVIAVL', did you mean 'SURVIVAL'?");
+    }
+
     @Test
     @DisplayName("Default INVALID_NUMBER_FORMAT response should resolve all placeholders")
     void testDefaultInvalidNumberFormatPlaceholderResolution() throws Exception {
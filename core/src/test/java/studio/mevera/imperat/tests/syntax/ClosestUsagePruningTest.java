@@ -0,0 +1,184 @@
+package studio.mevera.imperat.tests.syntax;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import studio.mevera.imperat.command.Command;
+import studio.mevera.imperat.command.CommandPathway;
+import studio.mevera.imperat.command.arguments.Argument;
+import studio.mevera.imperat.command.tree.CommandNode;
+import studio.mevera.imperat.command.tree.TreeExecutionResult;
+import studio.mevera.imperat.context.ArgumentInput;
+import studio.mevera.imperat.context.CommandContext;
+import studio.mevera.imperat.exception.CommandException;
+import studio.mevera.imperat.tests.TestCommandSource;
+import studio.mevera.imperat.tests.TestImperat;
+import studio.mevera.imperat.tests.TestImperatConfig;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests that skipping the subtrees which can't hold a more specific usage
+ * doesn't change the closest usage reported for an invalid syntax.
+ */
+@DisplayName("Closest Usage Pruning Tests")
+class ClosestUsagePruningTest {
+
+    private static final List<String> TOKENS = List.of("alpha", "beta", "5", "x", "true", "2.5");
+
+    private static List<String> lines() {
+        List<String> lines = new ArrayList<>();
+        List<String> prefixes = List.of("");
+        for (int length = 0; length < 5; length++) {
+            List<String> next = new ArrayList<>();
+            for (String prefix : prefixes) {
+                for (String token : TOKENS) {
+                    next.add(prefix.isEmpty() ? token : prefix + " " + token);
+                }
+            }
+            lines.addAll(next);
+            prefixes = next;
+        }
+        return lines;
+    }
+
+    private static Command<TestCommandSource> registerRoute(TestImperat imperat) {
+        // sibling branches of equal sizes, so that the pruning has ties to skip
+        Command<TestCommandSource> alpha = Command.<TestCommandSource>create(imperat, "alpha")
+                .pathway(CommandPathway.<TestCommandSource>builder()
+                                 .arguments(
+                                         Argument.<TestCommandSource>requiredInt("a"),
+                                         Argument.<TestCommandSource>requiredInt("b")
+                                 )
+                                 .execute((source, context) -> {}))
+                .build();
+        Command<TestCommandSource> beta = Command.<TestCommandSource>create(imperat, "beta")
+                .pathway(CommandPathway.<TestCommandSource>builder()
+                                 .arguments(
+                                         Argument.<TestCommandSource>requiredInt("a"),
+                                         Argument.<TestCommandSource>requiredText("b")
+                                 )
+                                 .execute((source, context) -> {}))
+                .build();
+        Command<TestCommandSource> route = Command.<TestCommandSource>create(imperat, "route")
+                .pathway(CommandPathway.<TestCommandSource>builder()
+                                 .arguments(Argument.<TestCommandSource>requiredInt("x"))
+                                 .execute((source, context) -> {}))
+                .pathway(CommandPathway.<TestCommandSource>builder()
+                                 .arguments(
+                                         Argument.<TestCommandSource>requiredInt("x"),
+                                         Argument.<TestCommandSource>requiredInt("y")
+                                 )
+                                 .execute((source, context) -> {}))
+                .pathway(CommandPathway.<TestCommandSource>builder()
+                                 .arguments(
+                                         Argument.<TestCommandSource>requiredInt("x"),
+                                         Argument.<TestCommandSource>requiredInt("y"),
+                                         Argument.<TestCommandSource>requiredInt("z")
+                                 )
+                                 .execute((source, context) -> {}))
+                .pathway(CommandPathway.<TestCommandSource>builder()
+                                 .arguments(
+                                         Argument.<TestCommandSource>requiredInt("x"),
+                                         Argument.<TestCommandSource>requiredText("name"),
+                                         Argument.<TestCommandSource>requiredText("tag")
+                                 )
+                                 .execute((source, context) -> {}))
+                .pathway(CommandPathway.<TestCommandSource>builder()
+                                 .arguments(
+                                         Argument.<TestCommandSource>requiredInt("x"),
+                                         Argument.<TestCommandSource>requiredBoolean("mode"),
+                                         Argument.<TestCommandSource>requiredText("tag"),
+                                         Argument.<TestCommandSource>requiredInt("level")
+                                 )
+                                 .execute((source, context) -> {}))
+                .subCommand(alpha)
+                .subCommand(beta)
+                .build();
+        imperat.registerSimpleCommand(route);
+        return route;
+    }
+
+    private static @Nullable CommandPathway<TestCommandSource> closestUsage(TestImperat imperat, Command<TestCommandSource> command,
+            String arguments) throws CommandException {
+        CommandContext<TestCommandSource> context = imperat.config().getContextFactory().createContext(
+                imperat, new TestCommandSource(System.out), command, command.getName(), ArgumentInput.parse(arguments));
+        TreeExecutionResult<TestCommandSource> result = command.execute(
+                imperat.config().getContextFactory().createExecutionContext(context, null, command));
+        return result.isSuccess() ? null : result.getClosestUsage();
+    }
+
+    private static Map<String, CommandPathway<TestCommandSource>> closestUsages(TestImperat imperat,
+            Command<TestCommandSource> command) throws CommandException {
+        Map<String, CommandPathway<TestCommandSource>> usages = new LinkedHashMap<>();
+        for (String arguments : lines()) {
+            CommandPathway<TestCommandSource> usage = closestUsage(imperat, command, arguments);
+            if (usage != null) {
+                usages.put(arguments, usage);
+            }
+        }
+        return usages;
+    }
+
+    private static void disablePruning(CommandNode<TestCommandSource, ?> node, CommandPathway<TestCommandSource> unbounded) {
+        node.setMostSpecificUsage(unbounded);
+        for (var child : node.getChildren()) {
+            disablePruning(child, unbounded);
+        }
+    }
+
+    @Test
+    @DisplayName("Should report the same closest usages with and without pruning, ties included")
+    void testPruningKeepsClosestUsage() throws CommandException {
+        TestImperat imperat = TestImperatConfig.builder().build();
+        Command<TestCommandSource> route = registerRoute(imperat);
+
+        Map<String, CommandPathway<TestCommandSource>> pruned = closestUsages(imperat, route);
+        assertFalse(pruned.isEmpty());
+
+        // larger than any usage, so that no subtree is skipped anymore
+        List<Argument<TestCommandSource>> arguments = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            arguments.add(Argument.<TestCommandSource>requiredText("arg" + i).build());
+        }
+        disablePruning(route.tree().rootNode(), CommandPathway.<TestCommandSource>builder().arguments(arguments).build(route));
+
+        Map<String, CommandPathway<TestCommandSource>> unpruned = closestUsages(imperat, route);
+        assertEquals(pruned.keySet(), unpruned.keySet());
+        pruned.forEach((line, usage) -> assertSame(usage, unpruned.get(line), line));
+    }
+
+    @Test
+    @DisplayName("Should report the first of equally specific usages")
+    void testTieKeepsFirstUsage() throws CommandException {
+        TestImperat imperat = TestImperatConfig.builder().build();
+        Command<TestCommandSource> route = registerRoute(imperat);
+
+        // '<x> <name> <tag>' matches as far, but isn't more specific
+        assertEquals("<x> <y> <z>", closestUsage(imperat, route, "2.5 5 5").formatted());
+    }
+
+    @Test
+    @DisplayName("Should format a pathway again once its arguments or flags change")
+    void testFormattedRefresh() {
+        Command<TestCommandSource> command = Command.create(TestImperatConfig.builder().build(), "give").build();
+        CommandPathway<TestCommandSource> pathway = CommandPathway.<TestCommandSource>builder()
+                                                            .arguments(Argument.<TestCommandSource>requiredText("item"))
+                                                            .build(command);
+        assertEquals("<item>", pathway.formatted());
+
+        pathway.addArguments(Argument.<TestCommandSource>requiredInt("amount").build());
+        assertEquals("<item> <amount>", pathway.formatted());
+
+        pathway.addFlag(Argument.<TestCommandSource>flagSwitch("silent").build());
+        assertTrue(pathway.formatted().contains("silent"), pathway.formatted());
+    }
+}
@@ -0,0 +1,112 @@
+package studio.mevera.imperat.tests.syntax;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import studio.mevera.imperat.command.Command;
+import studio.mevera.imperat.command.CommandPathway;
+import studio.mevera.imperat.command.arguments.Argument;
+import studio.mevera.imperat.exception.InvalidSyntaxException;
+import studio.mevera.imperat.exception.UnknownCommandException;
+import studio.mevera.imperat.responses.Response;
+import studio.mevera.imperat.responses.ResponseKey;
+import studio.mevera.imperat.tests.TestCommandSource;
+import studio.mevera.imperat.tests.TestImperat;
+import studio.mevera.imperat.tests.TestImperatConfig;
+import studio.mevera.imperat.util.BKTree;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.List;
+
+/**
+ * Tests for the "did you mean" hints given for mistyped root commands and subcommands.
+ */
+@DisplayName("Did You Mean Tests")
+public class DidYouMeanTest {
+
+    private static TestImperat createImperat() {
+        TestImperat imperat = TestImperatConfig.builder().build();
+        Command<TestCommandSource> kit = Command.<TestCommandSource>create(imperat, "kit")
+                                                 .pathway(CommandPathway.<TestCommandSource>builder().execute((source, context) -> {}))
+                                                 .build();
+        Command<TestCommandSource> give = Command.<TestCommandSource>create(imperat, "give")
+                                                  .aliases("grant")
+                                                  .pathway(CommandPathway.<TestCommandSource>builder()
+                                                                   .arguments(Argument.<TestCommandSource>requiredText("name"))
+                                                                   .execute((source, context) -> {}))
+                                                  .build();
+        Command<TestCommandSource> reset = Command.<TestCommandSource>create(imperat, "reset")
+                                                   .pathway(CommandPathway.<TestCommandSource>builder().execute((source, context) -> {}))
+                                                   .build();
+        Command<TestCommandSource> list = Command.<TestCommandSource>create(imperat, "list")
+                                                  .pathway(CommandPathway.<TestCommandSource>builder().execute((source, context) -> {}))
+                                                  .build();
+        give.addSubCommand(reset, "");
+        kit.addSubCommand(give, "");
+        kit.addSubCommand(list, "");
+        imperat.registerSimpleCommand(kit);
+        return imperat;
+    }
+
+    @Test
+    @DisplayName("Should suggest the closest subcommands of a mistyped sub-command label")
+    void testMistypedSubCommand() {
+        TestImperat imperat = createImperat();
+        TestCommandSource source = new TestCommandSource(System.out);
+
+        var error = imperat.execute(source, "kit gvie").getError();
+        assertInstanceOf(InvalidSyntaxException.class, error);
+        assertEquals(List.of("give"), ((InvalidSyntaxException) error).getClosestSubCommands());
+
+        error = imperat.execute(source, "kit give Steve rest").getError();
+        assertInstanceOf(InvalidSyntaxException.class, error);
+        assertEquals(List.of("reset"), ((InvalidSyntaxException) error).getClosestSubCommands());
+
+        error = imperat.execute(source, "kit zzzzzz").getError();
+        assertInstanceOf(InvalidSyntaxException.class, error);
+        assertEquals(List.of(), ((InvalidSyntaxException) error).getClosestSubCommands());
+    }
+
+    @Test
+    @DisplayName("Should send the closest subcommands through the unknown sub-command response")
+    void testMistypedSubCommandResponse() {
+        TestImperat imperat = createImperat();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        imperat.execute(new TestCommandSource(new PrintStream(output)), "kit gvie");
+        assertTrue(output.toString().contains("Unknown sub-command 'gvie', did you mean 'give'?"), output.toString());
+
+        imperat.config().getResponseRegistry().registerResponse(
+                new Response(ResponseKey.UNKNOWN_SUB_COMMAND, () -> "No '%input%' in /%command%, try %closest_matches%") {}
+                        .addPlaceholder("input")
+                        .addPlaceholder("closest_matches", "")
+                        .addPlaceholder("did_you_mean", "")
+                        .addContextPlaceholders()
+        );
+        output.reset();
+        imperat.execute(new TestCommandSource(new PrintStream(output)), "kit gvie");
+        assertTrue(output.toString().contains("No 'gvie' in /kit, try give"), output.toString());
+    }
+
+    @Test
+    @DisplayName("Should suggest the closest root commands of an unknown label")
+    void testUnknownRootCommand() {
+        TestImperat imperat = createImperat();
+        var ex = assertThrows(UnknownCommandException.class, () -> imperat.execute(new TestCommandSource(System.out), "kti"));
+        assertEquals(List.of("kit"), ex.getClosestCommands());
+    }
+
+    @Test
+    @DisplayName("BK-tree lookups should count a swap of two letters as a single edit")
+    void testBKTreeTranspositions() {
+        BKTree tree = BKTree.of(List.of("teleport", "tell", "test", "Team"));
+        assertEquals(List.of("test"), tree.closest("tset", 2, 3));
+        assertEquals(List.of("test", "Team", "tell"), tree.closest("tesm", 2, 3));
+        assertEquals(List.of("teleport"), tree.closest("TELPEORT"));
+        assertEquals(List.of(), tree.closest("test", 0, 3));
+    }
+}
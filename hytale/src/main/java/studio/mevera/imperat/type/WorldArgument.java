@@ -3,6 +3,7 @@ package studio.mevera.imperat.type;
 import com.hypixel.hytale.server.core.command.system.arguments.types.ArgTypes;
 import com.hypixel.hytale.server.core.universe.Universe;
 import com.hypixel.hytale.server.core.universe.world.World;
+import org.jetbrains.annotations.NotNull;
 import studio.mevera.imperat.HytaleCommandSource;
 import studio.mevera.imperat.command.arguments.DefaultValueProvider;
 import studio.mevera.imperat.exception.UnknownWorldException;
@@ -16,6 +17,19 @@ public class WorldArgument extends HytaleArgumentType<World> {
         super(World.class, ArgTypes.WORLD, UnknownWorldException::new);
     }
 
+    /**
+     * Worlds are looked up in the universe, so it's only done once the world is needed.
+     */
+    @Override
+    public boolean isDeferred() {
+        return true;
+    }
+
+    @Override
+    public boolean couldMatch(@NotNull String input) {
+        return !input.isBlank();
+    }
+
     @Override
     public DefaultValueProvider getDefaultValueProvider() {
         World defWorld = Universe.get().getDefaultWorld();
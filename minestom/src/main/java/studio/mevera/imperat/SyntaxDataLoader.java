@@ -167,7 +167,7 @@ final class SyntaxDataLoader {
                     in = in.substring(1);
                 }
                 var source = imperat.wrapSender(sender);
-                for (var completion : imperat.autoComplete(source, in).join()) {
+                for (var completion : imperat.autoCompleteSync(source, in)) {
                     suggestion.addEntry(new SuggestionEntry(completion));
                 }
             });
@@ -8,6 +8,7 @@ import studio.mevera.imperat.command.Command;
 import studio.mevera.imperat.util.StringUtils;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 final class InternalVelocityCommand<P> implements SimpleCommand {
 
@@ -46,13 +47,24 @@ final class InternalVelocityCommand<P> implements SimpleCommand {
 
     @Override
     public List<String> suggest(Invocation invocation) {
+        return imperat.autoCompleteSync(
+                imperat.wrapSender(invocation.source()), commandLine(invocation)
+        );
+    }
+
+    @Override
+    public CompletableFuture<List<String>> suggestAsync(Invocation invocation) {
+        return imperat.autoComplete(
+                imperat.wrapSender(invocation.source()), commandLine(invocation)
+        );
+    }
+
+    private static String commandLine(Invocation invocation) {
         StringBuilder builder = new StringBuilder(invocation.alias()).append(" ");
         for (String arg : invocation.arguments()) {
             builder.append(arg).append(" ");
         }
-        return imperat.autoComplete(
-                imperat.wrapSender(invocation.source()), builder.toString()
-        ).join();
+        return builder.toString();
     }
 
     @Override
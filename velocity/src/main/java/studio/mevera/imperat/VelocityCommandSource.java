@@ -6,6 +6,7 @@ import net.kyori.adventure.text.ComponentLike;
 import studio.mevera.imperat.adventure.AdventureCommandSource;
 import studio.mevera.imperat.context.CommandSource;
 
+import java.util.Locale;
 import java.util.UUID;
 
 /**
@@ -120,6 +121,21 @@ public class VelocityCommandSource implements AdventureCommandSource {
         return this.isConsole() ? CONSOLE_UUID : this.asPlayer().getUniqueId();
     }
 
+    /**
+     * Gets the locale of this command source.
+     * For the console, or a player whose locale is not known yet, {@link Locale#ROOT} is returned.
+     *
+     * @return the locale of the command source
+     */
+    @Override
+    public Locale locale() {
+        if (!(origin instanceof Player player)) {
+            return Locale.ROOT;
+        }
+        Locale locale = player.getEffectiveLocale();
+        return locale == null ? Locale.ROOT : locale;
+    }
+
     /**
      * Casts this command source to a ConsoleCommandSource.
      * This is only safe if {@link #isConsole()} returns true.
@@ -11,11 +11,11 @@ import studio.mevera.imperat.context.CommandContext;
 import studio.mevera.imperat.context.SuggestionContext;
 import studio.mevera.imperat.exception.CommandException;
 import studio.mevera.imperat.exception.ResponseException;
+import studio.mevera.imperat.providers.StreamingSuggestionProvider;
 import studio.mevera.imperat.providers.SuggestionProvider;
+import studio.mevera.imperat.providers.SuggestionSink;
 import studio.mevera.imperat.responses.VelocityResponseKey;
 
-import java.util.List;
-
 public final class PlayerArgument extends ArgumentType<VelocityCommandSource, Player> {
 
     private final ProxyServer proxyServer;
@@ -52,7 +52,7 @@ public final class PlayerArgument extends ArgumentType<VelocityCommandSource, Pl
         return playerSuggestionResolver;
     }
 
-    private final static class PlayerSuggestionProvider implements SuggestionProvider<VelocityCommandSource> {
+    private final static class PlayerSuggestionProvider implements StreamingSuggestionProvider<VelocityCommandSource> {
 
         private final ProxyServer proxyServer;
 
@@ -61,13 +61,30 @@ public final class PlayerArgument extends ArgumentType<VelocityCommandSource, Pl
         }
 
         /**
-         * @param context   the context for suggestions
+         * Streams the names of the connected players starting with the prefix, ignoring case,
+         * without collecting every name first.
+         *
+         * @param context  the context for suggestions
          * @param argument the parameter of the value to complete
-         * @return the auto-completed suggestions of the current argument
+         * @param prefix   the input being completed
+         * @param sink     the sink receiving the suggestions
          */
         @Override
-        public List<String> provide(SuggestionContext<VelocityCommandSource> context, Argument<VelocityCommandSource> argument) {
-            return proxyServer.getAllPlayers().stream().map(Player::getUsername).toList();
+        public void provide(
+                SuggestionContext<VelocityCommandSource> context,
+                Argument<VelocityCommandSource> argument,
+                String prefix,
+                SuggestionSink sink
+        ) {
+            for (var player : proxyServer.getAllPlayers()) {
+                String name = player.getUsername();
+                if (name == null || !name.regionMatches(true, 0, prefix, 0, prefix.length())) {
+                    continue;
+                }
+                if (!sink.accept(name)) {
+                    return;
+                }
+            }
         }
     }
 }